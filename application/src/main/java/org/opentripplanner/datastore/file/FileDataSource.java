@@ -27,6 +27,9 @@ public class FileDataSource extends AbstractFileDataSource {
       // We support both gzip and unzipped files when reading.
       if (file.getName().endsWith(".gz")) {
         return new GZIPInputStream(new FileInputStream(file));
+      } else if (type == FileType.GRAPH) {
+        // Graph files are large and read sequentially in one go, map them into memory
+        return MappedFileInputStream.open(file);
       } else {
         return new FileInputStream(file);
       }
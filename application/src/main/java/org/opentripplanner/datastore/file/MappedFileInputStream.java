@@ -0,0 +1,120 @@
+package org.opentripplanner.datastore.file;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * An input stream reading a file through a read-only memory mapping of the whole file. Compared
+ * with a {@link java.io.FileInputStream} this avoids a system call and a copy into a
+ * kernel buffer for each read. The pages are read through the OS page cache, so a graph file
+ * loaded recently may not need to be read from disk again.
+ * <p>
+ * The mapping is released when the stream is closed. This class is not thread-safe.
+ */
+public final class MappedFileInputStream extends InputStream {
+
+  private final Arena arena;
+  private final MemorySegment segment;
+  private long position = 0;
+  private long mark = 0;
+  private boolean closed = false;
+
+  private MappedFileInputStream(Arena arena, MemorySegment segment) {
+    this.arena = arena;
+    this.segment = segment;
+  }
+
+  /**
+   * Map the given file into memory and return a stream reading it.
+   */
+  public static MappedFileInputStream open(File file) throws IOException {
+    var arena = Arena.ofShared();
+    try (var channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      var segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+      return new MappedFileInputStream(arena, segment);
+    } catch (IOException | RuntimeException e) {
+      arena.close();
+      throw e;
+    }
+  }
+
+  @Override
+  public int read() throws IOException {
+    ensureOpen();
+    if (position >= segment.byteSize()) {
+      return -1;
+    }
+    return segment.get(ValueLayout.JAVA_BYTE, position++) & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    ensureOpen();
+    if (len == 0) {
+      return 0;
+    }
+    long remaining = segment.byteSize() - position;
+    if (remaining <= 0) {
+      return -1;
+    }
+    int n = (int) Math.min(len, remaining);
+    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, position, b, off, n);
+    position += n;
+    return n;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    ensureOpen();
+    if (n <= 0) {
+      return 0;
+    }
+    long skipped = Math.min(n, segment.byteSize() - position);
+    position += skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+    return (int) Math.min(Integer.MAX_VALUE, segment.byteSize() - position);
+  }
+
+  @Override
+  public boolean markSupported() {
+    return true;
+  }
+
+  @Override
+  public void mark(int readLimit) {
+    mark = position;
+  }
+
+  @Override
+  public void reset() throws IOException {
+    ensureOpen();
+    position = mark;
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      arena.close();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+}
@@ -15,6 +15,11 @@ import org.slf4j.LoggerFactory;
  * file.
  */
 public enum OTPFeature {
+  AccessEgressCache(
+    false,
+    false,
+    "Cache the walk, bike and car access/egress street searches from stops and stations for a few minutes."
+  ),
   AlertMetrics(
     false,
     false,
@@ -22,6 +27,16 @@ public enum OTPFeature {
   ),
   APIServerInfo(true, false, "Enable the server info endpoint."),
   APIUpdaterStatus(true, false, "Enable endpoint for graph updaters status."),
+  AStarBucketQueue(
+    false,
+    false,
+    "Use a bucket queue instead of a binary heap in the access, egress and transfer street searches."
+  ),
+  BidirectionalStreetSearch(
+    false,
+    false,
+    "Search from both the origin and the destination at the same time in direct walk, bike and car street searches."
+  ),
   ConsiderPatternsForDirectTransfers(
     true,
     false,
@@ -48,6 +63,11 @@ public enum OTPFeature {
     "Should there be a transfer leg when transferring on the very same stop. Note that for in-seat/interlined transfers no transfer leg will be generated."
   ),
   FloatingBike(true, false, "Enable floating bike routing."),
+  FreeFloatingVehicleIndex(
+    false,
+    false,
+    "Keep free-floating rental vehicles in a spatial index, instead of adding them to the street graph. This reduces the cost of the vehicle rental updates when there are many vehicles."
+  ),
   GtfsGraphQlApi(true, false, "Enable the [GTFS GraphQL API](apis/GTFS-GraphQL-API.md)."),
   IncludeStopsUsedRealTimeInTransfers(
     false,
@@ -98,6 +118,11 @@ public enum OTPFeature {
   ),
 
   ParallelRouting(false, false, "Enable performing parts of the trip planning in parallel."),
+  PrecomputedStopAccess(
+    false,
+    false,
+    "Precompute the walk access and egress paths of each stop during graph build, and use them instead of a street search for requests from or to a stop."
+  ),
   TransferConstraints(
     true,
     false,
@@ -35,6 +35,15 @@ public class OtpRequestThreadFactory implements ThreadFactory {
     return new OtpRequestThreadFactory(defaultFactory);
   }
 
+  /**
+   * Same as {@link #of(String)}, but the threads are daemon threads. Use this for thread pools
+   * living as long as the application, which are never shut down.
+   */
+  public static ThreadFactory ofDaemon(String namePrefix) {
+    var defaultFactory = Thread.ofPlatform().name(namePrefix, 0).daemon(true).factory();
+    return new OtpRequestThreadFactory(defaultFactory);
+  }
+
   @Override
   public Thread newThread(Runnable r) {
     if (LogMDCSupport.isRequestTracingInLoggingEnabled()) {
@@ -0,0 +1,237 @@
+package org.opentripplanner.framework.io;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import org.opentripplanner.framework.application.OTPFeature;
+import org.opentripplanner.utils.tostring.ToStringBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fetch a feed which is polled periodically, and only map the response if the feed has changed
+ * since the last successful fetch. This is done in two steps:
+ * <ol>
+ *   <li>
+ *     The {@code ETag} and {@code Last-Modified} headers of the last response are sent back as
+ *     {@code If-None-Match} and {@code If-Modified-Since}. If the server responds with
+ *     304 NOT MODIFIED, nothing is downloaded.
+ *   </li>
+ *   <li>
+ *     Otherwise, the body is downloaded and hashed. If the hash is the same as the hash of the last
+ *     mapped body, the body is not mapped. This covers servers that do not support conditional
+ *     requests.
+ *   </li>
+ * </ol>
+ * The state is only updated after the body is mapped successfully, so a response that fails to
+ * map is fetched and mapped again at the next poll.
+ * <p>
+ * The number of responses of each kind, and the number of bytes downloaded, are recorded as
+ * counters tagged with the feed name if the {@link OTPFeature#ActuatorAPI} is on.
+ * <p>
+ * An instance holds the state of a single feed, and is not thread-safe. It is meant to be used by
+ * the polling thread of an updater.
+ */
+public class ConditionalHttpFetcher {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ConditionalHttpFetcher.class);
+  private static final String METRICS_PREFIX = "http.feed";
+
+  static final String HEADER_ETAG = "ETag";
+  static final String HEADER_LAST_MODIFIED = "Last-Modified";
+  static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+  static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+
+  private final OtpHttpClient otpHttpClient;
+  private final URI uri;
+  private final String feedName;
+  private final FetchMetrics metrics;
+
+  @Nullable
+  private String etag;
+
+  @Nullable
+  private String lastModified;
+
+  @Nullable
+  private HashCode bodyHash;
+
+  /**
+   * @param feedName the name of the feed, used in log messages and as a metrics tag, for example
+   *                 the feed id of the updater.
+   */
+  public ConditionalHttpFetcher(OtpHttpClient otpHttpClient, URI uri, String feedName) {
+    this.otpHttpClient = Objects.requireNonNull(otpHttpClient);
+    this.uri = Objects.requireNonNull(uri);
+    this.feedName = Objects.requireNonNull(feedName);
+    this.metrics = OTPFeature.ActuatorAPI.isOn()
+      ? new MicrometerFetchMetrics(feedName)
+      : FetchMetrics.NOOP;
+  }
+
+  /**
+   * Execute an HTTP GET request and map the body with the given mapper. The default timeout is
+   * applied.
+   *
+   * @return the mapped body, or empty if the feed has not changed since the last call.
+   */
+  public <T> Optional<T> fetch(HttpHeaders headers, OtpHttpClient.ResponseMapper<T> mapper) {
+    return fetch(null, headers, mapper);
+  }
+
+  /**
+   * Execute an HTTP GET request and map the body with the given mapper.
+   *
+   * @return the mapped body, or empty if the feed has not changed since the last call.
+   */
+  public <T> Optional<T> fetch(
+    @Nullable Duration timeout,
+    HttpHeaders headers,
+    OtpHttpClient.ResponseMapper<T> mapper
+  ) {
+    return otpHttpClient.getAndMap(uri, timeout, conditionalHeaders(headers), response -> {
+      if (response.statusNotModified()) {
+        LOG.debug("Feed {} not modified (304)", feedName);
+        metrics.notModified();
+        return Optional.empty();
+      }
+      byte[] body = response.body().readAllBytes();
+      metrics.downloaded(body.length);
+
+      // A fast non-cryptographic hash is good enough to detect an unchanged body
+      var hash = Hashing.murmur3_128().hashBytes(body);
+      if (hash.equals(bodyHash)) {
+        LOG.debug("Feed {} has not changed, the response is identical to the last one", feedName);
+        updateValidators(response);
+        metrics.unchanged();
+        return Optional.empty();
+      }
+
+      T result = mapper.apply(response.withBody(new ByteArrayInputStream(body)));
+      updateValidators(response);
+      bodyHash = hash;
+      metrics.modified();
+      return Optional.of(result);
+    });
+  }
+
+  /**
+   * Forget the state of the last response, the next fetch maps the body even if it has not
+   * changed.
+   */
+  public void reset() {
+    etag = null;
+    lastModified = null;
+    bodyHash = null;
+  }
+
+  @Override
+  public String toString() {
+    return ToStringBuilder.of(ConditionalHttpFetcher.class)
+      .addStr("feedName", feedName)
+      .addStr("etag", etag)
+      .addStr("lastModified", lastModified)
+      .toString();
+  }
+
+  private HttpHeaders conditionalHeaders(HttpHeaders headers) {
+    if (etag == null && lastModified == null) {
+      return headers;
+    }
+    var builder = HttpHeaders.of().add(headers);
+    if (etag != null) {
+      builder.add(HEADER_IF_NONE_MATCH, etag);
+    }
+    if (lastModified != null) {
+      builder.add(HEADER_IF_MODIFIED_SINCE, lastModified);
+    }
+    return builder.build();
+  }
+
+  private void updateValidators(OtpHttpResponse response) {
+    etag = response.header(HEADER_ETAG).orElse(null);
+    lastModified = response.header(HEADER_LAST_MODIFIED).orElse(null);
+  }
+
+  private interface FetchMetrics {
+    FetchMetrics NOOP = new FetchMetrics() {
+      @Override
+      public void notModified() {}
+
+      @Override
+      public void unchanged() {}
+
+      @Override
+      public void modified() {}
+
+      @Override
+      public void downloaded(int bytes) {}
+    };
+
+    /** The server responded with 304 NOT MODIFIED. */
+    void notModified();
+
+    /** The body was downloaded, but it is identical to the last one. */
+    void unchanged();
+
+    /** The body was downloaded and mapped. */
+    void modified();
+
+    void downloaded(int bytes);
+  }
+
+  private static class MicrometerFetchMetrics implements FetchMetrics {
+
+    private final Counter notModified;
+    private final Counter unchanged;
+    private final Counter modified;
+    private final Counter bytes;
+
+    private MicrometerFetchMetrics(String feedName) {
+      var tags = Tags.of("feed", feedName);
+      this.notModified = responseCounter(tags, "not_modified");
+      this.unchanged = responseCounter(tags, "unchanged");
+      this.modified = responseCounter(tags, "modified");
+      this.bytes = Counter.builder(METRICS_PREFIX + ".bytes")
+        .description("Total number of bytes downloaded")
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void notModified() {
+      notModified.increment();
+    }
+
+    @Override
+    public void unchanged() {
+      unchanged.increment();
+    }
+
+    @Override
+    public void modified() {
+      modified.increment();
+    }
+
+    @Override
+    public void downloaded(int bytes) {
+      this.bytes.increment(bytes);
+    }
+
+    private static Counter responseCounter(Tags tags, String result) {
+      return Counter.builder(METRICS_PREFIX + ".responses")
+        .description("Total number of responses by result")
+        .tags(tags.and("result", result))
+        .register(Metrics.globalRegistry);
+    }
+  }
+}
@@ -53,6 +53,11 @@ import org.slf4j.Logger;
  * method {@link #getAsInputStream} gives access to an input stream on the body response but
  * requires the caller to close this stream. For most use cases, this method is not recommended.
  *
+ * <h3>Compression and conditional requests</h3>
+ * The underlying Apache client asks for gzip or deflate compressed responses, and decompresses
+ * them transparently. Use a {@link ConditionalHttpFetcher} to poll a feed without mapping it
+ * again when it has not changed.
+ *
  * <h3>Thread-safety</h3>
  * Instances of this class are thread-safe.
  */
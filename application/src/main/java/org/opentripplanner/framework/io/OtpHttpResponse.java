@@ -38,6 +38,12 @@ public class OtpHttpResponse {
     this.statusCode = statusCode;
   }
 
+  private OtpHttpResponse(InputStream body, Map<String, List<String>> headers, int statusCode) {
+    this.body = body;
+    this.headers = headers;
+    this.statusCode = statusCode;
+  }
+
   /**
    * Returns the response body as an InputStream.
    * <p>
@@ -50,6 +56,18 @@ public class OtpHttpResponse {
     return body;
   }
 
+  /**
+   * Returns a copy of this response with another body, for example when the body is buffered
+   * before it is mapped.
+   */
+  OtpHttpResponse withBody(InputStream body) {
+    return new OtpHttpResponse(
+      Objects.requireNonNull(body, "body cannot be null"),
+      headers,
+      statusCode
+    );
+  }
+
   /**
    * Returns all response headers as an immutable map.
    * <p>
@@ -58,6 +58,7 @@ public class GbfsFeedLoaderAndMapper {
     return switch (gbfsFeedVersion) {
       case "3.0" -> {
         var loader = org.opentripplanner.gbfs.v3.GbfsFeedLoader.create(
+          systemName(params),
           autoConfiguration,
           params.httpHeaders(),
           client
@@ -90,6 +91,7 @@ public class GbfsFeedLoaderAndMapper {
     OtpHttpClient client
   ) {
     var loader = org.opentripplanner.gbfs.v2.GbfsFeedLoader.create(
+      systemName(params),
       autoConfiguration,
       params.httpHeaders(),
       params.language(),
@@ -101,6 +103,15 @@ public class GbfsFeedLoaderAndMapper {
     );
   }
 
+  /**
+   * The configured network of the updater, or the auto-configuration url if no network is
+   * configured. Several updaters may load the same GBFS file types, so the file name alone does not
+   * identify a feed in the logs and metrics.
+   */
+  private static String systemName(GbfsDataSourceParameters params) {
+    return params.network() != null ? params.network() : params.url();
+  }
+
   /**
    * Checks if any of the feeds should be updated based on the TTL and fetches. Returns true, if any
    * feeds were updated.
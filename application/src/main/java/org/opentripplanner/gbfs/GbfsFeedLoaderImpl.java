@@ -8,7 +8,8 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javax.annotation.Nullable;
+import java.util.Optional;
+import org.opentripplanner.framework.io.ConditionalHttpFetcher;
 import org.opentripplanner.framework.io.HttpHeaders;
 import org.opentripplanner.framework.io.OtpHttpClient;
 import org.opentripplanner.framework.io.OtpHttpClientException;
@@ -24,11 +25,10 @@ public abstract class GbfsFeedLoaderImpl<N, F extends GbfsFeedDetails<N>>
 
   private static final Logger LOG = LoggerFactory.getLogger(GbfsFeedLoaderImpl.class);
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-  public static final String HEADER_ETAG = "ETag";
-  public static final String HEADER_IF_NONE_MATCH = "If-None-Match";
 
   /** One updater per feed type(?) */
   private final Map<N, GBFSFeedUpdater<?>> feedUpdaters = new HashMap<>();
+  private final String systemName;
   private final HttpHeaders httpHeaders;
   private final OtpHttpClient otpHttpClient;
 
@@ -36,7 +36,17 @@ public abstract class GbfsFeedLoaderImpl<N, F extends GbfsFeedDetails<N>>
     OBJECT_MAPPER.configure(DeserializationFeature.READ_UNKNOWN_ENUM_VALUES_AS_NULL, true);
   }
 
-  public GbfsFeedLoaderImpl(List<F> feeds, HttpHeaders httpHeaders, OtpHttpClient otpHttpClient) {
+  /**
+   * @param systemName identifies the GBFS system in log messages and metrics, together with the
+   *                   name of each file.
+   */
+  public GbfsFeedLoaderImpl(
+    String systemName,
+    List<F> feeds,
+    HttpHeaders httpHeaders,
+    OtpHttpClient otpHttpClient
+  ) {
+    this.systemName = systemName;
     this.httpHeaders = httpHeaders;
     this.otpHttpClient = otpHttpClient;
 
@@ -98,27 +108,6 @@ public abstract class GbfsFeedLoaderImpl<N, F extends GbfsFeedDetails<N>>
 
   protected abstract <T> Class<T> classForName(N name);
 
-  /**
-   * Fetches a feed with conditional request support (ETag/If-None-Match).
-   * Returns the response including status code and headers.
-   */
-  private <T> T fetchFeedWithResponse(
-    URI uri,
-    HttpHeaders httpHeaders,
-    String etag,
-    OtpHttpClient.ResponseMapper<T> contentMapper
-  ) {
-    // Build headers with If-None-Match if ETag is available
-    var headersBuilder = HttpHeaders.of().add(httpHeaders);
-    if (etag != null && !etag.isEmpty()) {
-      headersBuilder.add(HEADER_IF_NONE_MATCH, etag);
-    }
-
-    return otpHttpClient.getAndMap(uri, null, headersBuilder.build(), contentMapper);
-  }
-
-  public record GBFSFeedResponse<T>(T body, @Nullable String etag, boolean statusNotModified) {}
-
   private class GBFSFeedUpdater<T> {
 
     /** URL for the individual GBFS file */
@@ -127,13 +116,16 @@ public abstract class GbfsFeedLoaderImpl<N, F extends GbfsFeedDetails<N>>
     /** To which class should the file be deserialized to */
     private final Class<T> implementingClass;
 
+    /** Skips the deserialization if the file has not changed since the last fetch */
+    private final ConditionalHttpFetcher fetcher;
+
     private int nextUpdate;
     private T data;
-    private String etag;
 
     private GBFSFeedUpdater(F feed) {
       url = feed.getUrl();
       implementingClass = classForName(feed.getName());
+      fetcher = new ConditionalHttpFetcher(otpHttpClient, url, systemName + "/" + feed.getName());
     }
 
     private T getData() {
@@ -142,38 +134,19 @@ public abstract class GbfsFeedLoaderImpl<N, F extends GbfsFeedDetails<N>>
 
     private boolean fetchData() {
       try {
-        GBFSFeedResponse<T> response = fetchFeedWithResponse(
-          url,
-          httpHeaders,
-          etag,
-          otpHttpResponse ->
-            new GBFSFeedResponse<>(
-              otpHttpResponse.statusOk()
-                ? OBJECT_MAPPER.readValue(otpHttpResponse.body(), implementingClass)
-                : null,
-              otpHttpResponse.header(HEADER_ETAG).orElse(null),
-              otpHttpResponse.statusNotModified()
-            )
+        Optional<T> response = fetcher.fetch(httpHeaders, otpHttpResponse ->
+          OBJECT_MAPPER.readValue(otpHttpResponse.body(), implementingClass)
         );
 
-        // Handle 304 Not Modified - data hasn't changed
-        if (response.statusNotModified) {
-          LOG.debug("GBFS feed {} not modified (304), reusing cached data", url);
+        // The data hasn't changed, either 304 Not Modified or an identical body
+        if (response.isEmpty()) {
+          LOG.debug("GBFS feed {} not modified, reusing cached data", url);
           nextUpdate = getCurrentTimeSeconds();
           return true;
         }
 
-        if (response.body == null) {
-          throw new IllegalStateException("Unexpected null body");
-        }
-
-        data = response.body;
-        etag = response.etag;
-        if (etag != null) {
-          LOG.debug("Stored ETag {} for GBFS feed {}", etag, url);
-        }
-
-        updateNextFetchTime(response.body);
+        data = response.get();
+        updateNextFetchTime(data);
         return true;
       } catch (OtpHttpClientException e) {
         LOG.warn("Could not fetch GBFS data for {}", url, e);
@@ -24,6 +24,7 @@ public class GbfsFeedLoader
    * Sets up updaters for the feeds listed in the auto-configuration file.
    */
   public static GbfsFeedLoader create(
+    String systemName,
     GbfsAutoConfiguration autoConfiguration,
     HttpHeaders httpHeaders,
     String languageCode,
@@ -42,15 +43,16 @@ public class GbfsFeedLoader
     }
 
     var feedDetails = feeds.getFeeds().stream().map(GBFSFeedV23Details::new).toList();
-    return new GbfsFeedLoader(feedDetails, httpHeaders, otpHttpClient);
+    return new GbfsFeedLoader(systemName, feedDetails, httpHeaders, otpHttpClient);
   }
 
   private GbfsFeedLoader(
+    String systemName,
     List<GBFSFeedV23Details> feeds,
     HttpHeaders httpHeaders,
     OtpHttpClient otpHttpClient
   ) {
-    super(feeds, httpHeaders, otpHttpClient);
+    super(systemName, feeds, httpHeaders, otpHttpClient);
   }
 
   @Override
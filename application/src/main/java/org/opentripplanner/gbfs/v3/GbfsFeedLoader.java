@@ -22,6 +22,7 @@ public class GbfsFeedLoader
    * Sets up updaters for the feeds listed in the auto-configuration file.
    */
   public static GbfsFeedLoader create(
+    String systemName,
     GbfsAutoConfiguration autoConfiguration,
     HttpHeaders httpHeaders,
     OtpHttpClient otpHttpClient
@@ -33,15 +34,16 @@ public class GbfsFeedLoader
       .stream()
       .map(GBFSFeedV30Details::new)
       .toList();
-    return new GbfsFeedLoader(feeds, httpHeaders, otpHttpClient);
+    return new GbfsFeedLoader(systemName, feeds, httpHeaders, otpHttpClient);
   }
 
   private GbfsFeedLoader(
+    String systemName,
     List<GBFSFeedV30Details> feeds,
     HttpHeaders httpHeaders,
     OtpHttpClient otpHttpClient
   ) {
-    super(feeds, httpHeaders, otpHttpClient);
+    super(systemName, feeds, httpHeaders, otpHttpClient);
   }
 
   @Override
@@ -177,6 +177,12 @@ public class GraphBuilder implements Runnable {
       // This module will use streets or straight line distance depending on whether OSM data is found in the graph.
       graphBuilder.addModule(factory.directTransferGenerator());
 
+      // Precompute the walk access and egress paths of the stops, after the transfers are created
+      graphBuilder.addModuleOptional(
+        factory.stopAccessGenerator(),
+        OTPFeature.PrecomputedStopAccess
+      );
+
       // Analyze routing between stops to generate report
       graphBuilder.addModuleOptional(factory.directTransferAnalyzer(), OTPFeature.TransferAnalyzer);
 
@@ -201,6 +207,11 @@ public class GraphBuilder implements Runnable {
 
     graphBuilder.addModuleOptional(factory.dataOverlayFactory(), OTPFeature.DataOverlay);
 
+    // The landmarks must be computed after all street vertices are added
+    if (loadStreetGraph || dataSources.hasOsm()) {
+      graphBuilder.addModuleOptional(factory.landmarkModule());
+    }
+
     graphBuilder.addModule(factory.calculateWorldEnvelopeModule());
 
     return graphBuilder;
@@ -0,0 +1,38 @@
+package org.opentripplanner.graph_builder.module;
+
+import java.util.Map;
+import org.opentripplanner.graph_builder.model.GraphBuilderModule;
+import org.opentripplanner.street.graph.Graph;
+import org.opentripplanner.street.graph.LandmarkTable;
+import org.opentripplanner.street.search.TraverseMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Precompute the {@link LandmarkTable}s used by the landmark heuristic for direct street
+ * searches. This must run after all modules that add or remove street vertices, the tables are
+ * discarded if the vertices change.
+ */
+public class LandmarkModule implements GraphBuilderModule {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LandmarkModule.class);
+
+  private final Graph graph;
+  private final Map<TraverseMode, Integer> numberOfLandmarks;
+
+  /**
+   * @param numberOfLandmarks The number of landmarks for each mode to create a table for.
+   */
+  public LandmarkModule(Graph graph, Map<TraverseMode, Integer> numberOfLandmarks) {
+    this.graph = graph;
+    this.numberOfLandmarks = Map.copyOf(numberOfLandmarks);
+  }
+
+  @Override
+  public void buildGraph() {
+    numberOfLandmarks.forEach((mode, n) -> {
+      LOG.info("Computing {} landmarks for {}...", n, mode);
+      graph.createLandmarkTable(mode, n);
+    });
+  }
+}
@@ -27,6 +27,7 @@ import org.opentripplanner.graph_builder.GraphBuilderDataSources;
 import org.opentripplanner.graph_builder.configure.GraphBuilderModule;
 import org.opentripplanner.graph_builder.issue.report.DataImportIssueReporter;
 import org.opentripplanner.graph_builder.module.GraphCoherencyCheckerModule;
+import org.opentripplanner.graph_builder.module.LandmarkModule;
 import org.opentripplanner.graph_builder.module.OsmBoardingLocationsModule;
 import org.opentripplanner.graph_builder.module.RouteToCentroidStationIdsValidator;
 import org.opentripplanner.graph_builder.module.StreetLinkerModule;
@@ -39,6 +40,7 @@ import org.opentripplanner.graph_builder.module.ned.ElevationModule;
 import org.opentripplanner.graph_builder.module.osm.OsmModule;
 import org.opentripplanner.graph_builder.module.stopconnectivity.StopConnectivityModule;
 import org.opentripplanner.graph_builder.module.transfer.DirectTransferGenerator;
+import org.opentripplanner.graph_builder.module.transfer.StopAccessGenerator;
 import org.opentripplanner.gtfs.graphbuilder.GtfsModule;
 import org.opentripplanner.netex.NetexModule;
 import org.opentripplanner.routing.fares.FareServiceFactory;
@@ -84,6 +86,7 @@ public interface GraphBuilderFactory {
   OsmBoardingLocationsModule osmBoardingLocationsModule();
   OsmModule osmModule();
   IslandPruningModule pruneIslands();
+  StopAccessGenerator stopAccessGenerator();
   StopConnectivityModule stopConnectivityModule();
   StreetLinkerModule streetLinkerModule();
   TimeZoneAdjusterModule timeZoneAdjusterModule();
@@ -109,6 +112,9 @@ public interface GraphBuilderFactory {
   @Nullable
   StopConsolidationModule stopConsolidationModule();
 
+  @Nullable
+  LandmarkModule landmarkModule();
+
   FareServiceFactory fareServiceFactory();
 
   VertexLinker vertexLinker();
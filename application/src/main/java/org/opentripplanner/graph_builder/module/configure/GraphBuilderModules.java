@@ -4,6 +4,7 @@ import dagger.Module;
 import dagger.Provides;
 import jakarta.inject.Singleton;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import javax.annotation.Nullable;
 import org.opentripplanner.core.framework.deduplicator.DeduplicatorService;
@@ -20,6 +21,7 @@ import org.opentripplanner.graph_builder.issue.api.DataImportIssueSummary;
 import org.opentripplanner.graph_builder.issue.report.DataImportIssueReporter;
 import org.opentripplanner.graph_builder.issue.service.DefaultDataImportIssueStore;
 import org.opentripplanner.graph_builder.model.ConfiguredDataSource;
+import org.opentripplanner.graph_builder.module.LandmarkModule;
 import org.opentripplanner.graph_builder.module.RouteToCentroidStationIdsValidator;
 import org.opentripplanner.graph_builder.module.StreetLinkerModule;
 import org.opentripplanner.graph_builder.module.TurnRestrictionModule;
@@ -35,6 +37,7 @@ import org.opentripplanner.graph_builder.module.osm.OsmModule;
 import org.opentripplanner.graph_builder.module.osm.parameters.OsmExtractParameters;
 import org.opentripplanner.graph_builder.module.stopconnectivity.StopConnectivityModule;
 import org.opentripplanner.graph_builder.module.transfer.DirectTransferGenerator;
+import org.opentripplanner.graph_builder.module.transfer.StopAccessGenerator;
 import org.opentripplanner.graph_builder.services.ned.ElevationGridCoverageFactory;
 import org.opentripplanner.graph_builder.services.osm.EdgeNamer;
 import org.opentripplanner.gtfs.graphbuilder.GtfsBundle;
@@ -52,6 +55,7 @@ import org.opentripplanner.standalone.config.BuildConfig;
 import org.opentripplanner.street.StreetRepository;
 import org.opentripplanner.street.graph.Graph;
 import org.opentripplanner.street.linking.VertexLinker;
+import org.opentripplanner.street.search.TraverseMode;
 import org.opentripplanner.transfer.regular.TransferRepository;
 import org.opentripplanner.transit.model.framework.Deduplicator;
 import org.opentripplanner.transit.service.TransitRepository;
@@ -270,6 +274,22 @@ public class GraphBuilderModules {
     );
   }
 
+  @Provides
+  @Singleton
+  static StopAccessGenerator provideStopAccessGenerator(
+    BuildConfig config,
+    Graph graph,
+    TransitRepository transitRepository,
+    TransferRepository transferRepository
+  ) {
+    return new StopAccessGenerator(
+      graph,
+      transitRepository,
+      transferRepository,
+      config.regularTransferParameters().requests()
+    );
+  }
+
   @Provides
   @Singleton
   static DirectTransferAnalyzer provideDirectTransferAnalyzer(
@@ -330,6 +350,23 @@ public class GraphBuilderModules {
     return new TurnRestrictionModule(graph, osmInfoGraphBuildRepository);
   }
 
+  @Provides
+  @Singleton
+  @Nullable
+  static LandmarkModule provideLandmarkModule(Graph graph, BuildConfig config) {
+    var landmarks = new EnumMap<TraverseMode, Integer>(TraverseMode.class);
+    if (config.carLandmarks > 0) {
+      landmarks.put(TraverseMode.CAR, config.carLandmarks);
+    }
+    if (config.walkLandmarks > 0) {
+      landmarks.put(TraverseMode.WALK, config.walkLandmarks);
+    }
+    if (config.bikeLandmarks > 0) {
+      landmarks.put(TraverseMode.BICYCLE, config.bikeLandmarks);
+    }
+    return landmarks.isEmpty() ? null : new LandmarkModule(graph, landmarks);
+  }
+
   @Provides
   @Singleton
   @Nullable
@@ -0,0 +1,153 @@
+package org.opentripplanner.graph_builder.module.transfer;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import com.google.common.collect.Multimaps;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.opentripplanner.graph_builder.model.GraphBuilderModule;
+import org.opentripplanner.place.api.NearbyStop;
+import org.opentripplanner.place.nearbystopfinder.StreetNearbyStopFinder;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.street.graph.Graph;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.vertex.TransitStopVertex;
+import org.opentripplanner.transfer.regular.TransferRepository;
+import org.opentripplanner.transfer.regular.model.PathTransfer;
+import org.opentripplanner.transfer.regular.model.StopAccessParameters;
+import org.opentripplanner.transit.model.site.RegularStop;
+import org.opentripplanner.transit.model.site.StopLocation;
+import org.opentripplanner.transit.service.TransitRepository;
+import org.opentripplanner.utils.logging.ProgressTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link GraphBuilderModule} module that precomputes the walk access and egress paths of each
+ * stop, so requests from or to a stop can skip the street search, see
+ * {@link org.opentripplanner.framework.application.OTPFeature#PrecomputedStopAccess}.
+ * <p>
+ * The paths are found with the walk transfer request, and the walk access/egress duration limit
+ * of that request. Unlike the transfers, the paths to all stops nearby are kept, since the access
+ * and egress are not limited to the stops with the best transfer to each pattern.
+ * <p>
+ * This module requires the street network, it does nothing if the graph has no streets.
+ */
+public class StopAccessGenerator implements GraphBuilderModule {
+
+  private static final Logger LOG = LoggerFactory.getLogger(StopAccessGenerator.class);
+
+  private static final int NO_STOP_COUNT_LIMIT = 0;
+
+  private final Graph graph;
+  private final TransitRepository transitRepository;
+  private final TransferRepository transferRepository;
+  private final RouteRequest request;
+
+  /**
+   * @param transferRequests the transfer requests of the build config, the first request with the
+   *                         WALK transfer mode is used. If there is none, the default request is
+   *                         used.
+   */
+  public StopAccessGenerator(
+    Graph graph,
+    TransitRepository transitRepository,
+    TransferRepository transferRepository,
+    List<RouteRequest> transferRequests
+  ) {
+    this.graph = graph;
+    this.transitRepository = transitRepository;
+    this.transferRepository = transferRepository;
+    this.request = transferRequests
+      .stream()
+      .filter(it -> it.journey().transfer().mode() == StreetMode.WALK)
+      .findFirst()
+      .orElse(RouteRequest.defaultValue());
+  }
+
+  @Override
+  public void buildGraph() {
+    if (!graph.hasStreets) {
+      LOG.info("The graph has no streets, the stop access and egress paths are not created.");
+      return;
+    }
+    transitRepository.index();
+
+    Duration durationLimit = request
+      .preferences()
+      .street()
+      .accessEgress()
+      .maxDuration()
+      .valueOf(StreetMode.WALK);
+    var parameters = StopAccessParameters.of(request, durationLimit);
+    LOG.info("Creating stop access and egress paths using {}", parameters);
+
+    var finder = StreetNearbyStopFinder.of(null).build();
+    var siteRepository = transitRepository.getSiteRepository();
+    List<TransitStopVertex> stops = graph.getVerticesOfType(TransitStopVertex.class);
+
+    ProgressTracker progress = ProgressTracker.track(
+      "Create stop access and egress paths",
+      1000,
+      stops.size()
+    );
+    AtomicInteger nPaths = new AtomicInteger();
+
+    // These are synchronizedMultimaps so that a parallel stream may be used to insert elements.
+    var accessByStop = Multimaps.<StopLocation, PathTransfer>synchronizedMultimap(
+      HashMultimap.create()
+    );
+    var egressByStop = Multimaps.<StopLocation, PathTransfer>synchronizedMultimap(
+      HashMultimap.create()
+    );
+
+    stops
+      .stream()
+      .parallel()
+      .forEach(vertex -> {
+        RegularStop stop = siteRepository.getRegularStop(vertex.getId());
+        if (stop != null) {
+          for (boolean reverse : new boolean[] { false, true }) {
+            var nearbyStops = finder.findNearbyStops(
+              vertex,
+              request,
+              StreetMode.WALK,
+              reverse,
+              durationLimit,
+              NO_STOP_COUNT_LIMIT
+            );
+            for (NearbyStop it : nearbyStops) {
+              var nearbyStop = siteRepository.getRegularStop(it.stopId);
+              // Skip the stop itself and area stops
+              if (nearbyStop == null || nearbyStop.equals(stop)) {
+                continue;
+              }
+              var modes = EnumSet.of(StreetMode.WALK);
+              if (reverse) {
+                egressByStop.put(
+                  stop,
+                  new PathTransfer(nearbyStop, stop, it.distance, it.edges, modes)
+                );
+              } else {
+                accessByStop.put(
+                  stop,
+                  new PathTransfer(stop, nearbyStop, it.distance, it.edges, modes)
+                );
+              }
+              nPaths.incrementAndGet();
+            }
+          }
+        }
+        //Keep lambda! A method-ref would causes incorrect class and line number to be logged
+        //noinspection Convert2MethodRef
+        progress.step(m -> LOG.info(m));
+      });
+
+    transferRepository.setStopAccessEgress(accessByStop, egressByStop, parameters);
+
+    LOG.info(progress.completeMessage());
+    LOG.info("Created {} stop access and egress paths for {} stops.", nPaths, stops.size());
+  }
+}
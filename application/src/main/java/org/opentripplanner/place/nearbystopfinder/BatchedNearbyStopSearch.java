@@ -0,0 +1,126 @@
+package org.opentripplanner.place.nearbystopfinder;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import org.opentripplanner.astar.spi.SearchTerminationStrategy;
+import org.opentripplanner.astar.spi.SkipEdgeStrategy;
+import org.opentripplanner.astar.spi.TraverseVisitor;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+
+/**
+ * The visitor, skip edge strategy and termination strategy of a street search for several
+ * {@link NearbyStopSearch}es at the same time. Each search has its own street search request,
+ * and the states of a search are identified by {@link State#getRequest()}. Each search has its own
+ * {@link NearbyStopFinderVisitor}, duration limit and stop count limit, so the stops found for a
+ * search are the same as for a street search with only that search.
+ * <p>
+ * When a search has found the maximum number of stops, the states of that search are no longer
+ * visited or expanded. The street search is terminated when all searches are done.
+ */
+class BatchedNearbyStopSearch
+  implements
+    TraverseVisitor<State, Edge>, SkipEdgeStrategy<State, Edge>, SearchTerminationStrategy<State> {
+
+  private final List<Label> labels;
+  private final Predicate<State> hasReachedStop;
+
+  BatchedNearbyStopSearch(List<Label> labels, Predicate<State> hasReachedStop) {
+    this.labels = labels;
+    this.hasReachedStop = hasReachedStop;
+  }
+
+  static Label label(
+    NearbyStopSearch search,
+    StreetSearchRequest request,
+    Set<Vertex> originVertices,
+    Set<Vertex> ignoreVertices,
+    boolean reverseDirection
+  ) {
+    return new Label(
+      search,
+      request,
+      new NearbyStopFinderVisitor(originVertices, ignoreVertices, reverseDirection)
+    );
+  }
+
+  @Override
+  public void visitVertex(State state) {
+    var label = findActiveLabel(state);
+    if (label != null) {
+      label.visitor.visitVertex(state);
+    }
+  }
+
+  @Override
+  public void visitEdge(Edge edge) {}
+
+  @Override
+  public void visitEnqueue() {}
+
+  @Override
+  public boolean shouldSkipEdge(State current, Edge edge) {
+    var label = findActiveLabel(current);
+    return label == null || current.getElapsedTimeSeconds() > label.durationInSeconds;
+  }
+
+  @Override
+  public boolean shouldSearchTerminate(State current) {
+    var label = findActiveLabel(current);
+    if (label != null && label.search.maxStopCount() > 0 && hasReachedStop.test(current)) {
+      ++label.count;
+    }
+    return labels.stream().allMatch(Label::isDone);
+  }
+
+  /** The label of the search the state belongs to, or {@code null} if that search is done. */
+  @Nullable
+  private Label findActiveLabel(State state) {
+    for (Label label : labels) {
+      if (label.request == state.getRequest()) {
+        return label.isDone() ? null : label;
+      }
+    }
+    throw new IllegalStateException("The state does not belong to any search: " + state);
+  }
+
+  static final class Label {
+
+    private final NearbyStopSearch search;
+    private final StreetSearchRequest request;
+    private final NearbyStopFinderVisitor visitor;
+    private final double durationInSeconds;
+    private int count = 0;
+
+    private Label(
+      NearbyStopSearch search,
+      StreetSearchRequest request,
+      NearbyStopFinderVisitor visitor
+    ) {
+      this.search = search;
+      this.request = request;
+      this.visitor = visitor;
+      this.durationInSeconds = search.durationLimit().toSeconds();
+    }
+
+    NearbyStopSearch search() {
+      return search;
+    }
+
+    StreetSearchRequest request() {
+      return request;
+    }
+
+    NearbyStopFinderVisitor visitor() {
+      return visitor;
+    }
+
+    private boolean isDone() {
+      return search.maxStopCount() > 0 && count >= search.maxStopCount();
+    }
+  }
+}
@@ -0,0 +1,19 @@
+package org.opentripplanner.place.nearbystopfinder;
+
+import java.time.Duration;
+import java.util.Objects;
+import org.opentripplanner.street.model.StreetMode;
+
+/**
+ * The street mode and limits for one of the modes in a batched nearby stop search, see
+ * {@link StreetNearbyStopFinder}.
+ *
+ * @param durationLimit the maximum duration of the street path to a stop.
+ * @param maxStopCount the maximum number of stops to return. 0 means no limit.
+ */
+public record NearbyStopSearch(StreetMode mode, Duration durationLimit, int maxStopCount) {
+  public NearbyStopSearch {
+    Objects.requireNonNull(mode);
+    Objects.requireNonNull(durationLimit);
+  }
+}
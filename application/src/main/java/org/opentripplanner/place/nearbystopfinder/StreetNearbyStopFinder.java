@@ -6,7 +6,9 @@ import com.google.common.collect.Sets;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.annotation.Nullable;
 import org.locationtech.jts.geom.Coordinate;
@@ -37,6 +39,12 @@ import org.opentripplanner.streetadapter.StreetSearchRequestMapper;
 
 public class StreetNearbyStopFinder implements NearbyStopFinder {
 
+  /**
+   * The bucket width of the queue if {@link OTPFeature#AStarBucketQueue} is on. A walk edge of
+   * about 15 meters has this weight with the default walk speed and reluctance.
+   */
+  private static final double BUCKET_QUEUE_WIDTH = 20.0;
+
   private final LinkingContextFactory linkingContextFactory;
   private final Collection<ExtensionRequestContext> extensionRequestContexts;
   private final Set<Vertex> ignoreVertices;
@@ -176,13 +184,7 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
       .withSkipEdgeStrategy(new DurationSkipEdgeStrategy<>(durationLimit))
       .withDominanceFunction(new DominanceFunctions.MinimumWeight())
       .withTraverseVisitor(visitor)
-      .withRequest(
-        StreetSearchRequestMapper.map(request)
-          .withMode(streetMode)
-          .withExtensionRequestContexts(extensionRequestContexts)
-          .withArriveBy(reverseDirection)
-          .build()
-      )
+      .withRequest(streetSearchRequest(request, streetMode, reverseDirection))
       .withFrom(reverseDirection ? null : originVertices)
       .withTo(reverseDirection ? originVertices : null);
 
@@ -191,9 +193,116 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
         new MaxCountTerminationStrategy<>(maxStopCount, this::hasReachedStop)
       );
     }
+    if (OTPFeature.AStarBucketQueue.isOn()) {
+      streetSearch.withBucketQueue(BUCKET_QUEUE_WIDTH);
+    }
+
+    streetSearch.getShortestPathTree();
+
+    addStopsFound(visitor, stopsFound);
+    return stopsFound;
+  }
+
+  /**
+   * Find the nearby stops for several street modes with a single street search. The states of
+   * each mode are kept apart in the shortest path tree, and each mode has its own duration and
+   * stop count limit, so the stops found for a mode are the same as with
+   * {@link #findNearbyStops(Set, RouteRequest, StreetMode, boolean, Duration, int)}. The edges
+   * and vertices close to the origin are only fetched once, and the overhead of setting up a
+   * search is only paid once.
+   *
+   * @param searches the modes to search for, each mode can only be included once.
+   * @return the stops found for each mode in {@code searches}.
+   */
+  public Map<StreetMode, Collection<NearbyStop>> findNearbyStops(
+    Set<Vertex> originVertices,
+    RouteRequest request,
+    Collection<NearbyStopSearch> searches,
+    boolean reverseDirection
+  ) {
+    OTPRequestTimeoutException.checkForTimeout();
+
+    var result = new EnumMap<StreetMode, Collection<NearbyStop>>(StreetMode.class);
+    var labels = new ArrayList<BatchedNearbyStopSearch.Label>();
+
+    for (var search : searches) {
+      var mode = search.mode();
+      if (result.containsKey(mode)) {
+        throw new IllegalArgumentException("The street mode is included more than once: " + mode);
+      }
+      List<NearbyStop> stopsFound = NearbyStopFactory.nearbyStopsForTransitStopVerticesFiltered(
+        Sets.difference(originVertices, ignoreVertices),
+        reverseDirection,
+        request,
+        mode
+      );
+      result.put(mode, stopsFound);
+
+      // Only return the origin vertices if there are no valid street modes
+      if (
+        mode == StreetMode.NOT_SET ||
+        (search.maxStopCount() > 0 && stopsFound.size() >= search.maxStopCount())
+      ) {
+        continue;
+      }
+      labels.add(
+        BatchedNearbyStopSearch.label(
+          search,
+          streetSearchRequest(request, mode, reverseDirection),
+          originVertices,
+          ignoreVertices,
+          reverseDirection
+        )
+      );
+    }
+
+    if (labels.isEmpty()) {
+      return result;
+    }
+
+    var batch = new BatchedNearbyStopSearch(labels, this::hasReachedStop);
+
+    var streetSearch = StreetSearchBuilder.of()
+      .withPreStartHook(OTPRequestTimeoutException::checkForTimeout)
+      .withSkipEdgeStrategy(batch)
+      .withDominanceFunction(new DominanceFunctions.MinimumWeight())
+      .withTraverseVisitor(batch)
+      .withTerminationStrategy(batch)
+      .withRequest(labels.getFirst().request())
+      .withAdditionalRequests(
+        labels.stream().skip(1).map(BatchedNearbyStopSearch.Label::request).toList()
+      )
+      .withFrom(reverseDirection ? null : originVertices)
+      .withTo(reverseDirection ? originVertices : null);
+
+    if (OTPFeature.AStarBucketQueue.isOn()) {
+      streetSearch.withBucketQueue(BUCKET_QUEUE_WIDTH);
+    }
 
     streetSearch.getShortestPathTree();
 
+    for (var label : labels) {
+      var mode = label.search().mode();
+      var stopsFound = new ArrayList<>(result.get(mode));
+      addStopsFound(label.visitor(), stopsFound);
+      result.put(mode, stopsFound);
+    }
+    return result;
+  }
+
+  private StreetSearchRequest streetSearchRequest(
+    RouteRequest request,
+    StreetMode streetMode,
+    boolean reverseDirection
+  ) {
+    return StreetSearchRequestMapper.map(request)
+      .withMode(streetMode)
+      .withExtensionRequestContexts(extensionRequestContexts)
+      .withArriveBy(reverseDirection)
+      .build();
+  }
+
+  private static void addStopsFound(NearbyStopFinderVisitor visitor, List<NearbyStop> stopsFound) {
     stopsFound.addAll(visitor.transitStopsFound());
 
     if (OTPFeature.FlexRouting.isOn()) {
@@ -211,8 +320,6 @@ public class StreetNearbyStopFinder implements NearbyStopFinder {
         stopsFound.add(NearbyStop.nearbyStopForState(min, areaStopId));
       }
     }
-
-    return stopsFound;
   }
 
   /**
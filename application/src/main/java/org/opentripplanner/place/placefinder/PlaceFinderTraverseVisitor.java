@@ -1,8 +1,11 @@
 package org.opentripplanner.place.placefinder;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import org.opentripplanner.astar.spi.SkipEdgeStrategy;
@@ -13,7 +16,10 @@ import org.opentripplanner.place.api.PlaceAtDistance;
 import org.opentripplanner.place.api.PlaceType;
 import org.opentripplanner.service.vehicleparking.model.VehicleParking;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehiclePickup;
 import org.opentripplanner.service.vehiclerental.street.VehicleRentalPlaceVertex;
+import org.opentripplanner.street.geometry.SphericalDistanceLibrary;
 import org.opentripplanner.street.model.edge.Edge;
 import org.opentripplanner.street.model.vertex.TransitStopVertex;
 import org.opentripplanner.street.model.vertex.VehicleParkingEntranceVertex;
@@ -40,6 +46,8 @@ class PlaceFinderTraverseVisitor implements TraverseVisitor<State, Edge> {
   private final Set<String> seenPatternAtStops = new HashSet<>();
   private final Set<FeedScopedId> seenStops = new HashSet<>();
   private final Set<FeedScopedId> seenVehicleRentalPlaces = new HashSet<>();
+  /** The position in {@link #placesFound} of each free-floating vehicle of an index */
+  private final Map<FeedScopedId, Integer> indexedVehiclePositions = new HashMap<>();
   private final Set<FeedScopedId> seenParkingLots = new HashSet<>();
   private final boolean includeStops;
   private final boolean includePatternAtStops;
@@ -47,6 +55,7 @@ class PlaceFinderTraverseVisitor implements TraverseVisitor<State, Edge> {
   private final boolean includeCarParking;
   private final boolean includeBikeParking;
   private final boolean includeStations;
+  private final Collection<FreeFloatingVehicleIndex> freeFloatingVehicleIndexes;
   private final int maxResults;
   private final double radiusMeters;
 
@@ -64,6 +73,8 @@ class PlaceFinderTraverseVisitor implements TraverseVisitor<State, Edge> {
    *                                   disable the filtering.
    * @param filterByBikeRentalStations A list of VehicleRentalStation ids to use in filtering.  Use
    *                                   null to disable the filtering.
+   * @param freeFloatingVehicleIndexes The free-floating vehicles which are not in the graph, they
+   *                                   are found near the vertices visited.
    * @param maxResults                 Maximum number of results to return.
    */
   PlaceFinderTraverseVisitor(
@@ -75,6 +86,7 @@ class PlaceFinderTraverseVisitor implements TraverseVisitor<State, Edge> {
     List<FeedScopedId> filterByRoutes,
     List<String> filterByBikeRentalStations,
     List<String> filterByNetwork,
+    Collection<FreeFloatingVehicleIndex> freeFloatingVehicleIndexes,
     int maxResults,
     double radiusMeters
   ) {
@@ -96,6 +108,7 @@ class PlaceFinderTraverseVisitor implements TraverseVisitor<State, Edge> {
     includeCarParking = shouldInclude(filterByPlaceTypes, PlaceType.CAR_PARK);
     includeBikeParking = shouldInclude(filterByPlaceTypes, PlaceType.BIKE_PARK);
     includeStations = shouldInclude(filterByPlaceTypes, PlaceType.STATION);
+    this.freeFloatingVehicleIndexes = freeFloatingVehicleIndexes;
     this.maxResults = maxResults;
 
     this.radiusMeters = radiusMeters;
@@ -117,6 +130,9 @@ class PlaceFinderTraverseVisitor implements TraverseVisitor<State, Edge> {
     } else if (vertex instanceof VehicleParkingEntranceVertex parkingVertex) {
       handleParking(parkingVertex.getVehicleParking(), distance);
     }
+    if (includeVehicleRentals) {
+      handleIndexedVehicles(vertex, distance);
+    }
   }
 
   @Override
@@ -260,19 +276,53 @@ class PlaceFinderTraverseVisitor implements TraverseVisitor<State, Edge> {
   }
 
   private void handleVehicleRental(VehicleRentalPlace station, double distance) {
-    if (!includeVehicleRentals) {
-      return;
-    }
-    if (!filterByVehicleRental.isEmpty() && !filterByVehicleRental.contains(station.stationId())) {
+    if (!includeVehicleRentals || !vehicleRentalIsIncludedByFilters(station)) {
       return;
     }
     if (seenVehicleRentalPlaces.contains(station.id())) {
       return;
     }
-    if (!filterByNetwork.isEmpty() && !filterByNetwork.contains(station.network())) {
-      return;
-    }
     seenVehicleRentalPlaces.add(station.id());
     placesFound.add(new PlaceAtDistance(station, distance));
   }
+
+  /**
+   * Find the free-floating vehicles of the indexes near the vertex, the same vehicles the street
+   * search picks up there. A vehicle is reached from several vertices, and the vertices are not
+   * visited in the order of the distance to the vehicle, so the shortest distance is kept.
+   */
+  private void handleIndexedVehicles(Vertex vertex, double distance) {
+    double lat = vertex.getLat();
+    double lon = vertex.getLon();
+    for (var index : freeFloatingVehicleIndexes) {
+      var entries = index.findNearby(lat, lon, FreeFloatingVehiclePickup.PICKUP_RADIUS_METERS);
+      for (var entry : entries) {
+        var vehicle = entry.vehicle();
+        if (!vehicleRentalIsIncludedByFilters(vehicle)) {
+          continue;
+        }
+        double vehicleDistance =
+          distance +
+          SphericalDistanceLibrary.fastDistance(lat, lon, vehicle.latitude(), vehicle.longitude());
+        if (vehicleDistance > radiusMeters) {
+          continue;
+        }
+        var place = new PlaceAtDistance(vehicle, vehicleDistance);
+        var position = indexedVehiclePositions.get(vehicle.id());
+        if (position == null) {
+          indexedVehiclePositions.put(vehicle.id(), placesFound.size());
+          placesFound.add(place);
+        } else if (vehicleDistance < placesFound.get(position).distance()) {
+          placesFound.set(position, place);
+        }
+      }
+    }
+  }
+
+  private boolean vehicleRentalIsIncludedByFilters(VehicleRentalPlace place) {
+    return (
+      (filterByVehicleRental.isEmpty() || filterByVehicleRental.contains(place.stationId())) &&
+      (filterByNetwork.isEmpty() || filterByNetwork.contains(place.network()))
+    );
+  }
 }
@@ -2,6 +2,7 @@ package org.opentripplanner.place.placefinder;
 
 import static java.lang.Integer.min;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import org.opentripplanner.astar.spi.SkipEdgeStrategy;
@@ -14,6 +15,7 @@ import org.opentripplanner.place.api.PlaceAtDistance;
 import org.opentripplanner.place.api.PlaceType;
 import org.opentripplanner.routing.linking.LinkingContextFactory;
 import org.opentripplanner.routing.linking.LinkingContextRequest;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
 import org.opentripplanner.street.linking.TemporaryVerticesContainer;
 import org.opentripplanner.street.model.StreetMode;
 import org.opentripplanner.street.model.edge.Edge;
@@ -31,9 +33,22 @@ import org.opentripplanner.transit.service.TransitService;
 public class StreetNearbyPlaceFinder implements NearbyPlaceFinder {
 
   private final LinkingContextFactory linkingContextFactory;
+  private final Collection<FreeFloatingVehicleIndex> freeFloatingVehicleIndexes;
 
   public StreetNearbyPlaceFinder(LinkingContextFactory linkingContextFactory) {
+    this(linkingContextFactory, List.of());
+  }
+
+  /**
+   * @param freeFloatingVehicleIndexes The free-floating vehicles which are kept outside the graph,
+   *                                   they are found near the vertices visited.
+   */
+  public StreetNearbyPlaceFinder(
+    LinkingContextFactory linkingContextFactory,
+    Collection<FreeFloatingVehicleIndex> freeFloatingVehicleIndexes
+  ) {
     this.linkingContextFactory = linkingContextFactory;
+    this.freeFloatingVehicleIndexes = freeFloatingVehicleIndexes;
   }
 
   @Override
@@ -60,6 +75,7 @@ public class StreetNearbyPlaceFinder implements NearbyPlaceFinder {
       filterByRoutes,
       filterByBikeRentalStations,
       filterByNetwork,
+      freeFloatingVehicleIndexes,
       maxResults,
       radiusMeters
     );
@@ -70,8 +70,22 @@ public class StreetPathToLegsMapper {
 
   public static boolean isRentalPickUp(State state) {
     return (
-      state.getBackEdge() instanceof VehicleRentalEdge &&
-      (state.getBackState() == null || !state.getBackState().isRentingVehicle())
+      (state.getBackEdge() instanceof VehicleRentalEdge &&
+        (state.getBackState() == null || !state.getBackState().isRentingVehicle())) ||
+      isStreetRentalPickUp(state)
+    );
+  }
+
+  /**
+   * A free-floating vehicle which is not in the graph is picked up at the end of the street edge
+   * walked to reach it.
+   */
+  private static boolean isStreetRentalPickUp(State state) {
+    return (
+      state.isRentingVehicle() &&
+      state.getBackState() != null &&
+      !state.getBackState().isRentingVehicle() &&
+      !(state.getBackEdge() instanceof VehicleRentalEdge)
     );
   }
 
@@ -224,7 +238,9 @@ public class StreetPathToLegsMapper {
 
         if (mode != null) {
           // Resolve correct mode if renting vehicle
-          if (state.isRentingVehicle()) {
+          if (isStreetRentalPickUp(state)) {
+            return state.getBackMode();
+          } else if (state.isRentingVehicle()) {
             return state.stateData.rentalVehicleFormFactor.traverseMode;
           } else {
             return mode;
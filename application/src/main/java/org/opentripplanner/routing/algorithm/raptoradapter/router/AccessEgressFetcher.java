@@ -9,13 +9,18 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 import org.opentripplanner.ext.carpooling.CarpoolingService;
 import org.opentripplanner.ext.ridehailing.RideHailingAccessShifter;
 import org.opentripplanner.framework.application.OTPFeature;
+import org.opentripplanner.place.api.NearbyStop;
+import org.opentripplanner.place.nearbystopfinder.NearbyStopSearch;
 import org.opentripplanner.routing.algorithm.raptoradapter.router.startonboardaccess.RoutingStartOnBoardAccess;
 import org.opentripplanner.routing.algorithm.raptoradapter.router.startonboardaccess.TripAndServiceDateResolver;
 import org.opentripplanner.routing.algorithm.raptoradapter.router.startonboardaccess.TripLocationResolver;
 import org.opentripplanner.routing.algorithm.raptoradapter.router.startonboardaccess.TripScheduleIndexResolver;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressRouter;
 import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressType;
 import org.opentripplanner.routing.algorithm.raptoradapter.router.street.FlexAccessEgressRouter;
@@ -146,30 +151,29 @@ class AccessEgressFetcher {
     Duration durationLimit = accessEgressPreferences.maxDuration().valueOf(mode);
     int stopCountLimit = accessEgressPreferences.maxStopCountLimit().limitForMode(mode);
 
-    var nearbyStops = AccessEgressRouter.findAccessEgresses(
-      accessRequest,
-      mode,
-      serverContext.listExtensionRequestContexts(accessRequest),
-      type,
-      durationLimit,
-      stopCountLimit,
-      linkingContext
-    );
-    var accessEgresses = accessEgressMapper.mapNearbyStops(nearbyStops);
+    // The walk search for flex is done in the same street search as the access/egress search
+    boolean includeFlex = OTPFeature.FlexRouting.isOn() && mode == StreetMode.FLEXIBLE;
+    var searches = new ArrayList<NearbyStopSearch>();
+    searches.add(new NearbyStopSearch(mode, durationLimit, stopCountLimit));
+    if (includeFlex) {
+      searches.add(FlexAccessEgressRouter.walkSearch(serverContext.flexParameters(), type));
+    }
+
+    var nearbyStopsByMode = findAccessEgresses(accessRequest, searches, type);
+    var accessEgresses = accessEgressMapper.mapNearbyStops(nearbyStopsByMode.get(mode));
     accessEgresses = timeshiftRideHailing(streetRequest, type, accessEgresses);
 
     var results = new ArrayList<>(accessEgresses);
 
     // Special handling of flex accesses
-    if (OTPFeature.FlexRouting.isOn() && mode == StreetMode.FLEXIBLE) {
+    if (includeFlex) {
       var flexAccessList = FlexAccessEgressRouter.routeAccessEgress(
         accessRequest,
         serverContext,
         additionalSearchDays,
         serverContext.flexParameters(),
-        serverContext.listExtensionRequestContexts(accessRequest),
         type,
-        linkingContext
+        nearbyStopsByMode.get(StreetMode.WALK)
       );
 
       results.addAll(AccessEgressMapper.mapFlexAccessEgresses(flexAccessList));
@@ -189,6 +193,65 @@ class AccessEgressFetcher {
     return results;
   }
 
+  /**
+   * Find the access/egress stops from the precomputed paths of the origin stops if the
+   * {@link OTPFeature#PrecomputedStopAccess} is enabled and the paths can be used. Otherwise, find
+   * them with a street search, or from the cache if the {@link OTPFeature#AccessEgressCache} is
+   * enabled and the search can be cached.
+   */
+  private Map<StreetMode, Collection<NearbyStop>> findAccessEgresses(
+    RouteRequest accessRequest,
+    List<NearbyStopSearch> searches,
+    AccessEgressType type
+  ) {
+    var extensionRequestContexts = serverContext.listExtensionRequestContexts(accessRequest);
+
+    if (OTPFeature.PrecomputedStopAccess.isOn() && searches.size() == 1) {
+      var nearbyStopSearch = searches.getFirst();
+      var precomputed = AccessEgressRouter.findPrecomputedAccessEgresses(
+        accessRequest,
+        nearbyStopSearch,
+        extensionRequestContexts,
+        type,
+        linkingContext,
+        serverContext.transferService(),
+        transitServiceResolver
+      );
+      if (precomputed.isPresent()) {
+        return Map.of(nearbyStopSearch.mode(), precomputed.get());
+      }
+    }
+
+    Supplier<Map<StreetMode, Collection<NearbyStop>>> search = () ->
+      AccessEgressRouter.findAccessEgresses(
+        accessRequest,
+        searches,
+        extensionRequestContexts,
+        type,
+        linkingContext
+      );
+
+    var cache = serverContext.accessEgressCache();
+    if (cache == null) {
+      return search.get();
+    }
+    var originVertices = linkingContext.findVertices(
+      type.isAccess() ? accessRequest.from() : accessRequest.to()
+    );
+    var hasExtensions = !extensionRequestContexts.isEmpty();
+    if (!AccessEgressCache.isCacheable(originVertices, searches, hasExtensions)) {
+      return search.get();
+    }
+    var key = AccessEgressCache.Key.of(
+      accessRequest,
+      originVertices,
+      type.isAccess() ? linkingContext.fromStopVertices() : linkingContext.toStopVertices(),
+      searches,
+      type
+    );
+    return cache.get(key, search);
+  }
+
   /**
    * Given a list of {@code results} shift the access ones that contain driving so that they only
    * start at the time when the ride hailing vehicle can actually be there to pick up passengers.
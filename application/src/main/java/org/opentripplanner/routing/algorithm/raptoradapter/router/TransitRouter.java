@@ -226,13 +226,21 @@ public class TransitRouter {
     final var accessList = new ArrayList<RoutingAccessEgress>();
     final var egressList = new ArrayList<RoutingAccessEgress>();
 
-    if (OTPFeature.ParallelRouting.isOn()) {
+    var executor = serverContext.accessEgressExecutor();
+
+    if (executor != null) {
       try {
-        // TODO: This is not using {@link OtpRequestThreadFactory} which mean we do not get
-        //       log-trace-parameters-propagation and graceful timeout handling here.
+        // TODO: The timeout interrupt of the request thread is not propagated to the access and
+        //       egress threads, so we do not get graceful timeout handling here.
         CompletableFuture.allOf(
-          CompletableFuture.runAsync(() -> accessList.addAll(fetchAccess(fetchAccessEgress))),
-          CompletableFuture.runAsync(() -> egressList.addAll(fetchEgress(fetchAccessEgress)))
+          CompletableFuture.runAsync(
+            () -> accessList.addAll(fetchAccess(fetchAccessEgress)),
+            executor
+          ),
+          CompletableFuture.runAsync(
+            () -> egressList.addAll(fetchEgress(fetchAccessEgress)),
+            executor
+          )
         ).join();
       } catch (CompletionException e) {
         RoutingValidationException.unwrapAndRethrowCompletionException(e);
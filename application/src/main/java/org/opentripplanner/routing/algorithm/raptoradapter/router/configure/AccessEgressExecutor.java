@@ -0,0 +1,17 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.configure;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import jakarta.inject.Qualifier;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+
+/**
+ * This qualifier is used to tag the {@link java.util.concurrent.ExecutorService} used to fetch
+ * the access and egress in parallel. The type is not enough to perform the dependency injection,
+ * since other executors may be bound as well.
+ */
+@Qualifier
+@Documented
+@Retention(RUNTIME)
+public @interface AccessEgressExecutor {}
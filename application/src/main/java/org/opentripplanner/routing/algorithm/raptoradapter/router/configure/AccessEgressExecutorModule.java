@@ -0,0 +1,45 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.configure;
+
+import dagger.Module;
+import dagger.Provides;
+import jakarta.inject.Singleton;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.opentripplanner.framework.application.OTPFeature;
+import org.opentripplanner.framework.concurrent.OtpRequestThreadFactory;
+import org.opentripplanner.standalone.config.RouterConfig;
+
+/**
+ * The access and egress are fetched in parallel on this pool, if the
+ * {@link OTPFeature#ParallelRouting} feature is on and the {@code accessEgressThreadPoolSize} in
+ * the transit section of the {@link RouterConfig} is greater than 0. The pool is shared by all
+ * requests. It has a bounded queue, and when the queue is full the search runs on the request
+ * thread. So under load the requests fall back to fetching the access and egress sequentially,
+ * instead of queueing work without limit.
+ */
+@Module
+public class AccessEgressExecutorModule {
+
+  @Provides
+  @Singleton
+  @Nullable
+  @AccessEgressExecutor
+  static ExecutorService provideAccessEgressExecutor(RouterConfig routerConfig) {
+    int threadPoolSize = routerConfig.transitTuningConfig().accessEgressThreadPoolSize();
+    if (OTPFeature.ParallelRouting.isOff() || threadPoolSize <= 0) {
+      return null;
+    }
+    return new ThreadPoolExecutor(
+      threadPoolSize,
+      threadPoolSize,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(2 * threadPoolSize),
+      OtpRequestThreadFactory.ofDaemon("access-egress-"),
+      new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+  }
+}
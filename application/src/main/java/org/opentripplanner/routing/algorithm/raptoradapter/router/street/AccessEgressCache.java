@@ -0,0 +1,172 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.street;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.locationtech.jts.geom.Coordinate;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.place.api.NearbyStop;
+import org.opentripplanner.place.nearbystopfinder.NearbyStopSearch;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.preference.RoutingPreferences;
+import org.opentripplanner.routing.api.request.request.JourneyRequest;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.vertex.TemporaryVertex;
+import org.opentripplanner.street.model.vertex.TransitStopVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+
+/**
+ * A cache of the access/egress stops found by the street search from stops and stations. Many
+ * requests start or end at the same stations, and the street search from a station is the same
+ * for all requests with the same preferences.
+ * <p>
+ * Only searches which do not depend on the request time or the real-time state of the street
+ * model are cached: the origin must be permanent vertices, like the vertices of a stop or
+ * station, and the street modes can not include renting or parking. The paths found do not
+ * depend on the request time, the legs are shifted to the departure time when the itinerary is
+ * created. The real-time updates of the street model add and remove rental and parking places,
+ * which these searches do not use, so the results are kept until they expire. A search which
+ * timed out is not cached, since it may not have found all stops.
+ * <p>
+ * The size of the cache is limited by the number of states in the paths to the stops, since the
+ * paths make up most of the memory used.
+ */
+public class AccessEgressCache {
+
+  public static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+  private final Cache<Key, Map<StreetMode, Collection<NearbyStop>>> cache;
+
+  /**
+   * @param maximumStates The maximum number of states in the paths of all cached results.
+   */
+  public AccessEgressCache(long maximumStates, Duration timeToLive) {
+    this.cache = CacheBuilder.newBuilder()
+      .maximumWeight(maximumStates)
+      .weigher(AccessEgressCache::numberOfStates)
+      .expireAfterWrite(timeToLive)
+      .recordStats()
+      .build();
+  }
+
+  /**
+   * Return {@code true} if the search result may be cached, see the class documentation.
+   */
+  public static boolean isCacheable(
+    Set<Vertex> originVertices,
+    Collection<NearbyStopSearch> searches,
+    boolean hasExtensionRequestContexts
+  ) {
+    return (
+      !hasExtensionRequestContexts &&
+      !originVertices.isEmpty() &&
+      originVertices.stream().noneMatch(v -> v instanceof TemporaryVertex) &&
+      searches.stream().allMatch(s -> !s.mode().includesRenting() && !s.mode().includesParking())
+    );
+  }
+
+  /**
+   * Return the cached result for the search, or run the search and cache the result. The
+   * result is not cached if the search took longer than the street routing timeout of the
+   * request, since the search was then aborted. The result can not be modified.
+   */
+  public Map<StreetMode, Collection<NearbyStop>> get(
+    Key key,
+    Supplier<Map<StreetMode, Collection<NearbyStop>>> search
+  ) {
+    var result = cache.getIfPresent(key);
+    if (result == null) {
+      // Two requests may search for the same key at the same time, this is ok since the result
+      // is the same
+      long start = System.nanoTime();
+      result = copyOf(search.get());
+      var duration = Duration.ofNanos(System.nanoTime() - start);
+      if (duration.compareTo(key.preferences().street().routingTimeout()) < 0) {
+        cache.put(key, result);
+      }
+    }
+    return result;
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  /**
+   * The underlying cache, used to report the hit rate and size of the cache.
+   */
+  public Cache<Key, Map<StreetMode, Collection<NearbyStop>>> cache() {
+    return cache;
+  }
+
+  private static int numberOfStates(Key key, Map<StreetMode, Collection<NearbyStop>> result) {
+    int n = 0;
+    for (var stops : result.values()) {
+      for (var stop : stops) {
+        n += stop.edges.size() + 1;
+      }
+    }
+    return n;
+  }
+
+  private static Map<StreetMode, Collection<NearbyStop>> copyOf(
+    Map<StreetMode, Collection<NearbyStop>> result
+  ) {
+    var copy = new EnumMap<StreetMode, Collection<NearbyStop>>(StreetMode.class);
+    result.forEach((mode, stops) -> copy.put(mode, List.copyOf(stops)));
+    return Map.copyOf(copy);
+  }
+
+  /**
+   * The cache key contains everything the street search depends on. The preferences and the
+   * journey are included as a whole, even if only a part of them is used by the search.
+   * <p>
+   * A driving search does not prune states close to the origin or the destination of the request,
+   * see {@code StreetSearchRequest#isCloseToStartOrEnd}. The envelopes used for this are made from
+   * the coordinates of the request, so the coordinates are part of the key if any of the searches
+   * includes driving. They are left out for the other modes, so these searches are shared by
+   * requests to and from different places.
+   */
+  public record Key(
+    Set<Vertex> originVertices,
+    Set<TransitStopVertex> stopVertices,
+    List<NearbyStopSearch> searches,
+    AccessEgressType accessOrEgress,
+    RoutingPreferences preferences,
+    JourneyRequest journey,
+    @Nullable Coordinate fromCoordinate,
+    @Nullable Coordinate toCoordinate
+  ) {
+    public static Key of(
+      RouteRequest request,
+      Set<Vertex> originVertices,
+      Set<TransitStopVertex> stopVertices,
+      Collection<NearbyStopSearch> searches,
+      AccessEgressType accessOrEgress
+    ) {
+      boolean driving = searches.stream().anyMatch(s -> s.mode().includesDriving());
+      return new Key(
+        Set.copyOf(originVertices),
+        Set.copyOf(stopVertices),
+        List.copyOf(searches),
+        accessOrEgress,
+        request.preferences(),
+        request.journey(),
+        driving ? coordinate(request.from()) : null,
+        driving ? coordinate(request.to()) : null
+      );
+    }
+
+    @Nullable
+    private static Coordinate coordinate(@Nullable GenericLocation location) {
+      return location == null ? null : location.getCoordinate();
+    }
+  }
+}
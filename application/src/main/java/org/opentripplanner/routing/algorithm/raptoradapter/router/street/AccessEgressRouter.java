@@ -2,16 +2,30 @@ package org.opentripplanner.routing.algorithm.raptoradapter.router.street;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.opentripplanner.framework.application.OTPRequestTimeoutException;
 import org.opentripplanner.place.api.NearbyStop;
 import org.opentripplanner.place.nearbystopfinder.NearbyStopFactory;
+import org.opentripplanner.place.nearbystopfinder.NearbyStopSearch;
 import org.opentripplanner.place.nearbystopfinder.StreetNearbyStopFinder;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.linking.LinkingContext;
 import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.edge.Edge;
 import org.opentripplanner.street.model.edge.ExtensionRequestContext;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.EdgeTraverser;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.streetadapter.StreetSearchRequestMapper;
+import org.opentripplanner.transfer.regular.RegularTransferService;
+import org.opentripplanner.transit.StopResolver;
+import org.opentripplanner.transit.model.site.StopLocation;
 import org.opentripplanner.utils.collection.ListUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,6 +88,164 @@ public class AccessEgressRouter {
     return results;
   }
 
+  /**
+   * Find accesses or egresses for several street modes from the same origin with a single street
+   * search, see {@link StreetNearbyStopFinder#findNearbyStops(java.util.Set, RouteRequest,
+   * Collection, boolean)}. The result for each mode is the same as the result of
+   * {@link #findAccessEgresses(RouteRequest, StreetMode, Collection, AccessEgressType, Duration,
+   * int, LinkingContext)}.
+   */
+  public static Map<StreetMode, Collection<NearbyStop>> findAccessEgresses(
+    RouteRequest request,
+    Collection<NearbyStopSearch> searches,
+    Collection<ExtensionRequestContext> extensionRequestContexts,
+    AccessEgressType accessOrEgress,
+    LinkingContext linkingContext
+  ) {
+    OTPRequestTimeoutException.checkForTimeout();
+
+    // The zero distance stops are the same for all modes, only the states differ
+    var zeroDistanceAccessEgress = new EnumMap<StreetMode, List<NearbyStop>>(StreetMode.class);
+    for (var search : searches) {
+      zeroDistanceAccessEgress.put(
+        search.mode(),
+        findAccessEgressWithZeroDistance(request, search.mode(), accessOrEgress, linkingContext)
+      );
+    }
+    var ignoreVertices = zeroDistanceAccessEgress
+      .values()
+      .stream()
+      .flatMap(Collection::stream)
+      .map(nearbyStop -> nearbyStop.state.getVertex())
+      .collect(Collectors.toSet());
+
+    var originVertices = accessOrEgress.isAccess()
+      ? linkingContext.findVertices(request.from())
+      : linkingContext.findVertices(request.to());
+    var streetAccessEgress = StreetNearbyStopFinder.of(null)
+      .withIgnoreVertices(ignoreVertices)
+      .withExtensionRequestContexts(extensionRequestContexts)
+      .build()
+      .findNearbyStops(originVertices, request, searches, accessOrEgress.isEgress());
+
+    var results = new EnumMap<StreetMode, Collection<NearbyStop>>(StreetMode.class);
+    for (var it : zeroDistanceAccessEgress.entrySet()) {
+      var mode = it.getKey();
+      results.put(mode, ListUtils.combine(it.getValue(), streetAccessEgress.get(mode)));
+      LOG.debug("Found {} {} stops for {}", results.get(mode).size(), accessOrEgress, mode);
+    }
+    return results;
+  }
+
+  /**
+   * Find the walk accesses or egresses of a request from or to a stop or station, using the
+   * precomputed paths of the stops, see {@link RegularTransferService#findStopAccess}. The edges
+   * of each path are traversed with the request, so the duration and cost are the same as with a
+   * street search. Return empty if the origin is not a stop or station, or if the paths are not
+   * precomputed or can not be used for the request.
+   */
+  public static Optional<Collection<NearbyStop>> findPrecomputedAccessEgresses(
+    RouteRequest request,
+    NearbyStopSearch search,
+    Collection<ExtensionRequestContext> extensionRequestContexts,
+    AccessEgressType accessOrEgress,
+    LinkingContext linkingContext,
+    RegularTransferService transferService,
+    StopResolver stopResolver
+  ) {
+    var parameters = transferService.stopAccessParameters();
+    if (
+      search.mode() != StreetMode.WALK ||
+      !extensionRequestContexts.isEmpty() ||
+      parameters.isEmpty() ||
+      !parameters.get().canBeUsedFor(request, search.durationLimit())
+    ) {
+      return Optional.empty();
+    }
+
+    var originVertices = accessOrEgress.isAccess()
+      ? linkingContext.findVertices(request.from())
+      : linkingContext.findVertices(request.to());
+    var stopVertices = accessOrEgress.isAccess()
+      ? linkingContext.fromStopVertices()
+      : linkingContext.toStopVertices();
+    // The origin must be the stop vertices, not a coordinate or a station centroid
+    if (stopVertices.isEmpty() || !originVertices.equals(stopVertices)) {
+      return Optional.empty();
+    }
+    var originStops = new HashSet<StopLocation>();
+    for (var vertex : stopVertices) {
+      var stop = stopResolver.getStop(vertex.getId());
+      if (stop == null) {
+        return Optional.empty();
+      }
+      originStops.add(stop);
+    }
+
+    var streetRequest = StreetSearchRequestMapper.map(request)
+      .withMode(StreetMode.WALK)
+      .withArriveBy(accessOrEgress.isEgress())
+      .build();
+    long durationLimit = search.durationLimit().toSeconds();
+
+    // Keep the best path to each stop, a station may have paths from several child stops
+    var bestByStop = new HashMap<StopLocation, NearbyStop>();
+    for (var originStop : originStops) {
+      var paths = accessOrEgress.isAccess()
+        ? transferService.findStopAccess(originStop)
+        : transferService.findStopEgress(originStop);
+      for (var path : paths) {
+        var stop = accessOrEgress.isAccess() ? path.to : path.from;
+        if (originStops.contains(stop)) {
+          continue;
+        }
+        var state = traversePath(path.getEdges(), streetRequest);
+        if (state.isEmpty() || state.get().getElapsedTimeSeconds() > durationLimit) {
+          continue;
+        }
+        var nearbyStop = new NearbyStop(
+          stop.getId(),
+          path.getDistanceMeters(),
+          path.getEdges(),
+          state.get()
+        );
+        bestByStop.merge(stop, nearbyStop, AccessEgressRouter::best);
+      }
+    }
+
+    var streetAccessEgress = bestByStop.values().stream().sorted();
+    if (search.maxStopCount() > 0) {
+      streetAccessEgress = streetAccessEgress.limit(search.maxStopCount());
+    }
+    var results = ListUtils.combine(
+      findAccessEgressWithZeroDistance(request, search.mode(), accessOrEgress, linkingContext),
+      streetAccessEgress.toList()
+    );
+    LOG.debug("Found {} precomputed {} stops", results.size(), accessOrEgress);
+    return Optional.of(results);
+  }
+
+  /**
+   * Traverse the edges of a path with the given request. An arrive-by request traverses the
+   * edges from the end of the path, like a reverse street search. Return the state at the stop
+   * at the other end of the path, or empty if the edges can not be traversed.
+   */
+  private static Optional<State> traversePath(List<Edge> edges, StreetSearchRequest request) {
+    if (edges.isEmpty()) {
+      return Optional.empty();
+    }
+    if (request.arriveBy()) {
+      var start = new State(edges.getLast().getToVertex(), request);
+      return EdgeTraverser.traverseEdges(start, edges.reversed());
+    }
+    var start = new State(edges.getFirst().getFromVertex(), request);
+    return EdgeTraverser.traverseEdges(start, edges);
+  }
+
+  private static NearbyStop best(NearbyStop a, NearbyStop b) {
+    return b.isBetter(a) ? b : a;
+  }
+
   /**
    * Return a list of direct accesses/egresses that do not require any street search. This will
    * return an empty list if the source/destination is not a stopId.
@@ -46,7 +46,8 @@ public class DirectStreetRouter {
       GraphPathFinder gpFinder = new GraphPathFinder(
         serverContext.listExtensionRequestContexts(request),
         streetLimitationParametersService,
-        serverContext.vehicleRentalService()
+        serverContext.vehicleRentalService(),
+        serverContext.graph()
       );
       var paths = gpFinder.find(request, linkingContext);
 
@@ -8,54 +8,36 @@ import org.opentripplanner.ext.flex.FlexRouter;
 import org.opentripplanner.ext.flex.filter.FilterMapper;
 import org.opentripplanner.framework.application.OTPRequestTimeoutException;
 import org.opentripplanner.place.api.NearbyStop;
+import org.opentripplanner.place.nearbystopfinder.NearbyStopSearch;
 import org.opentripplanner.routing.algorithm.raptoradapter.router.AdditionalSearchDays;
 import org.opentripplanner.routing.api.request.RouteRequest;
-import org.opentripplanner.routing.linking.LinkingContext;
 import org.opentripplanner.standalone.api.OtpServerRequestContext;
 import org.opentripplanner.street.model.StreetMode;
-import org.opentripplanner.street.model.edge.ExtensionRequestContext;
 import org.opentripplanner.transit.service.TransitService;
 
 public class FlexAccessEgressRouter {
 
   private FlexAccessEgressRouter() {}
 
+  /**
+   * Route flex accesses or egresses from the walk accesses or egresses found with the
+   * {@link #walkSearch(FlexParameters, AccessEgressType)}. The walk search is done together with
+   * the street search for the access/egress mode, see {@link AccessEgressRouter}.
+   */
   public static Collection<FlexAccessEgress> routeAccessEgress(
     RouteRequest request,
     OtpServerRequestContext serverContext,
     AdditionalSearchDays searchDays,
     FlexParameters config,
-    Collection<ExtensionRequestContext> extensionRequestContexts,
     AccessEgressType accessOrEgress,
-    LinkingContext linkingContext
+    Collection<NearbyStop> walkStops
   ) {
     OTPRequestTimeoutException.checkForTimeout();
 
     TransitService transitService = serverContext.transitService();
 
-    Collection<NearbyStop> accessStops = accessOrEgress.isAccess()
-      ? AccessEgressRouter.findAccessEgresses(
-          request,
-          StreetMode.WALK,
-          extensionRequestContexts,
-          AccessEgressType.ACCESS,
-          serverContext.flexParameters().maxAccessWalkDuration(),
-          0,
-          linkingContext
-        )
-      : List.of();
-
-    Collection<NearbyStop> egressStops = accessOrEgress.isEgress()
-      ? AccessEgressRouter.findAccessEgresses(
-          request,
-          StreetMode.WALK,
-          extensionRequestContexts,
-          AccessEgressType.EGRESS,
-          serverContext.flexParameters().maxEgressWalkDuration(),
-          0,
-          linkingContext
-        )
-      : List.of();
+    Collection<NearbyStop> accessStops = accessOrEgress.isAccess() ? walkStops : List.of();
+    Collection<NearbyStop> egressStops = accessOrEgress.isEgress() ? walkStops : List.of();
 
     FlexRouter flexRouter = new FlexRouter(
       serverContext.graph(),
@@ -76,4 +58,16 @@ public class FlexAccessEgressRouter {
       ? flexRouter.createFlexEgresses()
       : flexRouter.createFlexAccesses();
   }
+
+  /** The street search for the walk part of flex accesses or egresses. */
+  public static NearbyStopSearch walkSearch(
+    FlexParameters config,
+    AccessEgressType accessOrEgress
+  ) {
+    return new NearbyStopSearch(
+      StreetMode.WALK,
+      accessOrEgress.isAccess() ? config.maxAccessWalkDuration() : config.maxEgressWalkDuration(),
+      0
+    );
+  }
 }
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import org.opentripplanner.astar.strategy.DurationSkipEdgeStrategy;
+import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.framework.application.OTPRequestTimeoutException;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.api.request.preference.StreetPreferences;
@@ -13,10 +14,11 @@ import org.opentripplanner.routing.error.PathNotFoundException;
 import org.opentripplanner.routing.linking.LinkingContext;
 import org.opentripplanner.service.vehiclerental.GeofencingZoneService;
 import org.opentripplanner.service.vehiclerental.model.GeofencingZone;
+import org.opentripplanner.street.graph.Graph;
 import org.opentripplanner.street.model.edge.ExtensionRequestContext;
 import org.opentripplanner.street.model.path.StreetPath;
 import org.opentripplanner.street.model.vertex.Vertex;
-import org.opentripplanner.street.search.EuclideanRemainingWeightHeuristic;
+import org.opentripplanner.street.search.LandmarkRemainingWeightHeuristic;
 import org.opentripplanner.street.search.StreetSearchBuilder;
 import org.opentripplanner.street.search.strategy.DominanceFunctions;
 import org.opentripplanner.street.service.StreetLimitationParametersService;
@@ -34,16 +36,20 @@ class GraphPathFinder {
 
   private final GeofencingZoneService geofencingZoneService;
 
+  private final Graph graph;
+
   GraphPathFinder(
     Collection<ExtensionRequestContext> extensionRequestContexts,
     StreetLimitationParametersService streetLimitationParametersService,
-    GeofencingZoneService geofencingZoneService
+    GeofencingZoneService geofencingZoneService,
+    Graph graph
   ) {
     this.extensionRequestContexts = Objects.requireNonNull(extensionRequestContexts);
     this.streetLimitationParametersService = Objects.requireNonNull(
       streetLimitationParametersService
     );
     this.geofencingZoneService = Objects.requireNonNull(geofencingZoneService);
+    this.graph = Objects.requireNonNull(graph);
   }
 
   List<StreetPath> find(RouteRequest request, LinkingContext linkingContext) {
@@ -82,7 +88,7 @@ class GraphPathFinder {
 
     StreetSearchBuilder streetSearch = StreetSearchBuilder.of()
       .withPreStartHook(OTPRequestTimeoutException::checkForTimeout)
-      .withHeuristic(new EuclideanRemainingWeightHeuristic(streetLimitationParametersService))
+      .withHeuristic(new LandmarkRemainingWeightHeuristic(streetLimitationParametersService, graph))
       .withSkipEdgeStrategy(
         new DurationSkipEdgeStrategy(
           preferences.maxDirectDuration().valueOf(request.journey().direct().mode())
@@ -94,9 +100,26 @@ class GraphPathFinder {
       .withFrom(from)
       .withTo(to);
 
+    if (OTPFeature.BidirectionalStreetSearch.isOn() && supportsBidirectionalSearch(request)) {
+      streetSearch.withBidirectionalSearch(
+        new LandmarkRemainingWeightHeuristic(streetLimitationParametersService, graph)
+      );
+    }
+
     return streetSearch.getPathsToTarget();
   }
 
+  /**
+   * The forward and reverse paths of a bidirectional search can only be combined if the state
+   * does not change along the path, like when renting or parking a vehicle.
+   */
+  private static boolean supportsBidirectionalSearch(RouteRequest request) {
+    return switch (request.journey().direct().mode()) {
+      case WALK, BIKE, CAR -> true;
+      default -> false;
+    };
+  }
+
   private Set<GeofencingZone> computeZonesAtVertices(Set<Vertex> vertices) {
     var zones = new HashSet<GeofencingZone>();
     for (var vertex : vertices) {
@@ -0,0 +1,30 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.street.configure;
+
+import dagger.Module;
+import dagger.Provides;
+import jakarta.inject.Singleton;
+import javax.annotation.Nullable;
+import org.opentripplanner.framework.application.OTPFeature;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
+import org.opentripplanner.standalone.config.RouterConfig;
+
+/**
+ * The {@link AccessEgressCache} is shared by all requests, and is only constructed if the
+ * {@link OTPFeature#AccessEgressCache} feature is on. The size is set in the transit section of
+ * the {@link RouterConfig}.
+ */
+@Module
+public class AccessEgressCacheModule {
+
+  @Provides
+  @Singleton
+  @Nullable
+  static AccessEgressCache provideAccessEgressCache(RouterConfig routerConfig) {
+    return OTPFeature.AccessEgressCache.isOn()
+      ? new AccessEgressCache(
+          routerConfig.transitTuningConfig().accessEgressCacheMaxStates(),
+          AccessEgressCache.TIME_TO_LIVE
+        )
+      : null;
+  }
+}
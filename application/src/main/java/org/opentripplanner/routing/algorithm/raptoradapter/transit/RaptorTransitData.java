@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.request.RaptorRequestPatternCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.request.transfercache.RaptorRequestTransferCache;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.transfer.constrained.ConstrainedTransferService;
@@ -31,8 +32,11 @@ public class RaptorTransitData {
    * A Trip "runs through" a date if any of its arrivals or departures is happening on that date.
    * The same trip pattern can therefore have multiple running dates and trip pattern is not
    * required to "run" on its service date.
+   * <p>
+   * The collections are immutable and shared between versions of the RaptorTransitData, a
+   * real-time update creates a new collection for each date it touches.
    */
-  private final HashMap<LocalDate, List<TripPatternForDate>> tripPatternsRunningOnDate;
+  private final HashMap<LocalDate, TripPatternsRunningOnDate> tripPatternsRunningOnDate;
 
   /**
    * Index of outer list is from stop index, inner list index has no specific meaning. To stop index
@@ -49,6 +53,12 @@ public class RaptorTransitData {
 
   private final RaptorRequestTransferCache transferCache;
 
+  /**
+   * The request transit data depend on the trip patterns of this instance, so the cache is not
+   * shared with copies made when applying real-time updates.
+   */
+  private final RaptorRequestPatternCache patternCache = new RaptorRequestPatternCache();
+
   private ConstrainedTransfersForPatterns constrainedTransfers;
 
   private final TransferIndexGenerator transferIndexGenerator;
@@ -59,19 +69,17 @@ public class RaptorTransitData {
   /**
    * Makes a shallow copy of the RaptorTransitData, except for the tripPatternsForDate, where a shallow
    * copy of the HashMap is made. This is sufficient, as the RealTimeRaptorTransitDataUpdater will replace entire
-   * keys and their values in the map.
+   * keys and their values in the map. The values are immutable and shared with the original.
    */
   public RaptorTransitData(RaptorTransitData raptorTransitData) {
-    this(
-      raptorTransitData.tripPatternsRunningOnDate,
-      raptorTransitData.transfersByStopIndex,
-      raptorTransitData.transferService,
-      raptorTransitData.siteRepository,
-      raptorTransitData.transferCache,
-      raptorTransitData.constrainedTransfers,
-      raptorTransitData.transferIndexGenerator,
-      raptorTransitData.stopBoardAlightTransferCosts
-    );
+    this.tripPatternsRunningOnDate = new HashMap<>(raptorTransitData.tripPatternsRunningOnDate);
+    this.transfersByStopIndex = raptorTransitData.transfersByStopIndex;
+    this.transferService = raptorTransitData.transferService;
+    this.siteRepository = raptorTransitData.siteRepository;
+    this.transferCache = raptorTransitData.transferCache;
+    this.constrainedTransfers = raptorTransitData.constrainedTransfers;
+    this.transferIndexGenerator = raptorTransitData.transferIndexGenerator;
+    this.stopBoardAlightTransferCosts = raptorTransitData.stopBoardAlightTransferCosts;
   }
 
   public RaptorTransitData(
@@ -84,7 +92,10 @@ public class RaptorTransitData {
     TransferIndexGenerator transferIndexGenerator,
     @Nullable int[] stopBoardAlightTransferCosts
   ) {
-    this.tripPatternsRunningOnDate = new HashMap<>(tripPatternsRunningOnDate);
+    this.tripPatternsRunningOnDate = new HashMap<>();
+    tripPatternsRunningOnDate.forEach((date, patterns) ->
+      this.tripPatternsRunningOnDate.put(date, TripPatternsRunningOnDate.of(patterns))
+    );
     this.transfersByStopIndex = transfersByStopIndex;
     this.transferService = transferService;
     this.siteRepository = siteRepository;
@@ -105,7 +116,8 @@ public class RaptorTransitData {
    * happening on that date. Trip pattern can have multiple running dates.
    */
   public Collection<TripPatternForDate> getTripPatternsForRunningDate(LocalDate date) {
-    return tripPatternsRunningOnDate.getOrDefault(date, List.of());
+    Collection<TripPatternForDate> tripPatterns = tripPatternsRunningOnDate.get(date);
+    return tripPatterns != null ? tripPatterns : List.of();
   }
 
   public int getStopCount() {
@@ -118,7 +130,7 @@ public class RaptorTransitData {
    * or departures is happening on that date. Trip pattern can have multiple running dates.
    */
   public List<TripPatternForDate> getTripPatternsRunningOnDateCopy(LocalDate runningPeriodDate) {
-    List<TripPatternForDate> tripPatternForDate = tripPatternsRunningOnDate.get(runningPeriodDate);
+    var tripPatternForDate = tripPatternsRunningOnDate.get(runningPeriodDate);
     return tripPatternForDate != null ? new ArrayList<>(tripPatternForDate) : new ArrayList<>();
   }
 
@@ -154,6 +166,10 @@ public class RaptorTransitData {
     return transferCache;
   }
 
+  public RaptorRequestPatternCache getPatternCache() {
+    return patternCache;
+  }
+
   @Nullable
   public ConstrainedTransfersForPatterns getConstrainedTransfers() {
     return constrainedTransfers;
@@ -173,14 +189,19 @@ public class RaptorTransitData {
   }
 
   /**
-   * Replaces all the TripPatternForDates for a single date. This is an atomic operation according
-   * to the HashMap implementation.
+   * Removes and adds TripPatternForDates for a single date, the removals are applied first. Only
+   * the part of the existing collection affected by the change is copied, the rest is shared with
+   * previous versions of the RaptorTransitData. Dates not already present are ignored. This is an
+   * atomic operation according to the HashMap implementation.
    */
-  public void replaceTripPatternsForDate(
+  public void updateTripPatternsForDate(
     LocalDate date,
-    List<TripPatternForDate> tripPatternForDates
+    Collection<TripPatternForDate> removed,
+    Collection<TripPatternForDate> added
   ) {
-    this.tripPatternsRunningOnDate.replace(date, tripPatternForDates);
+    this.tripPatternsRunningOnDate.computeIfPresent(date, (d, tripPatterns) ->
+      tripPatterns.update(removed, added)
+    );
   }
 
   public void setConstrainedTransfers(ConstrainedTransfersForPatterns constrainedTransfers) {
@@ -29,6 +29,19 @@ public interface TransitTuningParameters {
    */
   int transferCacheMaxSize();
 
+  /**
+   * The maximum number of street search states kept in the access/egress search cache, see
+   * {@link org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache}.
+   */
+  long accessEgressCacheMaxStates();
+
+  /**
+   * The number of threads used to fetch the access and egress in parallel, if the
+   * {@link org.opentripplanner.framework.application.OTPFeature#ParallelRouting} feature is on. If
+   * 0, the access and egress are fetched sequentially on the request thread.
+   */
+  int accessEgressThreadPoolSize();
+
   /**
    * The maximum search window that can be set through the searchWindow API parameter. Due to the
    * way timetable data are collected before a Raptor trip search, using a search window larger than
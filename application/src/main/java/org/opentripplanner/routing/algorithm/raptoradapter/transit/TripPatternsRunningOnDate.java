@@ -0,0 +1,148 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.transit;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of {@link TripPatternForDate}s running on a given date. The elements are
+ * partitioned into a fixed number of buckets based on their hash code. An update creates a new
+ * instance sharing all buckets not touched by the update with the previous version. This makes
+ * the cost of applying a real-time update proportional to the number of changed patterns, not
+ * to the number of patterns running on the date.
+ * <p>
+ * Elements are compared using {@link TripPatternForDate#equals(Object)}, the iteration order is
+ * not defined.
+ */
+final class TripPatternsRunningOnDate extends AbstractCollection<TripPatternForDate> {
+
+  /** The target number of elements in each bucket when the collection is created. */
+  private static final int BUCKET_SIZE = 32;
+  private static final TripPatternForDate[] EMPTY_BUCKET = new TripPatternForDate[0];
+
+  private final TripPatternForDate[][] buckets;
+  private final int size;
+
+  private TripPatternsRunningOnDate(TripPatternForDate[][] buckets, int size) {
+    this.buckets = buckets;
+    this.size = size;
+  }
+
+  static TripPatternsRunningOnDate of(Collection<TripPatternForDate> tripPatterns) {
+    int nBuckets = Integer.highestOneBit(Math.max(1, tripPatterns.size() / BUCKET_SIZE));
+    var buckets = new TripPatternForDate[nBuckets][];
+    Arrays.fill(buckets, EMPTY_BUCKET);
+    var result = new TripPatternsRunningOnDate(buckets, 0);
+    return tripPatterns.isEmpty() ? result : result.update(List.of(), tripPatterns);
+  }
+
+  /**
+   * Create a new version of this collection with the given patterns removed and added. All
+   * removals are applied before the additions, so a pattern can be replaced by removing the old
+   * and adding the new version. A pattern equal to an existing element is not added.
+   */
+  TripPatternsRunningOnDate update(
+    Collection<TripPatternForDate> removed,
+    Collection<TripPatternForDate> added
+  ) {
+    if (removed.isEmpty() && added.isEmpty()) {
+      return this;
+    }
+    var newBuckets = buckets.clone();
+    @SuppressWarnings("unchecked")
+    List<TripPatternForDate>[] changedBuckets = new List[buckets.length];
+    int newSize = size;
+
+    for (TripPatternForDate it : removed) {
+      var bucket = bucket(newBuckets, changedBuckets, it);
+      if (bucket.remove(it)) {
+        --newSize;
+      }
+    }
+    for (TripPatternForDate it : added) {
+      var bucket = bucket(newBuckets, changedBuckets, it);
+      if (!bucket.contains(it)) {
+        bucket.add(it);
+        ++newSize;
+      }
+    }
+    for (int i = 0; i < changedBuckets.length; ++i) {
+      if (changedBuckets[i] != null) {
+        newBuckets[i] = changedBuckets[i].toArray(EMPTY_BUCKET);
+      }
+    }
+    return new TripPatternsRunningOnDate(newBuckets, newSize);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof TripPatternForDate tripPattern)) {
+      return false;
+    }
+    for (TripPatternForDate it : buckets[bucketIndex(tripPattern, buckets.length)]) {
+      if (it.equals(tripPattern)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Iterator<TripPatternForDate> iterator() {
+    return new Iterator<>() {
+      private int bucketIndex = 0;
+      private int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        while (bucketIndex < buckets.length) {
+          if (index < buckets[bucketIndex].length) {
+            return true;
+          }
+          ++bucketIndex;
+          index = 0;
+        }
+        return false;
+      }
+
+      @Override
+      public TripPatternForDate next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return buckets[bucketIndex][index++];
+      }
+    };
+  }
+
+  /**
+   * Return a mutable copy of the bucket the given pattern belongs to. The bucket is copied the
+   * first time it is accessed during an update.
+   */
+  private static List<TripPatternForDate> bucket(
+    TripPatternForDate[][] buckets,
+    List<TripPatternForDate>[] changedBuckets,
+    TripPatternForDate tripPattern
+  ) {
+    int index = bucketIndex(tripPattern, buckets.length);
+    if (changedBuckets[index] == null) {
+      changedBuckets[index] = new ArrayList<>(List.of(buckets[index]));
+    }
+    return changedBuckets[index];
+  }
+
+  private static int bucketIndex(TripPatternForDate tripPattern, int nBuckets) {
+    int h = tripPattern.hashCode();
+    // Spread the high bits, nBuckets is always a power of two
+    return (h ^ (h >>> 16)) & (nBuckets - 1);
+  }
+}
@@ -2,11 +2,14 @@ package org.opentripplanner.routing.algorithm.raptoradapter.transit.mappers;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
@@ -68,6 +71,10 @@ public class TimetableUpdateMapper {
   private final Map<LocalDate, Set<TripPatternForDate>> tripPatternsRunningOnDateMapCache =
     new HashMap<>();
 
+  private final Timer updateTimer = Timer.builder("raptor.transitdata.realtime.update")
+    .description("Time spent applying real-time timetable updates to the Raptor transit data")
+    .register(Metrics.globalRegistry);
+
   /// Updates the real-time [RaptorTransitData] to use the modified timetables.
   ///
   /// This method bridges the different update approaches:
@@ -89,12 +96,26 @@ public class TimetableUpdateMapper {
   ///    2. no update was received, and so the previous updated should be removed. If the update
   ///       was for a scheduled trip, then the schedule should be restored.
   /// 3. Remove the `oldTripPatternsForDate` and add the `newTripPatternsForDate` to the
-  ///    [RaptorTransitData].
+  ///    [RaptorTransitData]. Only the changes are applied, the trip patterns not touched by the
+  ///    update are shared with the `oldRaptorTransitData`.
+  ///
+  /// The time spent is recorded in the `raptor.transitdata.realtime.update` timer.
   public RaptorTransitData map(
     RaptorTransitData oldRaptorTransitData,
     Collection<Timetable> updatedTimetables,
     Function<FeedScopedId, SortedSet<Timetable>> timetableProvider,
     TripPatternForDateMapper tripPatternForDateMapper
+  ) {
+    return updateTimer.record(() ->
+      update(oldRaptorTransitData, updatedTimetables, timetableProvider, tripPatternForDateMapper)
+    );
+  }
+
+  private RaptorTransitData update(
+    RaptorTransitData oldRaptorTransitData,
+    Collection<Timetable> updatedTimetables,
+    Function<FeedScopedId, SortedSet<Timetable>> timetableProvider,
+    TripPatternForDateMapper tripPatternForDateMapper
   ) {
     RaptorTransitData realtimeRaptorTransitData = new RaptorTransitData(oldRaptorTransitData);
 
@@ -182,6 +203,8 @@ public class TimetableUpdateMapper {
 
       // Remove old cached tripPatterns where tripTimes are no longer running
       Set<TripPatternForDate> patternsForDate = tripPatternsRunningOnDateMapCache.get(date);
+      List<TripPatternForDate> removed = new ArrayList<>();
+      List<TripPatternForDate> added = new ArrayList<>();
 
       for (Map.Entry<TripPattern, Collection<TripPatternForDate>> entry : oldTripPatternsForDate
         .asMap()
@@ -189,8 +212,11 @@ public class TimetableUpdateMapper {
         for (TripPatternForDate oldTripPatternForDate : entry.getValue()) {
           // Remove old TripPatternForDate for this date if it was valid on this date
           if (oldTripPatternForDate != null) {
-            if (oldTripPatternForDate.getRunningPeriodDates().contains(date)) {
-              patternsForDate.remove(oldTripPatternForDate);
+            if (
+              oldTripPatternForDate.getRunningPeriodDates().contains(date) &&
+              patternsForDate.remove(oldTripPatternForDate)
+            ) {
+              removed.add(oldTripPatternForDate);
             }
           }
         }
@@ -211,13 +237,13 @@ public class TimetableUpdateMapper {
               .map(tt -> tt.getTripTimes().isEmpty())
               .orElse(false);
 
-            if (toRemove) {
-              patternsForDate.remove(tripPatternForDate);
+            if (toRemove && patternsForDate.remove(tripPatternForDate)) {
+              removed.add(tripPatternForDate);
             }
-          } else {
+          } else if (patternsForDate.remove(tripPatternForDate)) {
             // a previous FULL_DATASET update had real-time data for a trip, but the latest one doesn't
             // therefore we remove it from the RAPTOR data
-            patternsForDate.remove(tripPatternForDate);
+            removed.add(tripPatternForDate);
           }
         }
       }
@@ -228,14 +254,19 @@ public class TimetableUpdateMapper {
         for (TripPatternForDate newTripPatternForDate : entry.getValue()) {
           // Add new TripPatternForDate for this date if it mapped correctly and is valid on this date
           if (newTripPatternForDate != null) {
-            if (newTripPatternForDate.getRunningPeriodDates().contains(date)) {
-              patternsForDate.add(newTripPatternForDate);
+            if (
+              newTripPatternForDate.getRunningPeriodDates().contains(date) &&
+              patternsForDate.add(newTripPatternForDate)
+            ) {
+              added.add(newTripPatternForDate);
             }
           }
         }
       }
 
-      realtimeRaptorTransitData.replaceTripPatternsForDate(date, new ArrayList<>(patternsForDate));
+      // Only apply the changes, the patterns not affected by this update are shared with the
+      // previous version of the RaptorTransitData
+      realtimeRaptorTransitData.updateTripPatternsForDate(date, removed, added);
     }
 
     if (transferIndexGenerator != null) {
@@ -1,6 +1,8 @@
 package org.opentripplanner.routing.algorithm.raptoradapter.transit.request;
 
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
@@ -60,6 +62,44 @@ public class DefaultTransitDataProviderFilter implements TransitDataProviderFilt
     return DefaultTransitDataProviderFilterBuilder.ofRequest(request).build();
   }
 
+  /**
+   * Two filters are equal if they select the same trips and stops. This is used to share the
+   * request transit data between requests, see {@link RaptorRequestPatternCache}.
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof DefaultTransitDataProviderFilter that)) {
+      return false;
+    }
+    return (
+      requireBikesAllowed == that.requireBikesAllowed &&
+      requireCarsAllowed == that.requireCarsAllowed &&
+      requireWheelchairAccessibleTrips == that.requireWheelchairAccessibleTrips &&
+      requireWheelchairAccessibleStops == that.requireWheelchairAccessibleStops &&
+      includePlannedCancellations == that.includePlannedCancellations &&
+      includeRealtimeCancellations == that.includeRealtimeCancellations &&
+      Arrays.equals(filters, that.filters) &&
+      bannedTrips.equals(that.bannedTrips)
+    );
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+      requireBikesAllowed,
+      requireCarsAllowed,
+      requireWheelchairAccessibleTrips,
+      requireWheelchairAccessibleStops,
+      includePlannedCancellations,
+      includeRealtimeCancellations,
+      Arrays.hashCode(filters),
+      bannedTrips
+    );
+  }
+
   public static BikeAccess bikeAccessForTrip(Trip trip) {
     if (trip.getBikesAllowed() != BikeAccess.UNKNOWN) {
       return trip.getBikesAllowed();
@@ -0,0 +1,64 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.transit.request;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Cache the trip pattern index and the active patterns per stop created for a
+ * {@link RaptorRoutingRequestTransitData}. Requests with the same transit search time zero,
+ * the same number of additional search days and an equal {@link TransitDataProviderFilter} use
+ * the same data.
+ * <p>
+ * An instance is owned by a single version of the
+ * {@link org.opentripplanner.routing.algorithm.raptoradapter.transit.RaptorTransitData}, so the
+ * cache is invalidated when a real-time update is committed. Each entry holds the timetables for
+ * all patterns in the search period, so only a few entries are kept.
+ */
+public class RaptorRequestPatternCache {
+
+  private static final int MAX_SIZE = 4;
+
+  private final Cache<Key, RequestPatternIndex> cache = CacheBuilder.newBuilder()
+    .maximumSize(MAX_SIZE)
+    .build();
+
+  RequestPatternIndex get(
+    ZonedDateTime transitSearchTimeZero,
+    int additionalPastSearchDays,
+    int additionalFutureSearchDays,
+    TransitDataProviderFilter filter,
+    Supplier<RequestPatternIndex> loader
+  ) {
+    var key = new Key(
+      transitSearchTimeZero,
+      additionalPastSearchDays,
+      additionalFutureSearchDays,
+      filter
+    );
+    try {
+      return cache.get(key, loader::get);
+    } catch (ExecutionException e) {
+      throw new RuntimeException("Failed to get item from pattern cache", e);
+    }
+  }
+
+  /**
+   * @param patternIndex Trip patterns by route index
+   * @param activeTripPatternsPerStop Active route indices by stop index
+   */
+  record RequestPatternIndex(
+    List<TripPatternForDates> patternIndex,
+    List<int[]> activeTripPatternsPerStop
+  ) {}
+
+  private record Key(
+    ZonedDateTime transitSearchTimeZero,
+    int additionalPastSearchDays,
+    int additionalFutureSearchDays,
+    TransitDataProviderFilter filter
+  ) {}
+}
@@ -6,6 +6,7 @@ import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.raptor.spi.IntIterator;
@@ -25,6 +26,7 @@ import org.opentripplanner.routing.algorithm.raptoradapter.transit.RaptorTransit
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.cost.CostCalculatorFactory;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.mappers.GeneralizedCostParametersMapper;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.request.RaptorRequestPatternCache.RequestPatternIndex;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.transfer.constrained.ConstrainedTransferService;
 import org.opentripplanner.transfer.constrained.raptoradaptor.ConstrainedBoardingSearch;
@@ -85,21 +87,31 @@ public class RaptorRoutingRequestTransitData implements RaptorTransitDataProvide
     this.raptorTransitData = raptorTransitData;
     this.transitSearchTimeZero = transitSearchTimeZero;
 
-    // Delegate to the creator to construct the needed data structures. The code is messy so
-    // it is nice to NOT have it in the class. It isolates this code to only be available at
-    // the time of construction
-    var transitDataCreator = new RaptorRoutingRequestTransitDataCreator(
-      raptorTransitData,
-      transitSearchTimeZero
-    );
-    List<TripPatternForDates> tripPatterns = transitDataCreator.createTripPatterns(
-      additionalPastSearchDays,
-      additionalFutureSearchDays,
-      filter,
-      transitGroupPriorityService
-    );
-    this.patternIndex = transitDataCreator.createPatternIndex(tripPatterns);
-    this.activeTripPatternsPerStop = transitDataCreator.createTripPatternsPerStop(tripPatterns);
+    Supplier<RequestPatternIndex> createPatterns = () ->
+      createPatternIndex(
+        raptorTransitData,
+        transitGroupPriorityService,
+        transitSearchTimeZero,
+        additionalPastSearchDays,
+        additionalFutureSearchDays,
+        filter
+      );
+
+    // The transit-group-priority-ids are assigned dynamically per request, so the patterns can
+    // only be shared between requests when the feature is not in use.
+    var patterns = transitGroupPriorityService.isEnabled()
+      ? createPatterns.get()
+      : raptorTransitData
+        .getPatternCache()
+        .get(
+          transitSearchTimeZero,
+          additionalPastSearchDays,
+          additionalFutureSearchDays,
+          filter,
+          createPatterns
+        );
+    this.patternIndex = patterns.patternIndex();
+    this.activeTripPatternsPerStop = patterns.activeTripPatternsPerStop();
     this.transferIndex = raptorTransitData.getRaptorTransfersForRequest(request);
     this.constrainedTransfers = raptorTransitData.getConstrainedTransfers();
 
@@ -274,6 +286,33 @@ public class RaptorRoutingRequestTransitData implements RaptorTransitDataProvide
     return new RaptorTripScheduleReference(trip.pattern().patternIndex(), trip.tripScheduleIndex());
   }
 
+  private static RequestPatternIndex createPatternIndex(
+    RaptorTransitData raptorTransitData,
+    TransitGroupPriorityService transitGroupPriorityService,
+    ZonedDateTime transitSearchTimeZero,
+    int additionalPastSearchDays,
+    int additionalFutureSearchDays,
+    TransitDataProviderFilter filter
+  ) {
+    // Delegate to the creator to construct the needed data structures. The code is messy so
+    // it is nice to NOT have it in the class. It isolates this code to only be available at
+    // the time of construction
+    var transitDataCreator = new RaptorRoutingRequestTransitDataCreator(
+      raptorTransitData,
+      transitSearchTimeZero
+    );
+    List<TripPatternForDates> tripPatterns = transitDataCreator.createTripPatterns(
+      additionalPastSearchDays,
+      additionalFutureSearchDays,
+      filter,
+      transitGroupPriorityService
+    );
+    return new RequestPatternIndex(
+      transitDataCreator.createPatternIndex(tripPatterns),
+      transitDataCreator.createTripPatternsPerStop(tripPatterns)
+    );
+  }
+
   public Collection<TripPatternForDates> activeTripPatternsPerStop(int stopIndex) {
     var routeIndices = activeTripPatternsPerStop.get(stopIndex);
     return Arrays.stream(routeIndices).mapToObj(patternIndex::get).toList();
@@ -42,17 +42,16 @@ public class TripPatternForDates
   private final boolean isFrequencyBased;
 
   /**
-   * The arrival times in a nStops * numberOfTripSchedules sized array. The trips are stored first
-   * by the stop position and then by trip index, so with stops 1 and 2, and trips A and B, the
-   * order is [1A, 1B, 2A, 2B]
+   * The arrival times with the offset applied, one array per stop position in pattern indexed by
+   * the trip index. So with stops 1 and 2, and trips A and B, the layout is [[1A, 1B], [2A, 2B]].
+   * The trip search only need to access one array, when searching for a trip at a given stop.
    */
-  private final int[] arrivalTimes;
+  private final int[][] arrivalTimes;
 
   /**
-   * The arrival times in a nStops * numberOfTripSchedules sized array. The order is the same as in
-   * arrivalTimes.
+   * The departure times with the offset applied. The layout is the same as in arrivalTimes.
    */
-  private final int[] departureTimes;
+  private final int[][] departureTimes;
 
   private final Accessibility[] wheelchairBoardings;
 
@@ -92,8 +91,8 @@ public class TripPatternForDates
     this.wheelchairBoardings = new Accessibility[numberOfTripSchedules];
 
     final int nStops = tripPattern.numberOfStopsInPattern();
-    this.arrivalTimes = new int[nStops * numberOfTripSchedules];
-    this.departureTimes = new int[nStops * numberOfTripSchedules];
+    this.arrivalTimes = new int[nStops][numberOfTripSchedules];
+    this.departureTimes = new int[nStops][numberOfTripSchedules];
 
     var tripIndex = createTripTimesForDaysIndex(tripPatternForDates, offsets);
 
@@ -104,8 +103,8 @@ public class TripPatternForDates
 
       wheelchairBoardings[i] = tt.getWheelchairAccessibility();
       for (int s = 0; s < nStops; s++) {
-        this.arrivalTimes[s * numberOfTripSchedules + i] = tt.getArrivalTime(s) + offset;
-        this.departureTimes[s * numberOfTripSchedules + i] = tt.getDepartureTime(s) + offset;
+        this.arrivalTimes[s][i] = tt.getArrivalTime(s) + offset;
+        this.departureTimes[s][i] = tt.getDepartureTime(s) + offset;
       }
     }
   }
@@ -203,14 +202,24 @@ public class TripPatternForDates
     return new TripScheduleWithOffset(this, tripIndex);
   }
 
+  @Override
+  public int[] arrivalTimes(int stopPositionInPattern) {
+    return arrivalTimes[stopPositionInPattern];
+  }
+
+  @Override
+  public int[] departureTimes(int stopPositionInPattern) {
+    return departureTimes[stopPositionInPattern];
+  }
+
   @Override
   public int arrivalTime(int stopPositionInPattern, int tripIndex) {
-    return arrivalTimes[stopPositionInPattern * numberOfTripSchedules + tripIndex];
+    return arrivalTimes[stopPositionInPattern][tripIndex];
   }
 
   @Override
   public int departureTime(int stopPositionInPattern, int tripIndex) {
-    return departureTimes[stopPositionInPattern * numberOfTripSchedules + tripIndex];
+    return departureTimes[stopPositionInPattern][tripIndex];
   }
 
   @Override
@@ -32,6 +32,9 @@ public final class TripScheduleAlightSearch<T extends RaptorTripSchedule>
   private int latestAlightTime;
   private int stopPositionInPattern;
 
+  /** The arrival times for all trips at the current stop position, indexed by trip index. */
+  private int[] arrivalTimes;
+
   private T candidateTrip;
   private int candidateTripIndex = RaptorConstants.NOT_FOUND;
 
@@ -100,6 +103,7 @@ public final class TripScheduleAlightSearch<T extends RaptorTripSchedule>
   ) {
     this.latestAlightTime = latestAlightTime;
     this.stopPositionInPattern = stopPositionInPattern;
+    this.arrivalTimes = timetable.arrivalTimes(stopPositionInPattern);
     this.candidateTrip = null;
     this.candidateTripIndex = RaptorConstants.NOT_FOUND;
 
@@ -159,7 +163,7 @@ public final class TripScheduleAlightSearch<T extends RaptorTripSchedule>
   @Nullable
   private RaptorBoardOrAlightEvent<T> findBoardingSearchForwardInTime(int tripIndexLowerBound) {
     for (int i = tripIndexLowerBound; i < nTrips; ++i) {
-      if (timetable.arrivalTime(stopPositionInPattern, i) <= latestAlightTime) {
+      if (arrivalTimes[i] <= latestAlightTime) {
         candidateTripIndex = i;
       } else {
         // this trip arrives too late. We can break out of the loop since
@@ -184,7 +188,7 @@ public final class TripScheduleAlightSearch<T extends RaptorTripSchedule>
     final int tripIndexUpperBound
   ) {
     for (int i = tripIndexUpperBound - 1; i >= 0; --i) {
-      if (timetable.arrivalTime(stopPositionInPattern, i) <= latestAlightTime) {
+      if (arrivalTimes[i] <= latestAlightTime) {
         candidateTrip = timetable.getTripSchedule(i);
         candidateTripIndex = i;
         return this;
@@ -211,7 +215,7 @@ public final class TripScheduleAlightSearch<T extends RaptorTripSchedule>
     while (upper - lower > binarySearchThreshold) {
       int m = (lower + upper) / 2;
 
-      if (timetable.arrivalTime(stopPositionInPattern, m) <= latestAlightTime) {
+      if (arrivalTimes[m] <= latestAlightTime) {
         lower = m;
       } else {
         upper = m;
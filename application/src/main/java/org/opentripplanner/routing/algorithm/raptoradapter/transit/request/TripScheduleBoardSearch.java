@@ -30,6 +30,9 @@ public final class TripScheduleBoardSearch<T extends RaptorTripSchedule>
   private int earliestBoardTime;
   private int stopPositionInPattern;
 
+  /** The departure times for all trips at the current stop position, indexed by trip index. */
+  private int[] departureTimes;
+
   private T candidateTrip;
   private int candidateTripIndex = RaptorConstants.NOT_FOUND;
 
@@ -100,6 +103,7 @@ public final class TripScheduleBoardSearch<T extends RaptorTripSchedule>
   ) {
     this.earliestBoardTime = earliestTime;
     this.stopPositionInPattern = stopPositionInPattern;
+    this.departureTimes = timetable.departureTimes(stopPositionInPattern);
     this.candidateTrip = null;
     this.candidateTripIndex = RaptorConstants.NOT_FOUND;
 
@@ -162,7 +166,7 @@ public final class TripScheduleBoardSearch<T extends RaptorTripSchedule>
     int tripIndexUpperBound
   ) {
     for (int i = tripIndexUpperBound - 1; i >= 0; --i) {
-      if (timetable.departureTime(stopPositionInPattern, i) >= earliestBoardTime) {
+      if (departureTimes[i] >= earliestBoardTime) {
         candidateTripIndex = i;
       } else {
         // this trip arrives too early. We can break out of the loop since
@@ -187,7 +191,7 @@ public final class TripScheduleBoardSearch<T extends RaptorTripSchedule>
     final int tripIndexLowerBound
   ) {
     for (int i = tripIndexLowerBound; i < nTrips; ++i) {
-      if (timetable.departureTime(stopPositionInPattern, i) >= earliestBoardTime) {
+      if (departureTimes[i] >= earliestBoardTime) {
         candidateTrip = timetable.getTripSchedule(i);
         candidateTripIndex = i;
         return this;
@@ -212,7 +216,7 @@ public final class TripScheduleBoardSearch<T extends RaptorTripSchedule>
     while (upper - lower > binarySearchThreshold) {
       int m = (lower + upper) / 2;
 
-      if (timetable.departureTime(stopPositionInPattern, m) >= earliestBoardTime) {
+      if (departureTimes[m] >= earliestBoardTime) {
         upper = m;
       } else {
         lower = m;
@@ -12,15 +12,32 @@ import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
  * on this interface.
  */
 public interface TripSearchTimetable<T extends RaptorTripSchedule> extends RaptorTimeTable<T> {
+  /**
+   * Get the arrival times of all trips at a specific stop, in seconds from midnight on the search
+   * date. The array is indexed by the trip index. The trip searches look up the array once and
+   * then scan it, so the returned array should not be copied. The caller must NOT modify it.
+   */
+  int[] arrivalTimes(int stopPositionInPattern);
+
+  /**
+   * Get the departure times of all trips at a specific stop, in seconds from midnight on the
+   * search date. See {@link #arrivalTimes(int)}.
+   */
+  int[] departureTimes(int stopPositionInPattern);
+
   /**
    * Get the arrival time of a specific trip at a specific stop, in seconds from midnight on the
    * search date.
    */
-  int arrivalTime(int stopPositionInPattern, int tripIndex);
+  default int arrivalTime(int stopPositionInPattern, int tripIndex) {
+    return arrivalTimes(stopPositionInPattern)[tripIndex];
+  }
 
   /**
    * Get the departure time of a specific trip at a specific stop, in seconds from midnight on the
    * search date.
    */
-  int departureTime(int stopPositionInPattern, int tripIndex);
+  default int departureTime(int stopPositionInPattern, int tripIndex) {
+    return departureTimes(stopPositionInPattern)[tripIndex];
+  }
 }
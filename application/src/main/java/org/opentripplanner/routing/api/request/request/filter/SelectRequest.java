@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import org.opentripplanner.core.model.id.FeedScopedId;
 import org.opentripplanner.model.modes.AllowTransitModeFilter;
 import org.opentripplanner.transit.model.basic.MainAndSubMode;
@@ -85,6 +86,27 @@ public class SelectRequest implements Serializable {
     );
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SelectRequest that)) {
+      return false;
+    }
+    return (
+      Objects.equals(transportModes, that.transportModes) &&
+      agencies.equals(that.agencies) &&
+      groupOfRoutes.equals(that.groupOfRoutes) &&
+      Objects.equals(routes, that.routes)
+    );
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(transportModes, agencies, groupOfRoutes, routes);
+  }
+
   @Override
   public String toString() {
     return ToStringBuilder.ofEmbeddedType()
@@ -109,6 +109,22 @@ public class TransitFilterRequest implements Serializable, TransitFilter {
     return true;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TransitFilterRequest that)) {
+      return false;
+    }
+    return Arrays.equals(select, that.select) && Arrays.equals(not, that.not);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(select) + Arrays.hashCode(not);
+  }
+
   @Override
   public String toString() {
     if (select.length == 0 && not.length == 0) {
@@ -7,16 +7,18 @@ import com.esotericsoftware.kryo.KryoException;
 import com.esotericsoftware.kryo.io.Input;
 import com.esotericsoftware.kryo.io.Output;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.file.NoSuchFileException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import javax.annotation.Nullable;
 import org.opentripplanner.datastore.api.DataSource;
+import org.opentripplanner.datastore.file.MappedFileInputStream;
 import org.opentripplanner.ext.emission.EmissionRepository;
 import org.opentripplanner.ext.empiricaldelay.EmpiricalDelayRepository;
 import org.opentripplanner.ext.stopconsolidation.StopConsolidationRepository;
@@ -62,6 +64,12 @@ public class SerializedGraphObject implements Serializable {
 
   private static final Logger LOG = LoggerFactory.getLogger(SerializedGraphObject.class);
 
+  /**
+   * The Kryo default buffer is 4 KiB, a larger buffer reduces the number of reads and writes to
+   * the underlying stream when loading and saving a large graph.
+   */
+  private static final int BUFFER_SIZE = 1024 * 1024;
+
   public final Graph graph;
 
   @Nullable
@@ -159,17 +167,21 @@ public class SerializedGraphObject implements Serializable {
 
   public static SerializedGraphObject load(File file) {
     try {
-      return load(new FileInputStream(file), file.getAbsolutePath());
-    } catch (FileNotFoundException e) {
+      return load(MappedFileInputStream.open(file), file.getAbsolutePath());
+    } catch (NoSuchFileException e) {
       LOG.error("Graph file not found: " + file, e);
       throw new OtpAppException(e.getMessage());
+    } catch (IOException e) {
+      LOG.error("Unable to open graph file: " + file + ", " + e.getMessage(), e);
+      throw new OtpAppException(e.getMessage());
     }
   }
 
   /**
    * After deserialization, the vertices will all have null outgoing and incoming edge lists because
    * those edge lists are marked transient, to prevent excessive recursion depth while serializing.
-   * This method will reconstruct all those edge lists after deserialization.
+   * This method will reconstruct all those edge lists after deserialization, and assign the
+   * vertex indexes.
    */
   public void reconstructEdgeLists() {
     for (Vertex v : graph.getVertices()) {
@@ -181,6 +193,8 @@ public class SerializedGraphObject implements Serializable {
       fromVertex.addOutgoing(e);
       toVertex.addIncoming(e);
     }
+    // The vertex index is transient, it is not set by the deserialization
+    graph.indexVertices();
   }
 
   /**
@@ -200,7 +214,7 @@ public class SerializedGraphObject implements Serializable {
     // TODO store version information, halt load if versions mismatch
     try (inputStream) {
       LOG.info("Reading graph from '{}'", sourceDescription);
-      Input input = new Input(inputStream);
+      Input input = new Input(inputStream, BUFFER_SIZE);
 
       validateGraphSerializationId(
         input.readBytes(GraphFileHeader.headerLength()),
@@ -215,9 +229,17 @@ public class SerializedGraphObject implements Serializable {
         serObj.graph.getDistanceBetweenElevationSamples()
       );
       LOG.debug("Graph read.");
-      serObj.reconstructEdgeLists();
-      serObj.transitRepository.getSiteRepository().reindexAfterDeserialization();
-      serObj.transitRepository.index();
+      // The street graph and the transit model do not share any state that is modified here,
+      // so the edge lists are rebuilt while the transit model is indexed.
+      var edgeLists = CompletableFuture.runAsync(serObj::reconstructEdgeLists, r ->
+        Thread.ofPlatform().name("graph-edge-lists").start(r)
+      );
+      try {
+        serObj.transitRepository.getSiteRepository().reindexAfterDeserialization();
+        serObj.transitRepository.index();
+      } finally {
+        join(edgeLists);
+      }
       logSerializationCompleteStatus(serObj.graph, serObj.transitRepository);
       return serObj;
     } catch (IOException e) {
@@ -242,6 +264,24 @@ public class SerializedGraphObject implements Serializable {
     }
   }
 
+  /**
+   * Wait for the given task and rethrow its exception, not the {@link CompletionException}
+   * wrapping it.
+   */
+  private static void join(CompletableFuture<Void> task) {
+    try {
+      task.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException re) {
+        throw re;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw e;
+    }
+  }
+
   @SuppressWarnings("Convert2MethodRef")
   private static OutputStream wrapOutputStreamWithProgressTracker(
     String name,
@@ -280,7 +320,7 @@ public class SerializedGraphObject implements Serializable {
     LOG.info("Writing graph {}  ...", graphName);
     outputStream = wrapOutputStreamWithProgressTracker(graphName, outputStream, size);
     Kryo kryo = KryoBuilder.create();
-    Output output = new Output(outputStream);
+    Output output = new Output(outputStream, BUFFER_SIZE);
     output.write(OtpProjectInfo.projectInfo().graphFileHeaderInfo.header());
     kryo.writeClassAndObject(output, this);
     output.close();
@@ -4,6 +4,7 @@ import graphql.schema.GraphQLSchema;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import org.opentripplanner.apis.gtfs.GtfsApiParameters;
 import org.opentripplanner.apis.transmodel.TransmodelAPIParameters;
@@ -28,6 +29,7 @@ import org.opentripplanner.place.placefinder.StreetNearbyPlaceFinder;
 import org.opentripplanner.raptor.api.request.RaptorTuningParameters;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.algorithm.filterchain.framework.spi.ItineraryDecorator;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TransitTuningParameters;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.api.RoutingService;
@@ -40,6 +42,7 @@ import org.opentripplanner.service.realtimevehicles.RealtimeVehicleService;
 import org.opentripplanner.service.streetdetails.StreetDetailsService;
 import org.opentripplanner.service.vehicleparking.VehicleParkingService;
 import org.opentripplanner.service.vehiclerental.VehicleRentalService;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicles;
 import org.opentripplanner.service.worldenvelope.WorldEnvelopeService;
 import org.opentripplanner.standalone.config.DebugUiConfig;
 import org.opentripplanner.standalone.config.routerconfig.VectorTileConfig;
@@ -143,7 +146,12 @@ public interface OtpServerRequestContext {
   MeterRegistry meterRegistry();
 
   default NearbyPlaceFinder nearbyPlaceFinder() {
-    return new StreetNearbyPlaceFinder(linkingContextFactory());
+    return new StreetNearbyPlaceFinder(
+      linkingContextFactory(),
+      OTPFeature.FreeFloatingVehicleIndex.isOn()
+        ? vehicleRentalService().listFreeFloatingVehicleIndexes()
+        : List.of()
+    );
   }
 
   default NearbyStopFinder nearbyStopFinder() {
@@ -166,6 +174,20 @@ public interface OtpServerRequestContext {
 
   TransmodelAPIParameters transmodelAPIParameters();
 
+  /**
+   * The cache of access/egress street searches, null if the
+   * {@link org.opentripplanner.framework.application.OTPFeature#AccessEgressCache} is off.
+   */
+  @Nullable
+  AccessEgressCache accessEgressCache();
+
+  /**
+   * The thread pool used to fetch the access and egress in parallel, null if the access and egress
+   * should be fetched sequentially on the request thread.
+   */
+  @Nullable
+  ExecutorService accessEgressExecutor();
+
   /* Sandbox modules */
 
   @Nullable
@@ -185,9 +207,21 @@ public interface OtpServerRequestContext {
         )
       );
     }
+    if (OTPFeature.FreeFloatingVehicleIndex.isOn() && includesRenting(request)) {
+      list.add(new FreeFloatingVehicles(vehicleRentalService().listFreeFloatingVehicleIndexes()));
+    }
     return list;
   }
 
+  private static boolean includesRenting(RouteRequest request) {
+    var journey = request.journey();
+    return (
+      journey.access().mode().includesRenting() ||
+      journey.egress().mode().includesRenting() ||
+      journey.direct().mode().includesRenting()
+    );
+  }
+
   @Nullable
   ItineraryDecorator emissionItineraryDecorator();
 
@@ -168,6 +168,10 @@ public class BuildConfig implements OtpDataStoreConfig {
 
   public final int maxAreaNodes;
 
+  public final int carLandmarks;
+  public final int walkLandmarks;
+  public final int bikeLandmarks;
+
   public final DataOverlayConfig dataOverlay;
   public final double maxStopToShapeSnapDistance;
   public final Set<String> boardingLocationTags;
@@ -221,6 +225,42 @@ public class BuildConfig implements OtpDataStoreConfig {
       )
       .asBoolean(false);
     cache = GraphBuildCacheConfig.fromConfig(root);
+    bikeLandmarks = root
+      .of("bikeLandmarks")
+      .since(V2_10)
+      .summary("The number of landmarks to precompute cycling distances for.")
+      .description(
+        """
+        The same as [carLandmarks](#carLandmarks), but for direct bike street searches. The
+        distances include streets where the bike must be walked.
+        """
+      )
+      .asInt(0);
+    carLandmarks = root
+      .of("carLandmarks")
+      .since(V2_10)
+      .summary("The number of landmarks to precompute car travel times for.")
+      .description(
+        """
+        The travel times from and to a set of landmark vertices are computed for all street vertices
+        and stored in the graph. They are used to compute a lower bound on the travel time for car
+        street searches, which is much tighter than the straight-line estimate when the road
+        network forces detours, like around fjords, lakes and mountains. This speeds up direct car
+        routing, at the cost of `4 * carLandmarks` bytes of memory per street vertex.
+
+        The landmarks are selected along the border of the street network. 8 to 16 landmarks is
+        usually a good choice. Set to `0` to turn this feature off.
+        """
+      )
+      .asInt(0);
+    walkLandmarks = root
+      .of("walkLandmarks")
+      .since(V2_10)
+      .summary("The number of landmarks to precompute walking distances for.")
+      .description(
+        "The same as [carLandmarks](#carLandmarks), but for direct walk street searches."
+      )
+      .asInt(0);
     configVersion = root
       .of("configVersion")
       .since(V2_1)
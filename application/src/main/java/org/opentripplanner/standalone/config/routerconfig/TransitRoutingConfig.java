@@ -28,7 +28,10 @@ public final class TransitRoutingConfig implements RaptorTuningParameters, Trans
   private final int scheduledTripBinarySearchThreshold;
   private final int iterationDepartureStepInSeconds;
   private final int searchThreadPoolSize;
+  private final int searchWindowSlices;
   private final int transferCacheMaxSize;
+  private final long accessEgressCacheMaxStates;
+  private final int accessEgressThreadPoolSize;
   private final boolean earlyTransferPruning;
   private final List<RouteRequest> transferCacheRequests;
   private final List<Duration> pagingSearchWindowAdjustments;
@@ -109,6 +112,24 @@ public final class TransitRoutingConfig implements RaptorTuningParameters, Trans
         """
       )
       .asInt(0);
+    this.searchWindowSlices = c
+      .of("searchWindowSlices")
+      .since(V2_10)
+      .summary(
+        "Split the search-window of a multi-criteria search into slices and route them in parallel."
+      )
+      .description(
+        """
+        Range Raptor iterates over the departure minutes in the search-window one at the time. For
+        long search-windows this takes time. When this parameter is set to more than 1, the
+        search-window is split into the given number of contiguous slices, and each slice is routed
+        in parallel using the `searchThreadPoolSize` thread pool. The destination results are merged
+        into one pareto-optimal set. Each slice is at least two iterations long, so short
+        search-windows are split into fewer slices. This has no effect unless
+        `searchThreadPoolSize` is greater than 0.
+        """
+      )
+      .asInt(dft.searchWindowSlices());
     this.earlyTransferPruning = c
       .of("earlyTransferPruning")
       .since(V2_10)
@@ -169,6 +190,35 @@ public final class TransitRoutingConfig implements RaptorTuningParameters, Trans
       )
       .asInt(25);
 
+    this.accessEgressCacheMaxStates = c
+      .of("accessEgressCacheMaxStates")
+      .since(V2_10)
+      .summary(
+        "The maximum number of street search states kept in the access/egress search cache."
+      )
+      .description(
+        """
+        The cache is only used if the `AccessEgressCache` feature is enabled. The size of a cached
+        search is the number of states in the paths to the stops found. If too low, fewer searches
+        are cached. If too high, more memory may be used than required.
+        """
+      )
+      .asLong(1_000_000);
+
+    this.accessEgressThreadPoolSize = c
+      .of("accessEgressThreadPoolSize")
+      .since(V2_10)
+      .summary("The number of threads used to fetch the access and egress in parallel.")
+      .description(
+        """
+        The pool is only used if the `ParallelRouting` feature is enabled, and is shared by all
+        searches. When all threads are busy, a few searches are queued, and after that the access
+        and egress are fetched on the request thread. If 0, no extra threads are started and the
+        access and egress are fetched one after the other.
+        """
+      )
+      .asInt(0);
+
     this.transferCacheRequests = c
       .of("transferCacheRequests")
       .since(V2_3)
@@ -254,6 +304,11 @@ public final class TransitRoutingConfig implements RaptorTuningParameters, Trans
     return searchThreadPoolSize;
   }
 
+  @Override
+  public int searchWindowSlices() {
+    return searchWindowSlices;
+  }
+
   @Override
   public boolean earlyTransferPruning() {
     return earlyTransferPruning;
@@ -279,6 +334,16 @@ public final class TransitRoutingConfig implements RaptorTuningParameters, Trans
     return transferCacheMaxSize;
   }
 
+  @Override
+  public long accessEgressCacheMaxStates() {
+    return accessEgressCacheMaxStates;
+  }
+
+  @Override
+  public int accessEgressThreadPoolSize() {
+    return accessEgressThreadPoolSize;
+  }
+
   @Override
   public List<RouteRequest> transferCacheRequests() {
     return transferCacheRequests;
@@ -34,6 +34,8 @@ import org.opentripplanner.framework.transaction.configure.TransactionModule;
 import org.opentripplanner.framework.transaction.configure.TransitDomain;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssueSummary;
 import org.opentripplanner.raptor.configure.RaptorConfig;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.configure.AccessEgressExecutorModule;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.configure.AccessEgressCacheModule;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.RaptorTransitData;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.api.request.RouteRequest;
@@ -85,6 +87,8 @@ import org.opentripplanner.warmup.configure.WarmupModule;
 @Singleton
 @Component(
   modules = {
+    AccessEgressCacheModule.class,
+    AccessEgressExecutorModule.class,
     CarpoolingModule.class,
     ConfigModule.class,
     ConstructApplicationModule.class,
@@ -5,6 +5,7 @@ import dagger.Provides;
 import graphql.schema.GraphQLSchema;
 import io.micrometer.core.instrument.Metrics;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import org.opentripplanner.apis.gtfs.GtfsApiParameters;
 import org.opentripplanner.apis.gtfs.configure.GtfsSchema;
@@ -28,6 +29,8 @@ import org.opentripplanner.framework.transaction.configure.TransitDomain;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.algorithm.filterchain.ext.EmissionDecorator;
 import org.opentripplanner.routing.algorithm.filterchain.framework.spi.ItineraryDecorator;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.configure.AccessEgressExecutor;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.routing.fares.FareService;
@@ -174,6 +177,8 @@ public class RequestScopedModule {
     VehicleParkingService vehicleParkingService,
     List<RideHailingService> rideHailingServices,
     ViaCoordinateTransferFactory viaTransferResolver,
+    @Nullable AccessEgressCache accessEgressCache,
+    @Nullable @AccessEgressExecutor ExecutorService accessEgressExecutor,
     @Nullable CarpoolingService carpoolingService,
     @Nullable DataOverlayParameterBindings dataOverlayParameterBindings,
     @Nullable StopConsolidationService stopConsolidationService,
@@ -220,6 +225,8 @@ public class RequestScopedModule {
       vertexLinker,
       viaTransferResolver,
       worldEnvelopeService,
+      accessEgressCache,
+      accessEgressExecutor,
       // Optional Sandbox services
       carpoolingService,
       dataOverlayParameterBindings,
@@ -3,6 +3,7 @@ package org.opentripplanner.standalone.server;
 import graphql.schema.GraphQLSchema;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import org.opentripplanner.apis.gtfs.GtfsApiParameters;
 import org.opentripplanner.apis.gtfs.configure.GtfsSchema;
@@ -23,6 +24,8 @@ import org.opentripplanner.raptor.api.request.RaptorTuningParameters;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.algorithm.filterchain.ext.EmissionDecorator;
 import org.opentripplanner.routing.algorithm.filterchain.framework.spi.ItineraryDecorator;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.configure.AccessEgressExecutor;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TransitTuningParameters;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.api.RoutingService;
@@ -80,6 +83,12 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
 
   /* Optional fields */
 
+  @Nullable
+  private final AccessEgressCache accessEgressCache;
+
+  @Nullable
+  private final ExecutorService accessEgressExecutor;
+
   @Nullable
   private final CarpoolingService carpoolingService;
 
@@ -154,6 +163,8 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     VertexLinker vertexLinker,
     ViaCoordinateTransferFactory viaTransferResolver,
     WorldEnvelopeService worldEnvelopeService,
+    @Nullable AccessEgressCache accessEgressCache,
+    @Nullable @AccessEgressExecutor ExecutorService accessEgressExecutor,
     @Nullable CarpoolingService carpoolingService,
     @Nullable DataOverlayParameterBindings dataOverlayParameterBindings,
     @Nullable @EmissionDecorator ItineraryDecorator emissionItineraryDecorator,
@@ -194,6 +205,8 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     this.worldEnvelopeService = worldEnvelopeService;
 
     // Optional fields
+    this.accessEgressCache = accessEgressCache;
+    this.accessEgressExecutor = accessEgressExecutor;
     this.carpoolingService = carpoolingService;
     this.dataOverlayParameterBindings = dataOverlayParameterBindings;
     this.emissionItineraryDecorator = emissionItineraryDecorator;
@@ -348,6 +361,18 @@ public class DefaultServerRequestContext implements OtpServerRequestContext {
     return transmodelAPIParameters;
   }
 
+  @Nullable
+  @Override
+  public AccessEgressCache accessEgressCache() {
+    return accessEgressCache;
+  }
+
+  @Nullable
+  @Override
+  public ExecutorService accessEgressExecutor() {
+    return accessEgressExecutor;
+  }
+
   @Nullable
   @Override
   public CarpoolingService carpoolingService() {
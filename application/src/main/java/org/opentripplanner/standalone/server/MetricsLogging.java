@@ -18,13 +18,17 @@ import io.micrometer.core.instrument.binder.system.UptimeMetrics;
 import jakarta.inject.Inject;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
+import javax.annotation.Nullable;
 import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.framework.transaction.UpdateManager;
 import org.opentripplanner.framework.transaction.configure.StreetDomain;
 import org.opentripplanner.framework.transaction.configure.TransitDomain;
 import org.opentripplanner.graph_builder.issue.api.DataImportIssueSummary;
 import org.opentripplanner.raptor.configure.RaptorConfig;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.configure.AccessEgressExecutor;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.services.TransitAlertService;
 import org.opentripplanner.transit.service.TransitRepository;
@@ -42,7 +46,9 @@ public class MetricsLogging {
     RaptorConfig<TripSchedule> raptorConfig,
     DataImportIssueSummary issueSummary,
     @TransitDomain UpdateManager transitUpdateManager,
-    @StreetDomain UpdateManager streetUpdateManager
+    @StreetDomain UpdateManager streetUpdateManager,
+    @Nullable AccessEgressCache accessEgressCache,
+    @Nullable @AccessEgressExecutor ExecutorService accessEgressExecutor
   ) {
     new ClassLoaderMetrics().bindTo(Metrics.globalRegistry);
     new FileDescriptorMetrics().bindTo(Metrics.globalRegistry);
@@ -66,6 +72,13 @@ public class MetricsLogging {
         List.of(Tag.of("cache", "raptorTransfers"))
       ).bindTo(Metrics.globalRegistry);
     }
+    if (accessEgressCache != null) {
+      new GuavaCacheMetrics(
+        accessEgressCache.cache(),
+        "accessEgressCache",
+        List.of(Tag.of("cache", "accessEgress"))
+      ).bindTo(Metrics.globalRegistry);
+    }
     new ExecutorServiceMetrics(
       ForkJoinPool.commonPool(),
       "commonPool",
@@ -106,6 +119,14 @@ public class MetricsLogging {
       ).bindTo(Metrics.globalRegistry);
     }
 
+    if (accessEgressExecutor != null) {
+      new ExecutorServiceMetrics(
+        accessEgressExecutor,
+        "accessEgress",
+        List.of(Tag.of("pool", "accessEgress"))
+      ).bindTo(Metrics.globalRegistry);
+    }
+
     final Map<String, Long> issueCount = issueSummary.asMap();
 
     var totalIssues = issueCount
@@ -1,7 +1,9 @@
 package org.opentripplanner.transfer.regular;
 
 import java.util.Collection;
+import java.util.Optional;
 import org.opentripplanner.transfer.regular.model.PathTransfer;
+import org.opentripplanner.transfer.regular.model.StopAccessParameters;
 import org.opentripplanner.transit.model.site.StopLocation;
 
 /**
@@ -33,4 +35,22 @@ public interface RegularTransferService {
    * @throws IllegalStateException         if the index was not initialized
    */
   Collection<PathTransfer> findWalkTransfersToStop(StopLocation toStop);
+
+  /**
+   * @return the parameters used to precompute the walk access and egress paths of the stops, or
+   * empty if the paths are not precomputed
+   */
+  Optional<StopAccessParameters> stopAccessParameters();
+
+  /**
+   * @param fromStop {@code StopLocation} that is set as a from-stop
+   * @return the precomputed walk access paths from the specified {@code StopLocation}
+   */
+  Collection<PathTransfer> findStopAccess(StopLocation fromStop);
+
+  /**
+   * @param toStop {@code StopLocation} that is set as a to-stop
+   * @return the precomputed walk egress paths to the specified {@code StopLocation}
+   */
+  Collection<PathTransfer> findStopEgress(StopLocation toStop);
 }
@@ -4,8 +4,10 @@ import com.google.common.collect.Multimap;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import org.opentripplanner.street.model.StreetMode;
 import org.opentripplanner.transfer.regular.model.PathTransfer;
+import org.opentripplanner.transfer.regular.model.StopAccessParameters;
 import org.opentripplanner.transit.model.site.StopLocation;
 
 /**
@@ -38,4 +40,30 @@ public interface TransferRepository extends Serializable {
   Collection<PathTransfer> findWalkTransfersToStop(StopLocation toStop);
 
   Collection<PathTransfer> findWalkTransfersFromStop(StopLocation fromStop);
+
+  /**
+   * Add the precomputed walk access and egress paths of the stops. This replaces the paths
+   * added before.
+   *
+   * @param accessByStop the paths from each stop, grouped by the from-stop
+   * @param egressByStop the paths to each stop, grouped by the to-stop
+   * @param parameters   the parameters used to find the paths
+   */
+  void setStopAccessEgress(
+    Multimap<StopLocation, PathTransfer> accessByStop,
+    Multimap<StopLocation, PathTransfer> egressByStop,
+    StopAccessParameters parameters
+  );
+
+  /**
+   * The parameters used to precompute the walk access and egress paths, or empty if the paths
+   * are not precomputed.
+   */
+  Optional<StopAccessParameters> stopAccessParameters();
+
+  /** The precomputed walk paths from the given stop to the stops nearby. */
+  Collection<PathTransfer> findStopAccess(StopLocation fromStop);
+
+  /** The precomputed walk paths from the stops nearby to the given stop. */
+  Collection<PathTransfer> findStopEgress(StopLocation toStop);
 }
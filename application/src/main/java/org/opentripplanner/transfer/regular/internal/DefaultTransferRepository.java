@@ -4,9 +4,12 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import javax.annotation.Nullable;
 import org.opentripplanner.street.model.StreetMode;
 import org.opentripplanner.transfer.regular.TransferRepository;
 import org.opentripplanner.transfer.regular.model.PathTransfer;
+import org.opentripplanner.transfer.regular.model.StopAccessParameters;
 import org.opentripplanner.transit.model.site.StopLocation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,6 +20,13 @@ public class DefaultTransferRepository implements TransferRepository {
 
   private final Multimap<StopLocation, PathTransfer> transfersByStop = HashMultimap.create();
 
+  private final Multimap<StopLocation, PathTransfer> stopAccess = HashMultimap.create();
+
+  private final Multimap<StopLocation, PathTransfer> stopEgress = HashMultimap.create();
+
+  @Nullable
+  private StopAccessParameters stopAccessParameters;
+
   private final TransferIndex index;
 
   public DefaultTransferRepository(TransferIndex index) {
@@ -65,4 +75,32 @@ public class DefaultTransferRepository implements TransferRepository {
   public Collection<PathTransfer> findWalkTransfersFromStop(StopLocation fromStop) {
     return index.findWalkTransfersFromStop(fromStop);
   }
+
+  @Override
+  public void setStopAccessEgress(
+    Multimap<StopLocation, PathTransfer> accessByStop,
+    Multimap<StopLocation, PathTransfer> egressByStop,
+    StopAccessParameters parameters
+  ) {
+    this.stopAccess.clear();
+    this.stopAccess.putAll(accessByStop);
+    this.stopEgress.clear();
+    this.stopEgress.putAll(egressByStop);
+    this.stopAccessParameters = parameters;
+  }
+
+  @Override
+  public Optional<StopAccessParameters> stopAccessParameters() {
+    return Optional.ofNullable(stopAccessParameters);
+  }
+
+  @Override
+  public Collection<PathTransfer> findStopAccess(StopLocation fromStop) {
+    return stopAccess.get(fromStop);
+  }
+
+  @Override
+  public Collection<PathTransfer> findStopEgress(StopLocation toStop) {
+    return stopEgress.get(toStop);
+  }
 }
@@ -1,9 +1,11 @@
 package org.opentripplanner.transfer.regular.internal;
 
 import java.util.Collection;
+import java.util.Optional;
 import org.opentripplanner.transfer.regular.RegularTransferService;
 import org.opentripplanner.transfer.regular.TransferRepository;
 import org.opentripplanner.transfer.regular.model.PathTransfer;
+import org.opentripplanner.transfer.regular.model.StopAccessParameters;
 import org.opentripplanner.transit.model.site.StopLocation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,4 +36,16 @@ public class DefaultTransferService implements RegularTransferService {
   public Collection<PathTransfer> findWalkTransfersFromStop(StopLocation fromStop) {
     return transferRepository.findWalkTransfersFromStop(fromStop);
   }
+
+  public Optional<StopAccessParameters> stopAccessParameters() {
+    return transferRepository.stopAccessParameters();
+  }
+
+  public Collection<PathTransfer> findStopAccess(StopLocation fromStop) {
+    return transferRepository.findStopAccess(fromStop);
+  }
+
+  public Collection<PathTransfer> findStopEgress(StopLocation toStop) {
+    return transferRepository.findStopEgress(toStop);
+  }
 }
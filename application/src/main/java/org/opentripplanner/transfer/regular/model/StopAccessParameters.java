@@ -0,0 +1,91 @@
+package org.opentripplanner.transfer.regular.model;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.routing.api.request.preference.ElevatorPreferences;
+import org.opentripplanner.routing.api.request.preference.WalkPreferences;
+import org.opentripplanner.routing.api.request.preference.WheelchairPreferences;
+import org.opentripplanner.transfer.regular.TransferRepository;
+import org.opentripplanner.utils.tostring.ToStringBuilder;
+
+/**
+ * The parameters used to precompute the walk access and egress paths of the stops, see
+ * {@link TransferRepository#findStopAccess}. A request may use the precomputed paths if the
+ * street search for the request would find the same paths: the walk preferences, the turn
+ * reluctance, the elevator preferences and the wheelchair accessibility must be the same, and the
+ * duration limit of the request can not be longer than the duration limit used to find the paths.
+ * The wheelchair preferences are only compared for wheelchair requests, they are not used by other
+ * searches.
+ */
+public final class StopAccessParameters implements Serializable {
+
+  private final Duration maxDuration;
+  private final WalkPreferences walk;
+  private final double turnReluctance;
+  private final ElevatorPreferences elevator;
+  private final boolean wheelchair;
+  private final WheelchairPreferences wheelchairPreferences;
+
+  public StopAccessParameters(
+    Duration maxDuration,
+    WalkPreferences walk,
+    double turnReluctance,
+    ElevatorPreferences elevator,
+    boolean wheelchair,
+    WheelchairPreferences wheelchairPreferences
+  ) {
+    this.maxDuration = Objects.requireNonNull(maxDuration);
+    this.walk = Objects.requireNonNull(walk);
+    this.turnReluctance = turnReluctance;
+    this.elevator = Objects.requireNonNull(elevator);
+    this.wheelchair = wheelchair;
+    this.wheelchairPreferences = Objects.requireNonNull(wheelchairPreferences);
+  }
+
+  /** The parameters of the given request and duration limit. */
+  public static StopAccessParameters of(RouteRequest request, Duration maxDuration) {
+    var preferences = request.preferences();
+    return new StopAccessParameters(
+      maxDuration,
+      preferences.walk(),
+      preferences.street().turnReluctance(),
+      preferences.street().elevator(),
+      request.journey().wheelchair(),
+      preferences.wheelchair()
+    );
+  }
+
+  public Duration maxDuration() {
+    return maxDuration;
+  }
+
+  /**
+   * Return {@code true} if the precomputed paths can be used for the given request and duration
+   * limit.
+   */
+  public boolean canBeUsedFor(RouteRequest request, Duration durationLimit) {
+    var preferences = request.preferences();
+    return (
+      durationLimit.compareTo(maxDuration) <= 0 &&
+      wheelchair == request.journey().wheelchair() &&
+      (!wheelchair || wheelchairPreferences.equals(preferences.wheelchair())) &&
+      turnReluctance == preferences.street().turnReluctance() &&
+      elevator.equals(preferences.street().elevator()) &&
+      walk.equals(preferences.walk())
+    );
+  }
+
+  @Override
+  public String toString() {
+    return ToStringBuilder.of(StopAccessParameters.class)
+      .addDuration("maxDuration", maxDuration)
+      .addObj("walk", walk)
+      .addNum("turnReluctance", turnReluctance)
+      .addObj("elevator", elevator)
+      .addBoolIfTrue("wheelchair", wheelchair)
+      .addObj("wheelchairPreferences", wheelchairPreferences)
+      .toString();
+  }
+}
@@ -2,6 +2,7 @@ package org.opentripplanner.transit.model.basic;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 import javax.annotation.Nullable;
 
@@ -71,6 +72,24 @@ public class NarrowedTransitMode {
     return replacement;
   }
 
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof NarrowedTransitMode that)) {
+      return false;
+    }
+    return (
+      mode == that.mode && Objects.equals(subMode, that.subMode) && replacement == that.replacement
+    );
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(mode, subMode, replacement);
+  }
+
   public String toString() {
     if (replacement != ReplacementRequirement.IGNORED) {
       return mode.name() + "::" + (subMode == null ? "" : subMode.name()) + "::" + replacement;
@@ -3,8 +3,8 @@ package org.opentripplanner.updater.alert.siri.lite;
 import java.net.URI;
 import java.time.Duration;
 import java.util.Optional;
+import org.opentripplanner.framework.io.ConditionalHttpFetcher;
 import org.opentripplanner.framework.io.HttpHeaders;
-import org.opentripplanner.framework.io.OtpHttpClient;
 import org.opentripplanner.framework.io.OtpHttpClientFactory;
 import org.opentripplanner.updater.support.siri.SiriHelper;
 import org.opentripplanner.updater.support.siri.SiriLoader;
@@ -14,25 +14,29 @@ import uk.org.siri.siri21.Siri;
 
 /**
  * Load real-time updates from SIRI-SX and SIRI-ET feeds over HTTP via a single request
- * that contains all updates.
+ * that contains all updates. The feed is not unmarshalled again if it has not changed since the
+ * last request, see {@link ConditionalHttpFetcher}.
  */
 public class SiriLiteHttpLoader implements SiriLoader {
 
   private static final Logger LOG = LoggerFactory.getLogger(SiriLiteHttpLoader.class);
   private final HttpHeaders headers;
-  private final URI uri;
   private final Duration timeout;
-  private final OtpHttpClient otpHttpClient;
+  private final ConditionalHttpFetcher fetcher;
 
-  public SiriLiteHttpLoader(URI uri, Duration timeout, HttpHeaders headers) {
-    this.uri = uri;
+  public SiriLiteHttpLoader(String feedId, URI uri, Duration timeout, HttpHeaders headers) {
     this.timeout = timeout;
     this.headers = HttpHeaders.of().acceptApplicationXML().add(headers).build();
-    this.otpHttpClient = new OtpHttpClientFactory(timeout, timeout).create(LOG);
+    this.fetcher = new ConditionalHttpFetcher(
+      new OtpHttpClientFactory(timeout, timeout).create(LOG),
+      uri,
+      feedId
+    );
   }
 
   /**
-   * Send a HTTP GET request and unmarshal the response as JAXB.
+   * Send a HTTP GET request and unmarshal the response as JAXB. Returns empty if the feed has not
+   * changed.
    */
   @Override
   public Optional<Siri> fetchSXFeed(String ignored) {
@@ -40,7 +44,8 @@ public class SiriLiteHttpLoader implements SiriLoader {
   }
 
   /**
-   * Send a HTTP GET service request and unmarshal the response as JAXB.
+   * Send a HTTP GET service request and unmarshal the response as JAXB. Returns empty if the feed
+   * has not changed.
    */
   @Override
   public Optional<Siri> fetchETFeed(String ignored) {
@@ -48,8 +53,6 @@ public class SiriLiteHttpLoader implements SiriLoader {
   }
 
   private Optional<Siri> fetchFeed() {
-    return otpHttpClient.getAndMap(uri, timeout, headers, response ->
-      Optional.of(SiriHelper.unmarshal(response.body()))
-    );
+    return fetcher.fetch(timeout, headers, response -> SiriHelper.unmarshal(response.body()));
   }
 }
@@ -67,6 +67,7 @@ public class SiriUpdaterModule {
         p.requestHeaders()
       );
       case SiriSXLiteUpdaterParameters p -> new SiriLiteHttpLoader(
+        p.feedId(),
         p.uri(),
         p.timeout(),
         p.requestHeaders()
@@ -90,6 +91,7 @@ public class SiriUpdaterModule {
           p.previewInterval()
         );
         case SiriETLiteUpdaterParameters p -> new SiriLiteHttpLoader(
+          p.feedId(),
           p.uri(),
           p.timeout(),
           p.httpRequestHeaders()
@@ -0,0 +1,121 @@
+package org.opentripplanner.updater.support.siri;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.Unmarshaller;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import uk.org.siri.siri21.EstimatedTimetableDeliveryStructure;
+import uk.org.siri.siri21.EstimatedVehicleJourney;
+import uk.org.siri.siri21.EstimatedVersionFrameStructure;
+import uk.org.siri.siri21.ServiceDelivery;
+import uk.org.siri.siri21.Siri;
+
+/**
+ * Read the EstimatedVehicleJourneys of a SIRI-ET document one at a time, using a StAX reader,
+ * instead of unmarshalling the entire {@link Siri} document. The journeys are passed on in
+ * batches as soon as they are read, so the processing of a large response can start before it is
+ * downloaded, and only one batch of journeys is held in memory by the reader.
+ * <p>
+ * Everything in the document except the journeys is skipped, so this can only be used when the
+ * journeys can be applied as independent differential updates.
+ */
+public class SiriEtStreamReader {
+
+  private static final String SIRI_NAMESPACE = "http://www.siri.org.uk/siri";
+  private static final String JOURNEY_ELEMENT = "EstimatedVehicleJourney";
+
+  private static final JAXBContext JAXB_CONTEXT = createJaxbContext();
+  private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+  private final int batchSize;
+
+  public SiriEtStreamReader(int batchSize) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+    }
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Wrap a batch of journeys in a {@link ServiceDelivery}, so it can be applied like a delivery
+   * from any other source.
+   */
+  public static ServiceDelivery toServiceDelivery(List<EstimatedVehicleJourney> journeys) {
+    var versionFrame = new EstimatedVersionFrameStructure();
+    versionFrame.getEstimatedVehicleJourneies().addAll(journeys);
+
+    var delivery = new EstimatedTimetableDeliveryStructure();
+    delivery.getEstimatedJourneyVersionFrames().add(versionFrame);
+
+    var serviceDelivery = new ServiceDelivery();
+    serviceDelivery.getEstimatedTimetableDeliveries().add(delivery);
+    return serviceDelivery;
+  }
+
+  /**
+   * Read all journeys in the stream, and pass them on to the consumer in batches of at most the
+   * batch size. The consumer is called on the calling thread, while the stream is read.
+   *
+   * @return the number of journeys read.
+   */
+  public int read(InputStream is, Consumer<List<EstimatedVehicleJourney>> batchConsumer)
+    throws XMLStreamException, JAXBException {
+    Unmarshaller unmarshaller = JAXB_CONTEXT.createUnmarshaller();
+    XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(is);
+    try {
+      int count = 0;
+      List<EstimatedVehicleJourney> batch = new ArrayList<>(batchSize);
+
+      while (reader.hasNext()) {
+        if (isJourneyStartElement(reader)) {
+          // The unmarshaller moves the reader to the event after the end of the element
+          batch.add(unmarshaller.unmarshal(reader, EstimatedVehicleJourney.class).getValue());
+          ++count;
+          if (batch.size() == batchSize) {
+            batchConsumer.accept(batch);
+            batch = new ArrayList<>(batchSize);
+          }
+        } else {
+          reader.next();
+        }
+      }
+      if (!batch.isEmpty()) {
+        batchConsumer.accept(batch);
+      }
+      return count;
+    } finally {
+      reader.close();
+    }
+  }
+
+  private static boolean isJourneyStartElement(XMLStreamReader reader) {
+    return (
+      reader.isStartElement() &&
+      JOURNEY_ELEMENT.equals(reader.getLocalName()) &&
+      SIRI_NAMESPACE.equals(reader.getNamespaceURI())
+    );
+  }
+
+  private static JAXBContext createJaxbContext() {
+    try {
+      return JAXBContext.newInstance(Siri.class);
+    } catch (JAXBException e) {
+      // This is a programming error - not expected!
+      throw new RuntimeException(e);
+    }
+  }
+
+  private static XMLInputFactory createXmlInputFactory() {
+    var factory = XMLInputFactory.newInstance();
+    // Do not resolve external entities
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return factory;
+  }
+}
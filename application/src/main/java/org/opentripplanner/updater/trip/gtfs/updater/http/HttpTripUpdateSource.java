@@ -12,6 +12,8 @@ import de.mfdz.MfdzRealtimeExtensions;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import org.opentripplanner.framework.io.ConditionalHttpFetcher;
 import org.opentripplanner.framework.io.HttpHeaders;
 import org.opentripplanner.framework.io.OtpHttpClient;
 import org.opentripplanner.framework.io.OtpHttpClientFactory;
@@ -31,16 +33,21 @@ class HttpTripUpdateSource {
   private final HttpHeaders headers;
   private UpdateIncrementality updateIncrementality = FULL_DATASET;
   private final ExtensionRegistry registry = ExtensionRegistry.newInstance();
-  private final OtpHttpClient otpHttpClient;
+  private final ConditionalHttpFetcher fetcher;
 
   public HttpTripUpdateSource(PollingTripUpdaterParameters config) {
     this.feedId = config.feedId();
     this.url = config.url();
     this.headers = HttpHeaders.of().acceptProtobuf().add(config.headers()).build();
     MfdzRealtimeExtensions.registerAllExtensions(registry);
-    otpHttpClient = new OtpHttpClientFactory().create(LOG);
+    OtpHttpClient otpHttpClient = new OtpHttpClientFactory().create(LOG);
+    this.fetcher = new ConditionalHttpFetcher(otpHttpClient, URI.create(url), feedId);
   }
 
+  /**
+   * @return the trip updates of the feed, or null if the feed could not be fetched or has not
+   * changed since the last call.
+   */
   public List<TripUpdate> getUpdates() {
     FeedMessage feedMessage;
     List<FeedEntity> feedEntityList;
@@ -48,9 +55,14 @@ class HttpTripUpdateSource {
     updateIncrementality = FULL_DATASET;
     try {
       // Decode message
-      feedMessage = otpHttpClient.getAndMap(URI.create(url), this.headers, response ->
+      Optional<FeedMessage> fetchedMessage = fetcher.fetch(this.headers, response ->
         FeedMessage.parseFrom(response.body(), registry)
       );
+      if (fetchedMessage.isEmpty()) {
+        // The feed is the same as the last time, there is nothing new to apply
+        return null;
+      }
+      feedMessage = fetchedMessage.get();
       feedEntityList = feedMessage.getEntityList();
 
       // Change fullDataset value if this is an incremental update
@@ -8,7 +8,10 @@ import static org.opentripplanner.updater.trip.UpdateIncrementality.FULL_DATASET
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import org.opentripplanner.core.framework.deduplicator.DeduplicatorService;
 import org.opentripplanner.transit.model.framework.DataValidationException;
@@ -44,6 +47,9 @@ public class SiriRealTimeUpdateHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(SiriRealTimeUpdateHandler.class);
 
+  /** Messages with at least this number of journeys are mapped in parallel. */
+  private static final int PARALLEL_PREPARE_THRESHOLD = 200;
+
   private final TransitService transitService;
   private final TimetableRepository buffer;
 
@@ -54,6 +60,9 @@ public class SiriRealTimeUpdateHandler {
   private final DeduplicatorService deduplicator;
   private final TripPatternIdGenerator tripPatternIdGenerator;
 
+  /** The trips updated by the message being applied. */
+  private final Set<Trip> updatedTrips = new HashSet<>();
+
   SiriRealTimeUpdateHandler(
     TransitService transitService,
     TimetableRepository buffer,
@@ -97,21 +106,32 @@ public class SiriRealTimeUpdateHandler {
       buffer.clear(feedId);
     }
 
+    List<EstimatedVehicleJourney> journeys = new ArrayList<>();
     for (var etDelivery : updates) {
       for (var estimatedJourneyVersion : etDelivery.getEstimatedJourneyVersionFrames()) {
-        var journeys = estimatedJourneyVersion.getEstimatedVehicleJourneies();
-        LOG.debug("Handling {} EstimatedVehicleJourneys.", journeys.size());
-        for (EstimatedVehicleJourney journey : journeys) {
-          try {
-            successes.add(apply(journey, entityResolver));
-          } catch (UpdateException e) {
-            errors.add(
-              e
-                .withTripReference(TripReferenceHelper.tripReference(journey))
-                .toError(journey.getDataSource())
-            );
-          }
-        }
+        journeys.addAll(estimatedJourneyVersion.getEstimatedVehicleJourneies());
+      }
+    }
+    LOG.debug("Handling {} EstimatedVehicleJourneys.", journeys.size());
+
+    List<TripUpdate> prepared = prepareAll(journeys, entityResolver);
+    updatedTrips.clear();
+
+    for (int i = 0; i < journeys.size(); ++i) {
+      var journey = journeys.get(i);
+      var tripUpdate = prepared.get(i);
+      // The prepared update is only valid if no earlier journey in the message updated the trip
+      if (tripUpdate != null && updatedTrips.contains(tripUpdate.tripTimes().getTrip())) {
+        tripUpdate = null;
+      }
+      try {
+        successes.add(apply(journey, entityResolver, tripUpdate));
+      } catch (UpdateException e) {
+        errors.add(
+          e
+            .withTripReference(TripReferenceHelper.tripReference(journey))
+            .toError(journey.getDataSource())
+        );
       }
     }
 
@@ -120,23 +140,58 @@ public class SiriRealTimeUpdateHandler {
     return UpdateResult.of(successes, errors);
   }
 
-  private UpdateSuccess apply(EstimatedVehicleJourney journey, EntityResolver entityResolver)
-    throws UpdateException {
+  /**
+   * Map the journeys updating a trip found by id to {@link TripUpdate}s before any of the journeys
+   * are applied. This is the CPU-heavy part of the update, and it only reads from the buffer, so
+   * large messages are mapped in parallel. The result has the same order as the journeys, with
+   * {@code null} for the journeys that must be mapped when they are applied: replacement
+   * departures, extra calls, fuzzy matched trips and journeys failing to map. These may depend on
+   * the journeys applied before them in the same message.
+   */
+  private List<TripUpdate> prepareAll(
+    List<EstimatedVehicleJourney> journeys,
+    EntityResolver entityResolver
+  ) {
+    var stream = journeys.stream();
+    if (journeys.size() >= PARALLEL_PREPARE_THRESHOLD) {
+      stream = stream.parallel();
+    }
+    // Collect to an ArrayList, since the list contains null elements
+    return stream
+      .map(journey -> prepare(journey, entityResolver))
+      .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  @Nullable
+  private TripUpdate prepare(EstimatedVehicleJourney journey, EntityResolver entityResolver) {
+    var journeyWrapper = EstimatedVehicleJourneyWrapper.of(journey);
+    if (journeyWrapper.hasExtraCall() || entityResolver.resolveTrip(journeyWrapper) == null) {
+      return null;
+    }
+    try {
+      return handleModifiedTrip(null, entityResolver, journeyWrapper);
+    } catch (Exception e) {
+      // The journey is mapped again when it is applied, and the error is reported then
+      return null;
+    }
+  }
+
+  /**
+   * @param prepared the trip update mapped by {@link #prepareAll(List, EntityResolver)}, or
+   *                 {@code null} if the journey should be mapped now.
+   */
+  private UpdateSuccess apply(
+    EstimatedVehicleJourney journey,
+    EntityResolver entityResolver,
+    @Nullable TripUpdate prepared
+  ) throws UpdateException {
     var journeyWrapper = EstimatedVehicleJourneyWrapper.of(journey);
     SiriUpdateType siriUpdateType = null;
     try {
       siriUpdateType = updateType(journeyWrapper, entityResolver);
-      TripUpdate result = switch (siriUpdateType) {
-        case REPLACEMENT_DEPARTURE -> new AddedTripBuilder(
-          journeyWrapper,
-          transitService,
-          deduplicator,
-          entityResolver,
-          tripPatternIdGenerator::generateUniqueTripPatternId
-        ).build();
-        case EXTRA_CALL -> handleExtraCall(fuzzyTripMatcher, entityResolver, journeyWrapper);
-        case TRIP_UPDATE -> handleModifiedTrip(fuzzyTripMatcher, entityResolver, journeyWrapper);
-      };
+      TripUpdate result = prepared != null
+        ? prepared
+        : map(siriUpdateType, journeyWrapper, entityResolver);
 
       /* commit */
       return addTripToGraphAndBuffer(result);
@@ -150,6 +205,24 @@ public class SiriRealTimeUpdateHandler {
     }
   }
 
+  private TripUpdate map(
+    SiriUpdateType siriUpdateType,
+    EstimatedVehicleJourneyWrapper journeyWrapper,
+    EntityResolver entityResolver
+  ) throws UpdateException {
+    return switch (siriUpdateType) {
+      case REPLACEMENT_DEPARTURE -> new AddedTripBuilder(
+        journeyWrapper,
+        transitService,
+        deduplicator,
+        entityResolver,
+        tripPatternIdGenerator::generateUniqueTripPatternId
+      ).build();
+      case EXTRA_CALL -> handleExtraCall(fuzzyTripMatcher, entityResolver, journeyWrapper);
+      case TRIP_UPDATE -> handleModifiedTrip(fuzzyTripMatcher, entityResolver, journeyWrapper);
+    };
+  }
+
   /**
    * Determines the type of SIRI-ET update carried by {@code vehicleJourney}.
    *
@@ -348,6 +421,7 @@ public class SiriRealTimeUpdateHandler {
       .withHideTripInScheduledPattern(tripUpdate.hideTripInScheduledPattern())
       .build();
     var result = TripUpdateApplier.apply(buffer, realTimeTripUpdate);
+    updatedTrips.add(trip);
     LOG.debug("Applied real-time data for trip {} on {}", trip, serviceDate);
     return result;
   }
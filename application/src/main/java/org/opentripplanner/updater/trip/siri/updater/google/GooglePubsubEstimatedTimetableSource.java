@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,6 +32,7 @@ import org.opentripplanner.framework.io.HttpHeaders;
 import org.opentripplanner.framework.io.OtpHttpClientFactory;
 import org.opentripplanner.framework.retry.OtpRetry;
 import org.opentripplanner.framework.retry.OtpRetryBuilder;
+import org.opentripplanner.updater.support.siri.SiriEtStreamReader;
 import org.opentripplanner.updater.trip.siri.updater.AsyncEstimatedTimetableSource;
 import org.opentripplanner.utils.text.FileSizeToTextConverter;
 import org.opentripplanner.utils.time.DurationUtils;
@@ -79,6 +81,13 @@ public class GooglePubsubEstimatedTimetableSource implements AsyncEstimatedTimet
   private static final Duration RETRY_INITIAL_DELAY = Duration.ofSeconds(1);
   private static final int RETRY_BACKOFF = 2;
 
+  /**
+   * The initial data is applied in batches of this number of journeys while the response is read,
+   * with at most {@link #MAX_PENDING_BATCHES} batches waiting to be applied.
+   */
+  private static final SiriEtStreamReader INITIAL_DATA_READER = new SiriEtStreamReader(1000);
+  private static final int MAX_PENDING_BATCHES = 2;
+
   /**
    * The URL used to fetch all initial updates.
    * The URL responds to HTTP GET and returns all initial data in xml-format. It will be
@@ -265,27 +274,14 @@ public class GooglePubsubEstimatedTimetableSource implements AsyncEstimatedTimet
    */
   private void initializeData() {
     if (dataInitializationUrl != null) {
-      LOG.info("Fetching and parsing initial data from {}", dataInitializationUrl);
+      LOG.info("Fetching, parsing and applying initial data from {}", dataInitializationUrl);
       final long t1 = System.currentTimeMillis();
-      var serviceDelivery = fetchAndParseInitialData();
-      final long t2 = System.currentTimeMillis();
-      LOG.info("Fetching and parsing initial data - finished after {} ms", (t2 - t1));
-      serviceDelivery
-        .map(serviceDeliveryConsumer)
-        .ifPresent(future -> {
-          try {
-            future.get();
-          } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException(e);
-          } catch (ExecutionException e) {
-            throw new RuntimeException(e);
-          }
-        });
+      int nJourneys = fetchAndApplyInitialData();
 
       LOG.info(
-        "Pubsub updater initialized after {} ms: [messages: {},  updates: {}, total size: {}, time since startup: {}]",
-        (System.currentTimeMillis() - t2),
+        "Pubsub updater initialized after {} ms: [journeys: {}, messages: {},  updates: {}, total size: {}, time since startup: {}]",
+        (System.currentTimeMillis() - t1),
+        nJourneys,
         MESSAGE_COUNTER.get(),
         UPDATE_COUNTER.get(),
         FileSizeToTextConverter.fileSizeToString(SIZE_COUNTER.get()),
@@ -295,18 +291,45 @@ public class GooglePubsubEstimatedTimetableSource implements AsyncEstimatedTimet
   }
 
   /**
-   * Fetch the backlog of messages over HTTP and parse the XML response.
+   * Fetch the backlog of messages over HTTP and apply it. The response is parsed one journey at a
+   * time, and the journeys are applied in batches while the rest of the response is read. The
+   * number of batches waiting to be applied is limited, so the full response is never held in
+   * memory. Block until all batches are applied.
+   *
+   * @return the number of journeys in the backlog.
    */
-  private Optional<ServiceDelivery> fetchAndParseInitialData() {
+  private int fetchAndApplyInitialData() {
     try (OtpHttpClientFactory otpHttpClientFactory = new OtpHttpClientFactory()) {
       var otpHttpClient = otpHttpClientFactory.create(LOG);
-      var siri = otpHttpClient.getAndMap(
+      return otpHttpClient.getAndMap(
         dataInitializationUrl,
         initialGetDataTimeout,
         HttpHeaders.of(Map.of("Content-Type", "application/xml")),
-        response -> SiriXml.parseXml(response.body())
+        response -> {
+          var pending = new ArrayDeque<Future<?>>();
+          int nJourneys = INITIAL_DATA_READER.read(response.body(), journeys -> {
+            if (pending.size() >= MAX_PENDING_BATCHES) {
+              waitFor(pending.removeFirst());
+            }
+            pending.add(
+              serviceDeliveryConsumer.apply(SiriEtStreamReader.toServiceDelivery(journeys))
+            );
+          });
+          pending.forEach(GooglePubsubEstimatedTimetableSource::waitFor);
+          return nJourneys;
+        }
       );
-      return Optional.ofNullable(siri.getServiceDelivery());
+    }
+  }
+
+  private static void waitFor(Future<?> future) {
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    } catch (ExecutionException e) {
+      throw new RuntimeException(e);
     }
   }
 
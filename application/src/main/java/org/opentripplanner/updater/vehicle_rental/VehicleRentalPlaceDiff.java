@@ -0,0 +1,102 @@
+package org.opentripplanner.updater.vehicle_rental;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.opentripplanner.core.model.id.FeedScopedId;
+import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
+import org.opentripplanner.utils.tostring.ToStringBuilder;
+
+/**
+ * The difference between the rental places of two consecutive updates from the same source. It is
+ * computed by the polling thread, so the graph writer thread only has to apply the places which
+ * have changed.
+ * <p>
+ * A place which has moved is both removed and added, since its vertex must be linked to the
+ * streets again. Removed places should be applied before added places.
+ *
+ * @param added the places which are new, or have moved.
+ * @param changed the places which are at the same position, but have other changes, like the
+ *                number of vehicles available.
+ * @param removed the ids of the places which are gone, or have moved.
+ */
+record VehicleRentalPlaceDiff(
+  List<VehicleRentalPlace> added,
+  List<VehicleRentalPlace> changed,
+  List<FeedScopedId> removed
+) {
+  /**
+   * Index the places by id. If the same id is used more than once, the last place wins.
+   */
+  static Map<FeedScopedId, VehicleRentalPlace> byId(Collection<VehicleRentalPlace> places) {
+    var result = new LinkedHashMap<FeedScopedId, VehicleRentalPlace>();
+    for (var place : places) {
+      result.put(place.id(), place);
+    }
+    return result;
+  }
+
+  static VehicleRentalPlaceDiff of(
+    Map<FeedScopedId, VehicleRentalPlace> previous,
+    Map<FeedScopedId, VehicleRentalPlace> current
+  ) {
+    var added = new ArrayList<VehicleRentalPlace>();
+    var changed = new ArrayList<VehicleRentalPlace>();
+    var removed = new ArrayList<FeedScopedId>();
+
+    for (var place : current.values()) {
+      var previousPlace = previous.get(place.id());
+      if (previousPlace == null) {
+        added.add(place);
+      } else if (hasMoved(previousPlace, place)) {
+        removed.add(place.id());
+        added.add(place);
+      } else if (!previousPlace.equals(place)) {
+        changed.add(place);
+      }
+    }
+    for (var id : previous.keySet()) {
+      if (!current.containsKey(id)) {
+        removed.add(id);
+      }
+    }
+    return new VehicleRentalPlaceDiff(added, changed, removed);
+  }
+
+  /**
+   * Remove all the previous places and add all the current places, to bring a graph which is out
+   * of sync with the previous places back in sync.
+   */
+  static VehicleRentalPlaceDiff replaceAll(
+    Map<FeedScopedId, VehicleRentalPlace> previous,
+    Map<FeedScopedId, VehicleRentalPlace> current
+  ) {
+    return new VehicleRentalPlaceDiff(
+      List.copyOf(current.values()),
+      List.of(),
+      List.copyOf(previous.keySet())
+    );
+  }
+
+  boolean isEmpty() {
+    return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return ToStringBuilder.of(VehicleRentalPlaceDiff.class)
+      .addColSize("added", added)
+      .addColSize("changed", changed)
+      .addColSize("removed", removed)
+      .toString();
+  }
+
+  private static boolean hasMoved(VehicleRentalPlace previous, VehicleRentalPlace current) {
+    return (
+      Double.compare(previous.latitude(), current.latitude()) != 0 ||
+      Double.compare(previous.longitude(), current.longitude()) != 0
+    );
+  }
+}
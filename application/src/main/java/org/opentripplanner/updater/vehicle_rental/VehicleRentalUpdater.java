@@ -6,16 +6,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import javax.annotation.Nullable;
 import org.opentripplanner.core.model.id.FeedScopedId;
+import org.opentripplanner.framework.application.OTPFeature;
 import org.opentripplanner.framework.retry.OtpRetry;
 import org.opentripplanner.framework.retry.OtpRetryBuilder;
 import org.opentripplanner.framework.retry.OtpRetryException;
 import org.opentripplanner.service.vehiclerental.VehicleRentalRepository;
 import org.opentripplanner.service.vehiclerental.model.GeofencingZone;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
+import org.opentripplanner.service.vehiclerental.model.VehicleRentalVehicle;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
 import org.opentripplanner.service.vehiclerental.street.StreetVehicleRentalLink;
 import org.opentripplanner.service.vehiclerental.street.VehicleRentalEdge;
 import org.opentripplanner.service.vehiclerental.street.VehicleRentalPlaceVertex;
@@ -57,12 +60,27 @@ public class VehicleRentalUpdater extends PollingGraphUpdater<StreetRealTimeUpda
   private final VehicleRentalDataSource source;
   private final String nameForLogging;
   private final boolean requireDropOffInsideBusinessArea;
+  private final boolean useFreeFloatingVehicleIndex;
 
+  // Only accessed by the polling thread, the last places and zones sent to the graph writer
+  private Map<FeedScopedId, VehicleRentalPlace> submittedPlaces = Map.of();
+  private Set<GeofencingZone> submittedGeofencingZones = Set.of();
+
+  /**
+   * Set by the graph writer thread if a diff could not be applied. The graph is then not in the
+   * state of the submitted places, so the next update replaces all places and zones instead of
+   * applying a diff.
+   */
+  private volatile boolean resyncRequired = false;
+
+  // Only accessed by the graph writer thread
   private Set<Vertex> latestBoundaryVertices = Set.of();
   private GeofencingZoneIndex latestZoneIndex;
   private Set<GeofencingZone> latestAppliedGeofencingZones = Set.of();
   private final Map<FeedScopedId, VehicleRentalPlaceVertex> verticesByStation = new HashMap<>();
   private final Map<FeedScopedId, DisposableEdgeCollection> tempEdgesByStation = new HashMap<>();
+  private final Map<FeedScopedId, FreeFloatingVehicleIndex.Entry> indexedVehicles = new HashMap<>();
+  private long indexVersion = 0;
   private final VertexLinker linker;
 
   private final VehicleRentalRepository service;
@@ -87,6 +105,7 @@ public class VehicleRentalUpdater extends PollingGraphUpdater<StreetRealTimeUpda
         GbfsVehicleRentalDataSourceParameters gbfs
       ? gbfs.requireDropOffInsideBusinessArea()
       : true;
+    this.useFreeFloatingVehicleIndex = OTPFeature.FreeFloatingVehicleIndex.isOn();
 
     // Creation of network linker library will not modify the graph
     this.linker = vertexLinker;
@@ -148,13 +167,36 @@ public class VehicleRentalUpdater extends PollingGraphUpdater<StreetRealTimeUpda
       LOG.debug("No updates from {}", nameForLogging);
       return;
     }
-    List<VehicleRentalPlace> stations = source.getUpdates();
-    var geofencingZones = source.getGeofencingZones();
+    var places = VehicleRentalPlaceDiff.byId(source.getUpdates());
+    var geofencingZones = Set.copyOf(source.getGeofencingZones());
+
+    boolean resync = resyncRequired;
+    if (resync) {
+      resyncRequired = false;
+      LOG.info("Replacing all rental places from {} after a failed update", nameForLogging);
+    }
+    var diff = resync
+      ? VehicleRentalPlaceDiff.replaceAll(submittedPlaces, places)
+      : VehicleRentalPlaceDiff.of(submittedPlaces, places);
+    submittedPlaces = places;
+
+    boolean zonesChanged =
+      !geofencingZones.isEmpty() && (resync || !geofencingZonesUnchanged(geofencingZones));
+    if (zonesChanged) {
+      submittedGeofencingZones = geofencingZones;
+    }
+
+    if (diff.isEmpty() && !zonesChanged) {
+      LOG.debug("No changes from {}", nameForLogging);
+      return;
+    }
+    LOG.debug("Applying {} from {}", diff, nameForLogging);
 
-    // Create graph writer runnable to apply these stations to the graph
+    // Create graph writer runnable to apply the changes to the graph
     VehicleRentalGraphWriterRunnable graphWriterRunnable = new VehicleRentalGraphWriterRunnable(
-      stations,
-      geofencingZones
+      diff,
+      zonesChanged ? geofencingZones : null,
+      resync
     );
     updateGraph(graphWriterRunnable);
   }
@@ -162,119 +204,203 @@ public class VehicleRentalUpdater extends PollingGraphUpdater<StreetRealTimeUpda
   private class VehicleRentalGraphWriterRunnable
     implements GraphWriterRunnable<StreetRealTimeUpdateContext> {
 
-    private final List<VehicleRentalPlace> stations;
+    private final VehicleRentalPlaceDiff diff;
+
+    /** The zones to apply, or null if the zones have not changed */
+    @Nullable
     private final Set<GeofencingZone> geofencingZones;
 
+    /** Remove all places in the graph before applying the diff, see {@link #resyncRequired} */
+    private final boolean resync;
+
     public VehicleRentalGraphWriterRunnable(
-      List<VehicleRentalPlace> stations,
-      List<GeofencingZone> geofencingZones
+      VehicleRentalPlaceDiff diff,
+      @Nullable Set<GeofencingZone> geofencingZones,
+      boolean resync
     ) {
-      this.stations = stations;
-      this.geofencingZones = Set.copyOf(geofencingZones);
+      this.diff = diff;
+      this.geofencingZones = geofencingZones;
+      this.resync = resync;
     }
 
     @Override
     public void run(StreetRealTimeUpdateContext context) {
-      // Apply stations to graph
-      Set<FeedScopedId> stationSet = new HashSet<>();
+      try {
+        apply(context);
+      } catch (RuntimeException e) {
+        resyncRequired = true;
+        throw e;
+      }
+    }
 
-      /* add any new stations and update vehicle counts for existing stations */
-      for (VehicleRentalPlace station : stations) {
-        service.addVehicleRentalStation(station);
-        stationSet.add(station.id());
-        VehicleRentalPlaceVertex vehicleRentalVertex = verticesByStation.get(station.id());
+    private void apply(StreetRealTimeUpdateContext context) {
+      /* remove stations that are gone or have moved, moved stations are added again below */
+      boolean indexChanged = false;
+      var removed = new HashSet<>(diff.removed());
+      if (resync) {
+        // A failed update may have added places which the polling thread does not know about
+        removed.addAll(verticesByStation.keySet());
+        removed.addAll(indexedVehicles.keySet());
+      }
+      for (FeedScopedId station : removed) {
+        service.removeVehicleRentalStation(station);
+        indexChanged |= indexedVehicles.remove(station) != null;
+        verticesByStation.remove(station);
+        DisposableEdgeCollection tempEdges = tempEdgesByStation.remove(station);
+        if (tempEdges != null) {
+          tempEdges.disposeEdges();
+        }
+      }
 
-        if (vehicleRentalVertex == null) {
-          vehicleRentalVertex = new VehicleRentalPlaceVertex(station);
-          context.graph().addVertex(vehicleRentalVertex);
-          DisposableEdgeCollection tempEdges = linker.linkVertexForRealTime(
-            vehicleRentalVertex,
-            new TraverseModeSet(TraverseMode.WALK),
-            LinkingDirection.BIDIRECTIONAL,
-            StreetVehicleRentalLink::createBidirectionalLinks
+      /* update vehicle counts for existing stations, their vertices are not relinked */
+      for (VehicleRentalPlace station : diff.changed()) {
+        service.addVehicleRentalStation(station);
+        var vertex = verticesByStation.get(station.id());
+        var entry = indexedVehicles.get(station.id());
+        if (vertex != null) {
+          vertex.setStation(station);
+        } else if (entry != null) {
+          // The vehicle has not moved, so the zones containing it are the same
+          indexedVehicles.put(
+            station.id(),
+            new FreeFloatingVehicleIndex.Entry(
+              (VehicleRentalVehicle) station,
+              entry.initialGeofencingZones()
+            )
           );
-          if (vehicleRentalVertex.getOutgoing().isEmpty()) {
-            // Copy reference to pass into lambda
-            var vrv = vehicleRentalVertex;
-            unlinkedPlaceThrottle.throttle(() ->
-              // the toString includes the text "Bike rental station"
-              LOG.warn(
-                "VehicleRentalPlace is unlinked for {}: {}  {}",
-                nameForLogging,
-                vrv,
-                unlinkedPlaceThrottle.setupInfo()
-              )
-            );
-          }
-          VehicleRentalEdge.createRentalEdgesForStation(vehicleRentalVertex, station, tempEdges);
-          verticesByStation.put(station.id(), vehicleRentalVertex);
-          tempEdgesByStation.put(station.id(), tempEdges);
-        } else {
-          vehicleRentalVertex.setStation(station);
+          indexChanged = true;
         }
       }
 
-      /* remove existing stations that were not present in the update */
-      List<FeedScopedId> toRemove = new ArrayList<>();
-      for (Entry<FeedScopedId, VehicleRentalPlaceVertex> entry : verticesByStation.entrySet()) {
-        FeedScopedId station = entry.getKey();
-        if (stationSet.contains(station)) {
-          continue;
+      /* add new stations, free-floating vehicles go into the index if it is used */
+      List<VehicleRentalPlaceVertex> addedVertices = new ArrayList<>(diff.added().size());
+      List<VehicleRentalVehicle> addedVehicles = new ArrayList<>();
+      for (VehicleRentalPlace station : diff.added()) {
+        service.addVehicleRentalStation(station);
+        if (useFreeFloatingVehicleIndex && station instanceof VehicleRentalVehicle vehicle) {
+          addedVehicles.add(vehicle);
+        } else {
+          addedVertices.add(addVertex(context, station));
         }
-        toRemove.add(station);
-        service.removeVehicleRentalStation(station);
-      }
-      for (FeedScopedId station : toRemove) {
-        // post-iteration removal to avoid concurrent modification
-        verticesByStation.remove(station);
-        tempEdgesByStation.get(station).disposeEdges();
-        tempEdgesByStation.remove(station);
       }
 
-      if (!geofencingZones.isEmpty() && !geofencingZonesUnchanged(geofencingZones)) {
-        LOG.info("Computing geofencing zones for {}", nameForLogging);
-        var start = System.currentTimeMillis();
-
-        latestBoundaryVertices.forEach(vertex ->
-          vertex.removeGeofencingBoundariesForZones(latestAppliedGeofencingZones)
-        );
-
-        var graph = context.graph();
-        // Use REQUEST scope to query both permanent and realtime edges.
-        // Realtime edges are created by station linking (above) and must be
-        // included so split vertices on those edges get boundary extensions.
-        var applier = new GeofencingZoneApplier(
-          ls -> graph.findEdgesAlongLineStrings(ls, Scope.REQUEST),
-          env -> graph.findEdges(env, Scope.REQUEST),
-          requireDropOffInsideBusinessArea
-        );
-        var result = applier.applyGeofencingZones(geofencingZones);
-        latestBoundaryVertices = result.boundaryVertices();
-        latestZoneIndex = result.zoneIndex();
-        latestAppliedGeofencingZones = geofencingZones;
-        // A network has one source of zones, so registering under it replaces any earlier index.
-        // One updater serves one GBFS feed, so every zone here carries the same resolved system id.
-        var network = geofencingZones.iterator().next().id().getFeedId();
-        service.setGeofencingZoneIndex(network, latestZoneIndex);
-
-        var end = System.currentTimeMillis();
-        var millis = Duration.ofMillis(end - start);
-        LOG.info(
-          "Geofencing zones computation took {}. {} boundary vertices. For {}",
-          DurationUtils.durationToStr(millis),
-          latestBoundaryVertices.size(),
-          nameForLogging
-        );
+      if (geofencingZones != null) {
+        applyGeofencingZones(context, geofencingZones);
       }
 
       // Seed from the repository rather than from the zones computed above: a network in the
       // permanent phase has an index there, rebuilt from the graph, but computes none here.
-      // Runs on every update because vertices are recreated as vehicles come and go.
+      // The index only changes with the zones, so otherwise only the new vertices are resolved.
       GeofencingZoneApplier.preResolveVertexZones(
-        verticesByStation.values(),
+        geofencingZones == null ? addedVertices : verticesByStation.values(),
+        service,
+        requireDropOffInsideBusinessArea
+      );
+
+      if (
+        useFreeFloatingVehicleIndex &&
+        (indexChanged || !addedVehicles.isEmpty() || geofencingZones != null)
+      ) {
+        updateFreeFloatingVehicleIndex(addedVehicles, geofencingZones != null);
+      }
+    }
+
+    /**
+     * Add the new vehicles to the index, and publish a new snapshot of it. Like for the vertices,
+     * the zones containing the vehicles are only resolved again for all of them if the zones have
+     * changed. The snapshot replaces the previous one in the repository, requests in progress keep
+     * using the one they started with.
+     */
+    private void updateFreeFloatingVehicleIndex(
+      List<VehicleRentalVehicle> addedVehicles,
+      boolean zonesChanged
+    ) {
+      if (zonesChanged) {
+        indexedVehicles.replaceAll((id, entry) -> indexEntry(entry.vehicle()));
+      }
+      for (var vehicle : addedVehicles) {
+        indexedVehicles.put(vehicle.id(), indexEntry(vehicle));
+      }
+      var index = new FreeFloatingVehicleIndex(++indexVersion, indexedVehicles.values());
+      service.setFreeFloatingVehicleIndex(nameForLogging, index);
+      LOG.debug("Published {} for {}", index, nameForLogging);
+    }
+
+    private FreeFloatingVehicleIndex.Entry indexEntry(VehicleRentalVehicle vehicle) {
+      var zones = GeofencingZoneApplier.resolveInitialZones(
+        vehicle,
         service,
         requireDropOffInsideBusinessArea
       );
+      return new FreeFloatingVehicleIndex.Entry(vehicle, zones);
+    }
+
+    private VehicleRentalPlaceVertex addVertex(
+      StreetRealTimeUpdateContext context,
+      VehicleRentalPlace station
+    ) {
+      var vehicleRentalVertex = new VehicleRentalPlaceVertex(station);
+      context.graph().addVertex(vehicleRentalVertex);
+      DisposableEdgeCollection tempEdges = linker.linkVertexForRealTime(
+        vehicleRentalVertex,
+        new TraverseModeSet(TraverseMode.WALK),
+        LinkingDirection.BIDIRECTIONAL,
+        StreetVehicleRentalLink::createBidirectionalLinks
+      );
+      if (vehicleRentalVertex.getOutgoing().isEmpty()) {
+        unlinkedPlaceThrottle.throttle(() ->
+          // the toString includes the text "Bike rental station"
+          LOG.warn(
+            "VehicleRentalPlace is unlinked for {}: {}  {}",
+            nameForLogging,
+            vehicleRentalVertex,
+            unlinkedPlaceThrottle.setupInfo()
+          )
+        );
+      }
+      VehicleRentalEdge.createRentalEdgesForStation(vehicleRentalVertex, station, tempEdges);
+      verticesByStation.put(station.id(), vehicleRentalVertex);
+      tempEdgesByStation.put(station.id(), tempEdges);
+      return vehicleRentalVertex;
+    }
+
+    private void applyGeofencingZones(
+      StreetRealTimeUpdateContext context,
+      Set<GeofencingZone> geofencingZones
+    ) {
+      LOG.info("Computing geofencing zones for {}", nameForLogging);
+      var start = System.currentTimeMillis();
+
+      latestBoundaryVertices.forEach(vertex ->
+        vertex.removeGeofencingBoundariesForZones(latestAppliedGeofencingZones)
+      );
+
+      var graph = context.graph();
+      // Use REQUEST scope to query both permanent and realtime edges.
+      // Realtime edges are created by station linking (above) and must be
+      // included so split vertices on those edges get boundary extensions.
+      var applier = new GeofencingZoneApplier(
+        ls -> graph.findEdgesAlongLineStrings(ls, Scope.REQUEST),
+        env -> graph.findEdges(env, Scope.REQUEST),
+        requireDropOffInsideBusinessArea
+      );
+      var result = applier.applyGeofencingZones(geofencingZones);
+      latestBoundaryVertices = result.boundaryVertices();
+      latestZoneIndex = result.zoneIndex();
+      latestAppliedGeofencingZones = geofencingZones;
+      // A network has one source of zones, so registering under it replaces any earlier index.
+      // One updater serves one GBFS feed, so every zone here carries the same resolved system id.
+      var network = geofencingZones.iterator().next().id().getFeedId();
+      service.setGeofencingZoneIndex(network, latestZoneIndex);
+
+      var end = System.currentTimeMillis();
+      var millis = Duration.ofMillis(end - start);
+      LOG.info(
+        "Geofencing zones computation took {}. {} boundary vertices. For {}",
+        DurationUtils.durationToStr(millis),
+        latestBoundaryVertices.size(),
+        nameForLogging
+      );
     }
   }
 
@@ -284,15 +410,13 @@ public class VehicleRentalUpdater extends PollingGraphUpdater<StreetRealTimeUpda
    * {@link GeofencingZone#isEquivalentTo} to detect geometry or restriction changes.
    */
   private boolean geofencingZonesUnchanged(Set<GeofencingZone> incoming) {
-    if (incoming.size() != latestAppliedGeofencingZones.size()) {
+    if (incoming.size() != submittedGeofencingZones.size()) {
       return false;
     }
+    Map<GeofencingZone, GeofencingZone> submitted = new HashMap<>();
+    submittedGeofencingZones.forEach(zone -> submitted.put(zone, zone));
     for (var zone : incoming) {
-      var match = latestAppliedGeofencingZones
-        .stream()
-        .filter(z -> z.equals(zone))
-        .findFirst()
-        .orElse(null);
+      var match = submitted.get(zone);
       if (match == null || !zone.isEquivalentTo(match)) {
         return false;
       }
@@ -46,6 +46,16 @@ public class TransitTuningParametersTestFactory {
         return 5;
       }
 
+      @Override
+      public long accessEgressCacheMaxStates() {
+        return 1000;
+      }
+
+      @Override
+      public int accessEgressThreadPoolSize() {
+        return 0;
+      }
+
       @Override
       public Duration maxSearchWindow() {
         return Duration.ofHours(24);
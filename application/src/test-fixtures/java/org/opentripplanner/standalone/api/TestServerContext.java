@@ -221,6 +221,8 @@ public class TestServerContext {
       createWorldEnvelopeService(),
       null,
       null,
+      null,
+      null,
       createEmissionsItineraryDecorator(),
       createStreetDetailsService(),
       null,
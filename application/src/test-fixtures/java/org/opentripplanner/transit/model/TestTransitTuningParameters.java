@@ -23,6 +23,16 @@ class TestTransitTuningParameters implements TransitTuningParameters {
     return 0;
   }
 
+  @Override
+  public long accessEgressCacheMaxStates() {
+    return 0;
+  }
+
+  @Override
+  public int accessEgressThreadPoolSize() {
+    return 0;
+  }
+
   @Override
   public Duration maxSearchWindow() {
     return null;
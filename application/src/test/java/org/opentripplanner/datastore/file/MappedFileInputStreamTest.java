@@ -0,0 +1,84 @@
+package org.opentripplanner.datastore.file;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedFileInputStreamTest {
+
+  private static final byte[] DATA = { 1, 2, 3, (byte) 0xFF, 5, 6, 7 };
+
+  @TempDir
+  File tempDir;
+
+  @Test
+  void readAllBytes() throws IOException {
+    try (var subject = MappedFileInputStream.open(file(DATA))) {
+      assertEquals(DATA.length, subject.available());
+      assertArrayEquals(DATA, subject.readAllBytes());
+      assertEquals(0, subject.available());
+      assertEquals(-1, subject.read());
+    }
+  }
+
+  @Test
+  void readSingleBytesAndChunks() throws IOException {
+    try (var subject = MappedFileInputStream.open(file(DATA))) {
+      assertEquals(1, subject.read());
+      assertEquals(2, subject.skip(2));
+      assertEquals(0xFF, subject.read());
+
+      var buffer = new byte[5];
+      assertEquals(3, subject.read(buffer, 1, 4));
+      assertArrayEquals(new byte[] { 0, 5, 6, 7, 0 }, buffer);
+      assertEquals(-1, subject.read(buffer, 0, 5));
+    }
+  }
+
+  @Test
+  void markAndReset() throws IOException {
+    try (var subject = MappedFileInputStream.open(file(DATA))) {
+      subject.skip(2);
+      subject.mark(0);
+      assertEquals(3, subject.read());
+      subject.reset();
+      assertEquals(3, subject.read());
+    }
+  }
+
+  @Test
+  void emptyFile() throws IOException {
+    try (var subject = MappedFileInputStream.open(file(new byte[0]))) {
+      assertEquals(-1, subject.read());
+    }
+  }
+
+  @Test
+  void readAfterClose() throws IOException {
+    var subject = MappedFileInputStream.open(file(DATA));
+    subject.close();
+    // Closing twice is allowed
+    subject.close();
+    assertThrows(IOException.class, subject::read);
+  }
+
+  @Test
+  void fileNotFound() {
+    assertThrows(NoSuchFileException.class, () ->
+      MappedFileInputStream.open(new File(tempDir, "missing.obj"))
+    );
+  }
+
+  private File file(byte[] content) throws IOException {
+    var file = new File(tempDir, "graph.obj");
+    Files.write(file.toPath(), content);
+    return file;
+  }
+}
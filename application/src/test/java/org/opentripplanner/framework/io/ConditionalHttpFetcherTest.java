@@ -0,0 +1,130 @@
+package org.opentripplanner.framework.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class ConditionalHttpFetcherTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ConditionalHttpFetcherTest.class);
+  private static final OtpHttpClient OTP_HTTP_CLIENT = new OtpHttpClientFactory().create(LOG);
+  private static final OtpHttpClient.ResponseMapper<String> TO_STRING = response ->
+    new String(response.body().readAllBytes(), StandardCharsets.UTF_8);
+
+  private HttpServer server;
+  private String body = "A";
+  private String lastIfNoneMatch;
+  private String lastIfModifiedSince;
+  private int notModifiedCount = 0;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+    // The ETag is the body, and the server responds 304 if it matches
+    server.createContext("/etag", exchange -> {
+      lastIfNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+      if (etag().equals(lastIfNoneMatch)) {
+        ++notModifiedCount;
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+        return;
+      }
+      exchange.getResponseHeaders().add("ETag", etag());
+      send(exchange);
+    });
+
+    // Always sends the body, but with a Last-Modified header
+    server.createContext("/last-modified", exchange -> {
+      lastIfModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+      exchange.getResponseHeaders().add("Last-Modified", "Wed, 01 May 2024 12:00:00 GMT");
+      send(exchange);
+    });
+
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  void notModified() {
+    var subject = fetcher("/etag");
+
+    assertEquals(Optional.of("A"), subject.fetch(HttpHeaders.empty(), TO_STRING));
+    assertEquals(Optional.empty(), subject.fetch(HttpHeaders.empty(), TO_STRING));
+    assertEquals(etag(), lastIfNoneMatch);
+    assertEquals(1, notModifiedCount);
+
+    body = "B";
+    assertEquals(Optional.of("B"), subject.fetch(HttpHeaders.empty(), TO_STRING));
+  }
+
+  @Test
+  void unchangedBody() {
+    var subject = fetcher("/last-modified");
+
+    assertEquals(Optional.of("A"), subject.fetch(HttpHeaders.empty(), TO_STRING));
+    assertEquals(Optional.empty(), subject.fetch(HttpHeaders.empty(), TO_STRING));
+    assertEquals("Wed, 01 May 2024 12:00:00 GMT", lastIfModifiedSince);
+
+    body = "B";
+    assertEquals(Optional.of("B"), subject.fetch(HttpHeaders.empty(), TO_STRING));
+  }
+
+  @Test
+  void fetchAgainAfterMappingFails() {
+    var subject = fetcher("/etag");
+
+    assertThrows(OtpHttpClientException.class, () ->
+      subject.fetch(HttpHeaders.empty(), response -> {
+        throw new IllegalStateException("Invalid feed");
+      })
+    );
+    assertEquals(Optional.of("A"), subject.fetch(HttpHeaders.empty(), TO_STRING));
+    assertNull(lastIfNoneMatch);
+  }
+
+  @Test
+  void reset() {
+    var subject = fetcher("/last-modified");
+
+    assertEquals(Optional.of("A"), subject.fetch(HttpHeaders.empty(), TO_STRING));
+    subject.reset();
+    assertEquals(Optional.of("A"), subject.fetch(HttpHeaders.empty(), TO_STRING));
+    assertNull(lastIfModifiedSince);
+  }
+
+  private ConditionalHttpFetcher fetcher(String path) {
+    var uri = URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    return new ConditionalHttpFetcher(OTP_HTTP_CLIENT, uri, "test");
+  }
+
+  private String etag() {
+    return "\"" + body + "\"";
+  }
+
+  private void send(HttpExchange exchange) throws IOException {
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(bytes);
+    }
+  }
+}
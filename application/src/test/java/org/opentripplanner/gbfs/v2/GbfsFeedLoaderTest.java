@@ -134,6 +134,7 @@ class GbfsFeedLoaderTest {
 
   private static GbfsFeedLoader createLoader(String url, String languageCode) {
     return GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(url, HttpHeaders.empty(), OTP_HTTP_CLIENT),
       HttpHeaders.empty(),
       languageCode,
@@ -47,6 +47,7 @@ class GbfsFeedMapperTest {
       LoggerFactory.getLogger(GbfsFeedMapperTest.class)
     );
     var loader = GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(params.url(), params.httpHeaders(), otpHttpClient),
       params.httpHeaders(),
       params.language(),
@@ -258,6 +259,7 @@ class GbfsFeedMapperTest {
       LoggerFactory.getLogger(GbfsFeedMapperTest.class)
     );
     var loader = GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(params.url(), params.httpHeaders(), otpHttpClient),
       params.httpHeaders(),
       params.language(),
@@ -321,6 +323,7 @@ class GbfsFeedMapperTest {
       LoggerFactory.getLogger(GbfsFeedMapperTest.class)
     );
     var loader = GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(params.url(), params.httpHeaders(), otpHttpClient),
       params.httpHeaders(),
       params.language(),
@@ -352,6 +355,7 @@ class GbfsFeedMapperTest {
       LoggerFactory.getLogger(GbfsFeedMapperTest.class)
     );
     var loader = GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(params.url(), params.httpHeaders(), otpHttpClient),
       params.httpHeaders(),
       params.language(),
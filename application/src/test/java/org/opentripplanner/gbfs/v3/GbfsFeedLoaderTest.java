@@ -33,6 +33,7 @@ class GbfsFeedLoaderTest {
   @Test
   void getV30Feed() {
     GbfsFeedLoader loader = GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(
         "file:src/test/resources/gbfs/ridecheck/almere/gbfs.json",
         HttpHeaders.empty(),
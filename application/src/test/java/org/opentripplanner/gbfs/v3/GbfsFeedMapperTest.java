@@ -49,6 +49,7 @@ class GbfsFeedMapperTest {
       LoggerFactory.getLogger(GbfsFeedMapperTest.class)
     );
     var loader = GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(params.url(), params.httpHeaders(), otpHttpClient),
       params.httpHeaders(),
       otpHttpClient
@@ -225,6 +226,7 @@ class GbfsFeedMapperTest {
       LoggerFactory.getLogger(GbfsFeedMapperTest.class)
     );
     var loader = GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(params.url(), params.httpHeaders(), otpHttpClient),
       params.httpHeaders(),
       otpHttpClient
@@ -255,6 +257,7 @@ class GbfsFeedMapperTest {
       LoggerFactory.getLogger(GbfsFeedMapperTest.class)
     );
     var loader = GbfsFeedLoader.create(
+      "test",
       GbfsAutoConfiguration.fetch(params.url(), params.httpHeaders(), otpHttpClient),
       params.httpHeaders(),
       otpHttpClient
@@ -19,8 +19,10 @@ import org.opentripplanner.transit.model.network.BikeAccess;
 import org.opentripplanner.transit.model.network.CarAccess;
 import org.opentripplanner.transit.model.network.StopPattern;
 import org.opentripplanner.transit.model.network.TripPattern;
+import org.opentripplanner.transit.model.site.RegularStop;
 import org.opentripplanner.transit.model.site.Station;
 import org.opentripplanner.transit.model.timetable.ScheduledTripTimes;
+import org.opentripplanner.transit.service.SiteRepository;
 
 /**
  * <img src="DirectTransferGeneratorTest.drawio.png" />
@@ -34,6 +36,8 @@ class DirectTransferGeneratorTestData extends GraphRoutingTest {
   private boolean noTransfersOnStationA = false;
   private boolean graphHasStreets = false;
   private boolean includeCarFerryTrips = false;
+  private boolean withStopAccess = false;
+  private SiteRepository siteRepository;
   private RegularTransferParameters.Builder regularTransferParameters =
     RegularTransferParameters.of().withMaxDuration(MAX_TRANSFER_DURATION);
 
@@ -62,6 +66,11 @@ class DirectTransferGeneratorTestData extends GraphRoutingTest {
     return this;
   }
 
+  public DirectTransferGeneratorTestData withStopAccess() {
+    this.withStopAccess = true;
+    return this;
+  }
+
   public DirectTransferGeneratorTestData withMaxDuration(Duration value) {
     this.regularTransferParameters.withMaxDuration(value);
     return this;
@@ -92,9 +101,26 @@ class DirectTransferGeneratorTestData extends GraphRoutingTest {
       regularTransferParameters.build()
     ).buildGraph();
 
+    if (withStopAccess) {
+      new StopAccessGenerator(
+        model.graph(),
+        model.transitRepository(),
+        model.transferRepository(),
+        regularTransferParameters.build().requests()
+      ).buildGraph();
+    }
+    siteRepository = model.transitRepository().getSiteRepository();
+
     return model.transferRepository();
   }
 
+  /**
+   * Find a stop by id, this can only be used after {@link #build()}.
+   */
+  RegularStop stop(String id) {
+    return siteRepository.getRegularStop(FeedScopedIdForTestFactory.id(id));
+  }
+
   static DirectTransferGeneratorTestData of() {
     return new DirectTransferGeneratorTestData();
   }
@@ -0,0 +1,88 @@
+package org.opentripplanner.graph_builder.module.transfer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.graph_builder.module.transfer.PathTransferToString.pathToString;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.routing.api.request.RouteRequest;
+
+class StopAccessGeneratorTest {
+
+  private static final RouteRequest REQUEST = RouteRequest.defaultValue();
+
+  @Test
+  void stopAccessAndEgress() {
+    var data = DirectTransferGeneratorTestData.of()
+      .withStreetGraph()
+      .withStopAccess()
+      .withTransferRequests(REQUEST);
+    var repository = data.build();
+
+    assertEquals(
+      """
+       S0 - S11, 100m
+       S0 - S12, 200m
+       S0 - S21, 100m
+       S0 - S22, 200m
+       S0 - S23, 300m""",
+      pathToString(repository.findStopAccess(data.stop("S0")))
+    );
+    assertEquals(
+      """
+       S0 - S22, 200m
+      S11 - S22, 110m
+      S12 - S22, 110m
+      S13 - S22, 210m""",
+      pathToString(repository.findStopEgress(data.stop("S22")))
+    );
+    // The streets are one-way, so there is no egress to S0
+    assertEquals("<Empty>", pathToString(repository.findStopEgress(data.stop("S0"))));
+  }
+
+  @Test
+  void noStopAccessWithoutStreets() {
+    var data = DirectTransferGeneratorTestData.of().withStopAccess().withTransferRequests(REQUEST);
+    var repository = data.build();
+
+    assertTrue(repository.stopAccessParameters().isEmpty());
+    assertEquals("<Empty>", pathToString(repository.findStopAccess(data.stop("S0"))));
+  }
+
+  @Test
+  void stopAccessParameters() {
+    var repository = DirectTransferGeneratorTestData.of()
+      .withStreetGraph()
+      .withStopAccess()
+      .withTransferRequests(REQUEST)
+      .build();
+
+    var parameters = repository.stopAccessParameters().orElseThrow();
+    var maxDuration = parameters.maxDuration();
+
+    assertTrue(parameters.canBeUsedFor(REQUEST, maxDuration));
+    assertTrue(parameters.canBeUsedFor(REQUEST, maxDuration.minusMinutes(1)));
+    assertFalse(parameters.canBeUsedFor(REQUEST, maxDuration.plus(Duration.ofMinutes(1))));
+
+    var slowWalk = RouteRequest.of()
+      .withPreferences(p -> p.withWalk(w -> w.withSpeed(0.5)))
+      .buildDefault();
+    assertFalse(parameters.canBeUsedFor(slowWalk, maxDuration));
+
+    var elevatorBoardCost = RouteRequest.of()
+      .withPreferences(p -> p.withStreet(s -> s.withElevator(e -> e.withBoardCost(300))))
+      .buildDefault();
+    assertFalse(parameters.canBeUsedFor(elevatorBoardCost, maxDuration));
+
+    var wheelchair = RouteRequest.of().withJourney(j -> j.withWheelchair(true)).buildDefault();
+    assertFalse(parameters.canBeUsedFor(wheelchair, maxDuration));
+
+    // The wheelchair preferences are only used by wheelchair searches
+    var stairsReluctance = RouteRequest.of()
+      .withPreferences(p -> p.withWheelchair(w -> w.withStairsReluctance(200)))
+      .buildDefault();
+    assertTrue(parameters.canBeUsedFor(stairsReluctance, maxDuration));
+  }
+}
@@ -228,6 +228,65 @@ class StreetNearbyStopFinderTest extends GraphRoutingTest {
     assertStopAtDistance(stopC, 200, sortedNearbyStops.get(0));
   }
 
+  @Test
+  void testBatchedSearch() {
+    // Walk speed is 1 m/s, so the walk search only reaches one extra stop, while the flexible
+    // search is limited by the stop count
+    var routeRequest = RouteRequest.of()
+      .withPreferences(b -> b.withWalk(w -> w.withSpeed(1.0)))
+      .buildDefault();
+    var searches = List.of(
+      new NearbyStopSearch(StreetMode.WALK, Duration.ofSeconds(101), 0),
+      new NearbyStopSearch(StreetMode.FLEXIBLE, Duration.ofMinutes(10), 3)
+    );
+
+    var finder = StreetNearbyStopFinder.of(linkingContextFactory).build();
+    var result = finder.findNearbyStops(Set.of(stopA), routeRequest, searches, false);
+
+    var walkStops = sort(result.get(StreetMode.WALK));
+    assertThat(walkStops).hasSize(2);
+    assertZeroDistanceStop(stopA, walkStops.get(0));
+    assertStopAtDistance(stopB, 100, walkStops.get(1));
+
+    var flexibleStops = sort(result.get(StreetMode.FLEXIBLE));
+    assertThat(flexibleStops).hasSize(3);
+    assertZeroDistanceStop(stopA, flexibleStops.get(0));
+    assertStopAtDistance(stopB, 100, flexibleStops.get(1));
+    assertStopAtDistance(stopC, 200, flexibleStops.get(2));
+
+    // The states of each mode are kept apart
+    for (var mode : List.of(StreetMode.WALK, StreetMode.FLEXIBLE)) {
+      for (var stop : result.get(mode)) {
+        assertEquals(mode, stop.state.getRequest().mode());
+      }
+    }
+  }
+
+  @Test
+  void testBatchedSearchSameAsSingleSearch() {
+    var durationLimit = Duration.ofMinutes(10);
+    var finder = StreetNearbyStopFinder.of(linkingContextFactory)
+      .withIgnoreVertices(Set.of(stopB))
+      .build();
+
+    var single = finder.findNearbyStops(
+      Set.of(stopA),
+      RouteRequest.defaultValue(),
+      StreetMode.WALK,
+      true,
+      durationLimit,
+      2
+    );
+    var batched = finder.findNearbyStops(
+      Set.of(stopA),
+      RouteRequest.defaultValue(),
+      List.of(new NearbyStopSearch(StreetMode.WALK, durationLimit, 2)),
+      true
+    );
+
+    assertEquals(simplify(sort(single)), simplify(sort(batched.get(StreetMode.WALK))));
+  }
+
   static List<NearbyStop> sort(Collection<NearbyStop> stops) {
     return stops.stream().sorted(Comparator.comparing(x -> x.distance)).toList();
   }
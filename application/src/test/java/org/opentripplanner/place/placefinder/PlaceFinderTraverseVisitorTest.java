@@ -9,12 +9,18 @@ import static org.opentripplanner.transit.model._data.TransitRepositoryForTest.r
 import static org.opentripplanner.transit.model._data.TransitRepositoryForTest.tripPattern;
 
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.opentripplanner.core.model.i18n.NonLocalizedString;
+import org.opentripplanner.core.model.id.FeedScopedId;
 import org.opentripplanner.model.StopTime;
 import org.opentripplanner.place.api.PlaceAtDistance;
 import org.opentripplanner.place.api.PlaceType;
+import org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder;
 import org.opentripplanner.service.vehiclerental.model.TestVehicleRentalStationBuilder;
+import org.opentripplanner.service.vehiclerental.model.VehicleRentalVehicle;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex.Entry;
 import org.opentripplanner.street.geometry.WgsCoordinate;
 import org.opentripplanner.street.search.state.TestStateBuilder;
 import org.opentripplanner.transit.model._data.TransitRepositoryForTest;
@@ -99,6 +105,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       null,
+      List.of(),
       1,
       500
     );
@@ -128,6 +135,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       null,
+      List.of(),
       1,
       500
     );
@@ -157,6 +165,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       null,
+      List.of(),
       1,
       500
     );
@@ -189,6 +198,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       null,
+      List.of(),
       1,
       500
     );
@@ -224,6 +234,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       null,
+      List.of(),
       1,
       500
     );
@@ -258,6 +269,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       null,
+      List.of(),
       1,
       500
     );
@@ -294,6 +306,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       null,
+      List.of(),
       1,
       500
     );
@@ -318,6 +331,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       List.of("Network-1"),
+      List.of(),
       1,
       500
     );
@@ -339,6 +353,7 @@ public class PlaceFinderTraverseVisitorTest {
       null,
       null,
       List.of("Network-2"),
+      List.of(),
       1,
       500
     );
@@ -351,4 +366,73 @@ public class PlaceFinderTraverseVisitorTest {
 
     assertEquals(List.of(), res);
   }
+
+  @Test
+  void freeFloatingVehicleInIndex() {
+    var state = TestStateBuilder.ofWalking().streetEdge().build();
+    var vertex = state.getVertex();
+    var near = vehicle("near", vertex.getLat() + 0.0002, vertex.getLon());
+    var outside = vehicle("outside", vertex.getLat() + 0.01, vertex.getLon());
+    var index = new FreeFloatingVehicleIndex(
+      1,
+      List.of(new Entry(near, Set.of()), new Entry(outside, Set.of()))
+    );
+
+    var visitor = new PlaceFinderTraverseVisitor(
+      transitService,
+      null,
+      List.of(PlaceType.VEHICLE_RENT),
+      null,
+      null,
+      null,
+      null,
+      null,
+      List.of(index),
+      10,
+      500
+    );
+    visitor.visitVertex(state);
+
+    assertEquals(1, visitor.placesFound.size());
+    var found = visitor.placesFound.getFirst();
+    assertEquals(near, found.place());
+    // The straight-line distance from the vertex to the vehicle is added
+    assertEquals(state.getTraversalDistanceMeters() + 22, found.distance(), 1);
+  }
+
+  @Test
+  void freeFloatingVehicleInIndexWithNetworksFilter() {
+    var state = TestStateBuilder.ofWalking().streetEdge().build();
+    var vertex = state.getVertex();
+    var vehicle = vehicle("v1", vertex.getLat(), vertex.getLon());
+    var index = new FreeFloatingVehicleIndex(1, List.of(new Entry(vehicle, Set.of())));
+
+    var visitor = new PlaceFinderTraverseVisitor(
+      transitService,
+      null,
+      List.of(PlaceType.VEHICLE_RENT),
+      null,
+      null,
+      null,
+      null,
+      List.of("Network-2"),
+      List.of(index),
+      10,
+      500
+    );
+    visitor.visitVertex(state);
+
+    assertEquals(List.of(), visitor.placesFound);
+  }
+
+  private static VehicleRentalVehicle vehicle(String id, double lat, double lon) {
+    return TestFreeFloatingRentalVehicleBuilder.of()
+      .withVehicleScooter()
+      .withLatitude(lat)
+      .withLongitude(lon)
+      .build()
+      .copyOf()
+      .withId(new FeedScopedId(TestFreeFloatingRentalVehicleBuilder.NETWORK_1, id))
+      .build();
+  }
 }
@@ -34,6 +34,24 @@ public class TestTripSearchTimetable implements TripSearchTimetable<TestTripSche
     return trips.length;
   }
 
+  @Override
+  public int[] arrivalTimes(int stopPositionInPattern) {
+    int[] times = new int[trips.length];
+    for (int i = 0; i < trips.length; ++i) {
+      times[i] = trips[i].arrival(stopPositionInPattern);
+    }
+    return times;
+  }
+
+  @Override
+  public int[] departureTimes(int stopPositionInPattern) {
+    int[] times = new int[trips.length];
+    for (int i = 0; i < trips.length; ++i) {
+      times[i] = trips[i].departure(stopPositionInPattern);
+    }
+    return times;
+  }
+
   @Override
   public int arrivalTime(int stopPositionInPattern, int tripIndex) {
     return trips[tripIndex].arrival(stopPositionInPattern);
@@ -1,7 +1,14 @@
 package org.opentripplanner.routing.algorithm.mapping;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder.NETWORK_1;
+import static org.opentripplanner.street.model.StreetModelForTest.intersectionVertex;
+import static org.opentripplanner.street.model.StreetModelForTest.streetEdge;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.opentripplanner._support.time.ZoneIds;
 import org.opentripplanner.model.plan.Leg;
@@ -9,14 +16,33 @@ import org.opentripplanner.model.plan.leg.StreetLeg;
 import org.opentripplanner.routing.api.request.RouteRequest;
 import org.opentripplanner.service.streetdetails.internal.DefaultStreetDetailsRepository;
 import org.opentripplanner.service.streetdetails.internal.DefaultStreetDetailsService;
+import org.opentripplanner.service.vehiclerental.model.RentalVehicleType.PropulsionType;
+import org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex.Entry;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicles;
 import org.opentripplanner.street.internal.notes.StreetNotesService;
+import org.opentripplanner.street.model.RentalFormFactor;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model.edge.StreetEdge;
 import org.opentripplanner.street.model.path.StreetPath;
+import org.opentripplanner.street.model.vertex.StreetVertex;
 import org.opentripplanner.street.search.TraverseMode;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.search.state.StateEditor;
 import org.opentripplanner.street.search.state.TestStateBuilder;
 import org.opentripplanner.transit.service.NoopSiteResolver;
 
 class StreetPathToLegsMapperTest {
 
+  private static final StreetVertex V0 = intersectionVertex(59.9, 10.7);
+  private static final StreetVertex V1 = intersectionVertex(59.901, 10.7);
+  private static final StreetVertex V2 = intersectionVertex(59.902, 10.7);
+  private static final StreetEdge E1 = streetEdge(V0, V1, 110, StreetTraversalPermission.ALL);
+  private static final StreetEdge E2 = streetEdge(V1, V2, 110, StreetTraversalPermission.ALL);
+
   @Test
   void testCarRentalPickUp() {
     var mapper = mapper();
@@ -30,7 +56,60 @@ class StreetPathToLegsMapperTest {
     assertEquals(TraverseMode.CAR, traverseMode(legs.get(1)));
   }
 
-  private TraverseMode traverseMode(Leg leg) {
+  @Test
+  void freeFloatingVehiclePickedUpOnStreet() {
+    var request = rentalRequest(false);
+    var pickup = Arrays.stream(E1.traverse(new State(V0, request)))
+      .filter(State::isRentingVehicle)
+      .findFirst()
+      .orElseThrow();
+    var state = E2.traverse(pickup)[0];
+
+    assertTrue(StreetPathToLegsMapper.isRentalPickUp(pickup));
+    assertScooterRentalLegs(mapper().map(new StreetPath(state), RouteRequest.defaultValue()));
+  }
+
+  @Test
+  void freeFloatingVehiclePickedUpOnStreetArriveBy() {
+    var request = rentalRequest(true);
+    var editor = new StateEditor(V2, request);
+    editor.dropFloatingVehicle(RentalFormFactor.SCOOTER, PropulsionType.ELECTRIC, null, true);
+    var riding = E2.traverse(editor.makeState())[0];
+    var state = Arrays.stream(E1.traverse(riding))
+      .filter(it -> !it.isRentingVehicle())
+      .findFirst()
+      .orElseThrow();
+
+    // The path of an arrive-by search is reversed
+    assertScooterRentalLegs(mapper().map(new StreetPath(state), RouteRequest.defaultValue()));
+  }
+
+  private static void assertScooterRentalLegs(List<Leg> legs) {
+    assertEquals(2, legs.size());
+    assertEquals(TraverseMode.WALK, traverseMode(legs.get(0)));
+    assertEquals(TraverseMode.SCOOTER, traverseMode(legs.get(1)));
+    assertTrue(legs.get(1).rentedVehicle());
+    assertEquals(NETWORK_1, legs.get(1).vehicleRentalNetwork());
+  }
+
+  /**
+   * A scooter rental request with a free-floating vehicle near V1, which is not in the graph.
+   */
+  private static StreetSearchRequest rentalRequest(boolean arriveBy) {
+    var vehicle = TestFreeFloatingRentalVehicleBuilder.of()
+      .withVehicleScooter()
+      .withLatitude(V1.getLat() + 0.0001)
+      .withLongitude(V1.getLon())
+      .build();
+    var index = new FreeFloatingVehicleIndex(1, List.of(new Entry(vehicle, Set.of())));
+    return StreetSearchRequest.of()
+      .withMode(StreetMode.SCOOTER_RENTAL)
+      .withArriveBy(arriveBy)
+      .withExtensionRequestContexts(List.of(new FreeFloatingVehicles(List.of(index))))
+      .build();
+  }
+
+  private static TraverseMode traverseMode(Leg leg) {
     return ((StreetLeg) leg).getMode();
   }
 
@@ -0,0 +1,169 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.router.street;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.opentripplanner.core.model.i18n.NonLocalizedString;
+import org.opentripplanner.core.model.id.FeedScopedId;
+import org.opentripplanner.model.GenericLocation;
+import org.opentripplanner.place.api.NearbyStop;
+import org.opentripplanner.place.nearbystopfinder.NearbyStopSearch;
+import org.opentripplanner.routing.api.request.RouteRequest;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.StreetModelForTest;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.TemporaryStreetLocation;
+import org.opentripplanner.street.model.vertex.Vertex;
+
+class AccessEgressCacheTest {
+
+  private static final Duration LIMIT = Duration.ofMinutes(10);
+  private static final Set<Vertex> PERMANENT = Set.of(StreetModelForTest.V1);
+  private static final NearbyStopSearch WALK = new NearbyStopSearch(StreetMode.WALK, LIMIT, 0);
+  private static final FeedScopedId STOP_ID = new FeedScopedId("F", "S1");
+  private static final Edge EDGE = StreetModelForTest.streetEdge(
+    StreetModelForTest.intersectionVertex(1, 1),
+    StreetModelForTest.intersectionVertex(1, 2)
+  );
+
+  private final AtomicInteger searchCount = new AtomicInteger();
+  private final AccessEgressCache subject = new AccessEgressCache(10, Duration.ofMinutes(1));
+  private int numberOfEdges = 0;
+
+  @Test
+  void isCacheable() {
+    assertTrue(AccessEgressCache.isCacheable(PERMANENT, List.of(WALK), false));
+
+    var temporary = new TemporaryStreetLocation(
+      new Coordinate(1, 1),
+      new NonLocalizedString("Origin")
+    );
+    assertFalse(AccessEgressCache.isCacheable(Set.of(temporary), List.of(WALK), false));
+    assertFalse(AccessEgressCache.isCacheable(Set.of(), List.of(WALK), false));
+    assertFalse(AccessEgressCache.isCacheable(PERMANENT, List.of(WALK), true));
+
+    for (var mode : List.of(StreetMode.BIKE_RENTAL, StreetMode.CAR_TO_PARK)) {
+      var searches = List.of(WALK, new NearbyStopSearch(mode, LIMIT, 0));
+      assertFalse(AccessEgressCache.isCacheable(PERMANENT, searches, false), mode.name());
+    }
+  }
+
+  @Test
+  void getReturnsCachedResult() {
+    var first = subject.get(key(AccessEgressType.ACCESS), this::search);
+    var second = subject.get(key(AccessEgressType.ACCESS), this::search);
+
+    assertSame(first, second);
+    assertEquals(1, searchCount.get());
+    assertEquals(1, subject.size());
+    assertEquals(1, subject.cache().stats().hitCount());
+  }
+
+  @Test
+  void differentKeys() {
+    subject.get(key(AccessEgressType.ACCESS), this::search);
+    subject.get(key(AccessEgressType.EGRESS), this::search);
+
+    assertEquals(2, searchCount.get());
+    assertEquals(2, subject.size());
+  }
+
+  @Test
+  void coordinatesAreOnlyPartOfTheKeyWhenDriving() {
+    var request = requestBetween(59.90, 10.70);
+    var otherDestination = requestBetween(59.95, 10.75);
+    var car = List.of(WALK, new NearbyStopSearch(StreetMode.CAR, LIMIT, 0));
+
+    assertEquals(
+      key(request, List.of(WALK), AccessEgressType.ACCESS),
+      key(otherDestination, List.of(WALK), AccessEgressType.ACCESS)
+    );
+    assertNotEquals(
+      key(request, car, AccessEgressType.ACCESS),
+      key(otherDestination, car, AccessEgressType.ACCESS)
+    );
+    assertEquals(
+      key(request, car, AccessEgressType.ACCESS),
+      key(requestBetween(59.90, 10.70), car, AccessEgressType.ACCESS)
+    );
+  }
+
+  @Test
+  void sizeIsLimitedByTheNumberOfStates() {
+    // One stop with a path of 10 edges is 11 states, more than the maximum of 10
+    numberOfEdges = 10;
+    subject.get(key(AccessEgressType.ACCESS), this::search);
+    subject.cache().cleanUp();
+
+    assertEquals(0, subject.size());
+  }
+
+  @Test
+  void searchWhichTimedOutIsNotCached() {
+    var request = RouteRequest.of()
+      .withPreferences(p -> p.withStreet(s -> s.withRoutingTimeout(Duration.ZERO)))
+      .buildDefault();
+    var key = key(request, AccessEgressType.ACCESS);
+
+    subject.get(key, this::search);
+    subject.get(key, this::search);
+
+    assertEquals(2, searchCount.get());
+    assertEquals(0, subject.size());
+  }
+
+  @Test
+  void resultCanNotBeModified() {
+    var result = subject.get(key(AccessEgressType.ACCESS), this::search);
+
+    assertThrows(UnsupportedOperationException.class, () -> result.remove(StreetMode.WALK));
+    assertThrows(UnsupportedOperationException.class, () -> result.get(StreetMode.WALK).clear());
+  }
+
+  private static AccessEgressCache.Key key(AccessEgressType type) {
+    return key(RouteRequest.defaultValue(), type);
+  }
+
+  private static AccessEgressCache.Key key(RouteRequest request, AccessEgressType type) {
+    return key(request, List.of(WALK), type);
+  }
+
+  private static AccessEgressCache.Key key(
+    RouteRequest request,
+    List<NearbyStopSearch> searches,
+    AccessEgressType type
+  ) {
+    return AccessEgressCache.Key.of(request, PERMANENT, Set.of(), searches, type);
+  }
+
+  /**
+   * A request from a fixed origin to the given destination.
+   */
+  private static RouteRequest requestBetween(double toLat, double toLon) {
+    return RouteRequest.of()
+      .withFrom(GenericLocation.fromCoordinate(59.85, 10.65))
+      .withTo(GenericLocation.fromCoordinate(toLat, toLon))
+      .buildRequest();
+  }
+
+  private Map<StreetMode, Collection<NearbyStop>> search() {
+    searchCount.incrementAndGet();
+    var stops = new ArrayList<NearbyStop>();
+    stops.add(new NearbyStop(STOP_ID, 0, Collections.nCopies(numberOfEdges, EDGE), null));
+    return Map.of(StreetMode.WALK, stops);
+  }
+}
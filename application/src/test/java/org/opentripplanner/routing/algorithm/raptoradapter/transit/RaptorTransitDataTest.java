@@ -96,12 +96,50 @@ class RaptorTransitDataTest {
     );
     var runningOnDate = raptorTransitData.getTripPatternsForRunningDate(date);
     assertEquals(1, runningOnDate.size());
-    assertEquals(tripPatterns, runningOnDate);
-    assertTrue(tripPatterns == runningOnDate);
+    assertEquals(tripPatterns, List.copyOf(runningOnDate));
     assertEquals(0, raptorTransitData.getTripPatternsForRunningDate(date.minusDays(1)).size());
     assertEquals(0, raptorTransitData.getTripPatternsForRunningDate(date.plusDays(1)).size());
   }
 
+  @Test
+  void testUpdateTripPatternsForDate() {
+    var date = LocalDate.of(2024, 1, 1);
+
+    var tripPatternForDate = new TripPatternForDate(
+      TRIP_PATTERN,
+      List.of(TRIP_TIMES),
+      List.of(),
+      date
+    );
+    var previousDay = new TripPatternForDate(
+      TRIP_PATTERN,
+      List.of(TRIP_TIMES),
+      List.of(),
+      date.minusDays(1)
+    );
+    var original = new RaptorTransitData(
+      Map.of(date, List.of(tripPatternForDate)),
+      null,
+      null,
+      null,
+      null,
+      null,
+      null,
+      null
+    );
+    var updated = new RaptorTransitData(original);
+    updated.updateTripPatternsForDate(date, List.of(tripPatternForDate), List.of(previousDay));
+    updated.updateTripPatternsForDate(date.plusDays(1), List.of(), List.of(previousDay));
+
+    assertEquals(List.of(previousDay), List.copyOf(updated.getTripPatternsForRunningDate(date)));
+    assertTrue(updated.getTripPatternsForRunningDate(date.plusDays(1)).isEmpty());
+    // The original is not changed
+    assertEquals(
+      List.of(tripPatternForDate),
+      List.copyOf(original.getTripPatternsForRunningDate(date))
+    );
+  }
+
   @Test
   void testGetTripPatternsOnServiceDateCopyWithSameRunningAndServiceDate() {
     var date = LocalDate.of(2024, 1, 1);
@@ -0,0 +1,111 @@
+package org.opentripplanner.routing.algorithm.raptoradapter.transit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.core.model.id.FeedScopedIdForTestFactory;
+import org.opentripplanner.model.StopTime;
+import org.opentripplanner.transit.model._data.TransitRepositoryForTest;
+import org.opentripplanner.transit.model.framework.Deduplicator;
+import org.opentripplanner.transit.model.network.RoutingTripPattern;
+import org.opentripplanner.transit.model.network.StopPattern;
+import org.opentripplanner.transit.model.network.TripPattern;
+import org.opentripplanner.transit.model.timetable.TripTimes;
+import org.opentripplanner.transit.model.timetable.TripTimesFactory;
+
+class TripPatternsRunningOnDateTest {
+
+  private static final TransitRepositoryForTest TEST_MODEL = TransitRepositoryForTest.of();
+  private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+  private static final RoutingTripPattern TRIP_PATTERN;
+  private static final TripTimes TRIP_TIMES;
+
+  static {
+    var stopTime = new StopTime();
+    stopTime.setStop(TEST_MODEL.stop("TEST:STOP", 0, 0).build());
+    var route = TransitRepositoryForTest.route("1").build();
+    TRIP_PATTERN = TripPattern.of(FeedScopedIdForTestFactory.id("P1"))
+      .withRoute(route)
+      .withStopPattern(new StopPattern(List.of(stopTime)))
+      .build()
+      .getRoutingTripPattern();
+    TRIP_TIMES = TripTimesFactory.tripTimes(
+      TransitRepositoryForTest.trip("1").withRoute(route).build(),
+      List.of(new StopTime()),
+      new Deduplicator()
+    );
+  }
+
+  @Test
+  void emptyCollection() {
+    var subject = TripPatternsRunningOnDate.of(List.of());
+    assertEquals(0, subject.size());
+    assertFalse(subject.iterator().hasNext());
+    assertSame(subject, subject.update(List.of(), List.of()));
+  }
+
+  @Test
+  void update() {
+    var patterns = tripPatterns(200);
+    var subject = TripPatternsRunningOnDate.of(patterns);
+
+    assertEquals(Set.copyOf(patterns), new HashSet<>(subject));
+    assertEquals(patterns.size(), subject.size());
+
+    var removed = patterns.subList(0, 10);
+    var added = tripPatterns(210).subList(200, 210);
+    var updated = subject.update(removed, added);
+
+    var expected = new HashSet<>(patterns);
+    removed.forEach(expected::remove);
+    expected.addAll(added);
+
+    assertEquals(expected, new HashSet<>(updated));
+    assertEquals(expected.size(), updated.size());
+    assertFalse(updated.contains(removed.getFirst()));
+    assertTrue(updated.contains(added.getFirst()));
+
+    // The original collection is not changed
+    assertEquals(Set.copyOf(patterns), new HashSet<>(subject));
+  }
+
+  @Test
+  void duplicatesAreNotAdded() {
+    var patterns = tripPatterns(3);
+    var subject = TripPatternsRunningOnDate.of(patterns).update(List.of(), patterns);
+    assertEquals(3, subject.size());
+    assertEquals(3, new ArrayList<>(subject).size());
+  }
+
+  @Test
+  void replaceEqualPattern() {
+    var pattern = tripPattern(0);
+    var replacement = tripPattern(0);
+    var subject = TripPatternsRunningOnDate.of(List.of(pattern)).update(
+      List.of(pattern),
+      List.of(replacement)
+    );
+    assertEquals(1, subject.size());
+    assertSame(replacement, subject.iterator().next());
+  }
+
+  private static List<TripPatternForDate> tripPatterns(int n) {
+    var list = new ArrayList<TripPatternForDate>();
+    for (int i = 0; i < n; ++i) {
+      list.add(tripPattern(i));
+    }
+    return list;
+  }
+
+  private static TripPatternForDate tripPattern(int day) {
+    return new TripPatternForDate(TRIP_PATTERN, List.of(TRIP_TIMES), List.of(), DATE.plusDays(day));
+  }
+}
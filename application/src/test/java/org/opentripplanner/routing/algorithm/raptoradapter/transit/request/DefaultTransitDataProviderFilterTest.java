@@ -2,6 +2,7 @@ package org.opentripplanner.routing.algorithm.raptoradapter.transit.request;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -237,6 +238,49 @@ class DefaultTransitDataProviderFilterTest {
     assertFalse(valid);
   }
 
+  @Test
+  void filtersFromEqualRequestsAreEqual() {
+    var request = RouteRequest.defaultValue()
+      .copyOf()
+      .withFrom(GenericLocation.fromCoordinate(0, 0))
+      .withTo(GenericLocation.fromCoordinate(0, 0))
+      .buildRequest();
+
+    var filter = DefaultTransitDataProviderFilter.ofRequest(request);
+    var other = DefaultTransitDataProviderFilter.ofRequest(request);
+
+    assertEquals(filter, other);
+    assertEquals(filter.hashCode(), other.hashCode());
+  }
+
+  @Test
+  void filtersWithDifferentSelectionAreNotEqual() {
+    var routeFilter = DefaultTransitDataProviderFilter.of()
+      .addFilter(
+        TransitFilterRequest.of()
+          .addNot(SelectRequest.of().withRoutes(List.of(ROUTE.getId())).build())
+          .build()
+      )
+      .build();
+    var sameRouteFilter = DefaultTransitDataProviderFilter.of()
+      .addFilter(
+        TransitFilterRequest.of()
+          .addNot(SelectRequest.of().withRoutes(List.of(ROUTE.getId())).build())
+          .build()
+      )
+      .build();
+    var modeFilter = DefaultTransitDataProviderFilter.of()
+      .withFilters(filterForMode(TransitMode.BUS))
+      .build();
+    var bannedTripFilter = DefaultTransitDataProviderFilter.of()
+      .withBannedTrips(Set.of(TRIP_ID))
+      .build();
+
+    assertEquals(routeFilter, sameRouteFilter);
+    assertNotEquals(routeFilter, modeFilter);
+    assertNotEquals(DefaultTransitDataProviderFilter.of().build(), bannedTripFilter);
+  }
+
   @Test
   void bannedTripFilteringTest() {
     var patternAndTimes = createPatternAndTimes(
@@ -1,5 +1,6 @@
 package org.opentripplanner.routing.algorithm.raptoradapter.transit.request;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -64,7 +65,25 @@ class TripPatternForDatesTest {
     assertTrue(result.empty());
   }
 
+  @Test
+  void timetableColumnsIncludeDayOffset() {
+    var subject = getTestSubject(false, List.of(SERVICE_DATE, SERVICE_DATE.plusDays(1)));
+    int day = 24 * 60 * 60;
+
+    assertArrayEquals(new int[] { 0, day }, subject.departureTimes(0));
+    assertArrayEquals(new int[] { 300, day + 300 }, subject.arrivalTimes(1));
+    assertEquals(day + 300, subject.departureTime(1, 1));
+    assertEquals(300, subject.getTripSchedule(0).arrival(1));
+  }
+
   private static TripPatternForDates getTestSubjectWithExactFrequency() {
+    return getTestSubject(true, List.of(SERVICE_DATE));
+  }
+
+  private static TripPatternForDates getTestSubject(
+    boolean withFrequency,
+    List<LocalDate> serviceDates
+  ) {
     var testModel = TransitRepositoryForTest.of();
     var stop1 = testModel.stop("FEED:STOP1", 0, 0).build();
     var stop2 = testModel.stop("FEED:STOP2", 0, 0).build();
@@ -99,17 +118,26 @@ class TripPatternForDatesTest {
     boardingAndAlightingPossible.set(0);
     boardingAndAlightingPossible.set(1);
 
+    var frequencies = withFrequency
+      ? List.of(new FrequencyEntry(frequency, tripTimes))
+      : List.<FrequencyEntry>of();
+    var tripPatternForDates = new TripPatternForDate[serviceDates.size()];
+    var offsets = new int[serviceDates.size()];
+
+    for (int i = 0; i < serviceDates.size(); ++i) {
+      tripPatternForDates[i] = new TripPatternForDate(
+        tripPattern,
+        List.of(tripTimes),
+        frequencies,
+        serviceDates.get(i)
+      );
+      offsets[i] = (int) (serviceDates.get(i).toEpochDay() - SERVICE_DATE.toEpochDay()) * 86_400;
+    }
+
     return new TripPatternForDates(
       tripPattern,
-      new TripPatternForDate[] {
-        new TripPatternForDate(
-          tripPattern,
-          List.of(tripTimes),
-          List.of(new FrequencyEntry(frequency, tripTimes)),
-          SERVICE_DATE
-        ),
-      },
-      new int[] { 0 },
+      tripPatternForDates,
+      offsets,
       boardingAndAlightingPossible,
       boardingAndAlightingPossible,
       0
@@ -9,6 +9,7 @@ import graphql.schema.GraphQLSchema;
 import jakarta.inject.Singleton;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
 import org.junit.jupiter.api.Test;
 import org.opentripplanner.apis.gtfs.configure.GtfsSchema;
@@ -29,6 +30,8 @@ import org.opentripplanner.framework.transaction.internal.TransactionFactory;
 import org.opentripplanner.raptor.configure.RaptorConfig;
 import org.opentripplanner.routing.algorithm.filterchain.ext.EmissionDecorator;
 import org.opentripplanner.routing.algorithm.filterchain.framework.spi.ItineraryDecorator;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.configure.AccessEgressExecutor;
+import org.opentripplanner.routing.algorithm.raptoradapter.router.street.AccessEgressCache;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.RaptorTransitDataTestFactory;
 import org.opentripplanner.routing.algorithm.raptoradapter.transit.TripSchedule;
 import org.opentripplanner.routing.fares.FareService;
@@ -132,6 +135,8 @@ class RequestScopedFactoryTest {
       .viaTransferResolver(
         TestServerContext.createViaTransferResolver(graph, placeholderTransitService)
       )
+      .accessEgressCache(null)
+      .accessEgressExecutor(null)
       .carpoolingService(null)
       .dataOverlayParameterBindings(null)
       .stopConsolidationService(null)
@@ -239,6 +244,14 @@ class RequestScopedFactoryTest {
       @BindsInstance
       Builder viaTransferResolver(ViaCoordinateTransferFactory viaTransferResolver);
 
+      @BindsInstance
+      Builder accessEgressCache(@Nullable AccessEgressCache accessEgressCache);
+
+      @BindsInstance
+      Builder accessEgressExecutor(
+        @Nullable @AccessEgressExecutor ExecutorService accessEgressExecutor
+      );
+
       @BindsInstance
       Builder carpoolingService(@Nullable CarpoolingService carpoolingService);
 
@@ -2,6 +2,7 @@ package org.opentripplanner.transit.speed_test;
 
 import static org.opentripplanner.utils.time.DurationUtils.msToSecondsStr;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -101,6 +102,19 @@ class ResultPrinter {
     );
   }
 
+  static void printBaselineResult(File baselineFile, List<String> regressions) {
+    System.err.println("\n" + headerLine("BASELINE " + baselineFile.getName()));
+    if (regressions.isEmpty()) {
+      System.err.println("No regressions found.");
+      return;
+    }
+    regressions.forEach(System.err::println);
+    System.err.printf(
+      "!!! %d TEST-CASES EXCEEDED THE REGRESSION THRESHOLDS !!!%n",
+      regressions.size()
+    );
+  }
+
   static void logSingleTestHeader(SpeedTestProfile profile) {
     System.err.println("\n" + headerLine("START " + profile));
   }
@@ -51,6 +51,8 @@ import org.opentripplanner.transit.repository.TimetableRepositorySnapshot;
 import org.opentripplanner.transit.service.DefaultTransitService;
 import org.opentripplanner.transit.service.TransitRepository;
 import org.opentripplanner.transit.speed_test.model.SpeedTestProfile;
+import org.opentripplanner.transit.speed_test.model.baseline.BaselineRecorder;
+import org.opentripplanner.transit.speed_test.model.baseline.SpeedTestBaseline;
 import org.opentripplanner.transit.speed_test.model.testcase.CsvFileSupport;
 import org.opentripplanner.transit.speed_test.model.testcase.ExpectedResults;
 import org.opentripplanner.transit.speed_test.model.testcase.TestCase;
@@ -84,8 +86,10 @@ public class SpeedTest {
   private final Map<SpeedTestProfile, List<Integer>> workerResults = new HashMap<>();
   private final Map<SpeedTestProfile, List<Integer>> totalResults = new HashMap<>();
   private final CsvFileSupport tcIO;
+  private final BaselineRecorder baselineRecorder = new BaselineRecorder();
   private SpeedTestProfile profile;
   private TestStatus status = TestStatus.OK;
+  private boolean baselineRegressionFound = false;
 
   public SpeedTest(
     SpeedTestCmdLineOpts opts,
@@ -221,6 +225,8 @@ public class SpeedTest {
       null,
       null,
       null,
+      null,
+      null,
       TestServerContext.createStreetDetailsService(),
       null,
       null,
@@ -240,6 +246,14 @@ public class SpeedTest {
     return status;
   }
 
+  /**
+   * Return {@code true} if the results are compared with a baseline and at least one regression
+   * threshold is exceeded.
+   */
+  public boolean baselineRegressionFound() {
+    return baselineRegressionFound;
+  }
+
   public static void main(String[] args) {
     try {
       // Given the following setup
@@ -272,6 +286,9 @@ public class SpeedTest {
       if (speedTest.transitRepository.getUpdaterManager() != null) {
         speedTest.transitRepository.getUpdaterManager().stop();
       }
+      if (speedTest.baselineRegressionFound()) {
+        System.exit(1);
+      }
     } catch (OtpAppException ae) {
       System.err.println(ae.getMessage());
       System.exit(1);
@@ -299,6 +316,7 @@ public class SpeedTest {
 
     printProfileStatistics();
     saveTestCasesToResultFile();
+    compareWithBaseline();
     System.err.println("\nSpeedTest done! " + projectInfo().getVersionString());
   }
 
@@ -340,7 +358,11 @@ public class SpeedTest {
     try {
       System.err.println(ResultPrinter.headerLine("#" + testCase.definition().idAndDescription()));
 
+      long allocatedBytesBefore = BaselineRecorder.totalAllocatedBytes();
       RoutingResponse routingResponse = performRouting(testCase);
+      long allocatedBytes = allocatedBytesBefore == BaselineRecorder.NOT_AVAILABLE
+        ? BaselineRecorder.NOT_AVAILABLE
+        : BaselineRecorder.totalAllocatedBytes() - allocatedBytesBefore;
 
       var times = routingResponse.getDebugTimingAggregator().finishedRendering();
 
@@ -349,8 +371,18 @@ public class SpeedTest {
 
       var itineraries = trimItineraries(routingResponse);
 
-      // assert throws Exception on failure
-      testCase.assertResult(profile, itineraries, transitTime, totalTime);
+      try {
+        // assert throws Exception on failure
+        testCase.assertResult(profile, itineraries, transitTime, totalTime);
+      } finally {
+        baselineRecorder.addSample(
+          profile,
+          testCase.id(),
+          totalTime,
+          allocatedBytes,
+          testCase.resultHash()
+        );
+      }
       // Report success
       ResultPrinter.printResultOk(testCase, opts.verbose());
     } catch (Exception e) {
@@ -421,6 +453,39 @@ public class SpeedTest {
     }
   }
 
+  /**
+   * Compare the results with the baseline file, if set. The baseline file is written instead if
+   * it does not exist or the replace option is set. As for the result files, the baseline is only
+   * written if all test-cases are run.
+   */
+  private void compareWithBaseline() {
+    var file = opts.baselineFile();
+    if (file == null) {
+      return;
+    }
+    var actual = baselineRecorder.toBaseline();
+
+    if (opts.replaceBaselineFile() || !file.exists()) {
+      if (lastSampleResult.values().stream().anyMatch(TestCases::isFiltered)) {
+        System.err.println("\nBaseline not written, not all test-cases are run: " + file);
+        return;
+      }
+      actual.write(file);
+      System.err.println("\nBaseline written to: " + file);
+      return;
+    }
+    var regressions = actual.findRegressions(
+      SpeedTestBaseline.read(file),
+      config.regressionThresholds()
+    );
+    ResultPrinter.printBaselineResult(file, regressions);
+
+    if (!regressions.isEmpty()) {
+      baselineRegressionFound = true;
+      status = status.highestSeverity(TestStatus.FAILED);
+    }
+  }
+
   /**
    * Add "static" transit statistics and JVM memory usages to the "timers" logging.
    */
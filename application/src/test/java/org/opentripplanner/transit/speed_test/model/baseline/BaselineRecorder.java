@@ -0,0 +1,100 @@
+package org.opentripplanner.transit.speed_test.model.baseline;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opentripplanner.transit.speed_test.model.SpeedTestProfile;
+
+/**
+ * Collect the latency, allocation and result hash for each test case and profile over all
+ * samples, and create a {@link SpeedTestBaseline} from it.
+ */
+public class BaselineRecorder {
+
+  public static final long NOT_AVAILABLE = -1;
+
+  private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+  private final Map<SpeedTestProfile, Map<String, Samples>> samples = new HashMap<>();
+
+  /**
+   * Return the total number of bytes allocated by all threads in the JVM, or
+   * {@link #NOT_AVAILABLE} if not supported. The routing uses several threads, so we measure the
+   * allocation of all threads. Background tasks like the real-time updaters are included, so
+   * updaters should be turned off to get accurate numbers.
+   */
+  public static long totalAllocatedBytes() {
+    return THREAD_MX_BEAN == null ? NOT_AVAILABLE : THREAD_MX_BEAN.getTotalThreadAllocatedBytes();
+  }
+
+  public void addSample(
+    SpeedTestProfile profile,
+    String testCaseId,
+    int totalTimeMs,
+    long allocatedBytes,
+    String resultHash
+  ) {
+    samples
+      .computeIfAbsent(profile, p -> new HashMap<>())
+      .computeIfAbsent(testCaseId, id -> new Samples())
+      .add(totalTimeMs, allocatedBytes, resultHash);
+  }
+
+  public SpeedTestBaseline toBaseline() {
+    var profiles = new HashMap<String, Map<String, TestCaseBaseline>>();
+    samples.forEach((profile, testCases) -> {
+      var result = new HashMap<String, TestCaseBaseline>();
+      testCases.forEach((id, s) -> result.put(id, s.toBaseline()));
+      profiles.put(profile.name(), result);
+    });
+    return new SpeedTestBaseline(profiles);
+  }
+
+  /**
+   * Return the value at the given percentile, using the nearest-rank method.
+   */
+  static long percentile(long[] sortedValues, double percentile) {
+    int rank = (int) Math.ceil(percentile * sortedValues.length);
+    return sortedValues[Math.max(0, rank - 1)];
+  }
+
+  private static com.sun.management.ThreadMXBean threadMXBean() {
+    if (
+      ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean &&
+      bean.isThreadAllocatedMemorySupported()
+    ) {
+      bean.setThreadAllocatedMemoryEnabled(true);
+      return bean;
+    }
+    return null;
+  }
+
+  private static class Samples {
+
+    private final List<Integer> times = new ArrayList<>();
+    private final List<Long> allocations = new ArrayList<>();
+    private String resultHash;
+
+    void add(int totalTimeMs, long allocatedBytes, String resultHash) {
+      times.add(totalTimeMs);
+      allocations.add(allocatedBytes);
+      // The results should be the same for all samples, we keep the last
+      this.resultHash = resultHash;
+    }
+
+    TestCaseBaseline toBaseline() {
+      long[] t = times.stream().mapToLong(Integer::longValue).sorted().toArray();
+      long[] a = allocations.stream().mapToLong(Long::longValue).sorted().toArray();
+      return new TestCaseBaseline(
+        (int) percentile(t, 0.5),
+        (int) percentile(t, 0.9),
+        (int) percentile(t, 0.99),
+        Arrays.stream(a).anyMatch(it -> it < 0) ? NOT_AVAILABLE : percentile(a, 0.5),
+        resultHash
+      );
+    }
+  }
+}
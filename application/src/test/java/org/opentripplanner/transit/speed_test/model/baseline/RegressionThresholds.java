@@ -0,0 +1,14 @@
+package org.opentripplanner.transit.speed_test.model.baseline;
+
+/**
+ * The thresholds used when comparing the speed test results with a stored baseline.
+ *
+ * @param latency The maximum relative increase of the median, 90th and 99th percentile latency
+ *                of a test case. Example: {@code 0.25} allows the latency to increase by 25%.
+ * @param allocation The maximum relative increase of the number of bytes allocated by a test case.
+ * @param minLatencyDiffMs Latency changes below this number of milliseconds are ignored. Short
+ *                         searches have a large relative variance; this avoids reporting noise.
+ */
+public record RegressionThresholds(double latency, double allocation, int minLatencyDiffMs) {
+  public static final RegressionThresholds DEFAULT = new RegressionThresholds(0.25, 0.10, 10);
+}
@@ -0,0 +1,83 @@
+package org.opentripplanner.transit.speed_test.model.baseline;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The speed test measurements for all test cases and profiles, used to detect performance
+ * regressions. The baseline is stored as a JSON file, usually next to the test case definitions:
+ * <pre>
+ * {
+ *   "profiles" : {
+ *     "multi_criteria" : {
+ *       "1" : {
+ *         "p50Ms" : 212,
+ *         "p90Ms" : 240,
+ *         "p99Ms" : 251,
+ *         "allocatedBytes" : 10485760,
+ *         "resultHash" : "2f1c3a4b"
+ *       },
+ *       ...
+ * </pre>
+ *
+ * @param profiles Test case measurements by test case id, by {@code SpeedTestProfile} name.
+ */
+public record SpeedTestBaseline(Map<String, Map<String, TestCaseBaseline>> profiles) {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  public SpeedTestBaseline {
+    // Sort the profiles and test cases to make the file easy to diff
+    var sorted = new TreeMap<String, Map<String, TestCaseBaseline>>();
+    profiles.forEach((profile, testCases) -> sorted.put(profile, new TreeMap<>(testCases)));
+    profiles = sorted;
+  }
+
+  public static SpeedTestBaseline read(File file) {
+    try {
+      return MAPPER.readValue(file, SpeedTestBaseline.class);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to read baseline file: " + file, e);
+    }
+  }
+
+  public void write(File file) {
+    try {
+      MAPPER.writerWithDefaultPrettyPrinter().writeValue(file, this);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Unable to write baseline file: " + file, e);
+    }
+  }
+
+  /**
+   * Compare this (actual) result with the given {@code baseline}. Test cases and profiles not
+   * in both are ignored.
+   *
+   * @return a list of regressions, one line per test case with at least one threshold exceeded.
+   */
+  public List<String> findRegressions(SpeedTestBaseline baseline, RegressionThresholds thresholds) {
+    var result = new ArrayList<String>();
+    profiles.forEach((profile, testCases) -> {
+      var baselineTestCases = baseline.profiles.get(profile);
+      if (baselineTestCases == null) {
+        return;
+      }
+      testCases.forEach((id, actual) -> {
+        var expected = baselineTestCases.get(id);
+        if (expected == null) {
+          return;
+        }
+        var regressions = actual.findRegressions(expected, thresholds);
+        if (!regressions.isEmpty()) {
+          result.add("%s TC %s: %s".formatted(profile, id, String.join(", ", regressions)));
+        }
+      });
+    });
+    return result;
+  }
+}
@@ -0,0 +1,98 @@
+package org.opentripplanner.transit.speed_test.model.baseline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opentripplanner.transit.speed_test.model.SpeedTestProfile.multi_criteria;
+import static org.opentripplanner.transit.speed_test.model.SpeedTestProfile.standard;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SpeedTestBaselineTest {
+
+  private static final RegressionThresholds THRESHOLDS = new RegressionThresholds(0.2, 0.1, 5);
+  private static final String HASH = "a1b2";
+
+  @TempDir
+  File tempDir;
+
+  @Test
+  void percentile() {
+    long[] values = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+    assertEquals(5, BaselineRecorder.percentile(values, 0.5));
+    assertEquals(9, BaselineRecorder.percentile(values, 0.9));
+    assertEquals(10, BaselineRecorder.percentile(values, 0.99));
+    assertEquals(7, BaselineRecorder.percentile(new long[] { 7 }, 0.5));
+  }
+
+  @Test
+  void recordSamples() {
+    var recorder = new BaselineRecorder();
+    for (int i = 1; i <= 10; ++i) {
+      recorder.addSample(multi_criteria, "1", 100 + i, 1000 * i, HASH);
+    }
+    var baseline = recorder.toBaseline();
+    assertEquals(
+      new TestCaseBaseline(105, 109, 110, 5000, HASH),
+      baseline.profiles().get(multi_criteria.name()).get("1")
+    );
+  }
+
+  @Test
+  void allocationNotAvailable() {
+    var recorder = new BaselineRecorder();
+    recorder.addSample(standard, "1", 100, 1000, HASH);
+    recorder.addSample(standard, "1", 100, BaselineRecorder.NOT_AVAILABLE, HASH);
+
+    var result = recorder.toBaseline().profiles().get(standard.name()).get("1");
+    assertEquals(BaselineRecorder.NOT_AVAILABLE, result.allocatedBytes());
+  }
+
+  @Test
+  void noRegressionWithinThresholds() {
+    var baseline = baseline(new TestCaseBaseline(100, 200, 300, 1000, HASH));
+    var actual = baseline(new TestCaseBaseline(120, 240, 360, 1100, HASH));
+    assertEquals(List.of(), actual.findRegressions(baseline, THRESHOLDS));
+  }
+
+  @Test
+  void smallLatencyChangesAreIgnored() {
+    var baseline = baseline(new TestCaseBaseline(2, 2, 2, 1000, HASH));
+    var actual = baseline(new TestCaseBaseline(6, 6, 6, 1000, HASH));
+    assertEquals(List.of(), actual.findRegressions(baseline, THRESHOLDS));
+  }
+
+  @Test
+  void regressions() {
+    var baseline = baseline(new TestCaseBaseline(100, 200, 300, 1000, HASH));
+    var actual = baseline(new TestCaseBaseline(121, 241, 376, 1101, "ffff"));
+    assertEquals(
+      List.of(
+        "multi_criteria TC 1: p50 121 ms > baseline 100 ms, p90 241 ms > baseline 200 ms, " +
+          "p99 376 ms > baseline 300 ms, allocated 1101 bytes > baseline 1000 bytes, result changed"
+      ),
+      actual.findRegressions(baseline, THRESHOLDS)
+    );
+  }
+
+  @Test
+  void testCasesNotInBaselineAreIgnored() {
+    var baseline = new SpeedTestBaseline(Map.of());
+    var actual = baseline(new TestCaseBaseline(100, 200, 300, 1000, HASH));
+    assertEquals(List.of(), actual.findRegressions(baseline, THRESHOLDS));
+  }
+
+  @Test
+  void writeAndRead() {
+    var file = new File(tempDir, "baseline.json");
+    var baseline = baseline(new TestCaseBaseline(100, 200, 300, 1000, HASH));
+    baseline.write(file);
+    assertEquals(baseline, SpeedTestBaseline.read(file));
+  }
+
+  private static SpeedTestBaseline baseline(TestCaseBaseline testCase) {
+    return new SpeedTestBaseline(Map.of(multi_criteria.name(), Map.of("1", testCase)));
+  }
+}
@@ -0,0 +1,63 @@
+package org.opentripplanner.transit.speed_test.model.baseline;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The measurements for a single test case and profile.
+ *
+ * @param p50Ms The median total routing time.
+ * @param p90Ms The 90th percentile of the total routing time.
+ * @param p99Ms The 99th percentile of the total routing time.
+ * @param allocatedBytes The median number of bytes allocated by all threads during the routing
+ *                       request, or {@code -1} if not supported by the JVM.
+ * @param resultHash A hash of the itineraries found.
+ */
+public record TestCaseBaseline(
+  int p50Ms,
+  int p90Ms,
+  int p99Ms,
+  long allocatedBytes,
+  String resultHash
+) {
+  /**
+   * Compare this (actual) result with the given {@code baseline} and return a description of
+   * each threshold exceeded. An empty list is returned if no regression is found.
+   */
+  List<String> findRegressions(TestCaseBaseline baseline, RegressionThresholds thresholds) {
+    var regressions = new ArrayList<String>();
+    if (isLatencyRegression(p50Ms, baseline.p50Ms, thresholds)) {
+      regressions.add("p50 %d ms > baseline %d ms".formatted(p50Ms, baseline.p50Ms));
+    }
+    if (isLatencyRegression(p90Ms, baseline.p90Ms, thresholds)) {
+      regressions.add("p90 %d ms > baseline %d ms".formatted(p90Ms, baseline.p90Ms));
+    }
+    if (isLatencyRegression(p99Ms, baseline.p99Ms, thresholds)) {
+      regressions.add("p99 %d ms > baseline %d ms".formatted(p99Ms, baseline.p99Ms));
+    }
+    if (
+      allocatedBytes >= 0 &&
+      baseline.allocatedBytes >= 0 &&
+      allocatedBytes > baseline.allocatedBytes * (1.0 + thresholds.allocation())
+    ) {
+      regressions.add(
+        "allocated %d bytes > baseline %d bytes".formatted(allocatedBytes, baseline.allocatedBytes)
+      );
+    }
+    if (!resultHash.equals(baseline.resultHash)) {
+      regressions.add("result changed");
+    }
+    return regressions;
+  }
+
+  private static boolean isLatencyRegression(
+    int actual,
+    int baseline,
+    RegressionThresholds thresholds
+  ) {
+    return (
+      actual - baseline >= thresholds.minLatencyDiffMs() &&
+      actual > baseline * (1.0 + thresholds.latency())
+    );
+  }
+}
@@ -74,6 +74,14 @@ public record TestCase(TestCaseDefinition definition, TestCaseResults results) {
     return results.totalTimeMs();
   }
 
+  /**
+   * A hash of all itineraries found, used to detect changed results when comparing with a
+   * stored baseline.
+   */
+  public String resultHash() {
+    return Integer.toHexString(actualResults().stream().map(Result::toString).toList().hashCode());
+  }
+
   /**
    * The test case is not run or no itineraries found.
    */
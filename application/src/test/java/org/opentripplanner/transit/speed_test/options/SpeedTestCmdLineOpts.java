@@ -23,6 +23,8 @@ public class SpeedTestCmdLineOpts {
   static final String NUM_OF_SAMPLES = "n";
   static final String SKIP_COST = "0";
   static final String REPLACE_EXPECTED_RESULTS_FILES = "R";
+  static final String BASELINE_FILE = "b";
+  static final String REPLACE_BASELINE_FILE = "B";
   static final String DEBUG_STOPS = "S";
   static final String DEBUG_PATH = "P";
   private static final String GROUP_RESULTS_BY_CATEGORY = "T";
@@ -99,6 +101,22 @@ public class SpeedTestCmdLineOpts {
     return cmd.hasOption(REPLACE_EXPECTED_RESULTS_FILES);
   }
 
+  /**
+   * The JSON file with the baseline to compare the results with, or {@code null} if not set.
+   * Relative paths are resolved against the {@link #rootDir()}.
+   */
+  public File baselineFile() {
+    if (!cmd.hasOption(BASELINE_FILE)) {
+      return null;
+    }
+    var file = new File(cmd.getOptionValue(BASELINE_FILE));
+    return file.isAbsolute() ? file : new File(rootDir(), file.getPath());
+  }
+
+  public boolean replaceBaselineFile() {
+    return cmd.hasOption(REPLACE_BASELINE_FILE);
+  }
+
   public List<String> testCaseIds() {
     return parseCSVList(TEST_CASES);
   }
@@ -180,6 +198,21 @@ public class SpeedTestCmdLineOpts {
       "If result differ, replace the 'expected-results' files instead of creating 'results' " +
         "files. This is especially useful if the expected files are under version control."
     );
+    options.addOption(
+      BASELINE_FILE,
+      "baseline",
+      true,
+      "A JSON file with latency percentiles, allocated bytes and result hashes for each " +
+        "test-case. The results are compared with the baseline, and the test fails if a " +
+        "regression threshold in the speed-test-config is exceeded. The file is created if it " +
+        "does not exist."
+    );
+    options.addOption(
+      REPLACE_BASELINE_FILE,
+      "replaceBaseline",
+      false,
+      "Replace the baseline file with the results of this run, instead of comparing with it."
+    );
     // Debug options
     options.addOption(DEBUG_STOPS, "debugStops", true, "A coma separated list of stops to debug.");
     options.addOption(
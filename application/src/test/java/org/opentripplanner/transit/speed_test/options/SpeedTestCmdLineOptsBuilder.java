@@ -1,11 +1,13 @@
 package org.opentripplanner.transit.speed_test.options;
 
+import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.BASELINE_FILE;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.CATEGORIES;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.DEBUG_PATH;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.DEBUG_STOPS;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.NUM_OF_ITINERARIES;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.NUM_OF_SAMPLES;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.PROFILES;
+import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.REPLACE_BASELINE_FILE;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.REPLACE_EXPECTED_RESULTS_FILES;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.ROOT_DIR;
 import static org.opentripplanner.transit.speed_test.options.SpeedTestCmdLineOpts.SKIP_COST;
@@ -35,6 +37,8 @@ public class SpeedTestCmdLineOptsBuilder {
   private int nSamples = -1;
   private boolean skipCost = false;
   private boolean replaceExpectedResultsFile = false;
+  private String baselineFile = null;
+  private boolean replaceBaselineFile = false;
   private final List<String> debugStops = new ArrayList<>();
   private final List<String> debugPath = new ArrayList<>();
 
@@ -85,6 +89,16 @@ public class SpeedTestCmdLineOptsBuilder {
     return this;
   }
 
+  public SpeedTestCmdLineOptsBuilder withBaselineFile(String baselineFile) {
+    this.baselineFile = baselineFile;
+    return this;
+  }
+
+  public SpeedTestCmdLineOptsBuilder replaceBaselineFile() {
+    this.replaceBaselineFile = true;
+    return this;
+  }
+
   public SpeedTestCmdLineOptsBuilder withDebugStops(String... debugStops) {
     Collections.addAll(this.debugStops, debugStops);
     return this;
@@ -110,6 +124,10 @@ public class SpeedTestCmdLineOptsBuilder {
     addOptInt(NUM_OF_SAMPLES, nSamples);
     addOptBool(SKIP_COST, skipCost);
     addOptBool(REPLACE_EXPECTED_RESULTS_FILES, replaceExpectedResultsFile);
+    if (baselineFile != null) {
+      add(BASELINE_FILE, baselineFile);
+    }
+    addOptBool(REPLACE_BASELINE_FILE, replaceBaselineFile);
     addOptStrings(DEBUG_STOPS, debugStops);
     addOptStrings(DEBUG_PATH, debugPath);
     return new SpeedTestCmdLineOpts(opts.toArray(new String[0]));
@@ -7,6 +7,7 @@ import java.time.ZoneId;
 import java.util.Objects;
 import org.opentripplanner.standalone.config.framework.file.ConfigFileLoader;
 import org.opentripplanner.standalone.config.framework.json.NodeAdapter;
+import org.opentripplanner.transit.speed_test.model.baseline.RegressionThresholds;
 import org.opentripplanner.utils.tostring.ToStringBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,12 +22,14 @@ public class SpeedTestConfig {
   private final LocalDate testDate;
   private final boolean ignoreStreetResults;
   private final URI graph;
+  private final RegressionThresholds regressionThresholds;
 
   public SpeedTestConfig() {
     this.feedId = "F";
     this.testDate = null;
     this.ignoreStreetResults = true;
     this.graph = URI.create("graph.obj");
+    this.regressionThresholds = RegressionThresholds.DEFAULT;
   }
 
   public SpeedTestConfig(Builder builder) {
@@ -34,6 +37,7 @@ public class SpeedTestConfig {
     this.testDate = Objects.requireNonNull(builder.testDate);
     this.ignoreStreetResults = Objects.requireNonNull(builder.ignoreStreetResults);
     this.graph = Objects.requireNonNull(builder.graph);
+    this.regressionThresholds = Objects.requireNonNull(builder.regressionThresholds);
   }
 
   public static SpeedTestConfig.Builder of() {
@@ -59,7 +63,10 @@ public class SpeedTestConfig {
       .withFeedId(adapter.of("feedId").asString())
       .withTestDate(adapter.of("testDate").asDateOrRelativePeriod("PT0D", ZoneId.of("UTC")))
       .withIgnoreStreetResults(adapter.of("ignoreStreetResults").asBoolean(false))
-      .withGraph(adapter.of("graph").asUri(null));
+      .withGraph(adapter.of("graph").asUri(null))
+      .withRegressionThresholds(
+        mapRegressionThresholds(adapter.of("regressionThresholds").asObject())
+      );
 
     adapter.logAllWarnings(LOG::warn);
 
@@ -73,6 +80,7 @@ public class SpeedTestConfig {
       .addDate("testDate", testDate)
       .addBoolIfTrue("ignoreStreetResults", ignoreStreetResults)
       .addObj("graph", graph)
+      .addObj("regressionThresholds", regressionThresholds, RegressionThresholds.DEFAULT)
       .toString();
   }
 
@@ -96,12 +104,36 @@ public class SpeedTestConfig {
     return graph;
   }
 
+  /**
+   * The thresholds used when comparing the results with a stored baseline. Configured with:
+   * <pre>
+   * "regressionThresholds" : {
+   *   "latency" : 0.25,
+   *   "allocation" : 0.10,
+   *   "minLatencyDiffMs" : 10
+   * }
+   * </pre>
+   */
+  public RegressionThresholds regressionThresholds() {
+    return regressionThresholds;
+  }
+
+  private static RegressionThresholds mapRegressionThresholds(NodeAdapter c) {
+    var dft = RegressionThresholds.DEFAULT;
+    return new RegressionThresholds(
+      c.of("latency").asDouble(dft.latency()),
+      c.of("allocation").asDouble(dft.allocation()),
+      c.of("minLatencyDiffMs").asInt(dft.minLatencyDiffMs())
+    );
+  }
+
   public static class Builder {
 
     public String feedId;
     public LocalDate testDate;
     public boolean ignoreStreetResults;
     public URI graph;
+    public RegressionThresholds regressionThresholds;
 
     Builder(SpeedTestConfig original) {
       if (original != null) {
@@ -109,6 +141,7 @@ public class SpeedTestConfig {
         this.testDate = original.testDate;
         this.ignoreStreetResults = original.ignoreStreetResults;
         this.graph = original.graph;
+        this.regressionThresholds = original.regressionThresholds;
       }
     }
 
@@ -132,6 +165,11 @@ public class SpeedTestConfig {
       return this;
     }
 
+    public Builder withRegressionThresholds(RegressionThresholds regressionThresholds) {
+      this.regressionThresholds = regressionThresholds;
+      return this;
+    }
+
     public SpeedTestConfig build() {
       return new SpeedTestConfig(this);
     }
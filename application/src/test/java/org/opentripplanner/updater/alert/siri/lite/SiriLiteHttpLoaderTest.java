@@ -16,7 +16,7 @@ class SiriLiteHttpLoaderTest {
   @Test
   void test() {
     var uri = ResourceLoader.of(this).uri("siri-sx.xml");
-    var loader = new SiriLiteHttpLoader(uri, ONE_MIN, HttpHeaders.empty());
+    var loader = new SiriLiteHttpLoader("sx", uri, ONE_MIN, HttpHeaders.empty());
     var siri = loader.fetchETFeed("OTP");
     var delivery = siri.get().getServiceDelivery().getSituationExchangeDeliveries().getFirst();
     var element = delivery.getSituations().getPtSituationElements().getFirst();
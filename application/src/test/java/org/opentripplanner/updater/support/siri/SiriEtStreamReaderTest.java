@@ -0,0 +1,88 @@
+package org.opentripplanner.updater.support.siri;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import uk.org.siri.siri21.EstimatedVehicleJourney;
+
+class SiriEtStreamReaderTest {
+
+  private static final String XML = """
+    <?xml version="1.0" encoding="UTF-8"?>
+    <Siri xmlns="http://www.siri.org.uk/siri" version="2.0">
+      <ServiceDelivery>
+        <ResponseTimestamp>2024-05-01T12:00:00+02:00</ResponseTimestamp>
+        <EstimatedTimetableDelivery version="2.0">
+          <ResponseTimestamp>2024-05-01T12:00:00+02:00</ResponseTimestamp>
+          <EstimatedJourneyVersionFrame>
+            <RecordedAtTime>2024-05-01T12:00:00+02:00</RecordedAtTime>
+            <EstimatedVehicleJourney>
+              <LineRef>L1</LineRef>
+              <DatedVehicleJourneyRef>J1</DatedVehicleJourneyRef>
+            </EstimatedVehicleJourney>
+            <!-- No whitespace between the journeys -->
+            <EstimatedVehicleJourney><LineRef>L1</LineRef><DatedVehicleJourneyRef>J2</DatedVehicleJourneyRef></EstimatedVehicleJourney><EstimatedVehicleJourney>
+              <LineRef>L2</LineRef>
+              <DatedVehicleJourneyRef>J3</DatedVehicleJourneyRef>
+            </EstimatedVehicleJourney>
+          </EstimatedJourneyVersionFrame>
+        </EstimatedTimetableDelivery>
+      </ServiceDelivery>
+    </Siri>
+    """;
+
+  @Test
+  void readInBatches() throws Exception {
+    var batches = new ArrayList<List<String>>();
+
+    int count = new SiriEtStreamReader(2).read(stream(XML), journeys ->
+      batches.add(journeys.stream().map(SiriEtStreamReaderTest::journeyRef).toList())
+    );
+
+    assertEquals(3, count);
+    assertEquals(List.of(List.of("J1", "J2"), List.of("J3")), batches);
+  }
+
+  @Test
+  void toServiceDelivery() throws Exception {
+    var journeys = new ArrayList<EstimatedVehicleJourney>();
+    new SiriEtStreamReader(10).read(stream(XML), journeys::addAll);
+
+    var delivery = SiriEtStreamReader.toServiceDelivery(journeys);
+
+    var frames = delivery
+      .getEstimatedTimetableDeliveries()
+      .getFirst()
+      .getEstimatedJourneyVersionFrames();
+    assertEquals(journeys, frames.getFirst().getEstimatedVehicleJourneies());
+  }
+
+  @Test
+  void noJourneys() throws Exception {
+    var xml = """
+      <Siri xmlns="http://www.siri.org.uk/siri" version="2.0"><ServiceDelivery/></Siri>
+      """;
+    var batches = new ArrayList<List<EstimatedVehicleJourney>>();
+
+    assertEquals(0, new SiriEtStreamReader(10).read(stream(xml), batches::add));
+    assertEquals(List.of(), batches);
+  }
+
+  @Test
+  void invalidBatchSize() {
+    assertThrows(IllegalArgumentException.class, () -> new SiriEtStreamReader(0));
+  }
+
+  private static String journeyRef(EstimatedVehicleJourney journey) {
+    return journey.getDatedVehicleJourneyRef().getValue();
+  }
+
+  private static ByteArrayInputStream stream(String xml) {
+    return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -2,6 +2,7 @@ package org.opentripplanner.updater.trip.gtfs.updater.http;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.time.Duration;
 import org.junit.jupiter.api.Test;
@@ -14,7 +15,27 @@ public class GtfsRealtimeTripUpdateSourceTest {
 
   @Test
   public void parseFeed() {
-    var source = new HttpTripUpdateSource(
+    var source = septaSource();
+    var updates = source.getUpdates();
+
+    assertNotNull(updates);
+
+    assertEquals(35, updates.size());
+
+    var first = updates.get(0);
+    assertEquals("AIR_4846_V55_M", first.getTrip().getTripId());
+  }
+
+  @Test
+  public void skipUnchangedFeed() {
+    var source = septaSource();
+
+    assertNotNull(source.getUpdates());
+    assertNull(source.getUpdates());
+  }
+
+  private HttpTripUpdateSource septaSource() {
+    return new HttpTripUpdateSource(
       new PollingTripUpdaterParameters(
         "rt",
         Duration.ofSeconds(10),
@@ -26,13 +47,5 @@ public class GtfsRealtimeTripUpdateSourceTest {
         HttpHeaders.empty()
       )
     );
-    var updates = source.getUpdates();
-
-    assertNotNull(updates);
-
-    assertEquals(35, updates.size());
-
-    var first = updates.get(0);
-    assertEquals("AIR_4846_V55_M", first.getTrip().getTripId());
   }
 }
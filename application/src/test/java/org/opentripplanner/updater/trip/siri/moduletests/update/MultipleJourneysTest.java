@@ -0,0 +1,124 @@
+package org.opentripplanner.updater.trip.siri.moduletests.update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opentripplanner.updater.spi.UpdateResultAssertions.assertSuccess;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.transit.model.TransitTestEnvironment;
+import org.opentripplanner.transit.model.TransitTestEnvironmentBuilder;
+import org.opentripplanner.transit.model.TripInput;
+import org.opentripplanner.transit.model.site.RegularStop;
+import org.opentripplanner.updater.trip.RealtimeTestConstants;
+import org.opentripplanner.updater.trip.siri.SiriTestHelper;
+import uk.org.siri.siri21.EstimatedTimetableDeliveryStructure;
+
+/**
+ * Apply messages with many journeys. The journeys updating a trip found by id are mapped before
+ * the message is applied, in parallel for large messages, and the result must be the same as when
+ * the journeys are applied one by one.
+ */
+class MultipleJourneysTest implements RealtimeTestConstants {
+
+  private final TransitTestEnvironmentBuilder ENV_BUILDER = TransitTestEnvironment.of();
+  private final RegularStop STOP_A = ENV_BUILDER.stop(STOP_A_ID);
+  private final RegularStop STOP_B = ENV_BUILDER.stop(STOP_B_ID);
+
+  private final TripInput TRIP_1_INPUT = TripInput.of(TRIP_1_ID)
+    .withWithTripOnServiceDate(TRIP_1_ID)
+    .addStop(STOP_A, "0:00:10", "0:00:11")
+    .addStop(STOP_B, "0:00:20", "0:00:21");
+
+  private final TripInput TRIP_2_INPUT = TripInput.of(TRIP_2_ID)
+    .withWithTripOnServiceDate(TRIP_2_ID)
+    .addStop(STOP_A, "0:01:10", "0:01:11")
+    .addStop(STOP_B, "0:01:20", "0:01:21");
+
+  /**
+   * The last update of a trip in a message replaces the earlier ones.
+   */
+  @Test
+  void testUpdateSameTripTwiceInOneMessage() {
+    var env = ENV_BUILDER.addTrip(TRIP_1_INPUT).build();
+    var siri = SiriTestHelper.of(env);
+
+    var updates = new ArrayList<EstimatedTimetableDeliveryStructure>();
+    updates.addAll(trip1Update(siri, "00:00:15", "00:00:25"));
+    updates.addAll(trip1Update(siri, "00:00:20", "00:00:33"));
+
+    var result = siri.applyEstimatedTimetable(updates);
+
+    assertSuccess(result);
+    assertEquals(2, result.successful());
+    assertEquals(
+      "U | A 0:00:20 0:00:20 | B 0:00:33 0:00:33",
+      env.tripData(TRIP_1_ID).showTimetable()
+    );
+  }
+
+  /**
+   * A message large enough to be mapped in parallel.
+   */
+  @Test
+  void testLargeMessage() {
+    var env = ENV_BUILDER.addTrip(TRIP_1_INPUT).addTrip(TRIP_2_INPUT).build();
+    var siri = SiriTestHelper.of(env);
+
+    var updates = new ArrayList<EstimatedTimetableDeliveryStructure>();
+    for (int i = 0; i < 250; ++i) {
+      updates.addAll(trip1Update(siri, "00:00:15", "00:00:25"));
+      updates.addAll(trip2Update(siri, "00:01:15", "00:01:25"));
+    }
+    updates.addAll(trip2Update(siri, "00:01:30", "00:01:40"));
+
+    var result = siri.applyEstimatedTimetable(updates);
+
+    assertSuccess(result);
+    assertEquals(501, result.successful());
+    assertEquals(
+      "U | A 0:00:15 0:00:15 | B 0:00:25 0:00:25",
+      env.tripData(TRIP_1_ID).showTimetable()
+    );
+    assertEquals(
+      "U | A 0:01:30 0:01:30 | B 0:01:40 0:01:40",
+      env.tripData(TRIP_2_ID).showTimetable()
+    );
+  }
+
+  private List<EstimatedTimetableDeliveryStructure> trip1Update(
+    SiriTestHelper siri,
+    String departureA,
+    String arrivalB
+  ) {
+    return siri
+      .etBuilder()
+      .withDatedVehicleJourneyRef(TRIP_1_ID)
+      .withEstimatedCalls(builder ->
+        builder
+          .call(STOP_A)
+          .departAimedExpected("00:00:11", departureA)
+          .call(STOP_B)
+          .arriveAimedExpected("00:00:20", arrivalB)
+      )
+      .buildEstimatedTimetableDeliveries();
+  }
+
+  private List<EstimatedTimetableDeliveryStructure> trip2Update(
+    SiriTestHelper siri,
+    String departureA,
+    String arrivalB
+  ) {
+    return siri
+      .etBuilder()
+      .withDatedVehicleJourneyRef(TRIP_2_ID)
+      .withEstimatedCalls(builder ->
+        builder
+          .call(STOP_A)
+          .departAimedExpected("00:01:11", departureA)
+          .call(STOP_B)
+          .arriveAimedExpected("00:01:20", arrivalB)
+      )
+      .buildEstimatedTimetableDeliveries();
+  }
+}
@@ -0,0 +1,83 @@
+package org.opentripplanner.updater.vehicle_rental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.core.model.id.FeedScopedId;
+import org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder;
+import org.opentripplanner.service.vehiclerental.model.TestVehicleRentalStationBuilder;
+import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
+import org.opentripplanner.service.vehiclerental.model.VehicleRentalStation;
+
+class VehicleRentalPlaceDiffTest {
+
+  private static final VehicleRentalStation STATION = TestVehicleRentalStationBuilder.of()
+    .withVehicles(5)
+    .build();
+  private static final VehicleRentalPlace VEHICLE = TestFreeFloatingRentalVehicleBuilder.of()
+    .withVehicleScooter()
+    .build();
+
+  @Test
+  void firstUpdate() {
+    var subject = VehicleRentalPlaceDiff.of(Map.of(), byId(STATION, VEHICLE));
+
+    assertEquals(List.of(STATION, VEHICLE), subject.added());
+    assertEquals(List.of(), subject.changed());
+    assertEquals(List.of(), subject.removed());
+  }
+
+  @Test
+  void unchanged() {
+    var sameStation = TestVehicleRentalStationBuilder.of().withVehicles(5).build();
+    var subject = VehicleRentalPlaceDiff.of(byId(STATION, VEHICLE), byId(sameStation, VEHICLE));
+
+    assertTrue(subject.isEmpty());
+  }
+
+  @Test
+  void changed() {
+    var fewerVehicles = TestVehicleRentalStationBuilder.of().withVehicles(4).build();
+    var subject = VehicleRentalPlaceDiff.of(byId(STATION, VEHICLE), byId(fewerVehicles, VEHICLE));
+
+    assertEquals(List.of(), subject.added());
+    assertEquals(List.of(fewerVehicles), subject.changed());
+    assertEquals(List.of(), subject.removed());
+  }
+
+  @Test
+  void moved() {
+    var movedVehicle = TestFreeFloatingRentalVehicleBuilder.of()
+      .withVehicleScooter()
+      .withLatitude(TestFreeFloatingRentalVehicleBuilder.DEFAULT_LATITUDE + 0.001)
+      .build();
+    var subject = VehicleRentalPlaceDiff.of(byId(STATION, VEHICLE), byId(STATION, movedVehicle));
+
+    assertEquals(List.of(movedVehicle), subject.added());
+    assertEquals(List.of(), subject.changed());
+    assertEquals(List.of(VEHICLE.id()), subject.removed());
+  }
+
+  @Test
+  void removed() {
+    var subject = VehicleRentalPlaceDiff.of(byId(STATION, VEHICLE), byId(STATION));
+
+    assertEquals(List.of(), subject.added());
+    assertEquals(List.of(), subject.changed());
+    assertEquals(List.of(VEHICLE.id()), subject.removed());
+  }
+
+  @Test
+  void lastPlaceWithSameIdWins() {
+    var other = STATION.copyOf().withVehiclesAvailable(1).build();
+
+    assertEquals(List.of(other), List.copyOf(byId(STATION, other).values()));
+  }
+
+  private static Map<FeedScopedId, VehicleRentalPlace> byId(VehicleRentalPlace... places) {
+    return VehicleRentalPlaceDiff.byId(List.of(places));
+  }
+}
@@ -1,19 +1,36 @@
 package org.opentripplanner.updater.vehicle_rental;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.service.vehiclerental.model.TestVehicleRentalStationBuilder.NETWORK_1;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.opentripplanner._support.geometry.Polygons;
+import org.opentripplanner.core.model.id.FeedScopedId;
 import org.opentripplanner.framework.io.HttpHeaders;
+import org.opentripplanner.routing.linking.VertexLinkerTestFactory;
 import org.opentripplanner.service.vehiclerental.internal.DefaultVehicleRentalRepository;
+import org.opentripplanner.service.vehiclerental.model.GeofencingZone;
+import org.opentripplanner.service.vehiclerental.model.TestVehicleRentalStationBuilder;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
+import org.opentripplanner.service.vehiclerental.model.VehicleRentalStation;
+import org.opentripplanner.service.vehiclerental.street.VehicleRentalPlaceVertex;
+import org.opentripplanner.street.graph.Graph;
+import org.opentripplanner.street.model.StreetModelForTest;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.streetadapter.VertexFactory;
 import org.opentripplanner.updater.GraphUpdaterManager;
+import org.opentripplanner.updater.StreetRealTimeUpdateContext;
 import org.opentripplanner.updater.spi.UpdaterConstructionException;
 import org.opentripplanner.updater.spi.WriteDomain;
 import org.opentripplanner.updater.spi.WriteToGraphCallback;
@@ -22,9 +39,13 @@ import org.opentripplanner.updater.vehicle_rental.datasources.VehicleRentalDataS
 import org.opentripplanner.updater.vehicle_rental.datasources.params.RentalPickupType;
 import org.opentripplanner.updater.vehicle_rental.datasources.params.VehicleRentalDataSourceParameters;
 import org.opentripplanner.utils.lang.RunnableUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class VehicleRentalUpdaterTest {
 
+  private static final Logger LOG = LoggerFactory.getLogger(VehicleRentalUpdaterTest.class);
+
   public static final VehicleRentalUpdaterParameters PARAMS = new VehicleRentalUpdaterParameters(
     "A",
     Duration.ofMinutes(1),
@@ -34,6 +55,23 @@ class VehicleRentalUpdaterTest {
   public static final DefaultVehicleRentalRepository REPOSITORY =
     new DefaultVehicleRentalRepository();
 
+  private static final GeofencingZone ZONE_A = noDropOffZone("a");
+  private static final GeofencingZone ZONE_B = noDropOffZone("b");
+
+  private final Graph graph = new Graph();
+  private final DefaultVehicleRentalRepository repository = new DefaultVehicleRentalRepository();
+  private final StubDataSource source = new StubDataSource();
+
+  @BeforeEach
+  void setup() {
+    graph.hasStreets = true;
+    var factory = new VertexFactory(graph);
+    var a = factory.intersection("A", 10.70, 59.92);
+    var b = factory.intersection("B", 10.70, 59.93);
+    StreetModelForTest.streetEdge(a, b, StreetTraversalPermission.PEDESTRIAN);
+    graph.index();
+  }
+
   @Test
   void failingDataSourceCountsAsPrimed() {
     var source = new FailingDataSource();
@@ -64,6 +102,114 @@ class VehicleRentalUpdaterTest {
     assertTrue(updater.isPrimed());
   }
 
+  @Test
+  void removeAndRelinkMovedStation() {
+    var updater = createUpdater(() -> graph);
+
+    source.places = List.of(station("S1", 59.921), station("S2", 59.925));
+    updater.run();
+
+    assertEquals(2, rentalVertices().size());
+    assertEquals(2, repository.listRentalPlaces().size());
+
+    // S1 has moved, and S2 is gone
+    source.places = List.of(station("S1", 59.928));
+    updater.run();
+
+    var vertices = rentalVertices();
+    assertEquals(1, vertices.size());
+    var vertex = vertices.getFirst();
+    assertEquals("S1", vertex.getStation().id().getId());
+    assertEquals(59.928, vertex.getLat(), 0.000001);
+    assertFalse(vertex.getOutgoing().isEmpty());
+    assertEquals(1, repository.listRentalPlaces().size());
+  }
+
+  @Test
+  void resolveZonesAgainWhenTheZonesChange() {
+    var updater = createUpdater(() -> graph);
+
+    source.places = List.of(station("S1", 59.921));
+    source.zones = List.of(ZONE_A);
+    updater.run();
+
+    assertEquals(Set.of(ZONE_A), rentalVertices().getFirst().getInitialGeofencingZones());
+
+    source.zones = List.of(ZONE_B);
+    updater.run();
+
+    assertEquals(Set.of(ZONE_B), rentalVertices().getFirst().getInitialGeofencingZones());
+  }
+
+  @Test
+  void replaceAllStationsAfterFailedUpdate() {
+    var fail = new AtomicBoolean(true);
+    var updater = createUpdater(() -> {
+      if (fail.getAndSet(false)) {
+        throw new IllegalStateException("Graph is not available");
+      }
+      return graph;
+    });
+
+    source.places = List.of(station("S1", 59.921), station("S2", 59.925));
+    updater.run();
+
+    assertEquals(0, rentalVertices().size());
+
+    // The places have not changed, but they were never added to the graph
+    updater.run();
+
+    assertEquals(2, rentalVertices().size());
+    assertEquals(2, repository.listRentalPlaces().size());
+  }
+
+  private VehicleRentalUpdater createUpdater(StreetRealTimeUpdateContext context) {
+    var updater = new VehicleRentalUpdater(
+      PARAMS,
+      source,
+      VertexLinkerTestFactory.of(graph),
+      repository
+    );
+    // Run the graph writer runnable at once, and log failures like the GraphWriterService
+    updater.setup(runnable -> {
+      try {
+        runnable.run(context);
+      } catch (RuntimeException e) {
+        LOG.info("Graph writer failed: {}", e.getMessage());
+      }
+      return CompletableFuture.completedFuture(null);
+    });
+    return updater;
+  }
+
+  private List<VehicleRentalPlaceVertex> rentalVertices() {
+    return graph.getVerticesOfType(VehicleRentalPlaceVertex.class);
+  }
+
+  private static VehicleRentalStation station(String id, double latitude) {
+    return TestVehicleRentalStationBuilder.of()
+      .withCoordinates(latitude, 10.7001)
+      .build()
+      .copyOf()
+      .withId(new FeedScopedId(NETWORK_1, id))
+      .build();
+  }
+
+  private static GeofencingZone noDropOffZone(String id) {
+    return new GeofencingZone(
+      new FeedScopedId(NETWORK_1, id),
+      null,
+      Polygons.OSLO,
+      true,
+      false,
+      null,
+      false,
+      null,
+      null,
+      0
+    );
+  }
+
   static class MockManager extends GraphUpdaterManager {
 
     public MockManager(VehicleRentalUpdater updater) {
@@ -128,6 +274,27 @@ class VehicleRentalUpdaterTest {
     }
   }
 
+  private static class StubDataSource implements VehicleRentalDataSource {
+
+    private List<VehicleRentalPlace> places = List.of();
+    private List<GeofencingZone> zones = List.of();
+
+    @Override
+    public boolean update() {
+      return true;
+    }
+
+    @Override
+    public List<VehicleRentalPlace> getUpdates() {
+      return places;
+    }
+
+    @Override
+    public List<GeofencingZone> getGeofencingZones() {
+      return zones;
+    }
+  }
+
   private static class FakeParams implements VehicleRentalDataSourceParameters {
 
     @Override
@@ -6,9 +6,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
-import org.opentripplanner.astar.model.BinHeap;
+import org.opentripplanner.astar.model.AStarQueue;
 import org.opentripplanner.astar.model.GraphPath;
 import org.opentripplanner.astar.model.ShortestPathTree;
 import org.opentripplanner.astar.spi.AStarEdge;
@@ -60,10 +61,18 @@ public class AStar<
   private final Duration timeout;
 
   private final ShortestPathTree<State, Edge, Vertex> spt;
-  private final BinHeap<State> pq;
+  private final AStarQueue<State> pq;
   private final List<State> targetAcceptedStates;
 
+  /** Called for every state added to the shortest path tree, used by the bidirectional search. */
+  @Nullable
+  private Consumer<State> stateAddedListener;
+
+  /** Adds the states resulting from traversing {@link #currentEdge} from {@link #u}. */
+  private final Consumer<State> traversalResult = this::addTraversedState;
+
   private State u;
+  private Edge currentEdge;
   private int nVisited;
 
   /// Create an AStar search
@@ -75,6 +84,7 @@ public class AStar<
   /// @param timeout A timeout that exits the search.
   /// @param preSearchHook A runnable that is run before the search starts.
   /// @param statisticsCallback A pluggable callback for logging metrics.
+  /// @param queue The empty priority queue of the states to visit.
   AStar(
     Collection<State> initialStates,
     boolean arriveBy,
@@ -86,7 +96,8 @@ public class AStar<
     @Nullable SearchTerminationStrategy<State> terminationStrategy,
     Duration timeout,
     Runnable preSearchHook,
-    StatisticsCallback<Vertex> statisticsCallback
+    StatisticsCallback<Vertex> statisticsCallback,
+    AStarQueue<State> queue
   ) {
     this.heuristic = heuristic;
     this.skipEdgeStrategy = skipEdgeStrategy;
@@ -105,8 +116,7 @@ public class AStar<
     this.preSearchHook = Objects.requireNonNull(preSearchHook);
     this.statisticsCallback = Objects.requireNonNull(statisticsCallback);
 
-    // Initialized with a reasonable size, see #4445
-    this.pq = new BinHeap<>(1000);
+    this.pq = Objects.requireNonNull(queue);
     this.nVisited = 0;
     this.targetAcceptedStates = new ArrayList<>();
 
@@ -124,7 +134,21 @@ public class AStar<
 
   public List<GraphPath<State, Edge, Vertex>> getPathsToTarget() {
     runSearch();
+    return pathsToTarget();
+  }
+
+  /**
+   * Continue a search already started, without running the pre-search hook, until a path is
+   * found or the given absolute abort time, in milliseconds, is passed. Used by the
+   * bidirectional search, so the time it used is not given to this search again. The search is
+   * not reported to the statistics callback, the bidirectional search reports it.
+   */
+  List<GraphPath<State, Edge, Vertex>> getPathsToTarget(long abortTime) {
+    runSearch(abortTime);
+    return pathsToTarget();
+  }
 
+  private List<GraphPath<State, Edge, Vertex>> pathsToTarget() {
     return targetAcceptedStates
       .stream()
       .filter(State::isFinal)
@@ -132,7 +156,42 @@ public class AStar<
       .collect(Collectors.toList());
   }
 
-  private boolean iterate() {
+  Set<Vertex> initialVertices() {
+    return initialVertices;
+  }
+
+  /**
+   * The shortest path tree, without running the search.
+   */
+  ShortestPathTree<State, Edge, Vertex> spt() {
+    return spt;
+  }
+
+  /**
+   * The estimated weight of the next state to visit, or {@link Double#POSITIVE_INFINITY} if the
+   * queue is empty.
+   */
+  double peekMinEstimate() {
+    return pq.empty() ? Double.POSITIVE_INFINITY : pq.peek_min_key();
+  }
+
+  int queueSize() {
+    return pq.size();
+  }
+
+  int nVisited() {
+    return nVisited;
+  }
+
+  void setStateAddedListener(@Nullable Consumer<State> stateAddedListener) {
+    this.stateAddedListener = stateAddedListener;
+  }
+
+  /**
+   * Visit the next state in the queue and add the states reachable from it. Return {@code false}
+   * if the state was dominated after it was added to the queue, and was not visited.
+   */
+  boolean iterate() {
     // get the lowest-weight state in the queue
     u = pq.extract_min();
 
@@ -158,35 +217,38 @@ public class AStar<
         continue;
       }
 
-      // Iterate over traversal results. When an edge leads nowhere (as indicated by
-      // returning an empty array), the iteration is over.
-      var states = edge.traverse(u);
-      for (var v : states) {
-        // Could be: for (State v : traverseEdge...)
+      // The traversal results are passed to addTraversedState(). When an edge leads nowhere, no
+      // states are passed.
+      currentEdge = edge;
+      edge.traverse(u, traversalResult);
+    }
 
-        if (traverseVisitor != null) {
-          traverseVisitor.visitEdge(edge);
-        }
+    return true;
+  }
+
+  private void addTraversedState(State v) {
+    if (traverseVisitor != null) {
+      traverseVisitor.visitEdge(currentEdge);
+    }
 
-        double remaining_w = heuristic != null ? heuristic.estimateRemainingWeight(v) : 0;
+    double remaining_w = heuristic != null ? heuristic.estimateRemainingWeight(v) : 0;
 
-        if (remaining_w < 0 || Double.isInfinite(remaining_w)) {
-          continue;
-        }
-        double estimate = v.getWeight() + remaining_w;
-
-        // spt.add returns true if the state is hopeful; enqueue state if it's hopeful
-        if (spt.add(v)) {
-          // report to the visitor if there is one
-          if (traverseVisitor != null) {
-            traverseVisitor.visitEnqueue();
-          }
-          pq.insert(v, estimate);
-        }
-      }
+    if (remaining_w < 0 || Double.isInfinite(remaining_w)) {
+      return;
     }
+    double estimate = v.getWeight() + remaining_w;
 
-    return true;
+    // spt.add returns true if the state is hopeful; enqueue state if it's hopeful
+    if (spt.add(v)) {
+      // report to the visitor if there is one
+      if (traverseVisitor != null) {
+        traverseVisitor.visitEnqueue();
+      }
+      pq.insert(v, estimate);
+      if (stateAddedListener != null) {
+        stateAddedListener.accept(v);
+      }
+    }
   }
 
   private void runSearch() {
@@ -194,7 +256,11 @@ public class AStar<
     // has already timed out.
     preSearchHook.run();
     statisticsCallback.searchStarted();
-    long abortTime = DateUtils.absoluteTimeout(timeout);
+    runSearch(DateUtils.absoluteTimeout(timeout));
+    statisticsCallback.searchFinished(initialVertices, goalVertices, nVisited);
+  }
+
+  private void runSearch(long abortTime) {
 
     /* the core of the A* algorithm */
     while (!pq.empty()) {
@@ -233,7 +299,5 @@ public class AStar<
         break;
       }
     }
-
-    statisticsCallback.searchFinished(initialVertices, goalVertices, nVisited);
   }
 }
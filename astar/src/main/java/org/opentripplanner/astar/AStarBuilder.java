@@ -3,6 +3,10 @@ package org.opentripplanner.astar;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Set;
+import javax.annotation.Nullable;
+import org.opentripplanner.astar.model.AStarQueue;
+import org.opentripplanner.astar.model.BinHeap;
+import org.opentripplanner.astar.model.BucketQueue;
 import org.opentripplanner.astar.spi.AStarEdge;
 import org.opentripplanner.astar.spi.AStarState;
 import org.opentripplanner.astar.spi.AStarVertex;
@@ -36,6 +40,9 @@ public class AStarBuilder<
   private Duration timeout;
   private Collection<State> initialStates;
 
+  @Nullable
+  private Double bucketQueueWidth;
+
   public AStarBuilder() {}
 
   public AStarBuilder<State, Edge, Vertex> withHeuristic(
@@ -110,6 +117,56 @@ public class AStarBuilder<
     return this;
   }
 
+  /**
+   * Use a {@link BucketQueue} with the given bucket width as the priority queue of the search,
+   * instead of the default {@link BinHeap}. The bucket queue is faster for searches visiting many
+   * states, if the bucket width is close to the weight of a typical edge.
+   */
+  public AStarBuilder<State, Edge, Vertex> withBucketQueue(double bucketWidth) {
+    this.bucketQueueWidth = bucketWidth;
+    return this;
+  }
+
+  /**
+   * Build a {@link BidirectionalAStar} search. The search in the direction of the request is
+   * created from this builder. The reverse search uses the same dominance function, skip edge
+   * strategy and timeout, and starts from the given states at the goal vertices, in the opposite
+   * direction, towards the initial vertices of this builder.
+   *
+   * @param reverseInitialStates The initial states of the reverse search. These must be states
+   *                             for the opposite direction of this builder.
+   * @param reverseHeuristic The heuristic of the reverse search, estimating the remaining weight
+   *                         to the initial vertices of this builder.
+   */
+  public BidirectionalAStar<State, Edge, Vertex> buildBidirectional(
+    Collection<State> reverseInitialStates,
+    RemainingWeightHeuristic<State> reverseHeuristic
+  ) {
+    var forward = build();
+    var reverse = new AStar<>(
+      reverseInitialStates,
+      !arriveBy,
+      dominanceFunction,
+      forward.initialVertices(),
+      reverseHeuristic,
+      null,
+      skipEdgeStrategy,
+      null,
+      timeout,
+      () -> {},
+      StatisticsCallback.NOOP,
+      createQueue()
+    );
+    return new BidirectionalAStar<>(
+      forward,
+      reverse,
+      timeout,
+      skipEdgeStrategy,
+      preStartHook,
+      statisticsCallback
+    );
+  }
+
   public AStar<State, Edge, Vertex> build() {
     return new AStar<>(
       initialStates,
@@ -122,7 +179,16 @@ public class AStarBuilder<
       terminationStrategy,
       timeout,
       preStartHook,
-      statisticsCallback
+      statisticsCallback,
+      createQueue()
     );
   }
+
+  private AStarQueue<State> createQueue() {
+    if (bucketQueueWidth != null) {
+      return new BucketQueue<>(bucketQueueWidth);
+    }
+    // Initialized with a reasonable size, see #4445
+    return new BinHeap<>(1000);
+  }
 }
@@ -0,0 +1,201 @@
+package org.opentripplanner.astar;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import org.opentripplanner.astar.model.GraphPath;
+import org.opentripplanner.astar.spi.AStarEdge;
+import org.opentripplanner.astar.spi.AStarState;
+import org.opentripplanner.astar.spi.AStarVertex;
+import org.opentripplanner.astar.spi.SkipEdgeStrategy;
+import org.opentripplanner.astar.spi.StatisticsCallback;
+import org.opentripplanner.utils.time.DateUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Find the shortest path between two sets of vertices by running two A* searches at the same time,
+ * one from the origin in the direction of the request, and one from the goal in the opposite
+ * direction. Every time a search adds a state at a vertex already reached by the other search, the
+ * two partial paths are combined into a candidate path. The search stops when the estimated weight
+ * of the next state in one of the searches is not less than the weight of the best candidate. This
+ * is correct as long as the heuristics never overestimate the remaining weight.
+ * <p>
+ * A candidate is created by traversing the edges of the reverse partial path from the meeting
+ * state of the forward search. This gives the path the same states as a unidirectional search
+ * would, and the weight of the candidate includes the costs depending on the previous edge, like
+ * turn costs and turn restrictions at the meeting vertex. Partial paths which can not be combined,
+ * because an edge can not be traversed from the forward state, are not candidates. The skip edge
+ * strategy is also applied to the edges of the reverse partial path, so a candidate is not longer
+ * than the limit of the strategy, even though each of the two searches is only limited on its
+ * own. If no candidate is found, the forward search continues alone until the same timeout.
+ * <p>
+ * Use this for point-to-point searches with a single state per vertex, like direct street searches
+ * with a weight-only dominance function. Searches where the state has to change along the path,
+ * like vehicle rental or park-and-ride, do not combine well, since the two partial paths might not
+ * have compatible states at the meeting vertex.
+ */
+public class BidirectionalAStar<
+  State extends AStarState<State, Edge, Vertex>,
+  Edge extends AStarEdge<State, Edge, Vertex>,
+  Vertex extends AStarVertex<State, Edge, Vertex>
+> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BidirectionalAStar.class);
+
+  private final AStar<State, Edge, Vertex> forward;
+  private final AStar<State, Edge, Vertex> reverse;
+  private final Duration timeout;
+
+  @Nullable
+  private final SkipEdgeStrategy<State, Edge> skipEdgeStrategy;
+
+  private final Runnable preSearchHook;
+  private final StatisticsCallback<Vertex> statisticsCallback;
+
+  private double bestWeight = Double.POSITIVE_INFINITY;
+
+  /** The last state of the best candidate path. */
+  @Nullable
+  private State best;
+
+  private long abortTime;
+  private boolean timedOut = false;
+
+  /// Create a bidirectional search
+  /// @param forward The search from the origin in the direction of the request
+  /// @param reverse The search from the goal in the opposite direction, the initial vertices of
+  ///                the forward search must be the goal vertices of this search.
+  /// @param skipEdgeStrategy The skip edge strategy of the two searches, applied to the combined
+  ///                         paths.
+  BidirectionalAStar(
+    AStar<State, Edge, Vertex> forward,
+    AStar<State, Edge, Vertex> reverse,
+    Duration timeout,
+    @Nullable SkipEdgeStrategy<State, Edge> skipEdgeStrategy,
+    Runnable preSearchHook,
+    StatisticsCallback<Vertex> statisticsCallback
+  ) {
+    this.forward = Objects.requireNonNull(forward);
+    this.reverse = Objects.requireNonNull(reverse);
+    this.timeout = Objects.requireNonNull(timeout);
+    this.skipEdgeStrategy = skipEdgeStrategy;
+    this.preSearchHook = Objects.requireNonNull(preSearchHook);
+    this.statisticsCallback = Objects.requireNonNull(statisticsCallback);
+
+    // The initial states are added before the listeners are set, so the origin and the goal
+    // might already be the same vertex
+    for (State s : forward.spt().getAllStates()) {
+      checkMeeting(s, reverse, true);
+    }
+    forward.setStateAddedListener(s -> checkMeeting(s, reverse, true));
+    reverse.setStateAddedListener(s -> checkMeeting(s, forward, false));
+  }
+
+  public List<GraphPath<State, Edge, Vertex>> getPathsToTarget() {
+    preSearchHook.run();
+    statisticsCallback.searchStarted();
+    var paths = findPaths();
+    statisticsCallback.searchFinished(
+      forward.initialVertices(),
+      reverse.initialVertices(),
+      forward.nVisited() + reverse.nVisited()
+    );
+    return paths;
+  }
+
+  private List<GraphPath<State, Edge, Vertex>> findPaths() {
+    runSearch();
+
+    if (best != null) {
+      return List.of(new GraphPath<>(best));
+    }
+    if (timedOut) {
+      return List.of();
+    }
+    LOG.debug("The forward and reverse paths could not be combined, continue forward search.");
+    forward.setStateAddedListener(null);
+    return forward.getPathsToTarget(abortTime);
+  }
+
+  private void runSearch() {
+    abortTime = DateUtils.absoluteTimeout(timeout);
+    int nIterations = 0;
+
+    while (true) {
+      if (++nIterations % 128 == 0 && System.currentTimeMillis() > abortTime) {
+        LOG.warn(
+          "Search timeout. origin={} target={}",
+          forward.initialVertices(),
+          reverse.initialVertices()
+        );
+        timedOut = true;
+        break;
+      }
+      double estimate = Math.max(forward.peekMinEstimate(), reverse.peekMinEstimate());
+
+      // No path with a lower weight than the best found can pass through a state not yet visited
+      // by the search with the highest estimate. The estimate is infinite if a queue is empty.
+      if (estimate >= bestWeight || estimate == Double.POSITIVE_INFINITY) {
+        break;
+      }
+      // Expand the search with the smallest queue, this keeps the two searches balanced
+      if (forward.queueSize() <= reverse.queueSize()) {
+        forward.iterate();
+      } else {
+        reverse.iterate();
+      }
+    }
+  }
+
+  private void checkMeeting(State state, AStar<State, Edge, Vertex> other, boolean isForward) {
+    for (State otherState : other.spt().getStates(state.getVertex())) {
+      // The sum of the weights does not include the turn at the meeting vertex, so it is not
+      // more than the weight of the candidate. It is used to skip candidates that can not be
+      // better than the best, without traversing the edges.
+      if (state.getWeight() + otherState.getWeight() >= bestWeight) {
+        continue;
+      }
+      State result = isForward ? splice(state, otherState) : splice(otherState, state);
+      if (result != null && result.isFinal() && result.getWeight() < bestWeight) {
+        bestWeight = result.getWeight();
+        best = result;
+      }
+    }
+  }
+
+  /**
+   * Traverse the edges of the reverse partial path, starting from the forward state. Return the
+   * state at the end of the path, or {@code null} if one of the edges can not be traversed or is
+   * skipped by the skip edge strategy, like a unidirectional search would skip it.
+   */
+  @Nullable
+  private State splice(State forwardState, State reverseState) {
+    var edges = new ArrayList<Edge>();
+    for (State cur = reverseState; cur.getBackState() != null; cur = cur.getBackState()) {
+      if (cur.getBackEdge() != null) {
+        edges.add(cur.getBackEdge());
+      }
+    }
+
+    State result = forwardState;
+    for (Edge edge : edges) {
+      if (skipEdgeStrategy != null && skipEdgeStrategy.shouldSkipEdge(result, edge)) {
+        return null;
+      }
+      State next = null;
+      for (State s : edge.traverse(result)) {
+        if (next == null || s.getWeight() < next.getWeight()) {
+          next = s;
+        }
+      }
+      if (next == null) {
+        return null;
+      }
+      result = next;
+    }
+    return result;
+  }
+}
@@ -0,0 +1,29 @@
+package org.opentripplanner.astar.model;
+
+/**
+ * The priority queue of the states to visit in an A* search. The element with the lowest key is
+ * extracted first.
+ *
+ * @see BinHeap
+ * @see BucketQueue
+ */
+public interface AStarQueue<T> {
+  int size();
+
+  boolean empty();
+
+  void insert(T e, double p);
+
+  /**
+   * Remove and return the element with the lowest key, or {@code null} if the queue is empty.
+   */
+  T extract_min();
+
+  /**
+   * The lowest key in the queue. Throws an {@link IllegalStateException} if the queue is empty.
+   */
+  double peek_min_key();
+
+  /** Remove all elements. */
+  void reset();
+}
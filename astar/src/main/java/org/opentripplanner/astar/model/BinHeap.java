@@ -2,7 +2,7 @@ package org.opentripplanner.astar.model;
 
 import java.util.Arrays;
 
-public class BinHeap<T> {
+public class BinHeap<T> implements AStarQueue<T> {
 
   private static final double GROW_FACTOR = 2.0;
 
@@ -30,14 +30,17 @@ public class BinHeap<T> {
     prio[0] = Double.NEGATIVE_INFINITY;
   }
 
+  @Override
   public int size() {
     return size;
   }
 
+  @Override
   public boolean empty() {
     return size <= 0;
   }
 
+  @Override
   public double peek_min_key() {
     if (size > 0) {
       return prio[1];
@@ -96,11 +99,13 @@ public class BinHeap<T> {
     prio[i] = p;
   }
 
+  @Override
   public void reset() {
     // empties the queue in one operation
     size = 0;
   }
 
+  @Override
   public void insert(T e, double p) {
     int i;
     size += 1;
@@ -115,6 +120,7 @@ public class BinHeap<T> {
     prio[i] = p;
   }
 
+  @Override
   public T extract_min() {
     int i, child;
     T minElem = elem[1];
@@ -0,0 +1,198 @@
+package org.opentripplanner.astar.model;
+
+import java.util.Arrays;
+
+/**
+ * A two-level bucket queue for the keys of a Dijkstra or A* search, which increase almost
+ * monotonically. The key range is split into buckets of a fixed width, stored in a circular array.
+ * Inserting an element appends it to the bucket of its key, which is O(1) and touches a single
+ * array. When the lowest bucket is reached, its elements are moved to a small {@link BinHeap},
+ * so the elements are still extracted in the exact order of the keys.
+ * <p>
+ * Keys further away than the number of buckets times the bucket width are kept in an overflow
+ * bucket, which is distributed to the buckets when the search reaches them. Keys lower than the
+ * current bucket go directly to the heap, so the order is correct even if the keys are not
+ * monotonic, but the queue is only fast if most keys are in the buckets ahead of the current one.
+ * <p>
+ * The bucket width should be chosen so that a bucket holds a few states, a width close to the
+ * weight of a typical edge works well.
+ */
+public class BucketQueue<T> implements AStarQueue<T> {
+
+  private static final int DEFAULT_NUMBER_OF_BUCKETS = 1024;
+  private static final int INITIAL_BUCKET_CAPACITY = 8;
+  private static final long NO_INDEX = Long.MAX_VALUE;
+
+  private final double bucketWidth;
+  private final int mask;
+  private final Bucket[] buckets;
+  private final Bucket overflow = new Bucket();
+
+  /** The elements of the current bucket, and all elements with a lower key. */
+  private final BinHeap<T> current = new BinHeap<>(100);
+
+  private long currentIndex;
+  private long overflowMinIndex = NO_INDEX;
+
+  /** The number of elements in the buckets, not including the current heap and the overflow. */
+  private int nInBuckets;
+  private int size;
+
+  public BucketQueue(double bucketWidth) {
+    this(bucketWidth, DEFAULT_NUMBER_OF_BUCKETS);
+  }
+
+  /**
+   * @param numberOfBuckets must be a power of two.
+   */
+  public BucketQueue(double bucketWidth, int numberOfBuckets) {
+    if (!(bucketWidth > 0.0)) {
+      throw new IllegalArgumentException("The bucket width must be positive: " + bucketWidth);
+    }
+    if (Integer.bitCount(numberOfBuckets) != 1) {
+      throw new IllegalArgumentException(
+        "The number of buckets must be a power of two: " + numberOfBuckets
+      );
+    }
+    this.bucketWidth = bucketWidth;
+    this.mask = numberOfBuckets - 1;
+    this.buckets = new Bucket[numberOfBuckets];
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean empty() {
+    return size <= 0;
+  }
+
+  @Override
+  public void insert(T e, double p) {
+    if (size == 0) {
+      // All buckets are empty, start at the bucket of the new key
+      currentIndex = index(p);
+    }
+    size += 1;
+    add(e, p);
+  }
+
+  @Override
+  public T extract_min() {
+    if (size <= 0) {
+      return null;
+    }
+    fillCurrent();
+    size -= 1;
+    return current.extract_min();
+  }
+
+  @Override
+  public double peek_min_key() {
+    if (size <= 0) {
+      throw new IllegalStateException("An empty queue does not have a minimum key.");
+    }
+    fillCurrent();
+    return current.peek_min_key();
+  }
+
+  @Override
+  public void reset() {
+    for (Bucket bucket : buckets) {
+      if (bucket != null) {
+        bucket.clear();
+      }
+    }
+    overflow.clear();
+    current.reset();
+    overflowMinIndex = NO_INDEX;
+    nInBuckets = 0;
+    size = 0;
+  }
+
+  private long index(double p) {
+    return (long) Math.floor(p / bucketWidth);
+  }
+
+  private void add(T e, double p) {
+    long index = index(p);
+    if (index <= currentIndex) {
+      current.insert(e, p);
+    } else if (index - currentIndex <= mask) {
+      int i = (int) (index & mask);
+      if (buckets[i] == null) {
+        buckets[i] = new Bucket();
+      }
+      buckets[i].add(e, p);
+      nInBuckets += 1;
+    } else {
+      overflow.add(e, p);
+      overflowMinIndex = Math.min(overflowMinIndex, index);
+    }
+  }
+
+  /**
+   * Move on to the next non-empty bucket until the current heap has elements. The queue must not
+   * be empty.
+   */
+  @SuppressWarnings("unchecked")
+  private void fillCurrent() {
+    while (current.empty()) {
+      // If the buckets are empty, skip directly to the lowest key in the overflow
+      currentIndex = nInBuckets == 0 ? overflowMinIndex : currentIndex + 1;
+
+      if (currentIndex == overflowMinIndex) {
+        distributeOverflow();
+      }
+      Bucket bucket = buckets[(int) (currentIndex & mask)];
+      if (bucket != null && bucket.size > 0) {
+        for (int i = 0; i < bucket.size; ++i) {
+          current.insert((T) bucket.elements[i], bucket.keys[i]);
+        }
+        nInBuckets -= bucket.size;
+        bucket.clear();
+      }
+    }
+  }
+
+  /**
+   * Add the overflow elements again, now that the current bucket has reached the lowest of them.
+   * The elements still out of range are written back to the start of the overflow arrays.
+   */
+  @SuppressWarnings("unchecked")
+  private void distributeOverflow() {
+    int n = overflow.size;
+    overflow.size = 0;
+    overflowMinIndex = NO_INDEX;
+    for (int i = 0; i < n; ++i) {
+      T e = (T) overflow.elements[i];
+      double p = overflow.keys[i];
+      overflow.elements[i] = null;
+      add(e, p);
+    }
+  }
+
+  private static final class Bucket {
+
+    private Object[] elements = new Object[INITIAL_BUCKET_CAPACITY];
+    private double[] keys = new double[INITIAL_BUCKET_CAPACITY];
+    private int size = 0;
+
+    private void add(Object e, double p) {
+      if (size == keys.length) {
+        elements = Arrays.copyOf(elements, size * 2);
+        keys = Arrays.copyOf(keys, size * 2);
+      }
+      elements[size] = e;
+      keys[size] = p;
+      size += 1;
+    }
+
+    private void clear() {
+      Arrays.fill(elements, 0, size, null);
+      size = 0;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package org.opentripplanner.astar.model;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.opentripplanner.astar.spi.AStarVertex;
+
+/**
+ * A map from vertex to value using the dense {@link AStarVertex#index()} of the vertex as the
+ * position in an array. Vertices without an index are stored in a {@link SegmentedIdentityMap}.
+ * <p>
+ * A search usually visits a small part of a large graph, so the array is split into pages
+ * allocated on first use. The graph assigns indexes in spatial order, so the vertices visited by
+ * a search are clustered on a few pages.
+ * <p>
+ * No remove operation — entries are never removed from ShortestPathTree. Does not implement
+ * {@link java.util.Map}.
+ */
+class IndexedVertexMap<K extends AStarVertex<?, ?, ?>, V> {
+
+  private static final int PAGE_BITS = 8;
+  private static final int PAGE_SIZE = 1 << PAGE_BITS;
+  private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+  private Object[][] pages = new Object[64][];
+  private int pagesSize = 0;
+  private final SegmentedIdentityMap<K, V> notIndexed;
+
+  IndexedVertexMap(int expectedNotIndexedSize) {
+    this.notIndexed = new SegmentedIdentityMap<>(expectedNotIndexedSize);
+  }
+
+  @SuppressWarnings("unchecked")
+  V get(K key) {
+    int index = key.index();
+    if (index < 0) {
+      return notIndexed.get(key);
+    }
+    int p = index >>> PAGE_BITS;
+    if (p >= pages.length) {
+      return null;
+    }
+    Object[] page = pages[p];
+    return page == null ? null : (V) page[index & PAGE_MASK];
+  }
+
+  @SuppressWarnings("unchecked")
+  V put(K key, V value) {
+    int index = key.index();
+    if (index < 0) {
+      return notIndexed.put(key, value);
+    }
+    int p = index >>> PAGE_BITS;
+    if (p >= pages.length) {
+      pages = Arrays.copyOf(pages, Math.max(p + 1, pages.length * 2));
+    }
+    Object[] page = pages[p];
+    if (page == null) {
+      page = new Object[PAGE_SIZE];
+      pages[p] = page;
+    }
+    int i = index & PAGE_MASK;
+    V old = (V) page[i];
+    page[i] = value;
+    if (old == null) {
+      ++pagesSize;
+    }
+    return old;
+  }
+
+  int size() {
+    return pagesSize + notIndexed.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  void forEachValue(Consumer<V> action) {
+    for (Object[] page : pages) {
+      if (page != null) {
+        for (Object value : page) {
+          if (value != null) {
+            action.accept((V) value);
+          }
+        }
+      }
+    }
+    notIndexed.forEachValue(action);
+  }
+}
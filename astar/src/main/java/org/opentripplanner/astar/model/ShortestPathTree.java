@@ -35,12 +35,13 @@ public class ShortestPathTree<
   public final DominanceFunction<State> dominanceFunction;
 
   // Value is either a single State (common case) or List<State> (multi-state vertices)
-  private final SegmentedIdentityMap<Vertex, Object> stateSets;
+  private final IndexedVertexMap<Vertex, Object> stateSets;
 
   public ShortestPathTree(DominanceFunction<State> dominanceFunction) {
     this.dominanceFunction = dominanceFunction;
-    // Initialized with a reasonable size, see #4445
-    stateSets = new SegmentedIdentityMap<>(25_000);
+    // Only temporary vertices and vertices added after the graph is indexed are hashed, so the
+    // map for these can start small. See #4445 for the sizing of the hash map.
+    stateSets = new IndexedVertexMap<>(1_000);
   }
 
   /** @return a single optimal, optionally back-optimized path to the given vertex. */
@@ -137,6 +138,22 @@ public class ShortestPathTree<
     return ret;
   }
 
+  /**
+   * Return all states at the given vertex, including states that are not final, or an empty list
+   * if the vertex is not reached.
+   */
+  @SuppressWarnings("unchecked")
+  public List<State> getStates(Vertex vertex) {
+    Object existing = stateSets.get(vertex);
+    if (existing == null) {
+      return List.of();
+    }
+    if (existing instanceof List) {
+      return (List<State>) existing;
+    }
+    return List.of((State) existing);
+  }
+
   /**
    * The visit method should be called upon extracting a State from a priority queue. It checks
    * whether the State is still worth visiting (i.e. whether it has been dominated since it was
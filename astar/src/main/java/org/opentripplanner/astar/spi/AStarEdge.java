@@ -1,5 +1,7 @@
 package org.opentripplanner.astar.spi;
 
+import java.util.function.Consumer;
+
 /**
  * Represents an edge in the street network. Most edges have a one-to-one mapping to real world
  * things like street segments or stairs.
@@ -42,4 +44,16 @@ public interface AStarEdge<
    *         that the destination is inside the zone.
    */
   State[] traverse(State s0);
+
+  /**
+   * Traverse the edge from a given state and pass each resulting state to the given consumer, in
+   * the same order as they are returned by {@link #traverse(AStarState)}. This is used by the
+   * search, and lets edges traversed often avoid allocating the result array. The default
+   * implementation delegates to {@link #traverse(AStarState)}.
+   */
+  default void traverse(State s0, Consumer<State> result) {
+    for (State s : traverse(s0)) {
+      result.accept(s);
+    }
+  }
 }
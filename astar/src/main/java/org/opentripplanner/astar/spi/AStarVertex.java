@@ -7,6 +7,18 @@ public interface AStarVertex<
   Edge extends AStarEdge<State, Edge, Vertex>,
   Vertex extends AStarVertex<State, Edge, Vertex>
 > {
+  /** The index of a vertex not assigned a dense index, see {@link #index()}. */
+  int NO_INDEX = -1;
+
+  /**
+   * A dense, non-negative index of the vertex in its graph, or {@link #NO_INDEX}. The index lets
+   * the search store states in arrays instead of hashing the vertex. Vertices without an index,
+   * like temporary vertices created for a request, are supported but slower.
+   */
+  default int index() {
+    return NO_INDEX;
+  }
+
   /**
    * Get a collection containing all the edges leading from this vertex to other vertices. There is
    * probably some overhead to creating the wrapper ArrayList objects, but this allows filtering and
@@ -1,5 +1,7 @@
 package org.opentripplanner.astar;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.opentripplanner.astar.spi.AStarEdge;
 
 public class TestEdge implements AStarEdge<TestState, TestEdge, TestVertex> {
@@ -8,6 +10,9 @@ public class TestEdge implements AStarEdge<TestState, TestEdge, TestVertex> {
   private final TestVertex to;
   private final double weight;
 
+  /** The cost of turning from the key edge onto this edge. */
+  private final Map<TestEdge, Double> turnCosts = new HashMap<>();
+
   TestEdge(TestVertex from, TestVertex to, double weight) {
     this.from = from;
     this.to = to;
@@ -26,8 +31,28 @@ public class TestEdge implements AStarEdge<TestState, TestEdge, TestVertex> {
     return to;
   }
 
+  /**
+   * Add a cost for turning from the given edge onto this edge. The cost is only added for states
+   * keeping the path, see {@link TestState#initialStateWithPath(TestVertex, boolean)}.
+   */
+  void addTurnCost(TestEdge from, double cost) {
+    turnCosts.put(from, cost);
+  }
+
   @Override
   public TestState[] traverse(TestState s0) {
-    return new TestState[] { new TestState(to, s0.getWeight() + weight) };
+    return new TestState[] { s0.traverse(this, weight + turnCost(s0)) };
+  }
+
+  /** The cost of the turn between the back edge of the state and this edge. */
+  private double turnCost(TestState s0) {
+    var backEdge = s0.getBackEdge();
+    if (backEdge == null) {
+      return 0;
+    }
+    // In an arrive-by search the back edge is the next edge in the direction of travel
+    return s0.getRequest().arriveBy()
+      ? backEdge.turnCosts.getOrDefault(this, 0.0)
+      : turnCosts.getOrDefault(backEdge, 0.0);
   }
 }
@@ -1,6 +1,7 @@
 package org.opentripplanner.astar;
 
 import java.time.Instant;
+import javax.annotation.Nullable;
 import org.opentripplanner.astar.spi.AStarRequest;
 import org.opentripplanner.astar.spi.AStarState;
 
@@ -9,15 +10,55 @@ public class TestState implements AStarState<TestState, TestEdge, TestVertex> {
   private final TestVertex vertex;
   private final double weight;
   private final long elapsedTimeSeconds;
+  private final boolean arriveBy;
+
+  /** The back state and edge are only kept if {@code keepPath} is set. */
+  private final boolean keepPath;
+
+  @Nullable
+  private final TestState backState;
+
+  @Nullable
+  private final TestEdge backEdge;
 
   public TestState(TestVertex vertex, double weight) {
     this(vertex, weight, 0);
   }
 
   public TestState(TestVertex vertex, double weight, long elapsedTimeSeconds) {
+    this(vertex, weight, elapsedTimeSeconds, false, false, null, null);
+  }
+
+  private TestState(
+    TestVertex vertex,
+    double weight,
+    long elapsedTimeSeconds,
+    boolean arriveBy,
+    boolean keepPath,
+    @Nullable TestState backState,
+    @Nullable TestEdge backEdge
+  ) {
     this.vertex = vertex;
     this.weight = weight;
     this.elapsedTimeSeconds = elapsedTimeSeconds;
+    this.arriveBy = arriveBy;
+    this.keepPath = keepPath;
+    this.backState = backState;
+    this.backEdge = backEdge;
+  }
+
+  /**
+   * Create an initial state, which keeps track of the path, for a search in the given direction.
+   */
+  public static TestState initialStateWithPath(TestVertex vertex, boolean arriveBy) {
+    return new TestState(vertex, 0, 0, arriveBy, true, null, null);
+  }
+
+  TestState traverse(TestEdge edge, double edgeWeight) {
+    var next = arriveBy ? edge.getFromVertex() : edge.getToVertex();
+    return keepPath
+      ? new TestState(next, weight + edgeWeight, 0, arriveBy, true, this, edge)
+      : new TestState(next, weight + edgeWeight);
   }
 
   @Override
@@ -27,7 +68,7 @@ public class TestState implements AStarState<TestState, TestEdge, TestVertex> {
 
   @Override
   public TestState getBackState() {
-    return null;
+    return backState;
   }
 
   @Override
@@ -37,7 +78,7 @@ public class TestState implements AStarState<TestState, TestEdge, TestVertex> {
 
   @Override
   public TestEdge getBackEdge() {
-    return null;
+    return backEdge;
   }
 
   @Override
@@ -67,6 +108,6 @@ public class TestState implements AStarState<TestState, TestEdge, TestVertex> {
 
   @Override
   public AStarRequest getRequest() {
-    return () -> false;
+    return () -> arriveBy;
   }
 }
@@ -7,11 +7,17 @@ import org.opentripplanner.astar.spi.AStarVertex;
 public class TestVertex implements AStarVertex<TestState, TestEdge, TestVertex> {
 
   private final String name;
+  private final int index;
   private final Collection<TestEdge> incoming = new ArrayList<>();
   private final Collection<TestEdge> outgoing = new ArrayList<>();
 
-  public TestVertex(String name) {
+  public TestVertex(String name, int index) {
     this.name = name;
+    this.index = index;
+  }
+
+  public TestVertex(String name) {
+    this(name, NO_INDEX);
   }
 
   public TestVertex() {
@@ -22,6 +28,11 @@ public class TestVertex implements AStarVertex<TestState, TestEdge, TestVertex>
     return name;
   }
 
+  @Override
+  public int index() {
+    return index;
+  }
+
   @Override
   public Collection<TestEdge> getOutgoing() {
     return outgoing;
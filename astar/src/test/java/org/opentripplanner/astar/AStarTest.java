@@ -3,6 +3,8 @@ package org.opentripplanner.astar;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class AStarTest {
 
@@ -49,8 +51,9 @@ class AStarTest {
     assertEquals(vC, states.getFirst().getVertex());
   }
 
-  @Test
-  void moreEdgesButLowerCost() {
+  @ParameterizedTest(name = "bucket queue: {0}")
+  @ValueSource(booleans = { false, true })
+  void moreEdgesButLowerCost(boolean bucketQueue) {
     var from = vertex("A");
     var vB1 = vertex("B1");
     var vB2 = vertex("B2");
@@ -63,7 +66,11 @@ class AStarTest {
     edges(vB2, vC, 5);
     edges(vC, to, 5);
 
-    var tree = TestAStarBuilder.ofDefault(from, to).build().getShortestPathTree();
+    var builder = TestAStarBuilder.ofDefault(from, to);
+    if (bucketQueue) {
+      builder.withBucketQueue(4);
+    }
+    var tree = builder.build().getShortestPathTree();
 
     var path = tree.getPath(to);
 
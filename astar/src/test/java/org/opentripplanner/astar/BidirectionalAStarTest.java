@@ -0,0 +1,199 @@
+package org.opentripplanner.astar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.astar.spi.SkipEdgeStrategy;
+import org.opentripplanner.astar.spi.StatisticsCallback;
+
+class BidirectionalAStarTest {
+
+  private static final int SIZE = 6;
+
+  private final TestVertex[][] grid = new TestVertex[SIZE][SIZE];
+
+  @Test
+  void sameWeightAsUnidirectionalSearch() {
+    createGrid();
+    var origin = grid[0][0];
+    var destination = grid[SIZE - 1][SIZE - 1];
+
+    var expected = search(origin, destination).build().getPathsToTarget();
+    var paths = search(origin, destination)
+      .buildBidirectional(List.of(TestState.initialStateWithPath(destination, true)), s -> 0)
+      .getPathsToTarget();
+
+    assertEquals(1, expected.size());
+    assertEquals(1, paths.size());
+    var path = paths.getFirst();
+    assertEquals(expected.getFirst().getWeight(), path.getWeight());
+    assertEquals(origin, path.states.getFirst().getVertex());
+    assertEquals(destination, path.states.getLast().getVertex());
+    assertEquals(path.states.size() - 1, path.edges.size());
+  }
+
+  @Test
+  void oneWayEdges() {
+    var a = new TestVertex("A");
+    var b = new TestVertex("B");
+    var c = new TestVertex("C");
+    var d = new TestVertex("D");
+    // The direct edge is only in the wrong direction
+    new TestEdge(d, a, 1);
+    new TestEdge(a, b, 3);
+    new TestEdge(b, c, 3);
+    new TestEdge(c, d, 3);
+
+    var paths = search(a, d)
+      .buildBidirectional(List.of(TestState.initialStateWithPath(d, true)), s -> 0)
+      .getPathsToTarget();
+
+    assertEquals(1, paths.size());
+    assertEquals(9, paths.getFirst().getWeight());
+    var vertices = paths.getFirst().states.stream().map(TestState::getVertex).toList();
+    assertEquals(List.of(a, b, c, d), vertices);
+  }
+
+  @Test
+  void turnCostAtTheMeetingVertex() {
+    var a = new TestVertex("A");
+    var b = new TestVertex("B");
+    var m = new TestVertex("M");
+    var d = new TestVertex("D");
+    var am = new TestEdge(a, m, 1);
+    var md = new TestEdge(m, d, 1);
+    new TestEdge(a, b, 3);
+    new TestEdge(b, d, 3);
+    // The searches meet at M first, but the turn there makes the path through B shorter
+    md.addTurnCost(am, 10);
+
+    var paths = search(a, d)
+      .buildBidirectional(List.of(TestState.initialStateWithPath(d, true)), s -> 0)
+      .getPathsToTarget();
+
+    assertEquals(1, paths.size());
+    assertEquals(6, paths.getFirst().getWeight());
+    var vertices = paths.getFirst().states.stream().map(TestState::getVertex).toList();
+    assertEquals(List.of(a, b, d), vertices);
+  }
+
+  @Test
+  void noPath() {
+    var a = new TestVertex("A");
+    var b = new TestVertex("B");
+    var c = new TestVertex("C");
+    new TestEdge(a, b, 1);
+    new TestEdge(c, b, 1);
+
+    var paths = search(a, c)
+      .buildBidirectional(List.of(TestState.initialStateWithPath(c, true)), s -> 0)
+      .getPathsToTarget();
+
+    assertTrue(paths.isEmpty());
+  }
+
+  @Test
+  void combinedPathLongerThanSkipEdgeLimit() {
+    var a = new TestVertex("A");
+    var b = new TestVertex("B");
+    var c = new TestVertex("C");
+    var d = new TestVertex("D");
+    new TestEdge(a, b, 3);
+    new TestEdge(b, c, 3);
+    new TestEdge(c, d, 3);
+    // Each of the searches reaches the middle of the path within the limit, but the whole path
+    // is over it
+    SkipEdgeStrategy<TestState, TestEdge> limit = (s, e) -> s.getWeight() > 4;
+
+    var expected = search(a, d).withSkipEdgeStrategy(limit).build().getPathsToTarget();
+    var paths = search(a, d)
+      .withSkipEdgeStrategy(limit)
+      .buildBidirectional(List.of(TestState.initialStateWithPath(d, true)), s -> 0)
+      .getPathsToTarget();
+
+    assertTrue(expected.isEmpty());
+    assertTrue(paths.isEmpty());
+  }
+
+  @Test
+  void searchIsReportedOnceWhenTheForwardSearchContinues() {
+    var a = new TestVertex("A");
+    var b = new TestVertex("B");
+    var c = new TestVertex("C");
+    new TestEdge(a, b, 1);
+    new TestEdge(c, b, 1);
+    var statistics = new CountingStatisticsCallback();
+
+    var paths = search(a, c)
+      .withStatisticsCallback(statistics)
+      .buildBidirectional(List.of(TestState.initialStateWithPath(c, true)), s -> 0)
+      .getPathsToTarget();
+
+    assertTrue(paths.isEmpty());
+    assertEquals(1, statistics.started);
+    assertEquals(1, statistics.finished);
+  }
+
+  private static AStarBuilder<TestState, TestEdge, TestVertex> search(
+    TestVertex origin,
+    TestVertex destination
+  ) {
+    return new AStarBuilder<TestState, TestEdge, TestVertex>()
+      .withGoalVertices(Set.of(destination))
+      .withTimeout(Duration.ofMinutes(5))
+      .withDominanceFunction((a, b) -> a.getWeight() <= b.getWeight())
+      .withHeuristic(s -> 0)
+      .withInitialStates(List.of(TestState.initialStateWithPath(origin, false)));
+  }
+
+  /**
+   * A grid where the weight of the edges depends on the position, so there is a single shortest
+   * path.
+   */
+  private void createGrid() {
+    for (int i = 0; i < SIZE; ++i) {
+      for (int j = 0; j < SIZE; ++j) {
+        grid[i][j] = new TestVertex("V" + i + j);
+      }
+    }
+    for (int i = 0; i < SIZE; ++i) {
+      for (int j = 0; j < SIZE; ++j) {
+        if (j + 1 < SIZE) {
+          edges(grid[i][j], grid[i][j + 1], 1 + ((i * 7 + j * 3) % 5));
+        }
+        if (i + 1 < SIZE) {
+          edges(grid[i][j], grid[i + 1][j], 1 + ((i * 3 + j * 7) % 5));
+        }
+      }
+    }
+  }
+
+  private static void edges(TestVertex from, TestVertex to, double weight) {
+    new TestEdge(from, to, weight);
+    new TestEdge(to, from, weight);
+  }
+
+  private static class CountingStatisticsCallback implements StatisticsCallback<TestVertex> {
+
+    private int started = 0;
+    private int finished = 0;
+
+    @Override
+    public void searchStarted() {
+      started++;
+    }
+
+    @Override
+    public void searchFinished(
+      Set<TestVertex> fromVertices,
+      Set<TestVertex> toVertices,
+      int verticesVisited
+    ) {
+      finished++;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package org.opentripplanner.astar.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class BucketQueueTest {
+
+  private static final int N = 10_000;
+  private final Random random = new Random(42);
+
+  @Test
+  void extractInKeyOrder() {
+    // Only 16 buckets of width 10, so most keys start in the overflow
+    var subject = new BucketQueue<Double>(10.0, 16);
+    var keys = random.doubles(N, 0, 10_000).boxed().toList();
+    keys.forEach(it -> subject.insert(it, it));
+
+    assertEquals(N, subject.size());
+    assertEquals(sorted(keys), extractAll(subject));
+    assertTrue(subject.empty());
+  }
+
+  @Test
+  void extractInKeyOrderWithMonotoneInserts() {
+    var subject = new BucketQueue<Double>(5.0, 64);
+    var result = new ArrayList<Double>();
+    subject.insert(0.0, 0.0);
+    int inserted = 1;
+
+    while (!subject.empty()) {
+      double key = subject.peek_min_key();
+      assertEquals(key, subject.extract_min());
+      result.add(key);
+      for (int i = 0; i < 3 && inserted < N; ++i, ++inserted) {
+        double next = key + random.nextDouble() * 1000;
+        subject.insert(next, next);
+      }
+    }
+    assertEquals(N, result.size());
+    assertEquals(sorted(result), result);
+  }
+
+  @Test
+  void keysNotMultiplesOfBucketWidth() {
+    // Several keys share a bucket, and some are just below or above a bucket boundary
+    var subject = new BucketQueue<Double>(4.0, 4);
+    for (double key : List.of(5.5, 4.1, 7.99, 8.0, 3.99, 6.3, 4.0, 8.01, 23.7, 21.3)) {
+      subject.insert(key, key);
+    }
+
+    assertEquals(3.99, subject.extract_min());
+    assertEquals(4.0, subject.extract_min());
+
+    // Inserted into the current bucket, lower than the keys left in it
+    subject.insert(4.05, 4.05);
+    // Inserted into the next bucket, lower than the key left in it
+    subject.insert(8.005, 8.005);
+    // Inserted below the current bucket
+    subject.insert(2.5, 2.5);
+
+    assertEquals(
+      List.of(2.5, 4.05, 4.1, 5.5, 6.3, 7.99, 8.0, 8.005, 8.01, 21.3, 23.7),
+      extractAll(subject)
+    );
+  }
+
+  @Test
+  void keyLowerThanCurrentBucket() {
+    var subject = new BucketQueue<Double>(1.0, 4);
+    subject.insert(10.0, 10.0);
+    subject.insert(12.0, 12.0);
+    assertEquals(10.0, subject.extract_min());
+
+    // The key is lower than the last key extracted, it is still extracted first
+    subject.insert(3.5, 3.5);
+    subject.insert(11.0, 11.0);
+    subject.insert(100.0, 100.0);
+
+    assertEquals(List.of(3.5, 11.0, 12.0, 100.0), extractAll(subject));
+  }
+
+  @Test
+  void emptyQueue() {
+    var subject = new BucketQueue<Double>(1.0);
+
+    assertNull(subject.extract_min());
+    assertThrows(IllegalStateException.class, subject::peek_min_key);
+
+    subject.insert(7.0, 7.0);
+    subject.insert(2000.0, 2000.0);
+    subject.reset();
+
+    assertTrue(subject.empty());
+    assertNull(subject.extract_min());
+
+    // The queue can be used after a reset, starting at a lower key
+    subject.insert(1.0, 1.0);
+    assertEquals(1.0, subject.peek_min_key());
+    assertEquals(List.of(1.0), extractAll(subject));
+  }
+
+  @Test
+  void invalidArguments() {
+    assertThrows(IllegalArgumentException.class, () -> new BucketQueue<>(0.0));
+    assertThrows(IllegalArgumentException.class, () -> new BucketQueue<>(1.0, 100));
+  }
+
+  private static List<Double> extractAll(BucketQueue<Double> queue) {
+    var result = new ArrayList<Double>();
+    while (!queue.empty()) {
+      result.add(queue.extract_min());
+    }
+    return result;
+  }
+
+  private static List<Double> sorted(List<Double> keys) {
+    return keys.stream().sorted(Comparator.naturalOrder()).toList();
+  }
+}
@@ -0,0 +1,64 @@
+package org.opentripplanner.astar.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.astar.TestVertex;
+
+class IndexedVertexMapTest {
+
+  @Test
+  void emptyMap() {
+    var map = new IndexedVertexMap<TestVertex, String>(4);
+    assertEquals(0, map.size());
+    assertNull(map.get(new TestVertex("A", 0)));
+    assertNull(map.get(new TestVertex("B", 1_000_000)));
+    assertNull(map.get(new TestVertex("C")));
+  }
+
+  @Test
+  void putAndGetIndexedVertex() {
+    var map = new IndexedVertexMap<TestVertex, String>(4);
+    var a = new TestVertex("A", 3);
+    var b = new TestVertex("B", 1_000_000);
+
+    assertNull(map.put(a, "a"));
+    assertNull(map.put(b, "b"));
+    assertEquals("a", map.get(a));
+    assertEquals("b", map.get(b));
+    assertNull(map.get(new TestVertex("C", 4)));
+    assertEquals(2, map.size());
+
+    assertEquals("a", map.put(a, "a2"));
+    assertEquals("a2", map.get(a));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  void vertexWithoutIndex() {
+    var map = new IndexedVertexMap<TestVertex, String>(4);
+    var a = new TestVertex("A");
+    var b = new TestVertex("B");
+
+    map.put(a, "a");
+    map.put(b, "b");
+    assertEquals("a", map.get(a));
+    assertEquals("b", map.get(b));
+    assertEquals(2, map.size());
+  }
+
+  @Test
+  void forEachValue() {
+    var map = new IndexedVertexMap<TestVertex, String>(4);
+    map.put(new TestVertex("A", 0), "a");
+    map.put(new TestVertex("B", 700), "b");
+    map.put(new TestVertex("C"), "c");
+
+    Set<String> values = new HashSet<>();
+    map.forEachValue(values::add);
+    assertEquals(Set.of("a", "b", "c"), values);
+  }
+}
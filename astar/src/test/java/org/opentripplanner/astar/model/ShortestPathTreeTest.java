@@ -124,6 +124,23 @@ class ShortestPathTreeTest {
     assertNotNull(spt.getPath(v));
   }
 
+  @Test
+  void indexedAndNotIndexedVertices() {
+    var spt = new ShortestPathTree<>(BY_WEIGHT);
+    var indexed = new TestVertex("A", 7);
+    var notIndexed = new TestVertex("B");
+    var s1 = new TestState(indexed, 1.0);
+    var s2 = new TestState(notIndexed, 2.0);
+
+    assertTrue(spt.add(s1));
+    assertTrue(spt.add(s2));
+    assertFalse(spt.add(new TestState(indexed, 3.0)));
+    assertEquals(s1, spt.getState(indexed));
+    assertEquals(s2, spt.getState(notIndexed));
+    assertNull(spt.getState(new TestVertex("C", 8)));
+    assertEquals(2, spt.getAllStates().size());
+  }
+
   @Test
   void toStringShowsVertexCount() {
     var spt = new ShortestPathTree<>(BY_WEIGHT);
@@ -0,0 +1,30 @@
+package org.opentripplanner.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run the JMH benchmarks with allocation profiling enabled. The {@link GCProfiler} reports the
+ * allocation rate and the number of bytes allocated per operation ({@code gc.alloc.rate.norm})
+ * for each benchmark. All standard JMH command line options are supported, for example:
+ * <pre>
+ * java -jar benchmark/target/benchmarks.jar ParetoSetBenchmark -rf json -rff result.json
+ * </pre>
+ */
+public class BenchmarkMain {
+
+  public static void main(String[] args) throws Exception {
+    var cmdOptions = new CommandLineOptions(args);
+
+    if (cmdOptions.shouldHelp() || cmdOptions.shouldList() || cmdOptions.shouldListProfilers()) {
+      Main.main(args);
+      return;
+    }
+
+    var options = new OptionsBuilder().parent(cmdOptions).addProfiler(GCProfiler.class).build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,89 @@
+package org.opentripplanner.benchmark.astar;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opentripplanner.astar.model.AStarQueue;
+import org.opentripplanner.astar.model.BinHeap;
+import org.opentripplanner.astar.model.BucketQueue;
+
+/**
+ * Benchmark the priority queues used by the A* search, the {@link BinHeap} and the
+ * {@link BucketQueue}. The {@code dijkstra} benchmark mimics the access pattern of a street
+ * search: each extracted element inserts a few new elements with a weight greater than the
+ * extracted one, so the keys are monotonically increasing. See also the
+ * {@code StreetSearchBenchmark} for the queues used in a street search.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AStarQueueBenchmark {
+
+  private static final long SEED = 42;
+  private static final int BRANCHING_FACTOR = 3;
+  private static final double BUCKET_WIDTH = 20.0;
+
+  @Param({ "1000", "100000" })
+  private int nElements;
+
+  @Param({ "BIN_HEAP", "BUCKET_QUEUE" })
+  private String queue;
+
+  private Integer[] elements;
+  private double[] keys;
+  private double[] edgeWeights;
+  private AStarQueue<Integer> heap;
+
+  @Setup
+  public void setup() {
+    heap = queue.equals("BUCKET_QUEUE") ? new BucketQueue<>(BUCKET_WIDTH) : new BinHeap<>();
+    var random = new Random(SEED);
+    elements = new Integer[nElements];
+    keys = new double[nElements];
+    for (int i = 0; i < nElements; ++i) {
+      elements[i] = i;
+      keys[i] = random.nextDouble() * 10_000;
+    }
+    edgeWeights = random.doubles(nElements * BRANCHING_FACTOR, 1, 100).toArray();
+  }
+
+  @Benchmark
+  public void insertAndExtractAll(Blackhole bh) {
+    heap.reset();
+    for (int i = 0; i < nElements; ++i) {
+      heap.insert(elements[i], keys[i]);
+    }
+    while (!heap.empty()) {
+      bh.consume(heap.extract_min());
+    }
+  }
+
+  @Benchmark
+  public void dijkstra(Blackhole bh) {
+    heap.reset();
+    heap.insert(elements[0], 0);
+    int inserted = 1;
+    int w = 0;
+    while (!heap.empty()) {
+      double key = heap.peek_min_key();
+      bh.consume(heap.extract_min());
+      for (int i = 0; i < BRANCHING_FACTOR && inserted < nElements; ++i) {
+        heap.insert(elements[inserted++], key + edgeWeights[w++]);
+      }
+    }
+  }
+}
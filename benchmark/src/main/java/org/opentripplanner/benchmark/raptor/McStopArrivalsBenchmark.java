@@ -0,0 +1,125 @@
+package org.opentripplanner.benchmark.raptor;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opentripplanner.raptor._data.transit.TestAccessEgress;
+import org.opentripplanner.raptor._data.transit.TestTripSchedule;
+import org.opentripplanner.raptor.api.debug.DebugLogger;
+import org.opentripplanner.raptor.api.request.DebugRequest;
+import org.opentripplanner.raptor.rangeraptor.debug.DebugHandlerFactory;
+import org.opentripplanner.raptor.rangeraptor.lifecycle.LifeCycleSubscriptions;
+import org.opentripplanner.raptor.rangeraptor.multicriteria.arrivals.McStopArrivals;
+import org.opentripplanner.raptor.rangeraptor.multicriteria.arrivals.stop.ArrivalParetoSetComparatorFactory;
+import org.opentripplanner.raptor.rangeraptor.multicriteria.arrivals.stop.McStopArrival;
+import org.opentripplanner.raptor.rangeraptor.multicriteria.arrivals.stop.StopArrivalFactoryC1;
+
+/**
+ * Add random stop arrivals to a new {@link McStopArrivals} instance, and check random arrivals
+ * for dominance against a populated instance. Both the allocation of the per-stop pareto sets
+ * and the pareto comparison is included in the {@code addStopArrivals} benchmark.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class McStopArrivalsBenchmark {
+
+  private static final long SEED = 42;
+  private static final int DEPARTURE_TIME = 8 * 3600;
+  private static final DebugRequest NO_DEBUG = new DebugRequest(
+    List.of(),
+    List.of(),
+    0,
+    null,
+    null,
+    null,
+    DebugLogger.noop()
+  );
+
+  @Param({ "1000", "50000" })
+  private int nStops;
+
+  @Param({ "10000" })
+  private int nArrivals;
+
+  private McStopArrival<TestTripSchedule>[] arrivals;
+  private int[] candidateStops;
+  private int[] candidateTimes;
+  private int[] candidateC1s;
+  private McStopArrivals<TestTripSchedule> populated;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    var random = new Random(SEED);
+    var factory = new StopArrivalFactoryC1<TestTripSchedule>();
+    arrivals = new McStopArrival[nArrivals];
+    for (int i = 0; i < nArrivals; ++i) {
+      var access = TestAccessEgress.walk(
+        random.nextInt(nStops),
+        60 + random.nextInt(1800),
+        random.nextInt(5000)
+      );
+      arrivals[i] = factory.createAccessStopArrival(DEPARTURE_TIME, access);
+    }
+    candidateStops = random.ints(nArrivals, 0, nStops).toArray();
+    candidateTimes = random.ints(nArrivals, DEPARTURE_TIME, DEPARTURE_TIME + 1900).toArray();
+    candidateC1s = random.ints(nArrivals, 0, 5000).toArray();
+
+    populated = createStopArrivals();
+    for (var it : arrivals) {
+      populated.addStopArrival(it);
+    }
+  }
+
+  @Benchmark
+  public McStopArrivals<TestTripSchedule> addStopArrivals() {
+    var subject = createStopArrivals();
+    for (var it : arrivals) {
+      subject.addStopArrival(it);
+    }
+    return subject;
+  }
+
+  @Benchmark
+  public void isDominatedByExistingArrival(Blackhole bh) {
+    for (int i = 0; i < candidateStops.length; ++i) {
+      bh.consume(
+        populated.isDominatedByExistingArrival(
+          candidateStops[i],
+          candidateTimes[i],
+          0,
+          candidateC1s[i],
+          false
+        )
+      );
+    }
+  }
+
+  private McStopArrivals<TestTripSchedule> createStopArrivals() {
+    return new McStopArrivals<>(
+      nStops,
+      new TIntHashSet(),
+      new TIntObjectHashMap<>(),
+      ArrivalParetoSetComparatorFactory.ofCompareC1(),
+      new DebugHandlerFactory<>(NO_DEBUG, new LifeCycleSubscriptions())
+    );
+  }
+}
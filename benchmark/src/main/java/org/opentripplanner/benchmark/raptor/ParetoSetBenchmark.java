@@ -0,0 +1,59 @@
+package org.opentripplanner.benchmark.raptor;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentripplanner.raptor.util.paretoset.ParetoSet;
+
+/**
+ * Add a fixed sequence of random vectors with three criteria to a {@link ParetoSet}. The set is
+ * cleared before each operation, so the result is the cost of building a pareto front from
+ * {@code nElements} candidates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParetoSetBenchmark {
+
+  private static final long SEED = 42;
+
+  @Param({ "100", "1000", "10000" })
+  private int nElements;
+
+  private Vector[] vectors;
+  private ParetoSet<Vector> set;
+
+  @Setup
+  public void setup() {
+    var random = new Random(SEED);
+    vectors = new Vector[nElements];
+    for (int i = 0; i < nElements; ++i) {
+      vectors[i] = new Vector(random.nextInt(1000), random.nextInt(10), random.nextInt(10_000));
+    }
+    set = ParetoSet.of((l, r) -> l.time < r.time || l.transfers < r.transfers || l.cost < r.cost);
+  }
+
+  @Benchmark
+  public int add() {
+    set.clear();
+    for (Vector v : vectors) {
+      set.add(v);
+    }
+    return set.size();
+  }
+
+  private record Vector(int time, int transfers, int cost) {}
+}
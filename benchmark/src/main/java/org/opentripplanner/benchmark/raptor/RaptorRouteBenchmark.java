@@ -0,0 +1,118 @@
+package org.opentripplanner.benchmark.raptor;
+
+import static org.opentripplanner.raptor._data.transit.TestAccessEgress.walk;
+import static org.opentripplanner.raptor._data.transit.TestTransfer.transfer;
+import static org.opentripplanner.raptor._data.transit.TestTripSchedule.schedule;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentripplanner.raptor.RaptorService;
+import org.opentripplanner.raptor._data.transit.TestRoute;
+import org.opentripplanner.raptor._data.transit.TestTransitData;
+import org.opentripplanner.raptor._data.transit.TestTripSchedule;
+import org.opentripplanner.raptor.api.request.RaptorProfile;
+import org.opentripplanner.raptor.api.request.RaptorRequest;
+import org.opentripplanner.raptor.api.request.RaptorRequestBuilder;
+import org.opentripplanner.raptor.api.response.RaptorResponse;
+import org.opentripplanner.raptor.configure.RaptorTestFactory;
+
+/**
+ * Route from one corner to the opposite corner of a synthetic grid network. Each row and each
+ * column of the grid is served by a route with a trip every {@link #TRIP_FREQUENCY} seconds, and
+ * there is a walking transfer from each stop to the next stop on the diagonal. This exercises
+ * the full Range Raptor search, including the trip search, stop arrival state, transfers and
+ * path mapping.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RaptorRouteBenchmark {
+
+  private static final int FIRST_DEPARTURE = 5 * 3600;
+  private static final int SERVICE_DURATION = 18 * 3600;
+  private static final int TRIP_FREQUENCY = 600;
+  private static final int TIME_BETWEEN_STOPS = 120;
+  private static final int TRANSFER_DURATION = 300;
+  private static final int ACCESS_EGRESS_DURATION = 180;
+  private static final int EDT = 8 * 3600;
+  private static final int LAT = 12 * 3600;
+  private static final int SEARCH_WINDOW = 3600;
+
+  /** The number of stops in each row and column of the grid. */
+  @Param({ "10", "30" })
+  private int gridSize;
+
+  @Param({ "STANDARD", "MULTI_CRITERIA" })
+  private RaptorProfile profile;
+
+  private final RaptorService<TestTripSchedule> service = RaptorTestFactory.raptorService();
+  private TestTransitData data;
+  private RaptorRequest<TestTripSchedule> request;
+
+  @Setup
+  public void setup() {
+    data = new TestTransitData();
+    int nTrips = SERVICE_DURATION / TRIP_FREQUENCY;
+
+    for (int i = 0; i < gridSize; ++i) {
+      int[] rowStops = new int[gridSize];
+      int[] columnStops = new int[gridSize];
+      int[] times = new int[gridSize];
+      for (int j = 0; j < gridSize; ++j) {
+        rowStops[j] = stop(i, j);
+        columnStops[j] = stop(j, i);
+        times[j] = FIRST_DEPARTURE + j * TIME_BETWEEN_STOPS;
+      }
+      // Offset the routes to avoid all routes departing at the same time
+      int offset = (i * 97) % TRIP_FREQUENCY;
+      data.withRoute(
+        TestRoute.route("R" + i, rowStops).withTimetable(
+          schedule().times(times).shiftTimes(offset).repeat(nTrips, TRIP_FREQUENCY)
+        )
+      );
+      data.withRoute(
+        TestRoute.route("C" + i, columnStops).withTimetable(
+          schedule().times(times).shiftTimes(offset + 53).repeat(nTrips, TRIP_FREQUENCY)
+        )
+      );
+    }
+    for (int i = 0; i < gridSize - 1; ++i) {
+      for (int j = 0; j < gridSize - 1; ++j) {
+        data.withTransfer(stop(i, j), transfer(stop(i + 1, j + 1), TRANSFER_DURATION));
+      }
+    }
+
+    request = new RaptorRequestBuilder<TestTripSchedule>()
+      .profile(profile)
+      .searchParams()
+      .earliestDepartureTime(EDT)
+      .latestArrivalTime(LAT)
+      .searchWindowInSeconds(SEARCH_WINDOW)
+      .addAccessPaths(walk(stop(0, 0), ACCESS_EGRESS_DURATION))
+      .addEgressPaths(walk(stop(gridSize - 1, gridSize - 1), ACCESS_EGRESS_DURATION))
+      .build();
+  }
+
+  @Benchmark
+  public RaptorResponse<TestTripSchedule> route() {
+    return service.route(request, data);
+  }
+
+  /** Stop index 0 is not used by the test data, so the stops start at 1. */
+  private int stop(int row, int column) {
+    return 1 + row * gridSize + column;
+  }
+}
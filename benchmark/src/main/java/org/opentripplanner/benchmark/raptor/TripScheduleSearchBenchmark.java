@@ -0,0 +1,133 @@
+package org.opentripplanner.benchmark.raptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentripplanner.raptor._data.transit.TestTripSchedule;
+import org.opentripplanner.raptor.spi.RaptorTripScheduleSearch;
+import org.opentripplanner.raptor.spi.SearchDirection;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.request.TripScheduleSearchFactory;
+import org.opentripplanner.routing.algorithm.raptoradapter.transit.request.TripSearchTimetable;
+
+/**
+ * Benchmark the trip search used by Raptor to find the next trip to board (forward search) or
+ * the previous trip to alight (reverse search). The number of trips is chosen to test both the
+ * linear and the binary search. Each operation performs {@link #N_SEARCHES} searches at random
+ * stops and times.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TripScheduleSearchBenchmark {
+
+  private static final long SEED = 42;
+  private static final int N_SEARCHES = 1000;
+  private static final int N_STOPS = 20;
+  private static final int FIRST_DEPARTURE = 5 * 3600;
+  private static final int TRIP_FREQUENCY = 300;
+  private static final int TIME_BETWEEN_STOPS = 120;
+
+  @Param({ "10", "100", "1000" })
+  private int nTrips;
+
+  @Param({ "FORWARD", "REVERSE" })
+  private SearchDirection direction;
+
+  private RaptorTripScheduleSearch<TestTripSchedule> search;
+  private int[] stopPositions;
+  private int[] times;
+
+  @Setup
+  public void setup() {
+    var random = new Random(SEED);
+    var trips = new ArrayList<TestTripSchedule>(nTrips);
+    for (int i = 0; i < nTrips; ++i) {
+      int[] stopTimes = new int[N_STOPS];
+      for (int s = 0; s < N_STOPS; ++s) {
+        stopTimes[s] = FIRST_DEPARTURE + i * TRIP_FREQUENCY + s * TIME_BETWEEN_STOPS;
+      }
+      trips.add(TestTripSchedule.schedule().times(stopTimes).build());
+    }
+    search = new Timetable(trips).tripSearch(direction);
+
+    int lastArrival = FIRST_DEPARTURE + nTrips * TRIP_FREQUENCY + N_STOPS * TIME_BETWEEN_STOPS;
+    stopPositions = random.ints(N_SEARCHES, 0, N_STOPS).toArray();
+    times = random.ints(N_SEARCHES, FIRST_DEPARTURE, lastArrival).toArray();
+  }
+
+  @Benchmark
+  public int search() {
+    int sum = 0;
+    for (int i = 0; i < N_SEARCHES; ++i) {
+      var event = search.search(times[i], stopPositions[i]);
+      if (!event.empty()) {
+        sum += event.tripScheduleIndex();
+      }
+    }
+    return sum;
+  }
+
+  /**
+   * A timetable with the same layout as the transit model: one array of trip times per stop.
+   */
+  private static final class Timetable implements TripSearchTimetable<TestTripSchedule> {
+
+    private final List<TestTripSchedule> trips;
+    private final int[][] arrivalTimes;
+    private final int[][] departureTimes;
+
+    Timetable(List<TestTripSchedule> trips) {
+      this.trips = trips;
+      int nStops = trips.getFirst().pattern().numberOfStopsInPattern();
+      this.arrivalTimes = new int[nStops][trips.size()];
+      this.departureTimes = new int[nStops][trips.size()];
+
+      for (int t = 0; t < trips.size(); ++t) {
+        for (int s = 0; s < nStops; ++s) {
+          arrivalTimes[s][t] = trips.get(t).arrival(s);
+          departureTimes[s][t] = trips.get(t).departure(s);
+        }
+      }
+    }
+
+    @Override
+    public int[] arrivalTimes(int stopPositionInPattern) {
+      return arrivalTimes[stopPositionInPattern];
+    }
+
+    @Override
+    public int[] departureTimes(int stopPositionInPattern) {
+      return departureTimes[stopPositionInPattern];
+    }
+
+    @Override
+    public TestTripSchedule getTripSchedule(int index) {
+      return trips.get(index);
+    }
+
+    @Override
+    public int numberOfTripSchedules() {
+      return trips.size();
+    }
+
+    @Override
+    public RaptorTripScheduleSearch<TestTripSchedule> tripSearch(SearchDirection direction) {
+      return TripScheduleSearchFactory.create(direction, this);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+package org.opentripplanner.benchmark.street;
+
+import static org.opentripplanner.street.model.StreetModelFactory.intersectionVertex;
+import static org.opentripplanner.street.model.StreetModelFactory.streetEdge;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.edge.StreetEdge;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+
+/**
+ * Traverse a chain of {@link #N_EDGES} street edges, starting from a new initial state in each
+ * operation. This measures the cost of calculating the weight and time of a street edge and the
+ * allocation of the new {@link State}s.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreetEdgeTraverseBenchmark {
+
+  private static final int N_EDGES = 100;
+  private static final double LAT = 59.91;
+  private static final double LON = 10.75;
+  private static final double STEP = 0.001;
+
+  @Param({ "WALK", "BIKE", "CAR" })
+  private StreetMode mode;
+
+  private StreetEdge[] edges;
+  private StreetVertex origin;
+  private StreetSearchRequest request;
+
+  @Setup
+  public void setup() {
+    var vertices = new StreetVertex[N_EDGES + 1];
+    for (int i = 0; i <= N_EDGES; ++i) {
+      // Zig-zag to get different turn angles between the edges
+      vertices[i] = intersectionVertex("V" + i, LAT + i * STEP, LON + (i % 2) * STEP);
+    }
+    edges = new StreetEdge[N_EDGES];
+    for (int i = 0; i < N_EDGES; ++i) {
+      edges[i] = streetEdge(vertices[i], vertices[i + 1]);
+    }
+    origin = vertices[0];
+    request = StreetSearchRequest.of().withMode(mode).build();
+  }
+
+  @Benchmark
+  public State traverse() {
+    var state = new State(origin, request);
+    for (StreetEdge edge : edges) {
+      var next = edge.traverse(state);
+      if (next.length == 0) {
+        return state;
+      }
+      state = next[0];
+    }
+    return state;
+  }
+}
@@ -0,0 +1,104 @@
+package org.opentripplanner.benchmark.street;
+
+import static org.opentripplanner.street.model.StreetModelFactory.intersectionVertex;
+import static org.opentripplanner.street.model.StreetModelFactory.streetEdge;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opentripplanner.astar.model.ShortestPathTree;
+import org.opentripplanner.astar.strategy.DurationSkipEdgeStrategy;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.StreetSearchBuilder;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.search.strategy.DominanceFunctions;
+
+/**
+ * Run a one-to-many street search from the center of a dense grid of two-way streets, like the
+ * access/egress search, with the {@code BIN_HEAP} or the {@code BUCKET_QUEUE} priority queue. The
+ * grid has {@link #GRID_SIZE}^2 vertices, about 15 meters apart, and the search visits tens of
+ * thousands of states within the duration limit.
+ */
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreetSearchBenchmark {
+
+  private static final int GRID_SIZE = 300;
+  private static final double LAT = 59.91;
+  private static final double LON = 10.75;
+  private static final double LAT_STEP = 0.00015;
+  private static final double LON_STEP = 0.0003;
+  private static final double BUCKET_WIDTH = 20.0;
+
+  @Param({ "BIN_HEAP", "BUCKET_QUEUE" })
+  private String queue;
+
+  @Param({ "WALK", "BIKE" })
+  private StreetMode mode;
+
+  @Param({ "PT15M" })
+  private String durationLimit;
+
+  private StreetVertex origin;
+  private StreetSearchRequest request;
+
+  @Setup
+  public void setup() {
+    var vertices = new StreetVertex[GRID_SIZE][GRID_SIZE];
+    for (int i = 0; i < GRID_SIZE; ++i) {
+      for (int j = 0; j < GRID_SIZE; ++j) {
+        vertices[i][j] = intersectionVertex(
+          "V" + i + "_" + j,
+          LAT + i * LAT_STEP,
+          LON + j * LON_STEP
+        );
+      }
+    }
+    for (int i = 0; i < GRID_SIZE; ++i) {
+      for (int j = 0; j < GRID_SIZE; ++j) {
+        if (i + 1 < GRID_SIZE) {
+          streetEdge(vertices[i][j], vertices[i + 1][j]);
+          streetEdge(vertices[i + 1][j], vertices[i][j]);
+        }
+        if (j + 1 < GRID_SIZE) {
+          streetEdge(vertices[i][j], vertices[i][j + 1]);
+          streetEdge(vertices[i][j + 1], vertices[i][j]);
+        }
+      }
+    }
+    origin = vertices[GRID_SIZE / 2][GRID_SIZE / 2];
+    request = StreetSearchRequest.of().withMode(mode).build();
+  }
+
+  @Benchmark
+  public ShortestPathTree<State, Edge, Vertex> search() {
+    var search = StreetSearchBuilder.of()
+      .withPreStartHook(() -> {})
+      .withSkipEdgeStrategy(new DurationSkipEdgeStrategy<>(Duration.parse(durationLimit)))
+      .withDominanceFunction(new DominanceFunctions.MinimumWeight())
+      .withRequest(request)
+      .withFrom(origin);
+
+    if (queue.equals("BUCKET_QUEUE")) {
+      search.withBucketQueue(BUCKET_WIDTH);
+    }
+    return search.getShortestPathTree();
+  }
+}
@@ -40,4 +40,16 @@ public interface RaptorTuningParameters {
   default boolean earlyTransferPruning() {
     return true;
   }
+
+  /**
+   * Split the search-window of a multi-criteria Range Raptor search into this number of slices
+   * and route each slice in parallel. The destination results are merged. This only applies if
+   * a thread pool is provided in the {@link RaptorEnvironment} and the
+   * {@link Optimization#PARALLEL} optimization is enabled. The default is {@code 1}, no slicing.
+   *
+   * @see org.opentripplanner.standalone.config.routerconfig.TransitRoutingConfig
+   */
+  default int searchWindowSlices() {
+    return 1;
+  }
 }
@@ -1,7 +1,10 @@
 package org.opentripplanner.raptor.configure;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import javax.annotation.Nullable;
+import org.opentripplanner.raptor.api.path.RaptorPath;
 import org.opentripplanner.raptor.api.request.RaptorEnvironment;
 import org.opentripplanner.raptor.api.request.RaptorRequest;
 import org.opentripplanner.raptor.api.request.RaptorTuningParameters;
@@ -22,8 +25,11 @@ import org.opentripplanner.raptor.rangeraptor.multicriteria.McRangeRaptorWorkerS
 import org.opentripplanner.raptor.rangeraptor.multicriteria.configure.McRangeRaptorConfig;
 import org.opentripplanner.raptor.rangeraptor.standard.configure.StdRangeRaptorConfig;
 import org.opentripplanner.raptor.rangeraptor.transit.RaptorSearchWindowCalculator;
+import org.opentripplanner.raptor.rangeraptor.transit.SearchWindowSlicer;
 import org.opentripplanner.raptor.spi.RaptorTransitDataProvider;
 import org.opentripplanner.raptor.spi.RaptorTripSchedule;
+import org.opentripplanner.raptor.util.paretoset.ParetoComparator;
+import org.opentripplanner.raptor.util.paretoset.ParetoSet;
 
 /**
  * This class is responsible for creating a new search and holding application-scoped Raptor state.
@@ -67,11 +73,10 @@ public class RaptorConfig<T extends RaptorTripSchedule> {
     Heuristics heuristics,
     @Nullable ExtraMcRouterSearch<T> extraMcSearch
   ) {
-    var mainSearch = createRangeRaptorWithMcWorker(transitData, request, heuristics);
-
     if (extraMcSearch == null) {
-      return mainSearch;
+      return createRangeRaptorWithSlicedMcWorkers(transitData, request, heuristics);
     }
+    var mainSearch = createRangeRaptorWithMcWorker(transitData, request, heuristics);
     var alternativeSearch = createRangeRaptorWithMcWorker(
       extraMcSearch.createTransitDataAlternativeSearch(transitData),
       request,
@@ -86,6 +91,49 @@ public class RaptorConfig<T extends RaptorTripSchedule> {
     );
   }
 
+  /**
+   * Split the search-window into slices and route each slice concurrently on the thread pool.
+   * The destination paths of all slices are merged into one pareto-optimal set. If slicing is
+   * not enabled, or the search-window is too short, a single router is returned.
+   * <p>
+   * Stop arrivals are not shared between the slices, so an earlier slice can not use the
+   * arrivals of a later slice to prune the search. The total amount of work increase a bit, but
+   * the latency drops with the number of slices running in parallel.
+   */
+  private RaptorRouter<T> createRangeRaptorWithSlicedMcWorkers(
+    RaptorTransitDataProvider<T> transitData,
+    RaptorRequest<T> request,
+    Heuristics heuristics
+  ) {
+    var slices = isMultiThreaded() && request.runInParallel()
+      ? SearchWindowSlicer.slice(
+          request,
+          tuningParameters.searchWindowSlices(),
+          tuningParameters.iterationDepartureStepInSeconds()
+        )
+      : List.of(request);
+
+    if (slices.size() == 1) {
+      return createRangeRaptorWithMcWorker(transitData, request, heuristics);
+    }
+
+    var routers = slices
+      .stream()
+      .map(slice -> createRangeRaptorWithMcWorker(transitData, slice, heuristics))
+      .toList();
+
+    var comparator = new McRangeRaptorConfig<>(
+      context(transitData, request).segments().getFirst()
+    ).createPathParetoComparator();
+
+    return new ConcurrentCompositeRaptorRouter<>(
+      routers,
+      (a, b) -> mergeParetoOptimalPaths(comparator, a, b),
+      threadPool(),
+      environment::mapInterruptedException
+    );
+  }
+
   private RaptorRouter<T> createRangeRaptorWithMcWorker(
     RaptorTransitDataProvider<T> transitData,
     RaptorRequest<T> request,
@@ -154,6 +202,17 @@ public class RaptorConfig<T extends RaptorTripSchedule> {
 
   /* private factory methods */
 
+  private static <S extends RaptorTripSchedule> Collection<RaptorPath<S>> mergeParetoOptimalPaths(
+    ParetoComparator<RaptorPath<S>> comparator,
+    Collection<RaptorPath<S>> a,
+    Collection<RaptorPath<S>> b
+  ) {
+    var paths = ParetoSet.of(comparator);
+    paths.addAll(a);
+    paths.addAll(b);
+    return List.copyOf(paths);
+  }
+
   private RangeRaptorWorker<T> createWorker(
     SearchContextViaSegments<T> ctxSegment,
     RaptorWorkerState<T> workerState,
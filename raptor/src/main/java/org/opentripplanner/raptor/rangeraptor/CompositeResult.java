@@ -1,6 +1,7 @@
 package org.opentripplanner.raptor.rangeraptor;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.function.BiFunction;
 import org.opentripplanner.raptor.api.path.RaptorPath;
 import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorRouterResult;
@@ -8,10 +9,10 @@ import org.opentripplanner.raptor.rangeraptor.internalapi.SingleCriteriaStopArri
 import org.opentripplanner.raptor.spi.RaptorTripSchedule;
 
 /**
- * Join two results together.
+ * Join two or more results together.
  * <ul>
  *   <li>Everything from the first result is added</li>
- *   <li>The result is merged with the injected merge strategy.</li>
+ *   <li>The result is merged with the injected merge strategy, one result at the time.</li>
  *   <li>Some of the methods ONLY return the result of the main search!</li>
  * </ul>
  */
@@ -22,15 +23,18 @@ class CompositeResult<T extends RaptorTripSchedule> implements RaptorRouterResul
   private final Collection<RaptorPath<T>> result;
 
   CompositeResult(
-    RaptorRouterResult<T> mainResult,
-    RaptorRouterResult<T> alternativeResult,
+    List<RaptorRouterResult<T>> results,
     BiFunction<
       Collection<RaptorPath<T>>,
       Collection<RaptorPath<T>>,
       Collection<RaptorPath<T>>
     > merger
   ) {
-    this.result = merger.apply(mainResult.extractPaths(), alternativeResult.extractPaths());
+    var paths = results.getFirst().extractPaths();
+    for (int i = 1; i < results.size(); ++i) {
+      paths = merger.apply(paths, results.get(i).extractPaths());
+    }
+    this.result = paths;
   }
 
   /**
@@ -57,7 +61,7 @@ class CompositeResult<T extends RaptorTripSchedule> implements RaptorRouterResul
   }
 
   /**
-   * Return true if either the main or the alternative search has reached the destination.
+   * Return true if any of the searches has reached the destination.
    */
   @Override
   public boolean isDestinationReached() {
@@ -1,8 +1,11 @@
 package org.opentripplanner.raptor.rangeraptor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -12,15 +15,15 @@ import org.opentripplanner.raptor.rangeraptor.internalapi.RaptorRouterResult;
 import org.opentripplanner.raptor.spi.RaptorTripSchedule;
 
 /**
- * Run two Raptor routers and join the result. The two searches are run concurrently if an
- * {@link ExecutorService} is provided.
+ * Run two or more Raptor routers and join the result. The searches are run concurrently if an
+ * {@link ExecutorService} is provided. The first router is the main router, the results of the
+ * other routers are merged into the main result in the given order.
  * @see CompositeResult for joining results.
  */
 public class ConcurrentCompositeRaptorRouter<T extends RaptorTripSchedule>
   implements RaptorRouter<T> {
 
-  private final RaptorRouter<T> mainWorker;
-  private final RaptorRouter<T> alternativeWorker;
+  private final List<RaptorRouter<T>> routers;
   private final BiFunction<
     Collection<RaptorPath<T>>,
     Collection<RaptorPath<T>>,
@@ -44,8 +47,23 @@ public class ConcurrentCompositeRaptorRouter<T extends RaptorTripSchedule>
     @Nullable ExecutorService executorService,
     @Nullable Function<InterruptedException, RuntimeException> mapInterruptedException
   ) {
-    this.mainWorker = mainWorker;
-    this.alternativeWorker = alternativeWorker;
+    this(List.of(mainWorker, alternativeWorker), merger, executorService, mapInterruptedException);
+  }
+
+  public ConcurrentCompositeRaptorRouter(
+    List<RaptorRouter<T>> routers,
+    BiFunction<
+      Collection<RaptorPath<T>>,
+      Collection<RaptorPath<T>>,
+      Collection<RaptorPath<T>>
+    > merger,
+    @Nullable ExecutorService executorService,
+    @Nullable Function<InterruptedException, RuntimeException> mapInterruptedException
+  ) {
+    if (routers.size() < 2) {
+      throw new IllegalArgumentException("At least two routers expected: " + routers.size());
+    }
+    this.routers = List.copyOf(routers);
     this.merger = merger;
     this.executorService = executorService;
     this.mapInterruptedException = mapInterruptedException;
@@ -54,26 +72,31 @@ public class ConcurrentCompositeRaptorRouter<T extends RaptorTripSchedule>
   @Override
   public RaptorRouterResult<T> route() {
     if (executorService == null) {
-      var mainResult = mainWorker.route();
-      var alternativeResult = alternativeWorker.route();
-      return new CompositeResult<>(mainResult, alternativeResult, merger);
+      var results = new ArrayList<RaptorRouterResult<T>>(routers.size());
+      for (RaptorRouter<T> router : routers) {
+        results.add(router.route());
+      }
+      return new CompositeResult<>(results, merger);
     }
 
-    var mainResultFuture = executorService.submit(mainWorker::route);
-    var alternativeResultFuture = executorService.submit(alternativeWorker::route);
+    var futures = new ArrayList<Future<RaptorRouterResult<T>>>(routers.size());
+    for (RaptorRouter<T> router : routers) {
+      futures.add(executorService.submit(router::route));
+    }
 
     try {
-      var mainResult = mainResultFuture.get();
-      var alternativeResult = alternativeResultFuture.get();
-      return new CompositeResult<>(mainResult, alternativeResult, merger);
+      var results = new ArrayList<RaptorRouterResult<T>>(futures.size());
+      for (Future<RaptorRouterResult<T>> future : futures) {
+        results.add(future.get());
+      }
+      return new CompositeResult<>(results, merger);
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
-      // propagate interruption to the running task.
-
-      mainResultFuture.cancel(true);
-      alternativeResultFuture.cancel(true);
+      // propagate interruption to the running tasks.
+      futures.forEach(it -> it.cancel(true));
       throw mapInterruptedException.apply(e);
     } catch (ExecutionException e) {
+      futures.forEach(it -> it.cancel(true));
       throw (e.getCause() instanceof RuntimeException re) ? re : new RuntimeException(e);
     }
   }
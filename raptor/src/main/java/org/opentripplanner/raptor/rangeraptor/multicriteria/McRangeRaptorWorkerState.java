@@ -72,10 +72,16 @@ public final class McRangeRaptorWorkerState<T extends RaptorTripSchedule>
   private final List<McStopArrival<T>> transferArrivalsCache = new ArrayList<>();
   private final RaptorCostCalculator<T> calculatorGeneralizedCost;
   private final RaptorTransitCalculator<T> transitCalculator;
+  private final boolean rejectDominatedArrivalsBeforeCreation;
 
   /**
    * create a RaptorState for a network with a particular number of stops, and a given maximum
    * duration
+   *
+   * @param rejectDominatedArrivalsBeforeCreation If {@code true} transit and transfer arrivals
+   *        are checked against the existing stop arrivals before they are created. This reduces
+   *        the number of short-lived objects created, but it is only valid when the stop arrivals
+   *        are compared on arrival-time, round and c1 - and no one listen for rejected arrivals.
    */
   public McRangeRaptorWorkerState(
     McStopArrivals<T> arrivals,
@@ -84,7 +90,8 @@ public final class McRangeRaptorWorkerState<T extends RaptorTripSchedule>
     McStopArrivalFactory<T> stopArrivalFactory,
     RaptorCostCalculator<T> calculatorGeneralizedCost,
     RaptorTransitCalculator<T> transitCalculator,
-    WorkerLifeCycle lifeCycle
+    WorkerLifeCycle lifeCycle,
+    boolean rejectDominatedArrivalsBeforeCreation
   ) {
     this.arrivals = arrivals;
     this.paths = paths;
@@ -92,6 +99,7 @@ public final class McRangeRaptorWorkerState<T extends RaptorTripSchedule>
     this.stopArrivalFactory = stopArrivalFactory;
     this.calculatorGeneralizedCost = calculatorGeneralizedCost;
     this.transitCalculator = transitCalculator;
+    this.rejectDominatedArrivalsBeforeCreation = rejectDominatedArrivalsBeforeCreation;
 
     // Attach to the RR life cycle
     lifeCycle.onSetupIteration(_ -> setupIteration());
@@ -185,6 +193,19 @@ public final class McRangeRaptorWorkerState<T extends RaptorTripSchedule>
 
     final int c1 = calculateC1(ride, alightStop, alightTime, alightSlack);
 
+    if (
+      rejectDominatedArrivalsBeforeCreation &&
+      arrivals.isDominatedByExistingArrival(
+        alightStop,
+        stopArrivalTime,
+        ride.prevArrival().round() + 1,
+        c1,
+        true
+      )
+    ) {
+      return;
+    }
+
     var transitState = stopArrivalFactory.createTransitStopArrival(
       ride,
       alightStop,
@@ -229,10 +250,23 @@ public final class McRangeRaptorWorkerState<T extends RaptorTripSchedule>
     for (McStopArrival<T> it : fromArrivals) {
       int arrivalTime = it.arrivalTime() + transferTimeInSeconds;
 
-      if (!exceedsTimeLimit(arrivalTime)) {
-        var arrival = stopArrivalFactory.createTransferStopArrival(it, transfer, arrivalTime);
-        transferArrivalsCache.add(arrival);
+      if (exceedsTimeLimit(arrivalTime)) {
+        continue;
       }
+      if (
+        rejectDominatedArrivalsBeforeCreation &&
+        arrivals.isDominatedByExistingArrival(
+          transfer.stop(),
+          arrivalTime,
+          it.round(),
+          it.c1() + transfer.c1(),
+          false
+        )
+      ) {
+        continue;
+      }
+      var arrival = stopArrivalFactory.createTransferStopArrival(it, transfer, arrivalTime);
+      transferArrivalsCache.add(arrival);
     }
   }
 
@@ -39,9 +39,12 @@ import org.opentripplanner.raptor.util.paretoset.ParetoSetEventListener;
 public final class McStopArrivals<T extends RaptorTripSchedule> {
 
   private final ParetoSet<McStopArrival<T>>[] arrivals;
-  private final TIntObjectMap<OnTripAccessArrivals<T>> onBoardTripArrivalsByRouteQueue;
+  /** On-board trip arrivals are rare, so this map is only created when needed. */
+  @Nullable
+  private TIntObjectMap<OnTripAccessArrivals<T>> onBoardTripArrivalsByRouteQueue = null;
 
   private final BitSet touchedStops;
+  private final BitSet onBoardArrivalStops;
 
   private final DebugHandlerFactory<T> debugHandlerFactory;
   private final DebugStopArrivalsStatistics debugStats;
@@ -65,8 +68,8 @@ public final class McStopArrivals<T extends RaptorTripSchedule> {
   ) {
     //noinspection unchecked
     this.arrivals = (ParetoSet<McStopArrival<T>>[]) new ParetoSet[nStops];
-    this.onBoardTripArrivalsByRouteQueue = new TIntObjectHashMap<>();
     this.touchedStops = new BitSet(nStops);
+    this.onBoardArrivalStops = new BitSet(nStops);
     this.comparator = comparatorFactory.compareArrivalTimeRoundAndCost();
     this.debugHandlerFactory = debugHandlerFactory;
     this.debugStats = new DebugStopArrivalsStatistics(debugHandlerFactory.debugLogger());
@@ -81,6 +84,7 @@ public final class McStopArrivals<T extends RaptorTripSchedule> {
 
     for (var it = onBoardArrivalStops.iterator(); it.hasNext(); ) {
       int stop = it.next();
+      this.onBoardArrivalStops.set(stop);
       if (this.arrivals[stop] == null) {
         this.arrivals[stop] = ParetoSet.of(
           onBoardComparator,
@@ -134,6 +138,43 @@ public final class McStopArrivals<T extends RaptorTripSchedule> {
     return transitStopArrivalsMinInt(stopIndex, McStopArrival::numberOfTransfers);
   }
 
+  /**
+   * Return {@code true} if a new arrival with the given criteria would be rejected by one of the
+   * existing arrivals at the given stop. This allows the caller to skip creating stop arrivals
+   * which would be dropped right away by {@link #addStopArrival(McStopArrival)}.
+   * <p>
+   * This is only valid if the stop arrivals are compared using arrival-time, round and c1, see
+   * {@link ArrivalParetoSetComparatorFactory#ofCompareC1()}. The check is done without creating
+   * any new objects.
+   */
+  public boolean isDominatedByExistingArrival(
+    int stop,
+    int arrivalTime,
+    int round,
+    int c1,
+    boolean arrivedOnBoard
+  ) {
+    var set = arrivals[stop];
+    if (set == null) {
+      return false;
+    }
+    // On-board arrivals dominate on-street arrivals at stops with the on-board criteria
+    boolean onBoardCriteria = arrivedOnBoard && onBoardArrivalStops.get(stop);
+
+    for (int i = 0; i < set.size(); ++i) {
+      var it = set.get(i);
+      if (
+        it.arrivalTime() <= arrivalTime &&
+        it.round() <= round &&
+        it.c1() <= c1 &&
+        (!onBoardCriteria || it.arrivedOnBoard())
+      ) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   /** Return {@code true} if any stop has been touched since the last marker reset. */
   public boolean updateExist() {
     return !touchedStops.isEmpty();
@@ -217,7 +258,9 @@ public final class McStopArrivals<T extends RaptorTripSchedule> {
    */
   @Nullable
   public OnTripAccessArrivals<T> consumeOnTripStopArrivalsForRoute(int routeIndex) {
-    return onBoardTripArrivalsByRouteQueue.remove(routeIndex);
+    return onBoardTripArrivalsByRouteQueue == null
+      ? null
+      : onBoardTripArrivalsByRouteQueue.remove(routeIndex);
   }
 
   /**
@@ -243,6 +286,9 @@ public final class McStopArrivals<T extends RaptorTripSchedule> {
     RaptorTripScheduleStopPosition boardingConstraint
   ) {
     int routeIndex = boardingConstraint.routeIndex();
+    if (onBoardTripArrivalsByRouteQueue == null) {
+      onBoardTripArrivalsByRouteQueue = new TIntObjectHashMap<>();
+    }
     var arrivalsForRoute = onBoardTripArrivalsByRouteQueue.get(routeIndex);
 
     if (arrivalsForRoute == null) {
@@ -170,12 +170,28 @@ public class McRangeRaptorConfig<T extends RaptorTripSchedule> {
         createStopArrivalFactory(),
         context().costCalculator(),
         context().calculator(),
-        context().lifeCycle()
+        context().lifeCycle(),
+        rejectDominatedArrivalsBeforeCreation()
       );
     }
     return state;
   }
 
+  /**
+   * Checking new stop arrivals against the existing arrivals before they are created avoid
+   * allocating a lot of short-lived objects. We can only do this if the stop arrivals are
+   * compared using arrival-time, round and c1, and no one is listening for rejected arrivals.
+   * Via-searches listen for rejected arrivals in pass-through stops, and the debugger listen
+   * for all events.
+   */
+  private boolean rejectDominatedArrivalsBeforeCreation() {
+    return (
+      resolveCostConfig() == ParetoSetCost.USE_C1 &&
+      !context().searchParams().isViaSearch() &&
+      !context().debugFactory().isDebugStopArrival()
+    );
+  }
+
   private McStopArrivalFactory<T> createStopArrivalFactory() {
     if (stopArrivalFactory == null) {
       this.stopArrivalFactory = isTransitPriority()
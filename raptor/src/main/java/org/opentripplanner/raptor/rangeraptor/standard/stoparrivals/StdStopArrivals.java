@@ -12,52 +12,55 @@ import org.opentripplanner.raptor.spi.RaptorTransfer;
 import org.opentripplanner.raptor.spi.RaptorTripSchedule;
 
 /**
+ * The stop arrivals are kept in one array of stops for each round. The round arrays are created
+ * the first time a round is reached. Most searches terminate long before the max number of
+ * rounds is reached, so we avoid allocating and zeroing the arrays for rounds never visited.
+ *
  * @param <T> The TripSchedule type defined by the user of the raptor API.
  */
 public final class StdStopArrivals<T extends RaptorTripSchedule> implements BestNumberOfTransfers {
 
-  /** Arrivals by round and stop - [round][stop] */
+  /** Arrivals by round and stop - [round][stop], the round arrays are created lazily. */
   private final StopArrivalState<T>[][] arrivals;
+  private final int nStops;
+  private EgressPaths egressPaths = null;
+  private DestinationArrivalListener destinationArrivalListener = null;
   private int round;
 
   public StdStopArrivals(int nRounds, int nStops, WorkerLifeCycle lifeCycle) {
     //noinspection unchecked
-    this.arrivals = (StopArrivalState<T>[][]) new StopArrivalState[nRounds][nStops];
+    this.arrivals = (StopArrivalState<T>[][]) new StopArrivalState[nRounds][];
+    this.nStops = nStops;
     lifeCycle.onPrepareForNextRound(r -> this.round = r);
   }
 
   /**
    * Setup egress arrivals with a callback which is notified when a new transit egress arrival
-   * happens.
+   * happens. The egress stop states are added to each round when the round is created.
    */
   public void setupEgressStopStates(
     EgressPaths egressPaths,
     DestinationArrivalListener destinationArrivalListener
   ) {
+    this.egressPaths = egressPaths;
+    this.destinationArrivalListener = destinationArrivalListener;
+
     for (int i = 1; i < arrivals.length; i++) {
-      final int round = i;
-      egressPaths
-        .byStop()
-        .forEachEntry((stop, list) -> {
-          arrivals[round][stop] = new EgressStopArrivalState<>(
-            stop,
-            round,
-            list,
-            destinationArrivalListener
-          );
-          return true;
-        });
+      if (arrivals[i] != null) {
+        addEgressStopStates(i);
+      }
     }
   }
 
   public StopArrivalState<T> get(int round, int stop) {
-    return arrivals[round][stop];
+    var a = arrivals[round];
+    return a == null ? null : a[stop];
   }
 
   @Override
   public int calculateMinNumberOfTransfers(int stop) {
     for (int i = 0; i < arrivals.length; i++) {
-      if (arrivals[i][stop] != null) {
+      if (get(i, stop) != null) {
         return i - 1;
       }
     }
@@ -67,7 +70,7 @@ public final class StdStopArrivals<T extends RaptorTripSchedule> implements Best
   @Override
   public SingleCriteriaStopArrivals extractBestNumberOfTransfers() {
     return IntArraySingleCriteriaArrivals.create(
-      arrivals[0].length,
+      nStops,
       unreachedMinNumberOfTransfers(),
       this::calculateMinNumberOfTransfers
     );
@@ -133,9 +136,36 @@ public final class StdStopArrivals<T extends RaptorTripSchedule> implements Best
   }
 
   private StopArrivalState<T> getOrCreateStopIndex(final int round, final int stop) {
-    if (arrivals[round][stop] == null) {
-      arrivals[round][stop] = StopArrivalState.create();
+    var a = arrivals[round];
+    if (a == null) {
+      a = createRound(round);
+    }
+    if (a[stop] == null) {
+      a[stop] = StopArrivalState.create();
+    }
+    return a[stop];
+  }
+
+  @SuppressWarnings("unchecked")
+  private StopArrivalState<T>[] createRound(final int round) {
+    arrivals[round] = (StopArrivalState<T>[]) new StopArrivalState[nStops];
+    if (round > 0 && egressPaths != null) {
+      addEgressStopStates(round);
     }
-    return get(round, stop);
+    return arrivals[round];
+  }
+
+  private void addEgressStopStates(final int round) {
+    egressPaths
+      .byStop()
+      .forEachEntry((stop, list) -> {
+        arrivals[round][stop] = new EgressStopArrivalState<>(
+          stop,
+          round,
+          list,
+          destinationArrivalListener
+        );
+        return true;
+      });
   }
 }
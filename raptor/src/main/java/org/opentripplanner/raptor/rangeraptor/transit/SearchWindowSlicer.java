@@ -0,0 +1,74 @@
+package org.opentripplanner.raptor.rangeraptor.transit;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.opentripplanner.raptor.api.request.RaptorRequest;
+import org.opentripplanner.raptor.spi.RaptorTripSchedule;
+
+/**
+ * Split the search-window of a Range Raptor request into a number of contiguous slices. Each
+ * slice is a new request covering a part of the original search-window, together the slices
+ * cover exactly the same Range Raptor iterations as the original request. The slices can be
+ * routed independently (in parallel) and the results merged.
+ * <p>
+ * Each slice is at least two iterations long, if the search-window is too short to be split into
+ * the requested number of slices, fewer slices are returned. If the request can not be split
+ * a list with the original request is returned.
+ * <p>
+ * For a forward search the earliest-departure-time is moved, for a reverse search the
+ * latest-arrival-time is moved. The slices are listed in iteration order, the slice with the
+ * first Range Raptor iteration first.
+ */
+public final class SearchWindowSlicer {
+
+  private static final int MIN_ITERATIONS_PER_SLICE = 2;
+
+  private SearchWindowSlicer() {}
+
+  public static <T extends RaptorTripSchedule> List<RaptorRequest<T>> slice(
+    RaptorRequest<T> request,
+    int nSlices,
+    int iterationStep
+  ) {
+    var params = request.searchParams();
+
+    if (nSlices < 2 || params.isViaSearch() || !params.isSearchWindowSet()) {
+      return List.of(request);
+    }
+
+    int searchWindow = params.searchWindowInSeconds();
+    int nIterations = searchWindow / iterationStep;
+    int n = Math.min(nSlices, nIterations / MIN_ITERATIONS_PER_SLICE);
+
+    if (n < 2) {
+      return List.of(request);
+    }
+
+    // Round the slice length up to a whole number of iterations, the last slice gets the rest
+    int sliceLength = ((nIterations + n - 1) / n) * iterationStep;
+    boolean forward = request.searchDirection().isForward();
+    var slices = new ArrayList<RaptorRequest<T>>(n);
+
+    // Range Raptor iterate from the end of the search-window towards the
+    // earliest-departure-time (forward) or the latest-arrival-time (reverse). We slice the
+    // window from the end to keep the iteration departure-times identical to the original
+    // request. A short remainder is added to the last slice.
+    for (int offset = searchWindow; offset > 0;) {
+      int start = offset - sliceLength;
+      if (start < MIN_ITERATIONS_PER_SLICE * iterationStep) {
+        start = 0;
+      }
+      int length = offset - start;
+      offset = start;
+      var builder = request.mutate().searchParams().searchWindowInSeconds(length);
+
+      if (forward) {
+        builder.earliestDepartureTime(params.earliestDepartureTime() + start);
+      } else {
+        builder.latestArrivalTime(params.latestArrivalTime() - start);
+      }
+      slices.add(builder.build());
+    }
+    return List.copyOf(slices);
+  }
+}
@@ -0,0 +1,89 @@
+package org.opentripplanner.raptor.rangeraptor.multicriteria.arrivals;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import gnu.trove.map.hash.TIntObjectHashMap;
+import gnu.trove.set.hash.TIntHashSet;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.raptor._data.transit.TestAccessEgress;
+import org.opentripplanner.raptor._data.transit.TestTripSchedule;
+import org.opentripplanner.raptor.api.debug.DebugLogger;
+import org.opentripplanner.raptor.api.request.DebugRequest;
+import org.opentripplanner.raptor.rangeraptor.debug.DebugHandlerFactory;
+import org.opentripplanner.raptor.rangeraptor.lifecycle.LifeCycleSubscriptions;
+import org.opentripplanner.raptor.rangeraptor.multicriteria.arrivals.stop.ArrivalParetoSetComparatorFactory;
+import org.opentripplanner.raptor.rangeraptor.multicriteria.arrivals.stop.StopArrivalFactoryC1;
+
+class McStopArrivalsTest {
+
+  private static final int N_STOPS = 5;
+  private static final int STOP = 2;
+  private static final int OTHER_STOP = 3;
+  private static final int DEPARTURE_TIME = 1000;
+  private static final int DURATION = 300;
+  private static final int ARRIVAL_TIME = DEPARTURE_TIME + DURATION;
+  private static final int C1 = 500;
+  private static final int ROUND = 0;
+  private static final DebugRequest NO_DEBUG = new DebugRequest(
+    List.of(),
+    List.of(),
+    0,
+    null,
+    null,
+    null,
+    DebugLogger.noop()
+  );
+
+  private final StopArrivalFactoryC1<TestTripSchedule> factory = new StopArrivalFactoryC1<>();
+
+  private final McStopArrivals<TestTripSchedule> subject = new McStopArrivals<>(
+    N_STOPS,
+    new TIntHashSet(),
+    new TIntObjectHashMap<>(),
+    ArrivalParetoSetComparatorFactory.ofCompareC1(),
+    new DebugHandlerFactory<>(NO_DEBUG, new LifeCycleSubscriptions())
+  );
+
+  @Test
+  void isDominatedByExistingArrival() {
+    subject.addStopArrival(
+      factory.createAccessStopArrival(DEPARTURE_TIME, TestAccessEgress.walk(STOP, DURATION, C1))
+    );
+
+    // Equal and worse arrivals are dominated
+    assertTrue(subject.isDominatedByExistingArrival(STOP, ARRIVAL_TIME, ROUND, C1, false));
+    assertTrue(subject.isDominatedByExistingArrival(STOP, ARRIVAL_TIME + 1, ROUND, C1, false));
+    assertTrue(subject.isDominatedByExistingArrival(STOP, ARRIVAL_TIME, ROUND + 1, C1, false));
+    assertTrue(subject.isDominatedByExistingArrival(STOP, ARRIVAL_TIME, ROUND, C1 + 1, false));
+
+    // Arrivals better on at least one criteria is not dominated
+    assertFalse(subject.isDominatedByExistingArrival(STOP, ARRIVAL_TIME - 1, ROUND, C1, false));
+    assertFalse(subject.isDominatedByExistingArrival(STOP, ARRIVAL_TIME, ROUND, C1 - 1, false));
+    assertFalse(
+      subject.isDominatedByExistingArrival(STOP, ARRIVAL_TIME + 1, ROUND + 1, C1 - 1, false)
+    );
+
+    // Stops without arrivals
+    assertFalse(subject.isDominatedByExistingArrival(OTHER_STOP, ARRIVAL_TIME, ROUND, C1, false));
+  }
+
+  @Test
+  void onBoardArrivalIsNotDominatedByOnStreetArrivalAtOnBoardStops() {
+    var onBoardStops = new TIntHashSet(new int[] { STOP });
+    var arrivals = new McStopArrivals<TestTripSchedule>(
+      N_STOPS,
+      onBoardStops,
+      new TIntObjectHashMap<>(),
+      ArrivalParetoSetComparatorFactory.ofCompareC1(),
+      new DebugHandlerFactory<>(NO_DEBUG, new LifeCycleSubscriptions())
+    );
+    arrivals.addStopArrival(
+      factory.createAccessStopArrival(DEPARTURE_TIME, TestAccessEgress.walk(STOP, DURATION, C1))
+    );
+
+    assertFalse(arrivals.isDominatedByExistingArrival(STOP, ARRIVAL_TIME, ROUND, C1, true));
+    assertTrue(arrivals.isDominatedByExistingArrival(STOP, ARRIVAL_TIME, ROUND, C1, false));
+  }
+}
@@ -0,0 +1,107 @@
+package org.opentripplanner.raptor.rangeraptor.transit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opentripplanner.raptor.spi.SearchDirection.FORWARD;
+import static org.opentripplanner.raptor.spi.SearchDirection.REVERSE;
+import static org.opentripplanner.utils.time.TimeUtils.hm2time;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opentripplanner.raptor._data.transit.TestAccessEgress;
+import org.opentripplanner.raptor._data.transit.TestTripSchedule;
+import org.opentripplanner.raptor.api.request.RaptorRequest;
+import org.opentripplanner.raptor.api.request.RaptorRequestBuilder;
+import org.opentripplanner.raptor.api.request.RaptorTuningParameters;
+import org.opentripplanner.raptor.spi.IntIterator;
+import org.opentripplanner.raptor.spi.SearchDirection;
+
+class SearchWindowSlicerTest {
+
+  private static final int STEP = 60;
+  private static final int EDT = hm2time(8, 0);
+  private static final int LAT = hm2time(12, 0);
+  private static final RaptorTuningParameters TUNING = new RaptorTuningParameters() {};
+
+  @Test
+  void noSlicing() {
+    var request = request(FORWARD, 7200);
+    assertSame(request, SearchWindowSlicer.slice(request, 1, STEP).getFirst());
+    assertEquals(1, SearchWindowSlicer.slice(request, 1, STEP).size());
+  }
+
+  @Test
+  void searchWindowTooShortToSlice() {
+    var request = request(FORWARD, 3 * STEP);
+    assertEquals(1, SearchWindowSlicer.slice(request, 4, STEP).size());
+  }
+
+  @Test
+  void numberOfSlicesIsLimitedBySearchWindow() {
+    var request = request(FORWARD, 6 * STEP);
+    assertEquals(3, SearchWindowSlicer.slice(request, 8, STEP).size());
+  }
+
+  @Test
+  void sliceForwardSearch() {
+    var slices = SearchWindowSlicer.slice(request(FORWARD, 7200), 4, STEP);
+
+    assertEquals(4, slices.size());
+    assertEquals(
+      List.of(EDT + 5400, EDT + 3600, EDT + 1800, EDT),
+      slices.stream().map(it -> it.searchParams().earliestDepartureTime()).toList()
+    );
+    assertEquals(
+      List.of(1800, 1800, 1800, 1800),
+      slices.stream().map(it -> it.searchParams().searchWindowInSeconds()).toList()
+    );
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = { 600, 3600, 3630, 7170, 7200, 7260 })
+  void slicesIterateOverTheSameMinutesAsTheOriginalRequest(int searchWindow) {
+    for (SearchDirection direction : SearchDirection.values()) {
+      for (int n = 2; n < 7; ++n) {
+        var request = request(direction, searchWindow);
+        var expected = minutes(request);
+        var result = new ArrayList<Integer>();
+
+        for (RaptorRequest<TestTripSchedule> slice : SearchWindowSlicer.slice(request, n, STEP)) {
+          result.addAll(minutes(slice));
+        }
+        assertEquals(expected, result, "Direction: " + direction + ", slices: " + n);
+      }
+    }
+  }
+
+  private static RaptorRequest<TestTripSchedule> request(
+    SearchDirection direction,
+    int searchWindow
+  ) {
+    return new RaptorRequestBuilder<TestTripSchedule>()
+      .searchDirection(direction)
+      .searchParams()
+      .earliestDepartureTime(EDT)
+      .latestArrivalTime(LAT)
+      .searchWindowInSeconds(searchWindow)
+      .addAccessPaths(TestAccessEgress.free(1))
+      .addEgressPaths(TestAccessEgress.free(2))
+      .build();
+  }
+
+  private static List<Integer> minutes(RaptorRequest<TestTripSchedule> request) {
+    RaptorTransitCalculator<TestTripSchedule> calculator = request.searchDirection().isForward()
+      ? new ForwardRaptorTransitCalculator<>(request.searchParams(), TUNING)
+      : new ReverseRaptorTransitCalculator<>(request.searchParams(), TUNING);
+
+    var list = new ArrayList<Integer>();
+    IntIterator it = calculator.rangeRaptorMinutes();
+    while (it.hasNext()) {
+      list.add(it.next());
+    }
+    return list;
+  }
+}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.util.Collection;
 import org.opentripplanner.core.model.id.FeedScopedId;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
 import org.opentripplanner.service.vehiclerental.street.geofencing.GeofencingZoneIndex;
 
 /**
@@ -26,6 +27,15 @@ public interface VehicleRentalRepository extends GeofencingZoneService, Serializ
    */
   void setGeofencingZoneIndex(String network, GeofencingZoneIndex index);
 
+  /**
+   * Register the free-floating vehicles of a vehicle rental updater, which are kept in an index
+   * instead of the graph. Re-registering with the same {@code source} replaces the previous
+   * snapshot.
+   */
+  void setFreeFloatingVehicleIndex(String source, FreeFloatingVehicleIndex index);
+
+  Collection<FreeFloatingVehicleIndex> listFreeFloatingVehicleIndexes();
+
   Collection<VehicleRentalPlace> listRentalPlaces();
 
   /**
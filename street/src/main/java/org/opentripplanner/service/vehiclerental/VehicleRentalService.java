@@ -7,6 +7,7 @@ import org.opentripplanner.core.model.id.FeedScopedId;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalStation;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalVehicle;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
 
 /**
  * The read-only service for getting information about rental vehicles.
@@ -57,4 +58,10 @@ public interface VehicleRentalService extends GeofencingZoneService {
    * Gets all vehicle rental places inside an envelope.
    */
   List<VehicleRentalPlace> getVehicleRentalPlacesForEnvelope(Envelope envelope);
+
+  /**
+   * The current snapshots of the free-floating vehicles which are kept in an index instead of the
+   * graph. The vehicles are also returned as rental places by the other methods.
+   */
+  List<FreeFloatingVehicleIndex> listFreeFloatingVehicleIndexes();
 }
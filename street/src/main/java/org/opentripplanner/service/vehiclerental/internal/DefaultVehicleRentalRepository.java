@@ -14,6 +14,7 @@ import org.opentripplanner.service.vehiclerental.GeofencingZoneService;
 import org.opentripplanner.service.vehiclerental.VehicleRentalRepository;
 import org.opentripplanner.service.vehiclerental.model.GeofencingZone;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
 import org.opentripplanner.service.vehiclerental.street.geofencing.GeofencingZoneIndex;
 
 /**
@@ -33,6 +34,10 @@ public class DefaultVehicleRentalRepository implements VehicleRentalRepository {
 
   private final Map<FeedScopedId, VehicleRentalPlace> rentalPlaces = new ConcurrentHashMap<>();
 
+  /** The free-floating vehicles which are not in the graph, by the updater source. */
+  private final Map<String, FreeFloatingVehicleIndex> freeFloatingVehicleIndexes =
+    new ConcurrentHashMap<>();
+
   /** Raw zones, by network, for sources whose state must survive serialization. */
   private final Map<String, Set<GeofencingZone>> serializedZones = new ConcurrentHashMap<>();
 
@@ -68,6 +73,16 @@ public class DefaultVehicleRentalRepository implements VehicleRentalRepository {
     serializedZones.put(network, Set.copyOf(zones));
   }
 
+  @Override
+  public void setFreeFloatingVehicleIndex(String source, FreeFloatingVehicleIndex index) {
+    freeFloatingVehicleIndexes.put(source, index);
+  }
+
+  @Override
+  public Collection<FreeFloatingVehicleIndex> listFreeFloatingVehicleIndexes() {
+    return freeFloatingVehicleIndexes.values();
+  }
+
   @Override
   public Collection<VehicleRentalPlace> listRentalPlaces() {
     return rentalPlaces.values();
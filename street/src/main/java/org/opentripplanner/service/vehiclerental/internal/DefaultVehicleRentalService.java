@@ -16,6 +16,7 @@ import org.opentripplanner.service.vehiclerental.model.GeofencingZone;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalStation;
 import org.opentripplanner.service.vehiclerental.model.VehicleRentalVehicle;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
 import org.opentripplanner.street.model.RentalFormFactor;
 
 /**
@@ -131,6 +132,11 @@ public class DefaultVehicleRentalService implements VehicleRentalService {
       .toList();
   }
 
+  @Override
+  public List<FreeFloatingVehicleIndex> listFreeFloatingVehicleIndexes() {
+    return List.copyOf(repository.listFreeFloatingVehicleIndexes());
+  }
+
   private Stream<VehicleRentalStation> getVehicleRentalStationsAsStream() {
     return repository
       .listRentalPlaces()
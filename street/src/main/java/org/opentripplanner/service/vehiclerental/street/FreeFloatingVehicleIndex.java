@@ -0,0 +1,156 @@
+package org.opentripplanner.service.vehiclerental.street;
+
+import gnu.trove.map.hash.TLongObjectHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import org.opentripplanner.service.vehiclerental.model.GeofencingZone;
+import org.opentripplanner.service.vehiclerental.model.VehicleRentalVehicle;
+import org.opentripplanner.street.geometry.SphericalDistanceLibrary;
+import org.opentripplanner.utils.tostring.ToStringBuilder;
+
+/**
+ * A spatial grid index of free-floating rental vehicles, kept outside the graph. Vehicles in the
+ * index do not get a {@link VehicleRentalPlaceVertex}, instead they are picked up while traversing
+ * the street edges near them, see {@link FreeFloatingVehiclePickup}.
+ * <p>
+ * An index is an immutable snapshot. The vehicle rental updater builds a new snapshot, with a
+ * higher version, each time the vehicles change and replaces the old one in the repository. A
+ * search keeps the snapshots it started with, so it is not affected by later updates.
+ */
+public final class FreeFloatingVehicleIndex {
+
+  public static final FreeFloatingVehicleIndex EMPTY = new FreeFloatingVehicleIndex(0, List.of());
+
+  /** About 110 meters in the north-south direction. */
+  private static final double Y_BIN_SIZE = 0.001;
+
+  /** About 110 meters at the equator, and 55 meters at 60 degrees north. */
+  private static final double X_BIN_SIZE = 0.001;
+
+  private final long version;
+  private final int size;
+  private final TLongObjectHashMap<List<Entry>> bins = new TLongObjectHashMap<>();
+
+  public FreeFloatingVehicleIndex(long version, Collection<Entry> vehicles) {
+    this.version = version;
+    this.size = vehicles.size();
+
+    var lists = new TLongObjectHashMap<List<Entry>>();
+    for (var it : vehicles) {
+      long key = binKey(xKey(it.vehicle().longitude()), yKey(it.vehicle().latitude()));
+      var bin = lists.get(key);
+      if (bin == null) {
+        bin = new ArrayList<>();
+        lists.put(key, bin);
+      }
+      bin.add(it);
+    }
+    lists.forEachEntry((key, bin) -> {
+      bins.put(key, List.copyOf(bin));
+      return true;
+    });
+  }
+
+  /**
+   * The version of the snapshot, it is incremented each time the updater publishes a new
+   * snapshot.
+   */
+  public long version() {
+    return version;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Find the vehicles within the given distance of a point, the nearest vehicle first.
+   * <p>
+   * This is called for every street edge traversed before renting a vehicle, so the common case of
+   * no vehicle nearby does not allocate anything.
+   */
+  public List<Entry> findNearby(double lat, double lon, double radiusMeters) {
+    if (size == 0) {
+      return List.of();
+    }
+    double dLat = SphericalDistanceLibrary.metersToDegrees(radiusMeters);
+    double dLon = SphericalDistanceLibrary.metersToLonDegrees(radiusMeters, lat);
+
+    List<Entry> result = null;
+    long maxXKey = xKey(lon + dLon);
+    long maxYKey = yKey(lat + dLat);
+    for (long xKey = xKey(lon - dLon); xKey <= maxXKey; xKey++) {
+      for (long yKey = yKey(lat - dLat); yKey <= maxYKey; yKey++) {
+        var bin = bins.get(binKey(xKey, yKey));
+        if (bin == null) {
+          continue;
+        }
+        for (var it : bin) {
+          if (it.distanceMeters(lat, lon) <= radiusMeters) {
+            if (result == null) {
+              result = new ArrayList<>();
+            }
+            result.add(it);
+          }
+        }
+      }
+    }
+    if (result == null) {
+      return List.of();
+    }
+    result.sort(Comparator.comparingDouble(it -> it.distanceMeters(lat, lon)));
+    return result;
+  }
+
+  @Override
+  public String toString() {
+    return ToStringBuilder.of(FreeFloatingVehicleIndex.class)
+      .addNum("version", version)
+      .addNum("size", size)
+      .toString();
+  }
+
+  private static long xKey(double lon) {
+    return Math.round(lon / X_BIN_SIZE);
+  }
+
+  private static long yKey(double lat) {
+    return Math.round(lat / Y_BIN_SIZE);
+  }
+
+  /**
+   * Same key as the {@link org.opentripplanner.street.geometry.HashGridSpatialIndex}, the two
+   * words of the x key are swapped to get a well-behaving hash.
+   */
+  private static long binKey(long xKey, long yKey) {
+    return (yKey << 32) | ((xKey & 0xFFFF) << 16) | ((xKey >> 16) & 0xFFFF);
+  }
+
+  /**
+   * A vehicle in the index.
+   *
+   * @param initialGeofencingZones The geofencing zones containing the vehicle, resolved by the
+   *                               updater like the zones of a rental vertex.
+   */
+  public record Entry(VehicleRentalVehicle vehicle, Set<GeofencingZone> initialGeofencingZones) {
+    public Entry {
+      initialGeofencingZones = Set.copyOf(initialGeofencingZones);
+    }
+
+    double distanceMeters(double lat, double lon) {
+      return SphericalDistanceLibrary.fastDistance(
+        lat,
+        lon,
+        vehicle.latitude(),
+        vehicle.longitude()
+      );
+    }
+  }
+}
@@ -0,0 +1,140 @@
+package org.opentripplanner.service.vehiclerental.street;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.opentripplanner.street.mapping.StreetModeToRentalTraverseModeMapper;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.search.state.StateEditor;
+import org.opentripplanner.street.search.state.VehicleRentalState;
+
+/**
+ * Picks up the free-floating vehicles of the {@link FreeFloatingVehicleIndex} while traversing a
+ * street edge. Called from {@code StreetEdge.traverse()} for rental modes, it does the same
+ * checks as the {@link VehicleRentalEdge} of a vehicle in the graph.
+ * <p>
+ * The vehicle is picked up at the end of the edge, if it is within {@link #PICKUP_RADIUS_METERS}
+ * of it. The walk from the end of the edge to the vehicle and back is not part of the path, but
+ * the time and cost of walking the straight-line distance once is added to the pickup. For each
+ * network only the nearest vehicle is picked up, the others are reached from other edges.
+ */
+public class FreeFloatingVehiclePickup {
+
+  /**
+   * The maximum distance from the end of a street edge to a vehicle picked up there. The
+   * distance between two street vertices is rarely longer than this in a city, where free-floating
+   * vehicles are found.
+   */
+  public static final double PICKUP_RADIUS_METERS = 50;
+
+  private FreeFloatingVehiclePickup() {}
+
+  /**
+   * @param vertex the vertex at the end of the edge, where the vehicle is picked up.
+   * @param state  the state of traversing the edge in the current mode, returned together with
+   *               the pickups. It is null if the edge can not be traversed in the current mode.
+   * @param walk   creates an editor for walking the edge, or returns null if walking is not
+   *               allowed.
+   * @return the pickups and the given state, or null if no vehicle can be picked up.
+   */
+  @Nullable
+  public static State[] apply(
+    State s0,
+    Vertex vertex,
+    @Nullable State state,
+    Supplier<StateEditor> walk
+  ) {
+    boolean arriveBy = s0.getRequest().arriveBy();
+    var rentalState = arriveBy
+      ? VehicleRentalState.RENTING_FLOATING
+      : VehicleRentalState.BEFORE_RENTING;
+    if (s0.getVehicleRentalState() != rentalState) {
+      return null;
+    }
+    var context = s0.getExtensionRequestContext(FreeFloatingVehicles.class);
+    if (context.isEmpty()) {
+      return null;
+    }
+
+    var traverseMode = StreetModeToRentalTraverseModeMapper.map(s0.getRequest().mode());
+    var request = s0.getRequest().rental(traverseMode);
+    boolean realtimeAvailability = request.useAvailabilityInformation();
+    double lat = vertex.getLat();
+    double lon = vertex.getLon();
+
+    // Allocated lazily, since there is no vehicle near most edges
+    ArrayList<State> result = null;
+    HashSet<String> networks = null;
+    for (var index : context.get().indexes()) {
+      for (var entry : index.findNearby(lat, lon, PICKUP_RADIUS_METERS)) {
+        var vehicle = entry.vehicle();
+        var formFactor = vehicle.vehicleType().formFactor();
+        if (
+          (networks != null && networks.contains(vehicle.network())) ||
+          formFactor.traverseMode != traverseMode ||
+          vehicle.networkIsNotAllowed(request) ||
+          !vehicle.availablePickupFormFactors(realtimeAvailability).contains(formFactor) ||
+          !VehicleRentalEdge.isVehicleAvailableDuringRentalPeriod(s0, vehicle)
+        ) {
+          continue;
+        }
+        if (arriveBy) {
+          // The same network restrictions as for picking up a vehicle in the graph, see
+          // VehicleRentalEdge, a committed state can only pick up a vehicle of its own network
+          var network = s0.getVehicleRentalNetwork();
+          if (
+            s0.getCommittedNetworks().contains(vehicle.network()) ||
+            (network != null && !network.equals(vehicle.network()))
+          ) {
+            continue;
+          }
+        } else if (realtimeAvailability && !vehicle.allowPickupNow()) {
+          continue;
+        }
+
+        var editor = walk.get();
+        if (editor == null) {
+          return null;
+        }
+        editor.beginFloatingVehicleRenting(
+          formFactor,
+          vehicle.vehicleType().propulsionType(),
+          vehicle.network(),
+          arriveBy
+        );
+        if (arriveBy) {
+          // There is no rental vertex to find the network from when the path is reversed
+          editor.bindToNetwork(vehicle.network());
+        }
+        editor.initializeGeofencingZones(entry.initialGeofencingZones());
+
+        double walkSeconds = entry.distanceMeters(lat, lon) / s0.getRequest().walk().speed();
+        editor.incrementWeight(
+          request.pickupCost().toSeconds() + walkSeconds * s0.getRequest().walk().reluctance()
+        );
+        editor.incrementTimeInMilliseconds(
+          request.pickupTime().toMillis() + Math.round(walkSeconds * 1000)
+        );
+
+        var pickup = editor.makeState();
+        if (pickup != null) {
+          if (result == null) {
+            result = new ArrayList<>();
+            networks = new HashSet<>();
+          }
+          result.add(pickup);
+          networks.add(vehicle.network());
+        }
+      }
+    }
+    if (result == null) {
+      return null;
+    }
+    if (state != null) {
+      result.add(state);
+    }
+    return result.toArray(State[]::new);
+  }
+}
@@ -0,0 +1,16 @@
+package org.opentripplanner.service.vehiclerental.street;
+
+import java.util.List;
+import org.opentripplanner.street.model.edge.ExtensionRequestContext;
+
+/**
+ * The snapshots of the {@link FreeFloatingVehicleIndex}es a search picks up vehicles from. The
+ * snapshots are taken when the request starts, so all the street searches of a request see the
+ * same vehicles.
+ */
+public record FreeFloatingVehicles(List<FreeFloatingVehicleIndex> indexes)
+  implements ExtensionRequestContext {
+  public FreeFloatingVehicles {
+    indexes = indexes.stream().filter(it -> !it.isEmpty()).toList();
+  }
+}
@@ -230,7 +230,7 @@ public class VehicleRentalEdge extends Edge {
     return s1.makeStateArray();
   }
 
-  private static boolean isVehicleAvailableDuringRentalPeriod(State s0, VehicleRentalPlace place) {
+  static boolean isVehicleAvailableDuringRentalPeriod(State s0, VehicleRentalPlace place) {
     if (s0.getRequest().rentalPeriod() != null && place.isCarStation()) {
       var vehicleRentalVehicle = (VehicleRentalVehicle) place;
       var availableUntil = vehicleRentalVehicle.availableUntil();
@@ -18,6 +18,8 @@ import org.locationtech.jts.geom.prep.PreparedGeometry;
 import org.locationtech.jts.geom.prep.PreparedGeometryFactory;
 import org.opentripplanner.service.vehiclerental.GeofencingZoneService;
 import org.opentripplanner.service.vehiclerental.model.GeofencingZone;
+import org.opentripplanner.service.vehiclerental.model.VehicleRentalPlace;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex;
 import org.opentripplanner.service.vehiclerental.street.VehicleRentalPlaceVertex;
 import org.opentripplanner.street.geometry.GeometryUtils;
 import org.opentripplanner.street.model.edge.Edge;
@@ -89,17 +91,31 @@ public class GeofencingZoneApplier {
     boolean requireDropOffInsideBusinessArea
   ) {
     for (var vertex : vertices) {
-      var network = vertex.getStation().network();
-      Set<GeofencingZone> initial = zoneService
-        .findZonesContaining(vertex.getCoordinate())
-        .stream()
-        .filter(z -> z.id().getFeedId().equals(network))
-        .filter(z -> requireDropOffInsideBusinessArea || !z.isBusinessArea())
-        .collect(Collectors.toUnmodifiableSet());
-      vertex.setInitialGeofencingZones(initial);
+      vertex.setInitialGeofencingZones(
+        resolveInitialZones(vertex.getStation(), zoneService, requireDropOffInsideBusinessArea)
+      );
     }
   }
 
+  /**
+   * The initial geofencing zones of a rental place, resolved the same way as for a vertex in
+   * {@link #preResolveVertexZones}. Used for the vehicles of a {@link FreeFloatingVehicleIndex},
+   * which do not have a vertex.
+   */
+  public static Set<GeofencingZone> resolveInitialZones(
+    VehicleRentalPlace place,
+    GeofencingZoneService zoneService,
+    boolean requireDropOffInsideBusinessArea
+  ) {
+    var network = place.network();
+    return zoneService
+      .findZonesContaining(new Coordinate(place.longitude(), place.latitude()))
+      .stream()
+      .filter(z -> z.id().getFeedId().equals(network))
+      .filter(z -> requireDropOffInsideBusinessArea || !z.isBusinessArea())
+      .collect(Collectors.toUnmodifiableSet());
+  }
+
   /**
    * Identifies boundary-crossing edges and applies {@link GeofencingBoundaryExtension}. A
    * boundary-crossing edge has one vertex inside the zone and one outside. Uses vertex coordinates
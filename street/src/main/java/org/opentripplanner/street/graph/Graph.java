@@ -3,7 +3,10 @@ package org.opentripplanner.street.graph;
 import com.google.common.annotations.VisibleForTesting;
 import jakarta.inject.Inject;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -27,6 +30,7 @@ import org.opentripplanner.street.model.vertex.StationCentroidVertex;
 import org.opentripplanner.street.model.vertex.TransitStopVertex;
 import org.opentripplanner.street.model.vertex.Vertex;
 import org.opentripplanner.street.model.vertex.VertexLabel;
+import org.opentripplanner.street.search.TraverseMode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -59,6 +63,18 @@ public class Graph implements Serializable {
 
   private static final Logger LOG = LoggerFactory.getLogger(Graph.class);
 
+  /**
+   * The max value of each coordinate axis before interleaving into a Morton code. 15 bits per
+   * axis keep the code positive when shifted into the upper half of a long.
+   */
+  private static final double MORTON_AXIS_MAX = 0x7FFF;
+
+  private static final Comparator<Vertex> SAME_MORTON_CODE_ORDER = Comparator.comparingDouble(
+    Vertex::getX
+  )
+    .thenComparingDouble(Vertex::getY)
+    .thenComparing(Vertex::getLabelString);
+
   /** Attaches text notes to street edges, which do not affect routing. */
   public final StreetNotesService streetNotesService = new StreetNotesService();
 
@@ -70,6 +86,14 @@ public class Graph implements Serializable {
 
   private transient StreetIndex streetIndex;
 
+  @Nullable
+  private transient volatile StreetAdjacency streetAdjacency;
+
+  /** A hash of the vertex index, used to check that the landmark tables are valid. */
+  private transient long vertexIndexFingerprint;
+
+  private List<LandmarkTable> landmarkTables = List.of();
+
   /** The convex hull of all the graph vertices. Generated at the time the Graph is built. */
   private Geometry convexHull = null;
 
@@ -235,6 +259,8 @@ public class Graph implements Serializable {
 
   public void remove(Vertex vertex) {
     vertices.remove(vertex.getLabel());
+    // The index may be reused by another vertex when the graph is indexed again
+    vertex.setIndex(Vertex.NO_INDEX);
     if (streetIndex != null) {
       streetIndex.remove(vertex);
     }
@@ -275,10 +301,140 @@ public class Graph implements Serializable {
    */
   public void index() {
     LOG.info("Index street model...");
+    indexVertices();
     streetIndex = new StreetIndex(this);
     LOG.info("Index street model complete.");
   }
 
+  /**
+   * Assign a dense index, {@code [0, countVertices())}, to all vertices in the graph. The index is
+   * used by the street search to store states in arrays instead of hash maps. Vertices added
+   * later, like temporary vertices, do not have an index until the graph is indexed again.
+   * <p>
+   * The vertices are ordered along a Z-order (Morton) curve, so vertices close to each other
+   * get indexes close to each other. A search touches a limited area, and this keeps the states
+   * on a small number of memory pages.
+   * <p>
+   * This method is not thread-safe and should not be called while searches are running.
+   */
+  public void indexVertices() {
+    Vertex[] all = vertices.values().toArray(Vertex[]::new);
+    if (all.length == 0) {
+      return;
+    }
+    double minX = Double.MAX_VALUE;
+    double minY = Double.MAX_VALUE;
+    double maxX = -Double.MAX_VALUE;
+    double maxY = -Double.MAX_VALUE;
+    for (Vertex v : all) {
+      minX = Math.min(minX, v.getX());
+      maxX = Math.max(maxX, v.getX());
+      minY = Math.min(minY, v.getY());
+      maxY = Math.max(maxY, v.getY());
+    }
+    double scaleX = MORTON_AXIS_MAX / Math.max(maxX - minX, 1e-9);
+    double scaleY = MORTON_AXIS_MAX / Math.max(maxY - minY, 1e-9);
+
+    // The Morton code is stored in the upper 32 bits and the position in the array in the
+    // lower 32 bits, this allows us to sort a primitive array
+    long[] keys = new long[all.length];
+    for (int i = 0; i < all.length; ++i) {
+      int x = (int) ((all[i].getX() - minX) * scaleX);
+      int y = (int) ((all[i].getY() - minY) * scaleY);
+      keys[i] = (mortonCode(x, y) << 32) | i;
+    }
+    Arrays.parallelSort(keys);
+
+    Vertex[] sorted = new Vertex[all.length];
+    for (int i = 0; i < keys.length; ++i) {
+      sorted[i] = all[(int) keys[i]];
+    }
+    // Vertices with the same Morton code are sorted by coordinate and label. This makes the index
+    // independent of the iteration order of the vertex map, so the same graph gets the same
+    // index every time it is loaded.
+    int start = 0;
+    for (int i = 1; i <= sorted.length; ++i) {
+      if (i == sorted.length || (keys[i] >>> 32) != (keys[start] >>> 32)) {
+        if (i - start > 1) {
+          Arrays.sort(sorted, start, i, SAME_MORTON_CODE_ORDER);
+        }
+        start = i;
+      }
+    }
+
+    long fingerprint = sorted.length;
+    for (int i = 0; i < sorted.length; ++i) {
+      sorted[i].setIndex(i);
+      fingerprint += vertexFingerprint(sorted[i], i);
+    }
+    vertexIndexFingerprint = fingerprint;
+    streetAdjacency = null;
+
+    var validTables = landmarkTables
+      .stream()
+      .filter(it -> it.vertexIndexFingerprint() == vertexIndexFingerprint)
+      .toList();
+    if (validTables.size() < landmarkTables.size()) {
+      LOG.warn(
+        "The graph vertices have changed since the landmark tables were created. The tables " +
+          "are dropped, and the street search falls back to the euclidean heuristic."
+      );
+      landmarkTables = validTables;
+    }
+  }
+
+  /**
+   * Create a {@link LandmarkTable} for the given mode with the given number of landmarks, and
+   * store it in the graph, replacing any existing table for the mode. The vertices are indexed
+   * first, so all vertices in the graph are included.
+   */
+  public void createLandmarkTable(TraverseMode mode, int numberOfLandmarks) {
+    indexVertices();
+    var table = LandmarkTable.create(
+      streetAdjacency(),
+      vertexIndexFingerprint,
+      mode,
+      numberOfLandmarks
+    );
+    var tables = new ArrayList<>(landmarkTables);
+    tables.removeIf(it -> it.mode() == mode);
+    tables.add(table);
+    landmarkTables = List.copyOf(tables);
+  }
+
+  /**
+   * Return the landmark table for the given mode, if it exists and is valid for the current
+   * vertex index.
+   */
+  public Optional<LandmarkTable> findLandmarkTable(TraverseMode mode) {
+    return landmarkTables
+      .stream()
+      .filter(it -> it.mode() == mode && it.vertexIndexFingerprint() == vertexIndexFingerprint)
+      .findFirst();
+  }
+
+  /**
+   * Return a compact, read-only view of the street edges indexed by the vertex index, see
+   * {@link StreetAdjacency}. The view is created on first use and is not updated when edges are
+   * added or removed, only when the graph vertices are indexed again. Edges added later, like
+   * the edges linking temporary vertices, are not included.
+   */
+  public StreetAdjacency streetAdjacency() {
+    var result = streetAdjacency;
+    if (result == null) {
+      synchronized (this) {
+        result = streetAdjacency;
+        if (result == null) {
+          LOG.info("Create street adjacency arrays...");
+          result = StreetAdjacency.of(this);
+          streetAdjacency = result;
+          LOG.info("Create street adjacency arrays complete.");
+        }
+      }
+    }
+    return result;
+  }
+
   /**
    * Index this graph if it hasn't been already. If the index already exists, this is a no-op.
    * <p>
@@ -373,4 +529,31 @@ public class Graph implements Serializable {
       throw new IllegalStateException("Graph must be indexed before querying.");
     }
   }
+
+  private static long vertexFingerprint(Vertex v, int index) {
+    long h =
+      Double.doubleToLongBits(v.getX()) * 31 +
+      Double.doubleToLongBits(v.getY()) +
+      index * 0x9E3779B97F4A7C15L;
+    // The SplitMix64 finalizer
+    h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+    h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+    return h ^ (h >>> 31);
+  }
+
+  /**
+   * Interleave the lower 16 bits of x and y.
+   */
+  private static long mortonCode(int x, int y) {
+    return spreadBits(x) | (spreadBits(y) << 1);
+  }
+
+  private static long spreadBits(int value) {
+    long v = value & 0xFFFFL;
+    v = (v | (v << 8)) & 0x00FF00FFL;
+    v = (v | (v << 4)) & 0x0F0F0F0FL;
+    v = (v | (v << 2)) & 0x33333333L;
+    v = (v | (v << 1)) & 0x55555555L;
+    return v;
+  }
 }
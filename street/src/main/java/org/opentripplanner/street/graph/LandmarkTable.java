@@ -0,0 +1,382 @@
+package org.opentripplanner.street.graph;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import org.opentripplanner.street.search.TraverseMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Precomputed shortest path costs from and to a small set of landmark vertices, used to compute
+ * a lower bound on the cost between any two vertices with the triangle inequality (ALT: A*,
+ * Landmarks and Triangle inequality). For a landmark {@code L} and the vertices {@code v} and
+ * {@code t}:
+ * <pre>
+ *   cost(v, t) >= cost(L, t) - cost(L, v)
+ *   cost(v, t) >= cost(v, L) - cost(t, L)
+ * </pre>
+ * The cost is the travel time at the edge car speed for {@link TraverseMode#CAR}, and the
+ * distance for the other modes. Only the {@link StreetAdjacency street edges} that allow the mode
+ * are used. For {@link TraverseMode#BICYCLE} the edges that only allow walking are also used, since
+ * the bike can be walked. The other edges, like elevators, pathways and links, are used with the
+ * cost zero for all modes. Zero is a lower bound on their real cost, and without them the costs
+ * of vertices reached through a shortcut, or only through such edges, would be too high.
+ * <p>
+ * The costs are stored as unsigned 16-bit values in a single array, with the costs for all
+ * landmarks of a vertex next to each other, so a lookup only reads one or two cache lines. The
+ * costs are rounded down to a whole number of {@link #unitSize()}s, and costs too large to store
+ * and vertices not reachable are saturated. The lower bound is adjusted so that it is still a
+ * lower bound after rounding and saturation.
+ * <p>
+ * The table is only valid for the vertex index it was created with, see
+ * {@link Graph#findLandmarkTable(TraverseMode)}.
+ */
+public final class LandmarkTable implements Serializable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LandmarkTable.class);
+
+  private static final int MAX_VALUE = Character.MAX_VALUE;
+
+  private final TraverseMode mode;
+  private final double unitSize;
+  private final long vertexIndexFingerprint;
+  private final int numberOfVertices;
+  private final int[] landmarks;
+
+  /**
+   * The cost from landmark {@code l} to vertex {@code v} is stored at
+   * {@code 2 * (v * landmarks.length + l)}, and the cost from the vertex to the landmark in the
+   * next position.
+   */
+  private final char[] costs;
+
+  private LandmarkTable(
+    TraverseMode mode,
+    double unitSize,
+    long vertexIndexFingerprint,
+    int numberOfVertices,
+    int[] landmarks,
+    char[] costs
+  ) {
+    this.mode = mode;
+    this.unitSize = unitSize;
+    this.vertexIndexFingerprint = vertexIndexFingerprint;
+    this.numberOfVertices = numberOfVertices;
+    this.landmarks = landmarks;
+    this.costs = costs;
+  }
+
+  /**
+   * Select landmarks and compute the costs to and from them for all vertices. The landmarks are
+   * selected with the "farthest" strategy: each new landmark is the vertex farthest away from
+   * the landmarks already selected. This places the landmarks along the border of the network,
+   * which gives good lower bounds for most pairs of vertices.
+   */
+  static LandmarkTable create(
+    StreetAdjacency adjacency,
+    long vertexIndexFingerprint,
+    TraverseMode mode,
+    int numberOfLandmarks
+  ) {
+    int n = adjacency.numberOfVertices();
+    double unitSize = unitSize(mode);
+    var costs = new char[2 * n * numberOfLandmarks];
+    var landmarks = new int[numberOfLandmarks];
+    var search = new ShortestPathSearch(adjacency, mode);
+
+    int start = search.firstVertexWithEdges();
+    if (start < 0 || numberOfLandmarks == 0) {
+      return new LandmarkTable(mode, unitSize, vertexIndexFingerprint, n, new int[0], new char[0]);
+    }
+    double[] minCost = search.run(start, true);
+
+    for (int l = 0; l < numberOfLandmarks; ++l) {
+      int landmark = farthestVertex(minCost);
+      landmarks[l] = landmark;
+      var fromLandmark = search.run(landmark, true);
+      store(fromLandmark, costs, numberOfLandmarks, l, 0, unitSize);
+      for (int v = 0; v < n; ++v) {
+        minCost[v] = l == 0 ? fromLandmark[v] : Math.min(minCost[v], fromLandmark[v]);
+      }
+      LOG.info("Landmark {}/{} selected for {}.", l + 1, numberOfLandmarks, mode);
+    }
+
+    // The costs to the landmarks are independent of each other, so they can be computed in parallel
+    IntStream.range(0, numberOfLandmarks)
+      .parallel()
+      .forEach(l -> {
+        var toLandmark = new ShortestPathSearch(adjacency, mode).run(landmarks[l], false);
+        store(toLandmark, costs, numberOfLandmarks, l, 1, unitSize);
+      });
+
+    return new LandmarkTable(mode, unitSize, vertexIndexFingerprint, n, landmarks, costs);
+  }
+
+  public TraverseMode mode() {
+    return mode;
+  }
+
+  /** The size of a cost unit, in seconds for CAR and in meters for the other modes. */
+  public double unitSize() {
+    return unitSize;
+  }
+
+  public int numberOfLandmarks() {
+    return landmarks.length;
+  }
+
+  public int numberOfVertices() {
+    return numberOfVertices;
+  }
+
+  long vertexIndexFingerprint() {
+    return vertexIndexFingerprint;
+  }
+
+  /**
+   * Return {@code true} if the vertex index is included in this table. Vertices added after the
+   * table was created are not.
+   */
+  public boolean contains(int vertex) {
+    return vertex >= 0 && vertex < numberOfVertices;
+  }
+
+  /**
+   * Return a lower bound on the cost, in units, of travelling from vertex {@code from} to the
+   * nearest of the vertices {@code to}.
+   */
+  public int lowerBound(int from, int[] to) {
+    int result = Integer.MAX_VALUE;
+    for (int t : to) {
+      result = Math.min(result, lowerBound(from, t));
+    }
+    return result;
+  }
+
+  /**
+   * Return a lower bound on the cost, in units, of travelling from the nearest of the vertices
+   * {@code from} to vertex {@code to}.
+   */
+  public int lowerBound(int[] from, int to) {
+    int result = Integer.MAX_VALUE;
+    for (int f : from) {
+      result = Math.min(result, lowerBound(f, to));
+    }
+    return result;
+  }
+
+  /**
+   * Return a lower bound on the cost, in units, of travelling from vertex {@code from} to vertex
+   * {@code to}.
+   * <p>
+   * The stored values are {@code floor(cost / unitSize)}, so the difference between two values
+   * may be one unit more than the real difference. One unit is subtracted to compensate.
+   * <p>
+   * A saturated value is used both for costs too large to store and for vertices not reachable
+   * in the table, so it is not a lower bound on the real cost. A difference is skipped if the
+   * term it is subtracted from is saturated. A saturated subtracted term makes the difference
+   * negative, so it never raises the bound.
+   */
+  public int lowerBound(int from, int to) {
+    int nLandmarks = landmarks.length;
+    int f = 2 * from * nLandmarks;
+    int t = 2 * to * nLandmarks;
+    int max = 0;
+    for (int i = 0; i < 2 * nLandmarks; i += 2) {
+      // cost(L, to) - cost(L, from)
+      if (costs[t + i] != MAX_VALUE) {
+        max = Math.max(max, costs[t + i] - costs[f + i] - 1);
+      }
+      // cost(from, L) - cost(to, L)
+      if (costs[f + i + 1] != MAX_VALUE) {
+        max = Math.max(max, costs[f + i + 1] - costs[t + i + 1] - 1);
+      }
+    }
+    return max;
+  }
+
+  private static double unitSize(TraverseMode mode) {
+    return switch (mode) {
+      // 2 seconds, the max value is 36 hours
+      case CAR -> 2.0;
+      // 1 meter, the max value is 65 km
+      case WALK -> 1.0;
+      // 2 meters, the max value is 131 km
+      case BICYCLE, SCOOTER -> 2.0;
+      case FLEX -> throw new IllegalArgumentException("Landmarks not supported for " + mode);
+    };
+  }
+
+  private static int farthestVertex(double[] cost) {
+    int result = -1;
+    double max = -1;
+    for (int v = 0; v < cost.length; ++v) {
+      if (cost[v] != Double.POSITIVE_INFINITY && cost[v] > max) {
+        max = cost[v];
+        result = v;
+      }
+    }
+    return result;
+  }
+
+  private static void store(
+    double[] cost,
+    char[] costs,
+    int numberOfLandmarks,
+    int landmark,
+    int offset,
+    double unitSize
+  ) {
+    for (int v = 0; v < cost.length; ++v) {
+      double units = Math.floor(cost[v] / unitSize);
+      costs[2 * (v * numberOfLandmarks + landmark) + offset] = (char) Math.min(units, MAX_VALUE);
+    }
+  }
+
+  /**
+   * A plain Dijkstra search over the {@link StreetAdjacency} arrays. The cost is the car travel
+   * time in seconds for CAR, and the distance in meters for other modes. The connections have
+   * no cost.
+   */
+  private static class ShortestPathSearch {
+
+    private final StreetAdjacency adjacency;
+    private final TraverseMode mode;
+    private double[] heapKeys = new double[1024];
+    private int[] heapVertices = new int[1024];
+    private int heapSize = 0;
+
+    private ShortestPathSearch(StreetAdjacency adjacency, TraverseMode mode) {
+      this.adjacency = adjacency;
+      this.mode = mode;
+    }
+
+    private int firstVertexWithEdges() {
+      // Start in the middle of the index, which is in the middle of the network
+      int n = adjacency.numberOfVertices();
+      for (int i = 0; i < n; ++i) {
+        int v = (n / 2 + i) % n;
+        for (int p = adjacency.outgoingStart(v); p < adjacency.outgoingEnd(v); ++p) {
+          if (!Double.isNaN(cost(adjacency.outgoingEdge(p)))) {
+            return v;
+          }
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Return the cost from the source to all vertices, or from all vertices to the source if
+     * {@code forward} is {@code false}. Vertices not reachable have the cost
+     * {@link Double#POSITIVE_INFINITY}.
+     */
+    private double[] run(int source, boolean forward) {
+      var result = new double[adjacency.numberOfVertices()];
+      Arrays.fill(result, Double.POSITIVE_INFINITY);
+      result[source] = 0;
+      heapSize = 0;
+      push(0, source);
+
+      while (heapSize > 0) {
+        double c = heapKeys[0];
+        int v = pop();
+        if (c > result[v]) {
+          // A better cost was found after this entry was added
+          continue;
+        }
+        int end = forward ? adjacency.outgoingEnd(v) : adjacency.incomingEnd(v);
+        int p = forward ? adjacency.outgoingStart(v) : adjacency.incomingStart(v);
+        for (; p < end; ++p) {
+          int e = forward ? adjacency.outgoingEdge(p) : adjacency.incomingEdge(p);
+          double edgeCost = cost(e);
+          if (Double.isNaN(edgeCost)) {
+            continue;
+          }
+          int u = forward ? adjacency.toVertex(e) : adjacency.fromVertex(e);
+          relax(result, u, c + edgeCost);
+        }
+        end = forward ? adjacency.connectionOutgoingEnd(v) : adjacency.connectionIncomingEnd(v);
+        p = forward ? adjacency.connectionOutgoingStart(v) : adjacency.connectionIncomingStart(v);
+        for (; p < end; ++p) {
+          int u = forward
+            ? adjacency.connectionOutgoingVertex(p)
+            : adjacency.connectionIncomingVertex(p);
+          relax(result, u, c);
+        }
+      }
+      return result;
+    }
+
+    private void relax(double[] result, int vertex, double cost) {
+      if (cost < result[vertex]) {
+        result[vertex] = cost;
+        push(cost, vertex);
+      }
+    }
+
+    /** The cost of traversing the edge, or {@code NaN} if the edge does not allow the mode. */
+    private double cost(int edge) {
+      if (!allows(edge)) {
+        return Double.NaN;
+      }
+      double meters = adjacency.lengthMm(edge) / 1000.0;
+      if (mode == TraverseMode.CAR) {
+        float speed = adjacency.carSpeed(edge);
+        return speed > 0 ? meters / speed : Double.NaN;
+      }
+      return meters;
+    }
+
+    private boolean allows(int edge) {
+      if (adjacency.allows(edge, mode)) {
+        return true;
+      }
+      return mode == TraverseMode.BICYCLE && adjacency.allows(edge, TraverseMode.WALK);
+    }
+
+    private void push(double key, int vertex) {
+      if (heapSize == heapKeys.length) {
+        heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+        heapVertices = Arrays.copyOf(heapVertices, heapSize * 2);
+      }
+      int i = heapSize++;
+      while (i > 0) {
+        int parent = (i - 1) >>> 1;
+        if (heapKeys[parent] <= key) {
+          break;
+        }
+        heapKeys[i] = heapKeys[parent];
+        heapVertices[i] = heapVertices[parent];
+        i = parent;
+      }
+      heapKeys[i] = key;
+      heapVertices[i] = vertex;
+    }
+
+    private int pop() {
+      int result = heapVertices[0];
+      double key = heapKeys[--heapSize];
+      int vertex = heapVertices[heapSize];
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= heapSize) {
+          break;
+        }
+        if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+          ++child;
+        }
+        if (key <= heapKeys[child]) {
+          break;
+        }
+        heapKeys[i] = heapKeys[child];
+        heapVertices[i] = heapVertices[child];
+        i = child;
+      }
+      heapKeys[i] = key;
+      heapVertices[i] = vertex;
+      return result;
+    }
+  }
+}
@@ -0,0 +1,288 @@
+package org.opentripplanner.street.graph;
+
+import gnu.trove.list.array.TIntArrayList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.edge.StreetEdge;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.TraverseMode;
+
+/**
+ * A read-only, compressed-sparse-row (CSR) view of the street edges in the graph. The vertices
+ * are identified by their {@link Vertex#index()} and the street edges by a dense edge id in the
+ * range {@code [0, numberOfEdges())}. The outgoing and incoming edges of a vertex are stored as a
+ * contiguous range of edge ids, and the most used edge properties are stored in primitive arrays
+ * indexed by the edge id.
+ * <p>
+ * This is used by searches and preprocessing that only need the topology, the length, the
+ * permissions and the car speed of the street network, and can iterate over the arrays without
+ * dereferencing the edge objects. The full street search still traverses the edge objects, the
+ * cost model depends on the request and on data not stored here.
+ * <p>
+ * Only {@link StreetEdge}s between vertices with an index are included as edges. The other edges
+ * between vertices with an index, like elevator, escalator, pathway, free and link edges, are
+ * included as connections, with only the vertices they connect, see
+ * {@link #connectionOutgoingStart(int)}. The view is not updated when the graph changes, see
+ * {@link Graph#streetAdjacency()}.
+ */
+public final class StreetAdjacency {
+
+  public static final byte FLAG_STAIRS = 1;
+  public static final byte FLAG_ROUNDABOUT = 1 << 1;
+  public static final byte FLAG_WHEELCHAIR_ACCESSIBLE = 1 << 2;
+  public static final byte FLAG_WALK_NO_THRU_TRAFFIC = 1 << 3;
+  public static final byte FLAG_BICYCLE_NO_THRU_TRAFFIC = 1 << 4;
+  public static final byte FLAG_MOTOR_VEHICLE_NO_THRU_TRAFFIC = 1 << 5;
+
+  private final int[] outgoingOffsets;
+  private final int[] outgoingEdges;
+  private final int[] incomingOffsets;
+  private final int[] incomingEdges;
+
+  private final StreetEdge[] edges;
+  private final int[] fromVertex;
+  private final int[] toVertex;
+  private final int[] lengthMm;
+  private final byte[] permission;
+  private final byte[] flags;
+  private final float[] carSpeed;
+
+  private final int[] connectionOutgoingOffsets;
+  private final int[] connectionOutgoingVertices;
+  private final int[] connectionIncomingOffsets;
+  private final int[] connectionIncomingVertices;
+
+  private StreetAdjacency(
+    int nVertices,
+    List<StreetEdge> streetEdges,
+    int[] connectionFromVertex,
+    int[] connectionToVertex
+  ) {
+    int nEdges = streetEdges.size();
+    this.edges = streetEdges.toArray(StreetEdge[]::new);
+    this.fromVertex = new int[nEdges];
+    this.toVertex = new int[nEdges];
+    this.lengthMm = new int[nEdges];
+    this.permission = new byte[nEdges];
+    this.flags = new byte[nEdges];
+    this.carSpeed = new float[nEdges];
+
+    for (int e = 0; e < nEdges; ++e) {
+      var edge = edges[e];
+      fromVertex[e] = edge.getFromVertex().index();
+      toVertex[e] = edge.getToVertex().index();
+      lengthMm[e] = (int) Math.round(edge.getDistanceMeters() * 1000.0);
+      permission[e] = (byte) edge.getPermission().code;
+      flags[e] = flags(edge);
+      carSpeed[e] = edge.getCarSpeed();
+    }
+    this.outgoingOffsets = new int[nVertices + 1];
+    this.outgoingEdges = new int[nEdges];
+    this.incomingOffsets = new int[nVertices + 1];
+    this.incomingEdges = new int[nEdges];
+    groupEdgesByVertex(fromVertex, outgoingOffsets, outgoingEdges);
+    groupEdgesByVertex(toVertex, incomingOffsets, incomingEdges);
+
+    int nConnections = connectionFromVertex.length;
+    this.connectionOutgoingOffsets = new int[nVertices + 1];
+    this.connectionOutgoingVertices = new int[nConnections];
+    this.connectionIncomingOffsets = new int[nVertices + 1];
+    this.connectionIncomingVertices = new int[nConnections];
+    groupEdgesByVertex(connectionFromVertex, connectionOutgoingOffsets, connectionOutgoingVertices);
+    groupEdgesByVertex(connectionToVertex, connectionIncomingOffsets, connectionIncomingVertices);
+    // Store the vertex at the other end instead of the connection id
+    for (int i = 0; i < nConnections; ++i) {
+      connectionOutgoingVertices[i] = connectionToVertex[connectionOutgoingVertices[i]];
+      connectionIncomingVertices[i] = connectionFromVertex[connectionIncomingVertices[i]];
+    }
+  }
+
+  /**
+   * Create the adjacency view of all street edges in the graph. The graph vertices must be
+   * indexed, see {@link Graph#indexVertices()}.
+   */
+  static StreetAdjacency of(Graph graph) {
+    var indexed = graph
+      .getVertices()
+      .stream()
+      .filter(v -> v.index() != Vertex.NO_INDEX)
+      .sorted(Comparator.comparingInt(Vertex::index))
+      .toList();
+    int nVertices = indexed.isEmpty() ? 0 : indexed.getLast().index() + 1;
+
+    // The edges are added in vertex index order, so the outgoing edges of a vertex and the edges
+    // of vertices close to each other are stored close to each other
+    var streetEdges = new ArrayList<StreetEdge>();
+    var connectionFrom = new TIntArrayList();
+    var connectionTo = new TIntArrayList();
+    for (Vertex v : indexed) {
+      for (Edge e : v.getOutgoing()) {
+        if (e.getToVertex().index() == Vertex.NO_INDEX) {
+          continue;
+        }
+        if (e instanceof StreetEdge se) {
+          streetEdges.add(se);
+        } else {
+          connectionFrom.add(v.index());
+          connectionTo.add(e.getToVertex().index());
+        }
+      }
+    }
+    return new StreetAdjacency(
+      nVertices,
+      streetEdges,
+      connectionFrom.toArray(),
+      connectionTo.toArray()
+    );
+  }
+
+  public int numberOfVertices() {
+    return outgoingOffsets.length - 1;
+  }
+
+  public int numberOfEdges() {
+    return edges.length;
+  }
+
+  /** The position of the first outgoing edge of the given vertex, see {@link #outgoingEdge(int)} */
+  public int outgoingStart(int vertex) {
+    return outgoingOffsets[vertex];
+  }
+
+  /** The position after the last outgoing edge of the given vertex. */
+  public int outgoingEnd(int vertex) {
+    return outgoingOffsets[vertex + 1];
+  }
+
+  /** The edge id at the given position in the outgoing edge array. */
+  public int outgoingEdge(int position) {
+    return outgoingEdges[position];
+  }
+
+  /** The position of the first incoming edge of the given vertex, see {@link #incomingEdge(int)} */
+  public int incomingStart(int vertex) {
+    return incomingOffsets[vertex];
+  }
+
+  /** The position after the last incoming edge of the given vertex. */
+  public int incomingEnd(int vertex) {
+    return incomingOffsets[vertex + 1];
+  }
+
+  /** The edge id at the given position in the incoming edge array. */
+  public int incomingEdge(int position) {
+    return incomingEdges[position];
+  }
+
+  public StreetEdge edge(int edge) {
+    return edges[edge];
+  }
+
+  public int fromVertex(int edge) {
+    return fromVertex[edge];
+  }
+
+  public int toVertex(int edge) {
+    return toVertex[edge];
+  }
+
+  public int lengthMm(int edge) {
+    return lengthMm[edge];
+  }
+
+  public boolean allows(int edge, TraverseMode mode) {
+    return StreetTraversalPermission.get(permission[edge]).allows(mode);
+  }
+
+  public boolean hasFlag(int edge, byte flag) {
+    return (flags[edge] & flag) != 0;
+  }
+
+  /** The car speed in meters per second. */
+  public float carSpeed(int edge) {
+    return carSpeed[edge];
+  }
+
+  public int numberOfConnections() {
+    return connectionOutgoingVertices.length;
+  }
+
+  /**
+   * The position of the first connection from the given vertex, see
+   * {@link #connectionOutgoingVertex(int)}.
+   */
+  public int connectionOutgoingStart(int vertex) {
+    return connectionOutgoingOffsets[vertex];
+  }
+
+  /** The position after the last connection from the given vertex. */
+  public int connectionOutgoingEnd(int vertex) {
+    return connectionOutgoingOffsets[vertex + 1];
+  }
+
+  /** The vertex the connection at the given position leads to. */
+  public int connectionOutgoingVertex(int position) {
+    return connectionOutgoingVertices[position];
+  }
+
+  /**
+   * The position of the first connection to the given vertex, see
+   * {@link #connectionIncomingVertex(int)}.
+   */
+  public int connectionIncomingStart(int vertex) {
+    return connectionIncomingOffsets[vertex];
+  }
+
+  /** The position after the last connection to the given vertex. */
+  public int connectionIncomingEnd(int vertex) {
+    return connectionIncomingOffsets[vertex + 1];
+  }
+
+  /** The vertex the connection at the given position comes from. */
+  public int connectionIncomingVertex(int position) {
+    return connectionIncomingVertices[position];
+  }
+
+  /**
+   * Sort the edge ids by vertex using a counting sort, and set the offset of the first edge for
+   * each vertex. The edges of a vertex keep their relative order.
+   */
+  private static void groupEdgesByVertex(int[] vertexOfEdge, int[] offsets, int[] result) {
+    for (int v : vertexOfEdge) {
+      ++offsets[v + 1];
+    }
+    for (int i = 1; i < offsets.length; ++i) {
+      offsets[i] += offsets[i - 1];
+    }
+    int[] next = offsets.clone();
+    for (int e = 0; e < vertexOfEdge.length; ++e) {
+      result[next[vertexOfEdge[e]]++] = e;
+    }
+  }
+
+  private static byte flags(StreetEdge edge) {
+    int flags = 0;
+    if (edge.isStairs()) {
+      flags |= FLAG_STAIRS;
+    }
+    if (edge.isRoundabout()) {
+      flags |= FLAG_ROUNDABOUT;
+    }
+    if (edge.isWheelchairAccessible()) {
+      flags |= FLAG_WHEELCHAIR_ACCESSIBLE;
+    }
+    if (edge.isWalkNoThruTraffic()) {
+      flags |= FLAG_WALK_NO_THRU_TRAFFIC;
+    }
+    if (edge.isBicycleNoThruTraffic()) {
+      flags |= FLAG_BICYCLE_NO_THRU_TRAFFIC;
+    }
+    if (edge.isMotorVehicleNoThruTraffic()) {
+      flags |= FLAG_MOTOR_VEHICLE_NO_THRU_TRAFFIC;
+    }
+    return (byte) flags;
+  }
+}
@@ -5,10 +5,13 @@ import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
 import org.locationtech.jts.geom.LineString;
 import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
 import org.opentripplanner.core.model.i18n.I18NString;
 import org.opentripplanner.service.vehiclerental.model.RentalVehicleType.PropulsionType;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehiclePickup;
 import org.opentripplanner.service.vehiclerental.street.geofencing.GeofencingInterceptor;
 import org.opentripplanner.street.geometry.DirectionUtils;
 import org.opentripplanner.street.geometry.EndpointContextLineString;
@@ -304,8 +307,6 @@ public class StreetEdge
 
   @Override
   public State[] traverse(State s0) {
-    final StateEditor editor;
-
     // Geofencing enforcement for rental modes
     if (s0.getRequest().mode().includesRenting()) {
       var geofencingResult = traverseWithGeofencing(s0);
@@ -314,23 +315,19 @@ public class StreetEdge
       }
     }
 
-    // If we are biking, or walking with a bike check if we may continue by biking or by walking
-    if (s0.currentMode() == TraverseMode.BICYCLE) {
-      if (canTraverse(TraverseMode.BICYCLE)) {
-        editor = doTraverse(s0, TraverseMode.BICYCLE, false);
-      } else if (canTraverse(TraverseMode.WALK)) {
-        editor = doTraverse(s0, TraverseMode.WALK, true);
-      } else {
-        return State.empty();
+    var editor = traverseInCurrentMode(s0);
+    State state = editor != null ? editor.makeState() : null;
+
+    // Free-floating vehicles which are not in the graph are picked up at the end of the edge
+    if (s0.getRequest().mode().includesRenting()) {
+      var pickups = FreeFloatingVehiclePickup.apply(s0, tov, state, () ->
+        canTraverse(TraverseMode.WALK) ? doTraverse(s0, TraverseMode.WALK, false) : null
+      );
+      if (pickups != null) {
+        return pickups;
       }
-    } else if (canTraverse(s0.currentMode())) {
-      editor = doTraverse(s0, s0.currentMode(), false);
-    } else {
-      editor = null;
     }
 
-    State state = editor != null ? editor.makeState() : null;
-
     if (canPickupAndDrive(s0) && canTraverse(TraverseMode.CAR)) {
       StateEditor inCar = doTraverse(s0, TraverseMode.CAR, false);
       if (inCar != null) {
@@ -357,6 +354,29 @@ public class StreetEdge
     return State.ofNullable(state);
   }
 
+  /**
+   * Street edges are the most traversed edges, so the common case of a single resulting state is
+   * handled without creating the result array. Rental, pick-up and drop-off traversals, which may
+   * create more than one state, delegate to {@link #traverse(State)}.
+   */
+  @Override
+  public void traverse(State s0, Consumer<State> result) {
+    if (
+      s0.getRequest().mode().includesRenting() ||
+      canPickupAndDrive(s0) ||
+      canDropOffAfterDriving(s0)
+    ) {
+      for (State s : traverse(s0)) {
+        result.accept(s);
+      }
+      return;
+    }
+    var editor = traverseInCurrentMode(s0);
+    if (editor != null) {
+      result.accept(editor.makeState());
+    }
+  }
+
   /**
    * Gets non-localized I18NString (Used when splitting edges)
    *
@@ -773,6 +793,23 @@ public class StreetEdge
       : getDistanceMeters();
   }
 
+  /**
+   * Traverse the edge in the current mode of the state. If we are biking, check if we may continue
+   * by biking or by walking the bike. Return {@code null} if the edge can not be traversed.
+   */
+  @Nullable
+  private StateEditor traverseInCurrentMode(State s0) {
+    if (s0.currentMode() == TraverseMode.BICYCLE) {
+      if (canTraverse(TraverseMode.BICYCLE)) {
+        return doTraverse(s0, TraverseMode.BICYCLE, false);
+      } else if (canTraverse(TraverseMode.WALK)) {
+        return doTraverse(s0, TraverseMode.WALK, true);
+      }
+      return null;
+    }
+    return canTraverse(s0.currentMode()) ? doTraverse(s0, s0.currentMode(), false) : null;
+  }
+
   /**
    * return a StateEditor rather than a State so that we can make parking/mode switch modifications
    * for kiss-and-ride.
@@ -793,10 +830,20 @@ public class StreetEdge
       }
     }
 
+    // Check this before creating the editor, so no editor is created for blocked traversals
+    if (isTraversalBlockedByNoThruTraffic(traverseMode, s0)) {
+      return null;
+    }
+
     var s1 = createEditor(s0, this, traverseMode, walkingBike);
 
-    if (isTraversalBlockedByNoThruTraffic(traverseMode, backEdge, s0, s1)) {
-      return null;
+    // Record transition into no-through-traffic area.
+    if (
+      isNoThruTraffic(traverseMode) &&
+      backEdge instanceof StreetEdge sbe &&
+      !sbe.isNoThruTraffic(traverseMode)
+    ) {
+      s1.setEnteredNoThroughTrafficArea();
     }
 
     if (s0.getRequest().mode().includesRenting() && !fromv.listGeofencingBoundaries().isEmpty()) {
@@ -1070,23 +1117,9 @@ public class StreetEdge
    * Since a Vertex may be arrived at with and without a no-thru restriction, the logic in
    * DominanceFunction#betterOrEqualAndComparable treats the two cases as separate.
    */
-  private boolean isTraversalBlockedByNoThruTraffic(
-    TraverseMode traverseMode,
-    Edge backEdge,
-    State s0,
-    StateEditor s1
-  ) {
-    if (isNoThruTraffic(traverseMode)) {
-      // Record transition into no-through-traffic area.
-      if (backEdge instanceof StreetEdge sbe && !sbe.isNoThruTraffic(traverseMode)) {
-        s1.setEnteredNoThroughTrafficArea();
-      }
-    } else if (s0.hasEnteredNoThruTrafficArea()) {
-      // If we transitioned into a no-through-traffic area at some point, check if we are exiting it.
-      return true;
-    }
-
-    return false;
+  private boolean isTraversalBlockedByNoThruTraffic(TraverseMode traverseMode, State s0) {
+    // If we transitioned into a no-through-traffic area at some point, check if we are exiting it.
+    return !isNoThruTraffic(traverseMode) && s0.hasEnteredNoThruTrafficArea();
   }
 
   private void writeObject(ObjectOutputStream out) throws IOException {
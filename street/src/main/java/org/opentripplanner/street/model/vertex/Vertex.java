@@ -39,6 +39,8 @@ public abstract class Vertex implements AStarVertex<State, Edge, Vertex>, Serial
 
   private transient Edge[] outgoing = new Edge[0];
 
+  private transient int index = NO_INDEX;
+
   private List<GeofencingBoundaryExtension> geofencingBoundaries = List.of();
 
   /* CONSTRUCTORS */
@@ -67,6 +69,19 @@ public abstract class Vertex implements AStarVertex<State, Edge, Vertex>, Serial
     this.incoming = new Edge[0];
   }
 
+  @Override
+  public int index() {
+    return index;
+  }
+
+  /**
+   * Set the dense index of this vertex, see {@link #index()}. This should only be called by the
+   * graph the vertex is part of, see {@link org.opentripplanner.street.graph.Graph#indexVertices()}.
+   */
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
   /* EDGE UTILITY METHODS (use arrays to eliminate copy-on-write set objects) */
 
   public void addOutgoing(Edge edge) {
@@ -360,5 +375,6 @@ public abstract class Vertex implements AStarVertex<State, Edge, Vertex>, Serial
     in.defaultReadObject();
     this.incoming = new Edge[0];
     this.outgoing = new Edge[0];
+    this.index = NO_INDEX;
   }
 }
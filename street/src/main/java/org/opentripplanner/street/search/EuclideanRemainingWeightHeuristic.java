@@ -68,6 +68,13 @@ public class EuclideanRemainingWeightHeuristic implements RemainingWeightHeurist
     lon = target.getLon();
   }
 
+  /**
+   * The minimum weight per meter for the request, available after {@link #initialize}.
+   */
+  double minimumCostPerDistance() {
+    return minimumCostPerDistance;
+  }
+
   /**
    * On a non-transit trip, the remaining weight is simply distance / street speed.
    */
@@ -0,0 +1,145 @@
+package org.opentripplanner.street.search;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nullable;
+import org.opentripplanner.astar.spi.RemainingWeightHeuristic;
+import org.opentripplanner.street.graph.Graph;
+import org.opentripplanner.street.graph.LandmarkTable;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.edge.Edge;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.TraverseMode;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.service.StreetLimitationParametersService;
+
+/**
+ * A remaining weight heuristic using precomputed {@link LandmarkTable}s (ALT). The estimate is
+ * the maximum of the landmark lower bound and the {@link EuclideanRemainingWeightHeuristic}
+ * estimate, so it is never worse than the euclidean heuristic. The landmark bound is much tighter
+ * when the street network forces a detour, like around fjords, lakes and mountains.
+ * <p>
+ * The table is selected by the request street mode: {@code CAR}, {@code WALK} and {@code BIKE} use
+ * the table for the corresponding traverse mode, if the graph has one. In all other cases, and for
+ * vertices not included in the table, like temporary vertices, the euclidean estimate is used.
+ */
+public class LandmarkRemainingWeightHeuristic implements RemainingWeightHeuristic<State> {
+
+  /**
+   * The goal vertices are usually temporary vertices without an index. We search from the goal
+   * through vertices without an index until we find indexed vertices. The search is aborted, and
+   * the landmark bound is not used, if more than this number of vertices are visited.
+   */
+  private static final int MAX_GOAL_SEARCH_SIZE = 100;
+
+  private final EuclideanRemainingWeightHeuristic euclidean;
+  private final Graph graph;
+
+  @Nullable
+  private LandmarkTable table;
+
+  private boolean arriveBy;
+  private double weightPerUnit;
+
+  /** The indexed vertices closest to the goal, or null if the landmark bound is not used. */
+  @Nullable
+  private int[] goals;
+
+  public LandmarkRemainingWeightHeuristic(
+    StreetLimitationParametersService streetLimitationParametersService,
+    Graph graph
+  ) {
+    this.euclidean = new EuclideanRemainingWeightHeuristic(streetLimitationParametersService);
+    this.graph = graph;
+  }
+
+  public void initialize(Set<Vertex> toVertices, StreetSearchRequest req) {
+    euclidean.initialize(toVertices, req);
+    this.arriveBy = req.arriveBy();
+    this.goals = null;
+    this.table = tableMode(req.mode()).flatMap(graph::findLandmarkTable).orElse(null);
+    if (table == null) {
+      return;
+    }
+    this.weightPerUnit = table.unitSize() * minimumWeightPerTableCost(req);
+    this.goals = findIndexedGoalVertices(toVertices);
+  }
+
+  @Override
+  public double estimateRemainingWeight(State s) {
+    double estimate = euclidean.estimateRemainingWeight(s);
+    if (goals == null) {
+      return estimate;
+    }
+    int v = s.getVertex().index();
+    if (!table.contains(v)) {
+      return estimate;
+    }
+    // In an arrive-by search the states travel backwards from the destination to the goal,
+    // which is the origin of the trip
+    int units = arriveBy ? table.lowerBound(goals, v) : table.lowerBound(v, goals);
+    return Math.max(estimate, units * weightPerUnit);
+  }
+
+  /**
+   * The table to use for the street mode. The landmark bound is only used for direct searches
+   * with a single mode, for which a lower bound on the cost of the whole path can be computed.
+   */
+  private static Optional<TraverseMode> tableMode(StreetMode mode) {
+    return switch (mode) {
+      case CAR -> Optional.of(TraverseMode.CAR);
+      case WALK -> Optional.of(TraverseMode.WALK);
+      case BIKE -> Optional.of(TraverseMode.BICYCLE);
+      default -> Optional.empty();
+    };
+  }
+
+  /**
+   * The minimum weight per unit of table cost, before scaling with the table unit size. The car
+   * table cost is the travel time, and the car weight is the travel time multiplied by the
+   * reluctance, see StreetEdge. The other tables contain the distance, and we use the same
+   * minimum weight per meter as the euclidean heuristic, including bike walking.
+   */
+  private double minimumWeightPerTableCost(StreetSearchRequest req) {
+    return table.mode() == TraverseMode.CAR
+      ? req.car().reluctance()
+      : euclidean.minimumCostPerDistance();
+  }
+
+  /**
+   * Find the indexed vertices every path to (or from, for arrive-by searches) the goal vertices
+   * must pass last. Return {@code null} if none are found, or the search is too large.
+   */
+  @Nullable
+  private int[] findIndexedGoalVertices(Set<Vertex> goalVertices) {
+    var result = new HashSet<Integer>();
+    var visited = new HashSet<Vertex>();
+    var queue = new ArrayDeque<Vertex>(goalVertices);
+    while (!queue.isEmpty()) {
+      var v = queue.poll();
+      if (!visited.add(v)) {
+        continue;
+      }
+      if (visited.size() > MAX_GOAL_SEARCH_SIZE) {
+        return null;
+      }
+      if (table.contains(v.index())) {
+        result.add(v.index());
+        continue;
+      }
+      if (arriveBy) {
+        for (Edge e : v.getOutgoing()) {
+          queue.add(e.getToVertex());
+        }
+      } else {
+        for (Edge e : v.getIncoming()) {
+          queue.add(e.getFromVertex());
+        }
+      }
+    }
+    return result.isEmpty() ? null : result.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
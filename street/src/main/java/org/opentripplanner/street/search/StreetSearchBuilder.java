@@ -1,5 +1,7 @@
 package org.opentripplanner.street.search;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -7,6 +9,7 @@ import java.util.Set;
 import javax.annotation.Nullable;
 import org.opentripplanner.astar.AStar;
 import org.opentripplanner.astar.AStarBuilder;
+import org.opentripplanner.astar.BidirectionalAStar;
 import org.opentripplanner.astar.model.ShortestPathTree;
 import org.opentripplanner.astar.spi.DominanceFunction;
 import org.opentripplanner.astar.spi.RemainingWeightHeuristic;
@@ -28,6 +31,10 @@ public class StreetSearchBuilder {
   private Set<Vertex> fromVertices;
   private Set<Vertex> toVertices;
   private RemainingWeightHeuristic<State> heuristic;
+  private Collection<StreetSearchRequest> additionalRequests = List.of();
+
+  @Nullable
+  private RemainingWeightHeuristic<State> reverseHeuristic;
 
   public static StreetSearchBuilder of() {
     return new StreetSearchBuilder();
@@ -46,6 +53,20 @@ public class StreetSearchBuilder {
     return this;
   }
 
+  /**
+   * Search for these requests at the same time as the {@link #withRequest(StreetSearchRequest)
+   * request}, in the same shortest path tree. The requests must have the same direction and start
+   * time as the main request, and the heuristic is only initialized with the main request. The
+   * states of different requests never dominate each other, see {@link DominanceFunctions}, use
+   * {@link State#getRequest()} to tell them apart.
+   */
+  public StreetSearchBuilder withAdditionalRequests(
+    Collection<StreetSearchRequest> additionalRequests
+  ) {
+    this.additionalRequests = additionalRequests;
+    return this;
+  }
+
   public StreetSearchBuilder withFrom(Set<Vertex> fromVertices) {
     this.fromVertices = fromVertices;
     return this;
@@ -71,6 +92,22 @@ public class StreetSearchBuilder {
     return this;
   }
 
+  /**
+   * Use a {@link BidirectionalAStar} search in {@link #getPathsToTarget()}. The reverse search
+   * starts from the goal vertices with the given heuristic, which must be a separate instance of
+   * the same type as the {@link #withHeuristic(RemainingWeightHeuristic) heuristic}.
+   * <p>
+   * The reverse search starts at the same time as the request. This is only correct if the
+   * street costs do not depend on the time of the day, which is the case for walk, bike and car
+   * searches without rental or parking.
+   */
+  public StreetSearchBuilder withBidirectionalSearch(
+    RemainingWeightHeuristic<State> reverseHeuristic
+  ) {
+    this.reverseHeuristic = reverseHeuristic;
+    return this;
+  }
+
   public StreetSearchBuilder withDominanceFunction(DominanceFunction<State> dominanceFunction) {
     aStarBuilder.withDominanceFunction(dominanceFunction);
     return this;
@@ -93,6 +130,15 @@ public class StreetSearchBuilder {
     return this;
   }
 
+  /**
+   * Use a bucket queue instead of a binary heap as the priority queue of the search, see
+   * {@link AStarBuilder#withBucketQueue(double)}.
+   */
+  public StreetSearchBuilder withBucketQueue(double bucketWidth) {
+    aStarBuilder.withBucketQueue(bucketWidth);
+    return this;
+  }
+
   /**
    * Set a function that will be called before the search begins. Useful for checking that
    * a timeout has not been reached before the search begins.
@@ -114,8 +160,10 @@ public class StreetSearchBuilder {
 
   /// Run the street search, returning all paths found
   public List<StreetPath> getPathsToTarget() {
-    return buildAstar()
-      .getPathsToTarget()
+    var paths = reverseHeuristic == null
+      ? buildAstar().getPathsToTarget()
+      : buildBidirectionalAstar().getPathsToTarget();
+    return paths
       .stream()
       .sorted(new PathComparator(request.arriveBy()))
       .map(StreetPath::new)
@@ -127,20 +175,45 @@ public class StreetSearchBuilder {
     var arriveBy = request.arriveBy();
     var originVertices = arriveBy ? toVertices : fromVertices;
     var goalVertices = arriveBy ? fromVertices : toVertices;
-    var initialStates = State.getInitialStates(originVertices, request);
-    var heuristic = initializedHeuristic(goalVertices);
+    var initialStates = new ArrayList<>(State.getInitialStates(originVertices, request));
+    for (var it : additionalRequests) {
+      initialStates.addAll(State.getInitialStates(originVertices, it));
+    }
 
     return aStarBuilder
       .withGoalVertices(goalVertices)
       .withInitialStates(initialStates)
-      .withHeuristic(heuristic)
+      .withHeuristic(initializedHeuristic(heuristic, goalVertices, request))
       .build();
   }
 
+  private BidirectionalAStar<State, Edge, Vertex> buildBidirectionalAstar() {
+    Objects.requireNonNull(request);
+    var arriveBy = request.arriveBy();
+    var originVertices = arriveBy ? toVertices : fromVertices;
+    var goalVertices = arriveBy ? fromVertices : toVertices;
+    var reverseRequest = request.copyOfReversed(request.startTime()).build();
+
+    return aStarBuilder
+      .withGoalVertices(goalVertices)
+      .withInitialStates(State.getInitialStates(originVertices, request))
+      .withHeuristic(initializedHeuristic(heuristic, goalVertices, request))
+      .buildBidirectional(
+        State.getInitialStates(goalVertices, reverseRequest),
+        initializedHeuristic(reverseHeuristic, originVertices, reverseRequest)
+      );
+  }
+
   @Nullable
-  private RemainingWeightHeuristic<State> initializedHeuristic(Set<Vertex> goalVertices) {
+  private static RemainingWeightHeuristic<State> initializedHeuristic(
+    @Nullable RemainingWeightHeuristic<State> heuristic,
+    Set<Vertex> goalVertices,
+    StreetSearchRequest request
+  ) {
     if (heuristic instanceof EuclideanRemainingWeightHeuristic euclideanHeuristic) {
       euclideanHeuristic.initialize(goalVertices, request);
+    } else if (heuristic instanceof LandmarkRemainingWeightHeuristic landmarkHeuristic) {
+      landmarkHeuristic.initialize(goalVertices, request);
     } else if (heuristic != null) {
       throw new IllegalArgumentException("Unknown heuristic type: " + heuristic);
     }
@@ -407,8 +407,18 @@ public final class State implements AStarState<State, Edge, Vertex> {
           );
         }
       } else if (!orig.isRentingVehicle() && orig.getBackState().isRentingVehicle()) {
-        var stationVertex = ((VehicleRentalPlaceVertex) orig.vertex);
-        if (orig.getBackState().isRentingVehicleFromStation()) {
+        if (!(orig.vertex instanceof VehicleRentalPlaceVertex stationVertex)) {
+          // A free-floating vehicle which is not in the graph, picked up on a street edge. An
+          // arrive-by search keeps the network on the state after the pickup.
+          editor.beginFloatingVehicleRenting(
+            orig.getBackState().vehicleRentalFormFactor(),
+            orig.getBackState().rentalVehiclePropulsionType(),
+            orig.getVehicleRentalNetwork() != null
+              ? orig.getVehicleRentalNetwork()
+              : orig.getBackState().getVehicleRentalNetwork(),
+            false
+          );
+        } else if (orig.getBackState().isRentingVehicleFromStation()) {
           editor.beginVehicleRentingAtStation(
             ((VehicleRentalEdge) edge).formFactor,
             orig.getBackState().rentalVehiclePropulsionType(),
@@ -31,6 +31,11 @@ public abstract class DominanceFunctions implements Serializable, DominanceFunct
    */
   @Override
   public boolean betterOrEqualAndComparable(State a, State b) {
+    // States of different requests searched in the same tree are on separate planes
+    if (a.getRequest() != b.getRequest()) {
+      return false;
+    }
+
     // Does one state represent riding a rented bike and the other represent walking before/after rental?
     if (!a.isCompatibleVehicleRentalState(b)) {
       return false;
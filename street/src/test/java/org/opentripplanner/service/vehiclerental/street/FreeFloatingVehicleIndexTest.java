@@ -0,0 +1,70 @@
+package org.opentripplanner.service.vehiclerental.street;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder.DEFAULT_LATITUDE;
+import static org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder.DEFAULT_LONGITUDE;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder;
+import org.opentripplanner.service.vehiclerental.street.FreeFloatingVehicleIndex.Entry;
+
+class FreeFloatingVehicleIndexTest {
+
+  private static final Entry NEAR = entry(DEFAULT_LATITUDE + 0.0001, DEFAULT_LONGITUDE);
+  private static final Entry FAR = entry(DEFAULT_LATITUDE + 0.0003, DEFAULT_LONGITUDE);
+  private static final Entry OUTSIDE = entry(DEFAULT_LATITUDE + 0.001, DEFAULT_LONGITUDE);
+
+  private final FreeFloatingVehicleIndex subject = new FreeFloatingVehicleIndex(
+    7,
+    List.of(OUTSIDE, FAR, NEAR)
+  );
+
+  @Test
+  void empty() {
+    var index = FreeFloatingVehicleIndex.EMPTY;
+
+    assertTrue(index.isEmpty());
+    assertEquals(List.of(), index.findNearby(DEFAULT_LATITUDE, DEFAULT_LONGITUDE, 1000));
+  }
+
+  @Test
+  void versionAndSize() {
+    assertEquals(7, subject.version());
+    assertEquals(3, subject.size());
+  }
+
+  @Test
+  void nearestFirst() {
+    assertEquals(List.of(NEAR, FAR), subject.findNearby(DEFAULT_LATITUDE, DEFAULT_LONGITUDE, 50));
+  }
+
+  @Test
+  void radius() {
+    assertEquals(List.of(NEAR), subject.findNearby(DEFAULT_LATITUDE, DEFAULT_LONGITUDE, 20));
+    assertEquals(
+      List.of(NEAR, FAR, OUTSIDE),
+      subject.findNearby(DEFAULT_LATITUDE, DEFAULT_LONGITUDE, 150)
+    );
+  }
+
+  @Test
+  void vehicleInNeighbourBin() {
+    // The bin boundary is half-way between 19.010 and 19.011
+    var vehicle = entry(DEFAULT_LATITUDE, 19.0106);
+    var index = new FreeFloatingVehicleIndex(1, List.of(vehicle));
+
+    assertEquals(List.of(vehicle), index.findNearby(DEFAULT_LATITUDE, 19.0104, 50));
+  }
+
+  private static Entry entry(double lat, double lon) {
+    var vehicle = TestFreeFloatingRentalVehicleBuilder.of()
+      .withVehicleScooter()
+      .withLatitude(lat)
+      .withLongitude(lon)
+      .build();
+    return new Entry(vehicle, Set.of());
+  }
+}
@@ -0,0 +1,204 @@
+package org.opentripplanner.service.vehiclerental.street;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder.NETWORK_1;
+import static org.opentripplanner.street.model.StreetModelFactory.intersectionVertex;
+import static org.opentripplanner.street.model.StreetModelFactory.streetEdge;
+import static org.opentripplanner.street.search.state.VehicleRentalState.BEFORE_RENTING;
+import static org.opentripplanner.street.search.state.VehicleRentalState.RENTING_FLOATING;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.service.vehiclerental.model.RentalVehicleType.PropulsionType;
+import org.opentripplanner.service.vehiclerental.model.TestFreeFloatingRentalVehicleBuilder;
+import org.opentripplanner.street.model.RentalFormFactor;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model.edge.StreetEdge;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.search.TraverseMode;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.request.StreetSearchRequestBuilder;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.search.state.StateEditor;
+import org.opentripplanner.street.search.state.VehicleRentalState;
+
+class FreeFloatingVehiclePickupTest {
+
+  private static final double LAT = 59.9;
+  private static final double LON = 10.7;
+
+  // About 110 meters apart, so a vehicle near V1 is too far from V0 and V2 to be picked up there
+  private static final StreetVertex V0 = intersectionVertex(LAT, LON);
+  private static final StreetVertex V1 = intersectionVertex(LAT + 0.001, LON);
+  private static final StreetVertex V2 = intersectionVertex(LAT + 0.002, LON);
+
+  private static final StreetEdge E1 = streetEdge(V0, V1, 110, StreetTraversalPermission.ALL);
+  private static final StreetEdge E2 = streetEdge(V1, V2, 110, StreetTraversalPermission.ALL);
+
+  /** About 11 meters from V1 */
+  private static final FreeFloatingVehicleIndex INDEX = new FreeFloatingVehicleIndex(
+    1,
+    List.of(
+      new FreeFloatingVehicleIndex.Entry(
+        TestFreeFloatingRentalVehicleBuilder.of()
+          .withVehicleScooter()
+          .withLatitude(LAT + 0.0011)
+          .withLongitude(LON)
+          .build(),
+        Set.of()
+      )
+    )
+  );
+
+  @Test
+  void pickUpAtEndOfEdge() {
+    var request = request(false, b -> {});
+    var states = E1.traverse(new State(V0, request));
+
+    assertEquals(2, states.length);
+    var pickup = find(states, RENTING_FLOATING);
+    var walk = find(states, BEFORE_RENTING);
+
+    assertSame(V1, pickup.getVertex());
+    assertEquals(TraverseMode.SCOOTER, pickup.currentMode());
+    assertEquals(TraverseMode.WALK, pickup.getBackMode());
+    assertEquals(NETWORK_1, pickup.getVehicleRentalNetwork());
+    assertEquals(RentalFormFactor.SCOOTER, pickup.vehicleRentalFormFactor());
+    // The pickup time, and the walk to the vehicle, is added to the walk along the edge
+    assertTrue(pickup.getElapsedTimeSeconds() > walk.getElapsedTimeSeconds());
+    assertTrue(pickup.getWeight() > walk.getWeight());
+  }
+
+  @Test
+  void noPickUpAtStartOfEdge() {
+    var request = request(false, b -> {});
+    var states = E2.traverse(new State(V1, request));
+
+    assertEquals(1, states.length);
+    assertEquals(BEFORE_RENTING, states[0].getVehicleRentalState());
+  }
+
+  @Test
+  void noPickUpWithoutIndex() {
+    var request = StreetSearchRequest.of().withMode(StreetMode.SCOOTER_RENTAL).build();
+    var states = E1.traverse(new State(V0, request));
+
+    assertEquals(1, states.length);
+    assertEquals(BEFORE_RENTING, states[0].getVehicleRentalState());
+  }
+
+  @Test
+  void bannedNetwork() {
+    var request = request(false, b ->
+      b.withScooter(s -> s.withRental(r -> r.withBannedNetworks(Set.of(NETWORK_1))))
+    );
+    var states = E1.traverse(new State(V0, request));
+
+    assertEquals(1, states.length);
+    assertEquals(BEFORE_RENTING, states[0].getVehicleRentalState());
+  }
+
+  @Test
+  void pickUpArriveBy() {
+    var request = request(true, b -> {});
+    var states = E1.traverse(rentingArriveBy(V1, request, null));
+
+    assertEquals(2, states.length);
+    var pickup = find(states, BEFORE_RENTING);
+    var ride = find(states, RENTING_FLOATING);
+
+    // Going backwards in time, the vehicle is picked up at V1 and the edge is walked to V0
+    assertSame(V0, pickup.getVertex());
+    assertEquals(TraverseMode.WALK, pickup.currentMode());
+    assertEquals(TraverseMode.WALK, pickup.getBackMode());
+    assertEquals(NETWORK_1, pickup.getVehicleRentalNetwork());
+    assertEquals(TraverseMode.SCOOTER, ride.currentMode());
+  }
+
+  @Test
+  void arriveByRidingOtherNetwork() {
+    var request = request(true, b -> {});
+    var states = E1.traverse(rentingArriveBy(V1, request, "Network-2"));
+
+    assertEquals(1, states.length);
+    assertEquals(RENTING_FLOATING, states[0].getVehicleRentalState());
+  }
+
+  @Test
+  void arriveByNetworkAlreadyCommitted() {
+    var request = request(true, b -> {});
+    var editor = new StateEditor(V1, request);
+    editor.dropFloatingVehicle(RentalFormFactor.SCOOTER, PropulsionType.ELECTRIC, null, true);
+    editor.addCommittedNetwork(NETWORK_1);
+    var states = E1.traverse(editor.makeState());
+
+    assertEquals(1, states.length);
+    assertEquals(RENTING_FLOATING, states[0].getVehicleRentalState());
+  }
+
+  @Test
+  void reverseArriveByPath() {
+    var request = request(true, b -> {});
+    var atV1 = E2.traverse(rentingArriveBy(V2, request, null));
+    assertEquals(1, atV1.length);
+    var atV0 = find(E1.traverse(atV1[0]), BEFORE_RENTING);
+
+    var reversed = atV0.reverse();
+
+    assertFalse(reversed.getRequest().arriveBy());
+    assertSame(V2, reversed.getVertex());
+    assertEquals(atV0.getElapsedTimeSeconds(), reversed.getElapsedTimeSeconds(), 1);
+    assertEquals(atV0.getWeight(), reversed.getWeight(), 0.001);
+
+    var pickup = reversed.getBackState();
+    assertSame(V1, pickup.getVertex());
+    assertEquals(RENTING_FLOATING, pickup.getVehicleRentalState());
+    assertEquals(NETWORK_1, pickup.getVehicleRentalNetwork());
+    assertEquals(TraverseMode.SCOOTER, pickup.currentMode());
+
+    var start = pickup.getBackState();
+    assertSame(V0, start.getVertex());
+    assertEquals(BEFORE_RENTING, start.getVehicleRentalState());
+    assertNull(start.getBackState());
+  }
+
+  private static StreetSearchRequest request(
+    boolean arriveBy,
+    Consumer<StreetSearchRequestBuilder> body
+  ) {
+    var builder = StreetSearchRequest.of()
+      .withMode(StreetMode.SCOOTER_RENTAL)
+      .withArriveBy(arriveBy)
+      .withExtensionRequestContexts(List.of(new FreeFloatingVehicles(List.of(INDEX))));
+    body.accept(builder);
+    return builder.build();
+  }
+
+  /**
+   * The state of an arrive-by search riding a vehicle, which is picked up further back.
+   */
+  private static State rentingArriveBy(
+    StreetVertex vertex,
+    StreetSearchRequest request,
+    String network
+  ) {
+    var editor = new StateEditor(vertex, request);
+    editor.dropFloatingVehicle(RentalFormFactor.SCOOTER, PropulsionType.ELECTRIC, network, true);
+    return editor.makeState();
+  }
+
+  private static State find(State[] states, VehicleRentalState rentalState) {
+    return Arrays.stream(states)
+      .filter(it -> it.getVehicleRentalState() == rentalState)
+      .findFirst()
+      .orElseThrow();
+  }
+}
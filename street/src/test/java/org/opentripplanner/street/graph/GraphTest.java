@@ -44,6 +44,29 @@ class GraphTest {
     assertEquals(a, b);
   }
 
+  @Test
+  void indexVertices() {
+    var g = new Graph();
+    // Two clusters, added interleaved
+    Vertex a = intersectionVertex("A", 60.0, 10.0);
+    Vertex b = intersectionVertex("B", 61.0, 11.0);
+    Vertex c = intersectionVertex("C", 60.001, 10.001);
+    Vertex d = intersectionVertex("D", 61.001, 11.001);
+    for (Vertex v : List.of(a, b, c, d)) {
+      assertEquals(Vertex.NO_INDEX, v.index());
+      g.addVertex(v);
+    }
+
+    g.indexVertices();
+
+    // Vertices close to each other get adjacent indexes
+    assertEquals(Set.of(0, 1), Set.of(a.index(), c.index()));
+    assertEquals(Set.of(2, 3), Set.of(b.index(), d.index()));
+
+    g.remove(d);
+    assertEquals(Vertex.NO_INDEX, d.index());
+  }
+
   @Test
   void testAddEdge() {
     Vertex a = intersectionVertex("A", 5, 5);
@@ -0,0 +1,194 @@
+package org.opentripplanner.street.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.street.model.StreetModelFactory.intersectionVertex;
+import static org.opentripplanner.street.model.StreetModelFactory.streetEdge;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.core.model.accessibility.Accessibility;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model.edge.ElevatorHopEdge;
+import org.opentripplanner.street.model.edge.FreeEdge;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.search.TraverseMode;
+
+class LandmarkTableTest {
+
+  private static final int SIZE = 5;
+
+  private final Graph graph = new Graph();
+  private final StreetVertex[][] grid = new StreetVertex[SIZE][SIZE];
+
+  @Test
+  void lowerBoundIsNeverMoreThanTheShortestPath() {
+    createGrid();
+    graph.createLandmarkTable(TraverseMode.WALK, 3);
+    var subject = graph.findLandmarkTable(TraverseMode.WALK).orElseThrow();
+
+    assertEquals(3, subject.numberOfLandmarks());
+    assertEquals(SIZE * SIZE, subject.numberOfVertices());
+
+    int maxBound = assertLowerBound(subject);
+    // The bound is useful, the longest path is 800 meters
+    assertTrue(maxBound >= 700, "Max bound " + maxBound);
+
+    int corner = grid[0][0].index();
+    int[] goals = { grid[SIZE - 1][SIZE - 1].index(), grid[0][1].index() };
+    assertEquals(subject.lowerBound(corner, goals[1]), subject.lowerBound(corner, goals));
+    assertEquals(subject.lowerBound(goals[1], corner), subject.lowerBound(goals, corner));
+  }
+
+  @Test
+  void elevatorShortcutIsIncluded() {
+    createGrid();
+    // The elevator is not a street edge, and has no distance
+    ElevatorHopEdge.bidirectional(
+      grid[0][0],
+      grid[SIZE - 1][SIZE - 1],
+      StreetTraversalPermission.ALL,
+      Accessibility.POSSIBLE,
+      1,
+      20
+    );
+    for (var mode : List.of(TraverseMode.WALK, TraverseMode.BICYCLE, TraverseMode.CAR)) {
+      graph.createLandmarkTable(mode, 3);
+      var subject = graph.findLandmarkTable(mode).orElseThrow();
+
+      if (mode != TraverseMode.CAR) {
+        assertLowerBound(subject);
+      }
+      assertEquals(0, subject.lowerBound(grid[0][0].index(), grid[SIZE - 1][SIZE - 1].index()));
+    }
+  }
+
+  @Test
+  void vertexOnlyConnectedWithOtherEdges() {
+    createGrid();
+    // The free edges are not street edges, the street search can traverse them
+    var v = intersectionVertex("v", 60.0, 9.999);
+    graph.addVertex(v);
+    FreeEdge.createFreeEdge(v, grid[0][0]);
+    FreeEdge.createFreeEdge(grid[0][0], v);
+    graph.createLandmarkTable(TraverseMode.WALK, 3);
+    var subject = graph.findLandmarkTable(TraverseMode.WALK).orElseThrow();
+
+    int corner = grid[SIZE - 1][SIZE - 1].index();
+    // The shortest path between the corners is 800 meters
+    assertTrue(subject.lowerBound(corner, v.index()) * subject.unitSize() <= 800);
+    assertTrue(subject.lowerBound(v.index(), corner) * subject.unitSize() <= 800);
+  }
+
+  @Test
+  void bikeCanBeWalked() {
+    createGrid();
+    var far = intersectionVertex("far", 60.05, 10.0);
+    graph.addVertex(far);
+    streetEdge(far, grid[0][0], 5000, StreetTraversalPermission.PEDESTRIAN);
+    streetEdge(grid[0][0], far, 5000, StreetTraversalPermission.PEDESTRIAN);
+    graph.createLandmarkTable(TraverseMode.BICYCLE, 2);
+    var subject = graph.findLandmarkTable(TraverseMode.BICYCLE).orElseThrow();
+
+    double bound = subject.lowerBound(far.index(), grid[SIZE - 1][SIZE - 1].index());
+    assertTrue(bound * subject.unitSize() >= 5000, "Bound " + bound);
+    assertTrue(bound * subject.unitSize() <= 5800, "Bound " + bound);
+  }
+
+  @Test
+  void tableIsOnlyReturnedForTheMode() {
+    createGrid();
+    graph.createLandmarkTable(TraverseMode.CAR, 2);
+
+    assertTrue(graph.findLandmarkTable(TraverseMode.CAR).isPresent());
+    assertEquals(Optional.empty(), graph.findLandmarkTable(TraverseMode.WALK));
+  }
+
+  @Test
+  void tableIsDroppedWhenTheVerticesChange() {
+    createGrid();
+    graph.createLandmarkTable(TraverseMode.WALK, 2);
+
+    // Indexing the same vertices again gives the same index
+    graph.indexVertices();
+    assertTrue(graph.findLandmarkTable(TraverseMode.WALK).isPresent());
+
+    var extra = intersectionVertex("extra", 59.0, 10.0);
+    graph.addVertex(extra);
+    streetEdge(extra, grid[0][0], 100, StreetTraversalPermission.ALL);
+    graph.indexVertices();
+    assertEquals(Optional.empty(), graph.findLandmarkTable(TraverseMode.WALK));
+  }
+
+  /**
+   * Assert that the bound is less than or equal to the shortest path distance for all pairs of
+   * vertices, and return the largest bound.
+   */
+  private int assertLowerBound(LandmarkTable subject) {
+    double[][] shortestPath = allShortestPaths();
+    int maxBound = 0;
+    for (int from = 0; from < SIZE * SIZE; ++from) {
+      for (int to = 0; to < SIZE * SIZE; ++to) {
+        int bound = subject.lowerBound(from, to);
+        assertTrue(
+          bound * subject.unitSize() <= shortestPath[from][to],
+          "Bound " + bound + " from " + from + " to " + to + ", cost " + shortestPath[from][to]
+        );
+        maxBound = Math.max(maxBound, bound);
+      }
+    }
+    return maxBound;
+  }
+
+  /**
+   * Create a grid of 100 meter streets. The streets along the bottom row are one-way, to make the
+   * costs asymmetric.
+   */
+  private void createGrid() {
+    for (int i = 0; i < SIZE; ++i) {
+      for (int j = 0; j < SIZE; ++j) {
+        grid[i][j] = intersectionVertex("V" + i + j, 60.0 + i * 0.001, 10.0 + j * 0.002);
+        graph.addVertex(grid[i][j]);
+      }
+    }
+    for (int i = 0; i < SIZE; ++i) {
+      for (int j = 0; j < SIZE; ++j) {
+        if (j + 1 < SIZE) {
+          streetEdge(grid[i][j], grid[i][j + 1], 100, StreetTraversalPermission.ALL);
+          if (i > 0) {
+            streetEdge(grid[i][j + 1], grid[i][j], 100, StreetTraversalPermission.ALL);
+          }
+        }
+        if (i + 1 < SIZE) {
+          streetEdge(grid[i][j], grid[i + 1][j], 100, StreetTraversalPermission.ALL);
+          streetEdge(grid[i + 1][j], grid[i][j], 100, StreetTraversalPermission.ALL);
+        }
+      }
+    }
+  }
+
+  /** Floyd-Warshall over the distance of all edges, indexed by the vertex index. */
+  private double[][] allShortestPaths() {
+    int n = SIZE * SIZE;
+    var cost = new double[n][n];
+    for (int v = 0; v < n; ++v) {
+      Arrays.fill(cost[v], Double.POSITIVE_INFINITY);
+      cost[v][v] = 0;
+    }
+    for (var v : graph.getVertices()) {
+      for (var e : v.getOutgoing()) {
+        cost[v.index()][e.getToVertex().index()] = e.getDistanceMeters();
+      }
+    }
+    for (int k = 0; k < n; ++k) {
+      for (int i = 0; i < n; ++i) {
+        for (int j = 0; j < n; ++j) {
+          cost[i][j] = Math.min(cost[i][j], cost[i][k] + cost[k][j]);
+        }
+      }
+    }
+    return cost;
+  }
+}
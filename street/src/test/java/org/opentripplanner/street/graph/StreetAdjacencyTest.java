@@ -0,0 +1,111 @@
+package org.opentripplanner.street.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.street.model.StreetModelFactory.intersectionVertex;
+import static org.opentripplanner.street.model.StreetModelFactory.streetEdge;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model.edge.FreeEdge;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.search.TraverseMode;
+
+class StreetAdjacencyTest {
+
+  private final Graph graph = new Graph();
+  private final StreetVertex a = vertex("A", 60.0, 10.0);
+  private final StreetVertex b = vertex("B", 60.001, 10.0);
+  private final StreetVertex c = vertex("C", 60.001, 10.001);
+
+  @Test
+  void adjacency() {
+    var ab = streetEdge(a, b, 100.0, StreetTraversalPermission.ALL);
+    var ac = streetEdge(a, c, 250.5, StreetTraversalPermission.PEDESTRIAN);
+    var cb = streetEdge(c, b, 10.0, StreetTraversalPermission.CAR);
+    // Other edges are only included as connections
+    FreeEdge.createFreeEdge(b, a);
+    graph.indexVertices();
+
+    var subject = graph.streetAdjacency();
+
+    assertEquals(3, subject.numberOfVertices());
+    assertEquals(3, subject.numberOfEdges());
+
+    var outgoingA = outgoing(subject, a.index());
+    assertEquals(2, outgoingA.size());
+    for (int e : outgoingA) {
+      assertEquals(a.index(), subject.fromVertex(e));
+      if (subject.edge(e) == ab) {
+        assertEquals(b.index(), subject.toVertex(e));
+        assertEquals(100_000, subject.lengthMm(e));
+        assertTrue(subject.allows(e, TraverseMode.CAR));
+      } else {
+        assertSame(ac, subject.edge(e));
+        assertEquals(250_500, subject.lengthMm(e));
+        assertTrue(subject.allows(e, TraverseMode.WALK));
+        assertFalse(subject.allows(e, TraverseMode.CAR));
+      }
+    }
+    assertEquals(Set.of(), outgoing(subject, b.index()));
+
+    assertEquals(2, incoming(subject, b.index()).size());
+    var incomingC = incoming(subject, c.index());
+    assertEquals(1, incomingC.size());
+    assertSame(ac, subject.edge(incomingC.iterator().next()));
+
+    var cbId = outgoing(subject, c.index()).iterator().next();
+    assertSame(cb, subject.edge(cbId));
+    assertEquals(cb.getCarSpeed(), subject.carSpeed(cbId));
+
+    assertEquals(1, subject.numberOfConnections());
+    int p = subject.connectionOutgoingStart(b.index());
+    assertEquals(p + 1, subject.connectionOutgoingEnd(b.index()));
+    assertEquals(a.index(), subject.connectionOutgoingVertex(p));
+    p = subject.connectionIncomingStart(a.index());
+    assertEquals(p + 1, subject.connectionIncomingEnd(a.index()));
+    assertEquals(b.index(), subject.connectionIncomingVertex(p));
+    assertEquals(
+      subject.connectionOutgoingStart(a.index()),
+      subject.connectionOutgoingEnd(a.index())
+    );
+  }
+
+  @Test
+  void adjacencyIsCreatedAgainAfterIndexing() {
+    streetEdge(a, b, 100.0, StreetTraversalPermission.ALL);
+    graph.indexVertices();
+    var first = graph.streetAdjacency();
+    assertSame(first, graph.streetAdjacency());
+
+    streetEdge(b, c, 100.0, StreetTraversalPermission.ALL);
+    graph.indexVertices();
+    assertEquals(2, graph.streetAdjacency().numberOfEdges());
+  }
+
+  private StreetVertex vertex(String label, double lat, double lon) {
+    var v = intersectionVertex(label, lat, lon);
+    graph.addVertex(v);
+    return v;
+  }
+
+  private static Set<Integer> outgoing(StreetAdjacency subject, int vertex) {
+    var result = new HashSet<Integer>();
+    for (int i = subject.outgoingStart(vertex); i < subject.outgoingEnd(vertex); ++i) {
+      result.add(subject.outgoingEdge(i));
+    }
+    return result;
+  }
+
+  private static Set<Integer> incoming(StreetAdjacency subject, int vertex) {
+    var result = new HashSet<Integer>();
+    for (int i = subject.incomingStart(vertex); i < subject.incomingEnd(vertex); ++i) {
+      result.add(subject.incomingEdge(i));
+    }
+    return result;
+  }
+}
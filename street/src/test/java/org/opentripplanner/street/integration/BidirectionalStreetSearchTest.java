@@ -0,0 +1,96 @@
+package org.opentripplanner.street.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model.path.StreetPath;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
+import org.opentripplanner.street.search.EuclideanRemainingWeightHeuristic;
+import org.opentripplanner.street.search.StreetSearchBuilder;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+
+class BidirectionalStreetSearchTest extends GraphRoutingTest {
+
+  private StreetVertex A;
+  private StreetVertex F;
+
+  @BeforeEach
+  void setUp() {
+    // A - B - C
+    // |   |   |
+    // D - E - F
+    modelOf(
+      new Builder() {
+        @Override
+        public void build() {
+          A = intersection("A", 60.0, 10.0);
+          var B = intersection("B", 60.0, 10.001);
+          var C = intersection("C", 60.0, 10.002);
+          var D = intersection("D", 59.9995, 10.0);
+          var E = intersection("E", 59.9995, 10.001);
+          F = intersection("F", 59.9995, 10.002);
+
+          var all = StreetTraversalPermission.ALL;
+          street(A, B, 100, all, all);
+          street(B, C, 100, all, all);
+          street(D, E, 100, all, all);
+          street(E, F, 300, all, all);
+          street(A, D, 100, all, all);
+          street(B, E, 100, all, all);
+          street(C, F, 100, all, all);
+        }
+      }
+    );
+  }
+
+  static List<Arguments> testCases() {
+    return List.of(
+      Arguments.of(StreetMode.WALK, false),
+      Arguments.of(StreetMode.WALK, true),
+      Arguments.of(StreetMode.BIKE, false),
+      Arguments.of(StreetMode.BIKE, true),
+      Arguments.of(StreetMode.CAR, false),
+      Arguments.of(StreetMode.CAR, true)
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("testCases")
+  void sameResultAsUnidirectionalSearch(StreetMode mode, boolean arriveBy) {
+    var request = StreetSearchRequest.of().withMode(mode).withArriveBy(arriveBy).build();
+
+    var expected = search(request).getPathsToTarget();
+    var result = search(request)
+      .withBidirectionalSearch(new EuclideanRemainingWeightHeuristic())
+      .getPathsToTarget();
+
+    assertEquals(1, expected.size());
+    assertEquals(1, result.size());
+    assertEquals(vertices(expected.getFirst()), vertices(result.getFirst()));
+    assertEquals("A, B, C, F", vertices(result.getFirst()));
+    assertEquals(expected.getFirst().weight(), result.getFirst().weight(), 0.001);
+  }
+
+  private StreetSearchBuilder search(StreetSearchRequest request) {
+    return StreetSearchBuilder.of()
+      .withHeuristic(new EuclideanRemainingWeightHeuristic())
+      .withRequest(request)
+      .withFrom(A)
+      .withTo(F);
+  }
+
+  private static String vertices(StreetPath path) {
+    return String.join(
+      ", ",
+      path.states().stream().map(State::getVertex).map(Vertex::getLabelString).toList()
+    );
+  }
+}
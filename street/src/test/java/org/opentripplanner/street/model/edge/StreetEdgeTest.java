@@ -11,6 +11,8 @@ import static org.opentripplanner.street.model.StreetModelFactory.streetEdgeBuil
 import static org.opentripplanner.street.model.StreetTraversalPermission.ALL;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -31,6 +33,7 @@ import org.opentripplanner.street.model.elevation.SlopeCosts;
 import org.opentripplanner.street.model.vertex.IntersectionVertex;
 import org.opentripplanner.street.model.vertex.LabelledIntersectionVertex;
 import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.model.vertex.Vertex;
 import org.opentripplanner.street.search.TraverseMode;
 import org.opentripplanner.street.search.TraverseModeSet;
 import org.opentripplanner.street.search.request.StreetSearchRequest;
@@ -119,6 +122,30 @@ public class StreetEdgeTest {
     assertEquals(expectedWeight, s1.getWeight(), 0.0);
   }
 
+  @ParameterizedTest
+  @EnumSource(value = StreetMode.class, names = { "WALK", "BIKE", "CAR", "CAR_PICKUP" })
+  void traverseWithConsumerReturnsSameStatesAsArray(StreetMode mode) {
+    StreetEdge e0 = streetEdgeBuilder(v0, v1, 50.0, ALL).withCarSpeed(10.0f).buildAndConnect();
+    StreetEdge e1 = streetEdgeBuilder(v1, v2, 100.0, ALL).withCarSpeed(10.0f).buildAndConnect();
+    var request = StreetSearchRequest.copyOf(proto).withMode(mode).build();
+
+    for (State s0 : State.getInitialStates(Set.<Vertex>of(v0), request)) {
+      // Traverse two edges to include the turn cost
+      for (State s1 : e0.traverse(s0)) {
+        var expected = e1.traverse(s1);
+        var actual = new ArrayList<State>();
+        e1.traverse(s1, actual::add);
+
+        assertEquals(expected.length, actual.size());
+        for (int i = 0; i < expected.length; ++i) {
+          assertEquals(expected[i].getWeight(), actual.get(i).getWeight());
+          assertEquals(expected[i].getTimeSeconds(), actual.get(i).getTimeSeconds());
+          assertEquals(expected[i].currentMode(), actual.get(i).currentMode());
+        }
+      }
+    }
+  }
+
   @Test
   void testModeSetCanTraverse() {
     StreetEdge e = streetEdge(v1, v2, 1.0, ALL);
@@ -0,0 +1,127 @@
+package org.opentripplanner.street.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opentripplanner.street.model.StreetModelFactory.intersectionVertex;
+import static org.opentripplanner.street.model.StreetModelFactory.streetEdge;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.opentripplanner.astar.spi.RemainingWeightHeuristic;
+import org.opentripplanner.street.geometry.SphericalDistanceLibrary;
+import org.opentripplanner.street.graph.Graph;
+import org.opentripplanner.street.model.StreetMode;
+import org.opentripplanner.street.model.StreetTraversalPermission;
+import org.opentripplanner.street.model.edge.StreetEdge;
+import org.opentripplanner.street.model.vertex.StreetVertex;
+import org.opentripplanner.street.search.request.StreetSearchRequest;
+import org.opentripplanner.street.search.state.State;
+import org.opentripplanner.street.service.StreetLimitationParametersService;
+
+class LandmarkRemainingWeightHeuristicTest {
+
+  private static final StreetSearchRequest CAR = StreetSearchRequest.of()
+    .withMode(StreetMode.CAR)
+    .build();
+
+  private final Graph graph = new Graph();
+
+  // A and B are close to each other, but the road between them goes around a fjord
+  private final StreetVertex a = vertex("A", 60.0, 10.0);
+  private final StreetVertex b = vertex("B", 60.0, 10.01);
+  private final StreetVertex c = vertex("C", 60.1, 10.0);
+  private final StreetVertex d = vertex("D", 60.1, 10.01);
+  private final double detourCost;
+  private final double detourDistance;
+
+  LandmarkRemainingWeightHeuristicTest() {
+    var detour = List.of(streetEdge(a, c), streetEdge(c, d), streetEdge(d, b));
+    detourCost = detour.stream().mapToDouble(LandmarkRemainingWeightHeuristicTest::carCost).sum();
+    detourDistance = detour.stream().mapToDouble(StreetEdge::getDistanceMeters).sum();
+    streetEdge(b, d);
+    streetEdge(d, c);
+    streetEdge(c, a);
+  }
+
+  @Test
+  void landmarkBoundIsUsedForCar() {
+    graph.createLandmarkTable(TraverseMode.CAR, 2);
+    var euclidean = estimate(euclidean(), CAR, b);
+    var subject = estimate(heuristic(), CAR, b);
+
+    assertTrue(subject > 5 * euclidean, subject + " vs " + euclidean);
+    assertTrue(subject <= detourCost, subject + " vs " + detourCost);
+  }
+
+  @Test
+  void landmarkBoundIsUsedForWalkAndBike() {
+    graph.createLandmarkTable(TraverseMode.WALK, 2);
+    graph.createLandmarkTable(TraverseMode.BICYCLE, 2);
+    var bike = StreetSearchRequest.of().withMode(StreetMode.BIKE).build();
+
+    // Both use the same minimum weight per meter
+    double maxRatio =
+      detourDistance / SphericalDistanceLibrary.fastDistance(a.getCoordinate(), b.getCoordinate());
+
+    for (var req : List.of(StreetSearchRequest.DEFAULT, bike)) {
+      var euclidean = estimate(euclidean(), req, b);
+      var subject = estimate(heuristic(), req, b);
+      assertTrue(subject > 5 * euclidean, subject + " vs " + euclidean);
+      assertTrue(subject <= maxRatio * euclidean * 1.01, subject + " vs " + euclidean);
+    }
+  }
+
+  @Test
+  void goalWithoutIndex() {
+    graph.createLandmarkTable(TraverseMode.CAR, 2);
+    // Like a temporary vertex, the goal is not in the graph and has no index
+    var goal = intersectionVertex("goal", 60.0, 10.011);
+    streetEdge(b, goal);
+
+    assertTrue(estimate(heuristic(), CAR, goal) > 5 * estimate(euclidean(), CAR, goal));
+  }
+
+  @Test
+  void euclideanIsUsedWithoutLandmarks() {
+    assertEquals(estimate(euclidean(), CAR, b), estimate(heuristic(), CAR, b));
+  }
+
+  @Test
+  void euclideanIsUsedForOtherModes() {
+    graph.createLandmarkTable(TraverseMode.CAR, 2);
+    var walk = StreetSearchRequest.DEFAULT;
+    assertEquals(estimate(euclidean(), walk, b), estimate(heuristic(), walk, b));
+  }
+
+  private double estimate(
+    RemainingWeightHeuristic<State> heuristic,
+    StreetSearchRequest req,
+    StreetVertex goal
+  ) {
+    switch (heuristic) {
+      case LandmarkRemainingWeightHeuristic it -> it.initialize(Set.of(goal), req);
+      case EuclideanRemainingWeightHeuristic it -> it.initialize(Set.of(goal), req);
+      default -> throw new IllegalArgumentException("Unknown heuristic: " + heuristic);
+    }
+    return heuristic.estimateRemainingWeight(new State(a, req));
+  }
+
+  private LandmarkRemainingWeightHeuristic heuristic() {
+    return new LandmarkRemainingWeightHeuristic(StreetLimitationParametersService.DEFAULT, graph);
+  }
+
+  private static EuclideanRemainingWeightHeuristic euclidean() {
+    return new EuclideanRemainingWeightHeuristic();
+  }
+
+  private static double carCost(StreetEdge edge) {
+    return (edge.getDistanceMeters() / edge.getCarSpeed()) * CAR.car().reluctance();
+  }
+
+  private StreetVertex vertex(String label, double lat, double lon) {
+    var v = intersectionVertex(label, lat, lon);
+    graph.addVertex(v);
+    return v;
+  }
+}